@@ -25,6 +25,7 @@ import org.apache.ignite.internal.util.typedef.internal.A;
 import org.apache.ignite.ml.dataset.Dataset;
 import org.apache.ignite.ml.dataset.primitive.context.EmptyContext;
 import org.apache.ignite.ml.math.primitives.matrix.Matrix;
+import org.apache.ignite.ml.math.primitives.matrix.impl.DenseMatrix;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
 
 /**
@@ -96,10 +97,18 @@ public class CovarianceMatricesAggregator implements Serializable {
      * @param pcxi P(c|xi) for GMM component "c" and vector xi.
      */
     void add(Vector x, double pcxi) {
-        Matrix deltaCol = x.minus(mean).toMatrix(false);
-        Matrix weightedCovComponent = deltaCol.times(deltaCol.transpose()).times(pcxi);
+        int d = mean.size();
 
-        weightedSum = weightedSum == null ? weightedCovComponent : weightedSum.plus(weightedCovComponent);
+        if (weightedSum == null)
+            weightedSum = new DenseMatrix(d, d);
+
+        double[] delta = x.minus(mean).asArray();
+        for (int i = 0; i < d; i++) {
+            double weighted = pcxi * delta[i];
+
+            for (int j = 0; j < d; j++)
+                weightedSum.setX(i, j, weightedSum.getX(i, j) + weighted * delta[j]);
+        }
 
         rowCnt += 1;
     }
@@ -28,7 +28,6 @@ import org.apache.ignite.ml.dataset.UpstreamEntry;
 import org.apache.ignite.ml.dataset.primitive.context.EmptyContext;
 import org.apache.ignite.ml.environment.LearningEnvironment;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
-import org.apache.ignite.ml.math.stat.MultivariateGaussianDistribution;
 import org.apache.ignite.ml.preprocessing.Preprocessor;
 import org.apache.ignite.ml.structures.LabeledVector;
 
@@ -43,6 +42,12 @@ class GmmPartitionData implements AutoCloseable {
     /** P(cluster|xi) where second idx is a cluster and first is a index of point. */
     private double[][] pcxi;
 
+    /** Log-likelihood of each vector given model used in the last EM-algorithm iteration or evaluation. */
+    private double[] logProbs;
+
+    /** Dataset vectors in row-major order, built lazily. */
+    private double[] features;
+
     /**
      * Creates an instance of GmmPartitionData.
      *
@@ -54,6 +59,7 @@ class GmmPartitionData implements AutoCloseable {
 
         this.xs = xs;
         this.pcxi = pcxi;
+        this.logProbs = new double[xs.size()];
     }
 
     /**
@@ -65,20 +71,25 @@ class GmmPartitionData implements AutoCloseable {
     }
 
     /**
-     * Updates P(c|xi) values in partitions and compute dataset likelihood.
+     * Updates log-likelihoods of vectors in partitions given model and computes max log-likelihood in dataset. Unlike
+     * EM-algorithm iteration that computes log-likelihoods given model before M-step, this method allows to evaluate
+     * vectors against the resulting model.
      *
      * @param dataset Dataset.
-     * @param clusterProbs Component probabilities.
-     * @param components Components.
-     * @return Dataset likelihood.
+     * @param mdl Model.
+     * @param diagonal Diagonal covariance flag.
+     * @return Max log-likelihood in dataset.
      */
-    static double updatePcxiAndComputeLikelihood(Dataset<EmptyContext, GmmPartitionData> dataset, Vector clusterProbs,
-        List<MultivariateGaussianDistribution> components) {
+    static double updateLogProbs(Dataset<EmptyContext, GmmPartitionData> dataset, GmmModel mdl, boolean diagonal) {
+        SufficientStatisticsAggregator.LogDensity density =
+            new SufficientStatisticsAggregator.LogDensity(mdl, diagonal);
 
-        return dataset.compute(
-            data -> updatePcxi(data, clusterProbs, components),
-            (left, right) -> asPrimitive(left) + asPrimitive(right)
+        Double maxLogProb = dataset.compute(
+            data -> updateLogProbs(data, density),
+            (left, right) -> left == null ? right : right == null ? left : Double.valueOf(Math.max(left, right))
         );
+
+        return maxLogProb == null ? Double.NEGATIVE_INFINITY : maxLogProb;
     }
 
     /**
@@ -99,6 +110,45 @@ class GmmPartitionData implements AutoCloseable {
         pcxi[i][cluster] = value;
     }
 
+    /**
+     * @param i Vector id.
+     * @return Log-likelihood of vector given model used in the last EM-algorithm iteration or evaluation.
+     */
+    public double logProb(int i) {
+        return logProbs[i];
+    }
+
+    /**
+     * @param i Vector id.
+     * @param value Log-likelihood of vector.
+     */
+    void setLogProb(int i, double value) {
+        logProbs[i] = value;
+    }
+
+    /**
+     * Returns all vectors from partition as one array in row-major order. Array is built on first call and reused
+     * by subsequent EM-algorithm iterations.
+     *
+     * @return Vectors in row-major order.
+     */
+    double[] features() {
+        if (features == null) {
+            int d = xs.isEmpty() ? 0 : getX(0).size();
+            double[] res = new double[xs.size() * d];
+
+            for (int i = 0; i < xs.size(); i++) {
+                Vector x = getX(i);
+                for (int j = 0; j < d; j++)
+                    res[i * d + j] = x.get(j);
+            }
+
+            features = res;
+        }
+
+        return features;
+    }
+
     /**
      * @return All vectors from partition.
      */
@@ -186,39 +236,26 @@ class GmmPartitionData implements AutoCloseable {
     }
 
     /**
-     * Updates P(c|xi) values in partitions given components probabilities and components of GMM.
+     * Updates log-likelihoods of vectors in partition given log-density of model.
      *
-     * @param clusterProbs Component probabilities.
-     * @param components Components.
+     * @param data Partition data.
+     * @param density Log-density of model.
+     * @return Max log-likelihood in partition.
      */
-    static double updatePcxi(GmmPartitionData data, Vector clusterProbs,
-        List<MultivariateGaussianDistribution> components) {
+    static double updateLogProbs(GmmPartitionData data, SufficientStatisticsAggregator.LogDensity density) {
+        int d = density.dimension();
+        double maxLogProb = Double.NEGATIVE_INFINITY;
 
-        GmmModel model = new GmmModel(clusterProbs, components);
-        double maxProb = Double.NEGATIVE_INFINITY;
+        double[] xs = data.features();
+        double[] delta = new double[density.countOfComponents() * d];
+        double[] logs = new double[density.countOfComponents()];
+        double[] buf = new double[d];
 
         for (int i = 0; i < data.size(); i++) {
-            Vector x = data.getX(i);
-            double xProb = model.prob(x);
-            if (xProb > maxProb)
-                maxProb = xProb;
-
-            double normalizer = 0.0;
-            for (int c = 0; c < clusterProbs.size(); c++)
-                normalizer += components.get(c).prob(x) * clusterProbs.get(c);
-
-            for (int c = 0; c < clusterProbs.size(); c++)
-                data.pcxi[i][c] = (components.get(c).prob(x) * clusterProbs.get(c)) / normalizer;
+            data.logProbs[i] = density.logProb(xs, i * d, logs, delta, buf);
+            maxLogProb = Math.max(maxLogProb, data.logProbs[i]);
         }
 
-        return maxProb;
-    }
-
-    /**
-     * @param val Value.
-     * @return 0 if Value == null and simplified value in terms of type otherwise.
-     */
-    private static double asPrimitive(Double val) {
-        return val == null ? 0.0 : val;
+        return maxLogProb;
     }
 }
@@ -35,6 +35,7 @@ import org.apache.ignite.ml.environment.logging.MLLogger;
 import org.apache.ignite.ml.math.exceptions.math.SingularMatrixException;
 import org.apache.ignite.ml.math.functions.IgniteBiFunction;
 import org.apache.ignite.ml.math.primitives.matrix.Matrix;
+import org.apache.ignite.ml.math.primitives.matrix.impl.DenseMatrix;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
 import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
 import org.apache.ignite.ml.math.stat.MultivariateGaussianDistribution;
@@ -76,6 +77,9 @@ public class GmmTrainer extends SingleLabelDatasetTrainer<GmmModel> {
     /** Min cluster probability. */
     private double minClusterProbability = 0.05;
 
+    /** Diagonal covariance flag. */
+    private boolean diagonalCovariance;
+
     /**
      * Creates an instance of GmmTrainer.
      */
@@ -264,21 +268,30 @@ public class GmmTrainer extends SingleLabelDatasetTrainer<GmmModel> {
             GmmModel curModel = model;
 
             do {
-                UpdateResult updateResult = updateModel(dataset, curModel);
-                curModel = updateResult.model;
+                curModel = updateModel(dataset, curModel);
 
                 double minCompProb = curModel.componentsProbs().minElement().get();
                 if (countOfComponents >= maxCountOfClusters || minCompProb < minClusterProbability)
                     break;
 
-                double maxXProb = updateResult.maxProbInDataset;
+                // Log-likelihoods stored by the last EM-algorithm iteration are given the model before its M-step, so
+                // vectors are evaluated against the resulting model once before anomalies search.
+                double maxXLogProb;
+                try {
+                    maxXLogProb = GmmPartitionData.updateLogProbs(dataset, curModel, diagonalCovariance);
+                }
+                catch (SingularMatrixException | IllegalArgumentException e) {
+                    break;
+                }
+
                 NewComponentStatisticsAggregator newMeanAdder = NewComponentStatisticsAggregator.computeNewMean(dataset,
-                    maxXProb, maxLikelihoodDivergence, curModel);
+                    maxXLogProb, maxLikelihoodDivergence);
 
-                Vector newMean = newMeanAdder.mean();
                 if (newMeanAdder.rowCountForNewCluster() < minElementsForNewCluster)
                     break;
 
+                Vector newMean = newMeanAdder.mean();
+
                 countOfComponents += 1;
                 Vector[] newMeans = new Vector[countOfComponents];
                 for (int i = 0; i < curModel.countOfComponents(); i++)
@@ -325,23 +338,15 @@ public class GmmTrainer extends SingleLabelDatasetTrainer<GmmModel> {
     }
 
     /**
-     * Result of current model update by EM-algorithm.
+     * Sets diagonal covariance flag. If it's true then covariance matrices of components are diagonal, so that each
+     * EM-algorithm iteration takes linear time in dimension of feature vectors instead of quadratic.
+     *
+     * @param diagonalCovariance Diagonal covariance flag.
+     * @return Trainer.
      */
-    private static class UpdateResult {
-        /** Model. */
-        private final GmmModel model;
-
-        /** Max likelihood in dataset. */
-        private final double maxProbInDataset;
-
-        /**
-         * @param model Model.
-         * @param maxProbInDataset Max likelihood in dataset.
-         */
-        public UpdateResult(GmmModel model, double maxProbInDataset) {
-            this.model = model;
-            this.maxProbInDataset = maxProbInDataset;
-        }
+    public GmmTrainer withDiagonalCovariance(boolean diagonalCovariance) {
+        this.diagonalCovariance = diagonalCovariance;
+        return this;
     }
 
     /**
@@ -371,33 +376,29 @@ public class GmmTrainer extends SingleLabelDatasetTrainer<GmmModel> {
     }
 
     /**
-     * Gets older model and returns updated model on given data.
+     * Gets older model and returns updated model on given data. Each iteration of EM-algorithm makes one pass over
+     * dataset (see {@link SufficientStatisticsAggregator}). P(c|xi) and log-likelihoods of vectors stored in partitions
+     * correspond to the model used in the last successful pass.
      *
      * @param dataset Dataset.
      * @param model Model.
      * @return Updated model.
      */
-    @NotNull private UpdateResult updateModel(Dataset<EmptyContext, GmmPartitionData> dataset, GmmModel model) {
+    @NotNull private GmmModel updateModel(Dataset<EmptyContext, GmmPartitionData> dataset, GmmModel model) {
         boolean isConverged = false;
         int cntOfIterations = 0;
-        double maxProbInDataset = Double.NEGATIVE_INFINITY;
         while (!isConverged) {
-            MeanWithClusterProbAggregator.AggregatedStats stats = MeanWithClusterProbAggregator.aggreateStats(dataset, countOfComponents);
-            Vector clusterProbs = stats.clusterProbabilities();
-            Vector[] newMeans = stats.means().toArray(new Vector[countOfComponents]);
+            try {
+                SufficientStatisticsAggregator stats = SufficientStatisticsAggregator.aggregate(dataset, model,
+                    diagonalCovariance);
 
-            A.ensure(newMeans.length == model.countOfComponents(), "newMeans.size() == count of components");
-            A.ensure(newMeans[0].size() == initialMeans[0].size(), "newMeans[0].size() == initialMeans[0].size()");
-            List<Matrix> newCovs = CovarianceMatricesAggregator.computeCovariances(dataset, clusterProbs, newMeans);
+                A.ensure(stats != null, "Cannot update model on empty dataset");
 
-            try {
-                List<MultivariateGaussianDistribution> components = buildComponents(newMeans, newCovs);
-                GmmModel newModel = new GmmModel(clusterProbs, components);
+                GmmModel newModel = stats.model(model);
 
                 cntOfIterations += 1;
                 isConverged = isConverged(model, newModel) || cntOfIterations > maxCountOfIterations;
                 model = newModel;
-                maxProbInDataset = GmmPartitionData.updatePcxiAndComputeLikelihood(dataset, clusterProbs, components);
             }
             catch (SingularMatrixException | IllegalArgumentException e) {
                 String msg = "Cannot construct non-singular covariance matrix by data. " +
@@ -407,7 +408,7 @@ public class GmmTrainer extends SingleLabelDatasetTrainer<GmmModel> {
             }
         }
 
-        return new UpdateResult(model, maxProbInDataset);
+        return model;
     }
 
     /**
@@ -451,8 +452,10 @@ public class GmmTrainer extends SingleLabelDatasetTrainer<GmmModel> {
                     return Optional.empty();
 
                 List<MultivariateGaussianDistribution> distributions = new ArrayList<>();
-                for (int i = 0; i < countOfComponents; i++)
-                    distributions.add(new MultivariateGaussianDistribution(initialMeans[i], initCovs.get(i)));
+                for (int i = 0; i < countOfComponents; i++) {
+                    Matrix initCov = diagonalCovariance ? diagonal(initCovs.get(i)) : initCovs.get(i);
+                    distributions.add(new MultivariateGaussianDistribution(initialMeans[i], initCov));
+                }
 
                 return Optional.of(new GmmModel(
                     VectorUtils.of(DoubleStream.generate(() -> 1. / countOfComponents).limit(countOfComponents).toArray()),
@@ -507,18 +510,15 @@ public class GmmTrainer extends SingleLabelDatasetTrainer<GmmModel> {
     }
 
     /**
-     * Create new model components with provided means and covariances.
+     * Returns diagonal matrix with the same diagonal as the given one.
      *
-     * @param means Means.
-     * @param covs Covariances.
-     * @return Gmm components.
+     * @param mtx Matrix.
+     * @return Diagonal matrix.
      */
-    private List<MultivariateGaussianDistribution> buildComponents(Vector[] means, List<Matrix> covs) {
-        A.ensure(means.length == covs.size(), "means.size() == covs.size()");
-
-        List<MultivariateGaussianDistribution> res = new ArrayList<>();
-        for (int i = 0; i < means.length; i++)
-            res.add(new MultivariateGaussianDistribution(means[i], covs.get(i)));
+    private static Matrix diagonal(Matrix mtx) {
+        Matrix res = new DenseMatrix(mtx.rowSize(), mtx.columnSize());
+        for (int i = 0; i < mtx.rowSize(); i++)
+            res.setX(i, i, mtx.getX(i, i));
 
         return res;
     }
@@ -80,40 +80,37 @@ public class NewComponentStatisticsAggregator implements Serializable {
     }
 
     /**
-     * Compute statistics for new mean for GMM.
+     * Compute statistics for new mean for GMM using log-likelihoods of vectors stored in partitions (see
+     * {@link GmmPartitionData#updateLogProbs}).
      *
      * @param dataset Dataset.
-     * @param maxXsProb Max likelihood between all xs.
+     * @param maxXsLogProb Max log-likelihood between all xs.
      * @param maxProbDivergence Max probability divergence between maximum value and others.
-     * @param currentModel Current model.
      * @return Aggregated statistics for new mean.
      */
     static NewComponentStatisticsAggregator computeNewMean(Dataset<EmptyContext, GmmPartitionData> dataset,
-        double maxXsProb, double maxProbDivergence, GmmModel currentModel) {
+        double maxXsLogProb, double maxProbDivergence) {
+
+        double logProbThreshold = maxXsLogProb - Math.log(maxProbDivergence);
 
         return dataset.compute(
-            data -> computeNewMeanMap(data, maxXsProb, maxProbDivergence, currentModel),
+            data -> computeNewMeanMap(data, logProbThreshold),
             NewComponentStatisticsAggregator::computeNewMeanReduce
         );
     }
 
     /**
-     * Map stage for new mean computing.
+     * Map stage for new mean computing using log-likelihoods of vectors stored in partition.
      *
      * @param data Data.
-     * @param maxXsProb Max xs prob.
-     * @param maxProbDivergence Max prob divergence.
-     * @param currentModel Current model.
+     * @param logProbThreshold Vectors with log-likelihood less than this threshold are considered as anomalies.
      * @return Aggregator for partition.
      */
-    static NewComponentStatisticsAggregator computeNewMeanMap(GmmPartitionData data, double maxXsProb,
-        double maxProbDivergence, GmmModel currentModel) {
-
+    static NewComponentStatisticsAggregator computeNewMeanMap(GmmPartitionData data, double logProbThreshold) {
         NewComponentStatisticsAggregator adder = new NewComponentStatisticsAggregator();
-        for (int i = 0; i < data.size(); i++) {
-            Vector x = data.getX(i);
-            adder.add(x, currentModel.prob(x) < (maxXsProb / maxProbDivergence));
-        }
+        for (int i = 0; i < data.size(); i++)
+            adder.add(data.getX(i), data.logProb(i) < logProbThreshold);
+
         return adder;
     }
 
@@ -163,7 +160,8 @@ public class NewComponentStatisticsAggregator implements Serializable {
         return new NewComponentStatisticsAggregator(
             totalRowCount + other.totalRowCount,
             rowCountForNewCluster + other.rowCountForNewCluster,
-            sumOfAnomalies.plus(other.sumOfAnomalies)
+            sumOfAnomalies == null ? other.sumOfAnomalies :
+                other.sumOfAnomalies == null ? sumOfAnomalies : sumOfAnomalies.plus(other.sumOfAnomalies)
         );
     }
 }
@@ -0,0 +1,486 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.clustering.gmm;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.ml.dataset.Dataset;
+import org.apache.ignite.ml.dataset.primitive.context.EmptyContext;
+import org.apache.ignite.ml.math.exceptions.math.SingularMatrixException;
+import org.apache.ignite.ml.math.primitives.matrix.Matrix;
+import org.apache.ignite.ml.math.primitives.matrix.impl.DenseMatrix;
+import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
+import org.apache.ignite.ml.math.stat.MultivariateGaussianDistribution;
+
+/**
+ * Aggregator of sufficient statistics for one EM-algorithm iteration. E-step (computing of P(c|xi) by current model)
+ * and M-step (aggregation of statistics for new component probabilities, means and covariances) are made in one pass
+ * over dataset. Statistics are kept in primitive arrays, P(c|xi) are computed in log-space using log-sum-exp trick, so
+ * that they don't underflow in high dimensions.
+ */
+class SufficientStatisticsAggregator implements Serializable {
+    /** Serial version uid. */
+    private static final long serialVersionUID = -6322829317563839454L;
+
+    /** Count of components. */
+    private final int countOfComponents;
+
+    /** Dimension of feature vectors. */
+    private final int dimension;
+
+    /** Diagonal covariance flag. */
+    private final boolean diagonal;
+
+    /** Sums of P(c|xi) per component. */
+    private final double[] pcxiSums;
+
+    /** Sums of P(c|xi) * (xi - mean) per component, where mean is a mean of component in current model. */
+    private final double[] weightedXsSums;
+
+    /**
+     * Sums of P(c|xi) * (xi - mean) * (xi - mean)^T per component (upper triangle only) or their diagonals if
+     * covariance is diagonal.
+     */
+    private final double[] weightedSquaresSums;
+
+    /** Count of rows. */
+    private long rowCnt;
+
+    /** Log-likelihood of dataset. */
+    private double logLikelihood;
+
+    /**
+     * Creates an instance of SufficientStatisticsAggregator.
+     *
+     * @param countOfComponents Count of components.
+     * @param dimension Dimension of feature vectors.
+     * @param diagonal Diagonal covariance flag.
+     */
+    SufficientStatisticsAggregator(int countOfComponents, int dimension, boolean diagonal) {
+        this.countOfComponents = countOfComponents;
+        this.dimension = dimension;
+        this.diagonal = diagonal;
+
+        pcxiSums = new double[countOfComponents];
+        weightedXsSums = new double[countOfComponents * dimension];
+        weightedSquaresSums = new double[countOfComponents * (diagonal ? dimension : dimension * dimension)];
+    }
+
+    /**
+     * Makes one EM-algorithm iteration over dataset: computes P(c|xi) given current model, stores them and
+     * log-likelihood of each vector in partitions and aggregates statistics for new model.
+     *
+     * @param dataset Dataset.
+     * @param mdl Current model.
+     * @param diagonal Diagonal covariance flag.
+     * @return Aggregated statistics or {@code null} if dataset is empty.
+     */
+    static SufficientStatisticsAggregator aggregate(Dataset<EmptyContext, GmmPartitionData> dataset, GmmModel mdl,
+        boolean diagonal) {
+
+        LogDensity density = new LogDensity(mdl, diagonal);
+
+        return dataset.compute(
+            data -> map(data, density),
+            SufficientStatisticsAggregator::reduce
+        );
+    }
+
+    /**
+     * Map stage of EM-algorithm iteration.
+     *
+     * @param data Partition data.
+     * @param density Log-density of current model.
+     * @return Aggregated statistics for partition.
+     */
+    static SufficientStatisticsAggregator map(GmmPartitionData data, LogDensity density) {
+        int k = density.countOfComponents;
+        int d = density.dimension;
+
+        SufficientStatisticsAggregator res = new SufficientStatisticsAggregator(k, d, density.diagonal);
+
+        double[] xs = data.features();
+        double[] delta = new double[k * d];
+        double[] logs = new double[k];
+        double[] buf = new double[d];
+
+        for (int i = 0; i < data.size(); i++) {
+            double logProb = density.logProb(xs, i * d, logs, delta, buf);
+            data.setLogProb(i, logProb);
+
+            res.rowCnt += 1;
+
+            // Vector is out of support of all components, so it cannot be assigned to any of them.
+            if (logProb == Double.NEGATIVE_INFINITY) {
+                for (int c = 0; c < k; c++)
+                    data.setPcxi(c, i, 0.0);
+
+                continue;
+            }
+
+            res.logLikelihood += logProb;
+
+            for (int c = 0; c < k; c++) {
+                double pcxi = Math.exp(logs[c] - logProb);
+                data.setPcxi(c, i, pcxi);
+
+                if (pcxi > 0)
+                    res.add(c, pcxi, delta, c * d);
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * Reduce stage of EM-algorithm iteration.
+     *
+     * @param l Left part.
+     * @param r Right part.
+     * @return Sum of statistics.
+     */
+    static SufficientStatisticsAggregator reduce(SufficientStatisticsAggregator l, SufficientStatisticsAggregator r) {
+        if (l == null)
+            return r;
+        if (r == null)
+            return l;
+
+        return l.plus(r);
+    }
+
+    /**
+     * Adds vector to statistics of component.
+     *
+     * @param c Component.
+     * @param pcxi P(c|xi).
+     * @param delta Difference between vector and mean of component in current model.
+     * @param off Offset of difference in array.
+     */
+    private void add(int c, double pcxi, double[] delta, int off) {
+        int d = dimension;
+
+        pcxiSums[c] += pcxi;
+
+        for (int j = 0; j < d; j++)
+            weightedXsSums[c * d + j] += pcxi * delta[off + j];
+
+        if (diagonal) {
+            for (int j = 0; j < d; j++)
+                weightedSquaresSums[c * d + j] += pcxi * delta[off + j] * delta[off + j];
+        }
+        else {
+            int sqOff = c * d * d;
+
+            for (int j = 0; j < d; j++) {
+                double weighted = pcxi * delta[off + j];
+
+                if (weighted == 0)
+                    continue;
+
+                int rowOff = sqOff + j * d;
+                for (int l = j; l < d; l++)
+                    weightedSquaresSums[rowOff + l] += weighted * delta[off + l];
+            }
+        }
+    }
+
+    /**
+     * Adds other statistics to this one.
+     *
+     * @param other Other statistics.
+     * @return This statistics.
+     */
+    SufficientStatisticsAggregator plus(SufficientStatisticsAggregator other) {
+        A.ensure(countOfComponents == other.countOfComponents, "countOfComponents == other.countOfComponents");
+        A.ensure(dimension == other.dimension, "dimension == other.dimension");
+
+        for (int i = 0; i < pcxiSums.length; i++)
+            pcxiSums[i] += other.pcxiSums[i];
+
+        for (int i = 0; i < weightedXsSums.length; i++)
+            weightedXsSums[i] += other.weightedXsSums[i];
+
+        for (int i = 0; i < weightedSquaresSums.length; i++)
+            weightedSquaresSums[i] += other.weightedSquaresSums[i];
+
+        rowCnt += other.rowCnt;
+        logLikelihood += other.logLikelihood;
+
+        return this;
+    }
+
+    /**
+     * Builds new model by aggregated statistics.
+     *
+     * @param mdl Model that was used for statistics aggregation.
+     * @return New model.
+     */
+    GmmModel model(GmmModel mdl) {
+        int d = dimension;
+
+        double[] clusterProbs = new double[countOfComponents];
+        List<MultivariateGaussianDistribution> components = new ArrayList<>(countOfComponents);
+
+        for (int c = 0; c < countOfComponents; c++) {
+            A.ensure(pcxiSums[c] > 0, "Component probability should be positive [component=" + c + "]");
+
+            clusterProbs[c] = pcxiSums[c] / rowCnt;
+
+            double[] oldMean = mdl.distributions().get(c).mean().asArray();
+            double[] shift = new double[d];
+            double[] mean = new double[d];
+            for (int j = 0; j < d; j++) {
+                shift[j] = weightedXsSums[c * d + j] / pcxiSums[c];
+                mean[j] = oldMean[j] + shift[j];
+            }
+
+            double[] cov = new double[d * d];
+            for (int j = 0; j < d; j++) {
+                if (diagonal)
+                    cov[j * d + j] = weightedSquaresSums[c * d + j] / pcxiSums[c] - shift[j] * shift[j];
+                else {
+                    for (int l = j; l < d; l++) {
+                        cov[j * d + l] = weightedSquaresSums[c * d * d + j * d + l] / pcxiSums[c]
+                            - shift[j] * shift[l];
+                        cov[l * d + j] = cov[j * d + l];
+                    }
+                }
+            }
+
+            components.add(new MultivariateGaussianDistribution(VectorUtils.of(mean), new DenseMatrix(cov, d)));
+        }
+
+        return new GmmModel(VectorUtils.of(clusterProbs), components);
+    }
+
+    /**
+     * @return Log-likelihood of dataset given model that was used for statistics aggregation.
+     */
+    double logLikelihood() {
+        return logLikelihood;
+    }
+
+    /**
+     * @return Count of rows.
+     */
+    long rowCount() {
+        return rowCnt;
+    }
+
+    /**
+     * Log-density of components of GMM weighted by component probabilities. Covariance matrices are kept as Cholesky
+     * factors (or variances if covariance is diagonal), so that log-density is computed without matrix inversion and
+     * determinant computation that overflow in high dimensions.
+     */
+    static class LogDensity implements Serializable {
+        /** Serial version uid. */
+        private static final long serialVersionUID = 2283361640212347380L;
+
+        /** Count of components. */
+        private final int countOfComponents;
+
+        /** Dimension of feature vectors. */
+        private final int dimension;
+
+        /** Diagonal covariance flag. */
+        private final boolean diagonal;
+
+        /** Means of components. */
+        private final double[] means;
+
+        /** Lower triangular Cholesky factors of covariances or variances if covariance is diagonal. */
+        private final double[] factors;
+
+        /** Log of component probability plus log of normalizer of gaussian distribution per component. */
+        private final double[] logNormalizers;
+
+        /**
+         * Creates an instance of LogDensity.
+         *
+         * @param mdl Model.
+         * @param diagonal Diagonal covariance flag, if it's true then only diagonals of covariances are used.
+         */
+        LogDensity(GmmModel mdl, boolean diagonal) {
+            countOfComponents = mdl.countOfComponents();
+            dimension = mdl.dimension();
+            this.diagonal = diagonal;
+
+            int d = dimension;
+
+            means = new double[countOfComponents * d];
+            factors = new double[countOfComponents * (diagonal ? d : d * d)];
+            logNormalizers = new double[countOfComponents];
+
+            for (int c = 0; c < countOfComponents; c++) {
+                MultivariateGaussianDistribution distribution = mdl.distributions().get(c);
+                Vector mean = distribution.mean();
+                Matrix cov = distribution.covariance();
+
+                for (int j = 0; j < d; j++)
+                    means[c * d + j] = mean.get(j);
+
+                double logDet = diagonal ? diagonal(cov, c) : cholesky(cov, c);
+
+                logNormalizers[c] = Math.log(mdl.componentsProbs().get(c)) - 0.5 * (d * Math.log(2 * Math.PI) + logDet);
+            }
+        }
+
+        /**
+         * @return Count of components.
+         */
+        int countOfComponents() {
+            return countOfComponents;
+        }
+
+        /**
+         * @return Dimension of feature vectors.
+         */
+        int dimension() {
+            return dimension;
+        }
+
+        /**
+         * Computes log-likelihood of vector (log of sum of P(c) * P(xi|c) over components) using log-sum-exp trick.
+         *
+         * @param xs Feature vectors in row-major order.
+         * @param off Offset of vector.
+         * @param logs Array where log of P(c) * P(xi|c) of each component is written to.
+         * @param delta Array where differences between vector and means of components are written to.
+         * @param buf Buffer of size {@code dimension}.
+         * @return Log-likelihood of vector.
+         */
+        double logProb(double[] xs, int off, double[] logs, double[] delta, double[] buf) {
+            double maxLog = Double.NEGATIVE_INFINITY;
+            for (int c = 0; c < countOfComponents; c++) {
+                logs[c] = logProb(c, xs, off, delta, buf);
+                maxLog = Math.max(maxLog, logs[c]);
+            }
+
+            // All components give zero likelihood, log-sum-exp would give NaN.
+            if (maxLog == Double.NEGATIVE_INFINITY)
+                return maxLog;
+
+            double sum = 0;
+            for (int c = 0; c < countOfComponents; c++)
+                sum += Math.exp(logs[c] - maxLog);
+
+            return maxLog + Math.log(sum);
+        }
+
+        /**
+         * Copies variances of component.
+         *
+         * @param cov Covariance matrix.
+         * @param c Component.
+         * @return Log of determinant of diagonal covariance matrix.
+         */
+        private double diagonal(Matrix cov, int c) {
+            int d = dimension;
+            double logDet = 0;
+
+            for (int j = 0; j < d; j++) {
+                double var = cov.get(j, j);
+                if (!(var > 0))
+                    throw new SingularMatrixException();
+
+                factors[c * d + j] = var;
+                logDet += Math.log(var);
+            }
+
+            return logDet;
+        }
+
+        /**
+         * Computes Cholesky factor of covariance matrix of component.
+         *
+         * @param cov Covariance matrix.
+         * @param c Component.
+         * @return Log of determinant of covariance matrix.
+         */
+        private double cholesky(Matrix cov, int c) {
+            int d = dimension;
+            int off = c * d * d;
+            double logDet = 0;
+
+            for (int j = 0; j < d; j++) {
+                for (int l = 0; l <= j; l++) {
+                    double sum = cov.get(j, l);
+                    for (int m = 0; m < l; m++)
+                        sum -= factors[off + j * d + m] * factors[off + l * d + m];
+
+                    if (j == l) {
+                        if (!(sum > 0))
+                            throw new SingularMatrixException();
+
+                        factors[off + j * d + j] = Math.sqrt(sum);
+                        logDet += Math.log(sum);
+                    }
+                    else
+                        factors[off + j * d + l] = sum / factors[off + l * d + l];
+                }
+            }
+
+            return logDet;
+        }
+
+        /**
+         * Computes log of P(c) * P(xi|c).
+         *
+         * @param c Component.
+         * @param xs Feature vectors in row-major order.
+         * @param off Offset of vector.
+         * @param delta Array where difference between vector and mean of component is written to (with offset
+         * {@code c * dimension}).
+         * @param buf Buffer of size {@code dimension}.
+         * @return Log of P(c) * P(xi|c).
+         */
+        double logProb(int c, double[] xs, int off, double[] delta, double[] buf) {
+            int d = dimension;
+            int deltaOff = c * d;
+
+            for (int j = 0; j < d; j++)
+                delta[deltaOff + j] = xs[off + j] - means[c * d + j];
+
+            double mahalanobis = 0;
+
+            if (diagonal) {
+                for (int j = 0; j < d; j++)
+                    mahalanobis += delta[deltaOff + j] * delta[deltaOff + j] / factors[c * d + j];
+            }
+            else {
+                // Solves L * y = delta by forward substitution (y is kept in buffer),
+                // so that delta^T * cov^-1 * delta = y^T * y.
+                int factorsOff = c * d * d;
+
+                for (int j = 0; j < d; j++) {
+                    double sum = delta[deltaOff + j];
+                    for (int l = 0; l < j; l++)
+                        sum -= factors[factorsOff + j * d + l] * buf[l];
+
+                    buf[j] = sum / factors[factorsOff + j * d + j];
+                    mahalanobis += buf[j] * buf[j];
+                }
+            }
+
+            return logNormalizers[c] - 0.5 * mahalanobis;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.clustering.kmeans;
+
+import org.apache.ignite.ml.structures.LabeledVector;
+import org.apache.ignite.ml.structures.LabeledVectorSet;
+
+/**
+ * Partition data used by {@link KMeansTrainer}. Keeps the rows of the partition together with the assignment of
+ * every row to its closest center and the bounds on distances to the centers. The bounds are kept between iterations
+ * and allow to skip most of the distance computations once the centers stop moving significantly (Hamerly's variant
+ * of Elkan's algorithm, that keeps a single lower bound per row instead of one bound per center).
+ *
+ * During k-means|| initialization the same arrays keep the index of the closest center candidate and the exact
+ * distance to it.
+ */
+public class KMeansPartitionData implements AutoCloseable {
+    /** Rows of the partition. */
+    private final LabeledVectorSet<LabeledVector> rows;
+
+    /** Index of the closest center for every row. */
+    private final int[] assignments;
+
+    /** Upper bounds on distances from rows to their closest centers. */
+    private final double[] upperBounds;
+
+    /** Lower bounds on distances from rows to their second closest centers. */
+    private final double[] lowerBounds;
+
+    /** Iteration the bounds are valid for, {@code -1} if bounds are not valid. */
+    private int boundsIteration = -1;
+
+    /** Amount of center candidates taken into account in assignments during k-means|| initialization. */
+    private int seenCandidates;
+
+    /**
+     * Constructs a new instance of KMeans partition data.
+     *
+     * @param rows Rows of the partition.
+     */
+    public KMeansPartitionData(LabeledVectorSet<LabeledVector> rows) {
+        this.rows = rows;
+
+        int size = rows.rowSize();
+
+        assignments = new int[size];
+        upperBounds = new double[size];
+        lowerBounds = new double[size];
+    }
+
+    /** */
+    public LabeledVectorSet<LabeledVector> getRows() {
+        return rows;
+    }
+
+    /** */
+    public int[] getAssignments() {
+        return assignments;
+    }
+
+    /** */
+    public double[] getUpperBounds() {
+        return upperBounds;
+    }
+
+    /** */
+    public double[] getLowerBounds() {
+        return lowerBounds;
+    }
+
+    /** */
+    public int getBoundsIteration() {
+        return boundsIteration;
+    }
+
+    /** */
+    public void setBoundsIteration(int boundsIteration) {
+        this.boundsIteration = boundsIteration;
+    }
+
+    /** */
+    public int getSeenCandidates() {
+        return seenCandidates;
+    }
+
+    /** */
+    public void setSeenCandidates(int seenCandidates) {
+        this.seenCandidates = seenCandidates;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() throws Exception {
+        rows.close();
+    }
+}
@@ -18,29 +18,27 @@
 package org.apache.ignite.ml.clustering.kmeans;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import org.apache.ignite.lang.IgniteBiTuple;
 import org.apache.ignite.ml.dataset.Dataset;
 import org.apache.ignite.ml.dataset.DatasetBuilder;
 import org.apache.ignite.ml.dataset.PartitionDataBuilder;
 import org.apache.ignite.ml.dataset.primitive.context.EmptyContext;
 import org.apache.ignite.ml.environment.LearningEnvironmentBuilder;
+import org.apache.ignite.ml.math.distances.ChebyshevDistance;
+import org.apache.ignite.ml.math.distances.DistanceKernels;
 import org.apache.ignite.ml.math.distances.DistanceMeasure;
 import org.apache.ignite.ml.math.distances.EuclideanDistance;
-import org.apache.ignite.ml.math.functions.IgniteBiFunction;
+import org.apache.ignite.ml.math.distances.ManhattanDistance;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
-import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
 import org.apache.ignite.ml.math.primitives.vector.impl.DenseVector;
-import org.apache.ignite.ml.math.util.MapUtil;
 import org.apache.ignite.ml.preprocessing.Preprocessor;
 import org.apache.ignite.ml.structures.LabeledVector;
 import org.apache.ignite.ml.structures.LabeledVectorSet;
@@ -49,6 +47,12 @@ import org.apache.ignite.ml.trainers.SingleLabelDatasetTrainer;
 
 /**
  * The trainer for KMeans algorithm.
+ *
+ * For distance measures satisfying the triangle inequality (Euclidean, Manhattan and Chebyshev) the trainer keeps
+ * bounds on distances from rows to the centers between iterations and skips distance computations which can't
+ * change the assignment of a row. If {@link #withBatchSize(int) batch size} is set, every iteration uses only a
+ * random sample of every partition and moves the centers with decreasing per-center learning rate (mini-batch
+ * KMeans).
  */
 public class KMeansTrainer extends SingleLabelDatasetTrainer<KMeansModel> {
     /** Amount of clusters. */
@@ -63,6 +67,15 @@ public class KMeansTrainer extends SingleLabelDatasetTrainer<KMeansModel> {
     /** Distance measure. */
     private DistanceMeasure distance = new EuclideanDistance();
 
+    /** Amount of rows sampled from every partition on each iteration, non-positive value means full batch. */
+    private int batchSize;
+
+    /** Initialization strategy of cluster centers. */
+    private InitStrategy initStgy = InitStrategy.RANDOM;
+
+    /** Amount of sampling rounds of k-means|| initialization. */
+    private int initSteps = 2;
+
     /** {@inheritDoc} */
     @Override public <K, V> KMeansModel fitWithInitializedDeployingContext(DatasetBuilder<K, V> datasetBuilder,
         Preprocessor<K, V> preprocessor) {
@@ -79,18 +92,19 @@ public class KMeansTrainer extends SingleLabelDatasetTrainer<KMeansModel> {
         Preprocessor<K, V> preprocessor) {
         assert datasetBuilder != null;
 
-        PartitionDataBuilder<K, V, EmptyContext, LabeledVectorSet<LabeledVector>> partDataBuilder =
-            new LabeledDatasetPartitionDataBuilderOnHeap<>(preprocessor);
+        PartitionDataBuilder<K, V, EmptyContext, KMeansPartitionData> partDataBuilder =
+            new LabeledDatasetPartitionDataBuilderOnHeap<K, V, EmptyContext>(preprocessor)
+                .andThen((data, ctx) -> new KMeansPartitionData(data));
 
         Vector[] centers;
 
-        try (Dataset<EmptyContext, LabeledVectorSet<LabeledVector>> dataset = datasetBuilder.build(
+        try (Dataset<EmptyContext, KMeansPartitionData> dataset = datasetBuilder.build(
             envBuilder,
             (env, upstream, upstreamSize) -> new EmptyContext(),
             partDataBuilder,
             learningEnvironment()
         )) {
-            final Integer cols = dataset.compute(org.apache.ignite.ml.structures.Dataset::colSize, (a, b) -> {
+            final Integer cols = dataset.compute(data -> data.getRows().colSize(), (a, b) -> {
                 if (a == null)
                     return b == null ? 0 : b;
                 if (b == null)
@@ -103,32 +117,56 @@ public class KMeansTrainer extends SingleLabelDatasetTrainer<KMeansModel> {
 
             centers = Optional.ofNullable(mdl)
                 .map(KMeansModel::centers)
-                .orElseGet(() -> initClusterCentersRandomly(dataset, k));
+                .orElseGet(() -> initStgy == InitStrategy.K_MEANS_PARALLEL ?
+                    initClusterCentersKMeansParallel(dataset, k) : initClusterCentersRandomly(dataset, k));
 
             boolean converged = false;
             int iteration = 0;
 
-            while (iteration < maxIterations && !converged) {
-                Vector[] newCentroids = new DenseVector[k];
+            // Shifts of the centers on the previous iteration, used to keep the distance bounds valid.
+            double[] centerShifts = null;
+
+            // Amount of rows assigned to every center on all previous iterations of mini-batch KMeans.
+            long[] seenCounts = new long[centers.length];
 
-                TotalCostAndCounts totalRes = calcDataForNewCentroids(centers, dataset, cols);
+            while (iteration < maxIterations && !converged) {
+                TotalCostAndCounts totalRes = batchSize > 0 ?
+                    calcDataForMiniBatch(centers, dataset, cols) :
+                    calcDataForNewCentroids(centers, centerShifts, iteration, dataset, cols);
 
                 converged = true;
+                centerShifts = new double[centers.length];
+
+                for (int i = 0; i < centers.length; i++) {
+                    if (totalRes.counts[i] == 0)
+                        continue;
+
+                    double[] newCenter = new double[cols];
+
+                    if (batchSize > 0) {
+                        seenCounts[i] += totalRes.counts[i];
+
+                        double learningRate = (double)totalRes.counts[i] / seenCounts[i];
+
+                        for (int j = 0; j < cols; j++)
+                            newCenter[j] = centers[i].get(j) * (1 - learningRate) + totalRes.sums[i][j] / seenCounts[i];
+                    }
+                    else {
+                        for (int j = 0; j < cols; j++)
+                            newCenter[j] = totalRes.sums[i][j] / totalRes.counts[i];
+                    }
 
-                for (Map.Entry<Integer, Vector> entry : totalRes.sums.entrySet()) {
-                    Vector massCenter = entry.getValue().times(1.0 / totalRes.counts.get(entry.getKey()));
+                    Vector massCenter = new DenseVector(newCenter);
 
-                    if (converged && distance.compute(massCenter, centers[entry.getKey()]) > epsilon * epsilon)
+                    centerShifts[i] = distance.compute(massCenter, centers[i]);
+
+                    if (centerShifts[i] > epsilon * epsilon)
                         converged = false;
 
-                    newCentroids[entry.getKey()] = massCenter;
+                    centers[i] = massCenter;
                 }
 
                 iteration++;
-                for (int i = 0; i < centers.length; i++) {
-                    if (newCentroids[i] != null)
-                        centers[i] = newCentroids[i];
-                }
             }
         }
         catch (Exception e) {
@@ -143,44 +181,73 @@ public class KMeansTrainer extends SingleLabelDatasetTrainer<KMeansModel> {
     }
 
     /**
-     * Prepares the data to define new centroids on current iteration.
+     * Prepares the data to define new centroids on current iteration. Distance computations are skipped for rows
+     * whose bounds prove that the closest center hasn't changed.
      *
      * @param centers Current centers on the current iteration.
+     * @param centerShifts Shifts of the centers on the previous iteration or {@code null} on the first iteration.
+     * @param iteration Current iteration.
      * @param dataset Dataset.
      * @param cols Amount of columns.
      * @return Helper data to calculate the new centroids.
      */
-    private TotalCostAndCounts calcDataForNewCentroids(Vector[] centers,
-        Dataset<EmptyContext, LabeledVectorSet<LabeledVector>> dataset, int cols) {
+    private TotalCostAndCounts calcDataForNewCentroids(Vector[] centers, double[] centerShifts, int iteration,
+        Dataset<EmptyContext, KMeansPartitionData> dataset, int cols) {
         final Vector[] finalCenters = centers;
+        final int amountOfCenters = centers.length;
+
+        final boolean useBounds = satisfiesTriangleInequality(distance) && centerShifts != null;
+        final double[] halfCenterDistances = useBounds ? halfDistancesToClosestCenters(centers) : null;
+        final double maxShift = useBounds ? Arrays.stream(centerShifts).max().orElse(0.0) : 0.0;
 
         return dataset.compute(data -> {
-            TotalCostAndCounts res = new TotalCostAndCounts();
+            TotalCostAndCounts res = new TotalCostAndCounts(amountOfCenters, cols);
+
+            LabeledVectorSet<LabeledVector> rows = data.getRows();
+            int[] assignments = data.getAssignments();
+            double[] upperBounds = data.getUpperBounds();
+            double[] lowerBounds = data.getLowerBounds();
 
-            for (int i = 0; i < data.rowSize(); i++) {
-                final IgniteBiTuple<Integer, Double> closestCentroid = findClosestCentroid(finalCenters, data.getRow(i));
+            boolean boundsValid = useBounds && data.getBoundsIteration() == iteration - 1;
+            double[] dists = new double[2];
 
-                int centroidIdx = closestCentroid.get1();
+            for (int i = 0; i < rows.rowSize(); i++) {
+                Vector features = rows.getRow(i).features();
 
-                data.setLabel(i, centroidIdx);
+                boolean search = true;
 
-                res.totalCost += closestCentroid.get2();
-                res.sums.putIfAbsent(centroidIdx, VectorUtils.zeroes(cols));
+                if (boundsValid) {
+                    int centroidIdx = assignments[i];
 
-                int finalI = i;
-                res.sums.compute(centroidIdx,
-                    (IgniteBiFunction<Integer, Vector, Vector>)(ind, v) -> {
-                        Vector features = data.getRow(finalI).features();
-                        return v == null ? features : v.plus(features);
-                    });
+                    upperBounds[i] += centerShifts[centroidIdx];
+                    lowerBounds[i] -= maxShift;
 
-                res.counts.merge(centroidIdx, 1,
-                    (IgniteBiFunction<Integer, Integer, Integer>)(i1, i2) -> i1 + i2);
+                    double bound = Math.max(halfCenterDistances[centroidIdx], lowerBounds[i]);
+
+                    if (upperBounds[i] <= bound)
+                        search = false;
+                    else {
+                        upperBounds[i] = distance.compute(finalCenters[centroidIdx], features);
+
+                        search = upperBounds[i] > bound;
+                    }
+                }
+
+                if (search) {
+                    assignments[i] = findClosestCentroid(finalCenters, features, dists);
+                    upperBounds[i] = dists[0];
+                    lowerBounds[i] = dists[1];
+                }
+
+                res.add(assignments[i], features, upperBounds[i]);
             }
+
+            data.setBoundsIteration(iteration);
+
             return res;
         }, (a, b) -> {
             if (a == null)
-                return b == null ? new TotalCostAndCounts() : b;
+                return b == null ? new TotalCostAndCounts(amountOfCenters, cols) : b;
             if (b == null)
                 return a;
             return a.merge(b);
@@ -188,23 +255,112 @@ public class KMeansTrainer extends SingleLabelDatasetTrainer<KMeansModel> {
     }
 
     /**
-     * Find the closest cluster center index and distance to it from a given point.
+     * Prepares the data to move the centroids on current iteration of mini-batch KMeans. Only a random sample of
+     * {@link #batchSize} rows is taken from every partition.
+     *
+     * @param centers Current centers on the current iteration.
+     * @param dataset Dataset.
+     * @param cols Amount of columns.
+     * @return Helper data to calculate the new centroids.
+     */
+    private TotalCostAndCounts calcDataForMiniBatch(Vector[] centers,
+        Dataset<EmptyContext, KMeansPartitionData> dataset, int cols) {
+        final Vector[] finalCenters = centers;
+        final int amountOfCenters = centers.length;
+        final int finalBatchSize = batchSize;
+
+        return dataset.compute((data, env) -> {
+            TotalCostAndCounts res = new TotalCostAndCounts(amountOfCenters, cols);
+
+            LabeledVectorSet<LabeledVector> rows = data.getRows();
+            Random random = env.randomNumbersGenerator();
+            double[] dists = new double[2];
+
+            int rowSize = rows.rowSize();
+            boolean sample = rowSize > finalBatchSize;
+
+            for (int i = 0; i < Math.min(rowSize, finalBatchSize); i++) {
+                Vector features = rows.getRow(sample ? random.nextInt(rowSize) : i).features();
+
+                int centroidIdx = findClosestCentroid(finalCenters, features, dists);
+
+                res.add(centroidIdx, features, dists[0]);
+            }
+
+            return res;
+        }, (a, b) -> {
+            if (a == null)
+                return b == null ? new TotalCostAndCounts(amountOfCenters, cols) : b;
+            if (b == null)
+                return a;
+            return a.merge(b);
+        });
+    }
+
+    /**
+     * Find the closest cluster center index and distances to the closest and the second closest centers from a given
+     * point.
      *
      * @param centers Centers to look in.
      * @param pnt Point.
+     * @param dists Array to write distances to the closest and the second closest centers to.
+     * @return Index of the closest center.
      */
-    private IgniteBiTuple<Integer, Double> findClosestCentroid(Vector[] centers, LabeledVector pnt) {
+    private int findClosestCentroid(Vector[] centers, Vector pnt, double[] dists) {
         double bestDistance = Double.POSITIVE_INFINITY;
+        double secondBestDistance = Double.POSITIVE_INFINITY;
         int bestInd = 0;
 
         for (int i = 0; i < centers.length; i++) {
-            double dist = distance.compute(centers[i], pnt.features());
+            double dist = distance.compute(centers[i], pnt);
             if (dist < bestDistance) {
+                secondBestDistance = bestDistance;
                 bestDistance = dist;
                 bestInd = i;
             }
+            else if (dist < secondBestDistance)
+                secondBestDistance = dist;
         }
-        return new IgniteBiTuple<>(bestInd, bestDistance);
+
+        dists[0] = bestDistance;
+        dists[1] = secondBestDistance;
+
+        return bestInd;
+    }
+
+    /**
+     * Calculates half of the distance from every center to the closest other center. A row which is closer to its
+     * center than this value can't be closer to any other center.
+     *
+     * @param centers Centers.
+     * @return Half of the distance from every center to the closest other center.
+     */
+    private double[] halfDistancesToClosestCenters(Vector[] centers) {
+        double[] res = new double[centers.length];
+        Arrays.fill(res, Double.POSITIVE_INFINITY);
+
+        for (int i = 0; i < centers.length; i++) {
+            for (int j = i + 1; j < centers.length; j++) {
+                double dist = distance.compute(centers[i], centers[j]) / 2;
+
+                res[i] = Math.min(res[i], dist);
+                res[j] = Math.min(res[j], dist);
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * Checks whether the given distance measure satisfies the triangle inequality, so distance bounds can be used.
+     *
+     * @param distance Distance measure.
+     * @return {@code true} if distance bounds can be used with the given distance measure.
+     */
+    private static boolean satisfiesTriangleInequality(DistanceMeasure distance) {
+        return distance instanceof EuclideanDistance
+            || distance instanceof ManhattanDistance
+            || distance instanceof ChebyshevDistance;
     }
 
     /**
@@ -214,12 +370,12 @@ public class KMeansTrainer extends SingleLabelDatasetTrainer<KMeansModel> {
      * @param k Amount of clusters.
      * @return K cluster centers.
      */
-    private Vector[] initClusterCentersRandomly(Dataset<EmptyContext, LabeledVectorSet<LabeledVector>> dataset,
-        int k) {
+    private Vector[] initClusterCentersRandomly(Dataset<EmptyContext, KMeansPartitionData> dataset, int k) {
         Vector[] initCenters = new DenseVector[k];
 
         // Gets k or less vectors from each partition.
-        List<LabeledVector> rndPnts = dataset.compute(data -> {
+        List<LabeledVector> rndPnts = dataset.compute(partData -> {
+            LabeledVectorSet<LabeledVector> data = partData.getRows();
             List<LabeledVector> rndPnt = new ArrayList<>();
 
             if (data.rowSize() != 0) {
@@ -272,35 +428,247 @@ public class KMeansTrainer extends SingleLabelDatasetTrainer<KMeansModel> {
         return initCenters;
     }
 
+    /**
+     * K cluster centers are initialized using k-means|| algorithm. On every of {@link #initSteps} rounds each row is
+     * added to the set of center candidates with probability proportional to its squared distance to the closest
+     * candidate, so that about {@code 2 * k} candidates are added per round. Then k centers are chosen from the
+     * candidates weighted by the amount of rows closest to them using k-means++ algorithm.
+     *
+     * @param dataset The dataset to pick up centers.
+     * @param k Amount of clusters.
+     * @return K cluster centers.
+     */
+    private Vector[] initClusterCentersKMeansParallel(Dataset<EmptyContext, KMeansPartitionData> dataset, int k) {
+        List<Vector> candidates = new ArrayList<>(Arrays.asList(initClusterCentersRandomly(dataset, 1)));
+
+        final double oversamplingFactor = 2.0 * k;
+
+        for (int step = 0; step < initSteps; step++) {
+            final Vector[] curCandidates = candidates.toArray(new Vector[0]);
+
+            Double cost = dataset.compute(data -> {
+                updateClosestCandidates(data, curCandidates);
+
+                double res = 0;
+                for (double dist : data.getUpperBounds())
+                    res += dist * dist;
+
+                return res;
+            }, (a, b) -> {
+                if (a == null)
+                    return b == null ? 0.0 : b;
+                if (b == null)
+                    return a;
+                return a + b;
+            });
+
+            if (cost == null || cost == 0)
+                break;
+
+            List<Vector> sampled = dataset.compute((data, env) -> {
+                updateClosestCandidates(data, curCandidates);
+
+                Random random = env.randomNumbersGenerator();
+                double[] dists = data.getUpperBounds();
+                List<Vector> res = new ArrayList<>();
+
+                for (int i = 0; i < dists.length; i++) {
+                    if (random.nextDouble() < oversamplingFactor * dists[i] * dists[i] / cost)
+                        res.add(data.getRows().getRow(i).features());
+                }
+
+                return res;
+            }, (a, b) -> {
+                if (a == null)
+                    return b == null ? new ArrayList<>() : b;
+                if (b == null)
+                    return a;
+                return Stream.concat(a.stream(), b.stream()).collect(Collectors.toList());
+            });
+
+            candidates.addAll(sampled);
+        }
+
+        if (candidates.size() <= k)
+            return initClusterCentersRandomly(dataset, k);
+
+        final Vector[] allCandidates = candidates.toArray(new Vector[0]);
+
+        long[] weights = dataset.compute(data -> {
+            updateClosestCandidates(data, allCandidates);
+
+            long[] res = new long[allCandidates.length];
+            for (int idx : data.getAssignments())
+                res[idx]++;
+
+            return res;
+        }, (a, b) -> {
+            if (a == null)
+                return b == null ? new long[allCandidates.length] : b;
+            if (b == null)
+                return a;
+            for (int i = 0; i < a.length; i++)
+                a[i] += b[i];
+            return a;
+        });
+
+        return chooseCentersWithKMeansPlusPlus(allCandidates, weights, k);
+    }
+
+    /**
+     * Updates assignments of rows to the closest center candidates taking into account only the candidates which
+     * were added since the previous update.
+     *
+     * @param data Partition data.
+     * @param candidates All center candidates.
+     */
+    private void updateClosestCandidates(KMeansPartitionData data, Vector[] candidates) {
+        int from = data.getSeenCandidates();
+
+        if (from == candidates.length)
+            return;
+
+        LabeledVectorSet<LabeledVector> rows = data.getRows();
+        int[] assignments = data.getAssignments();
+        double[] dists = data.getUpperBounds();
+
+        for (int i = 0; i < rows.rowSize(); i++) {
+            Vector features = rows.getRow(i).features();
+
+            for (int j = from; j < candidates.length; j++) {
+                double dist = distance.compute(candidates[j], features);
+
+                if (j == 0 || dist < dists[i]) {
+                    dists[i] = dist;
+                    assignments[i] = j;
+                }
+            }
+        }
+
+        data.setSeenCandidates(candidates.length);
+    }
+
+    /**
+     * Chooses k centers from the weighted center candidates using k-means++ algorithm.
+     *
+     * @param candidates Center candidates.
+     * @param weights Weights of the candidates.
+     * @param k Amount of clusters.
+     * @return K cluster centers.
+     */
+    private Vector[] chooseCentersWithKMeansPlusPlus(Vector[] candidates, long[] weights, int k) {
+        Random random = environment.randomNumbersGenerator();
+
+        Vector[] centers = new Vector[k];
+        boolean[] chosen = new boolean[candidates.length];
+        double[] dists = new double[candidates.length];
+        Arrays.fill(dists, Double.POSITIVE_INFINITY);
+
+        for (int c = 0; c < k; c++) {
+            double[] probs = new double[candidates.length];
+            double total = 0;
+
+            for (int i = 0; i < candidates.length; i++) {
+                if (!chosen[i]) {
+                    probs[i] = c == 0 ? weights[i] : weights[i] * dists[i] * dists[i];
+                    total += probs[i];
+                }
+            }
+
+            int idx = -1;
+
+            if (total > 0) {
+                double threshold = random.nextDouble() * total;
+
+                for (int i = 0; i < candidates.length && idx == -1; i++) {
+                    threshold -= probs[i];
+
+                    if (probs[i] > 0 && threshold <= 0)
+                        idx = i;
+                }
+            }
+
+            // All the rest candidates coincide with chosen centers, so any of them can be taken.
+            for (int i = 0; i < candidates.length && idx == -1; i++) {
+                if (!chosen[i])
+                    idx = i;
+            }
+
+            chosen[idx] = true;
+            centers[c] = candidates[idx];
+
+            for (int i = 0; i < candidates.length; i++)
+                dists[i] = Math.min(dists[i], distance.compute(centers[c], candidates[i]));
+        }
+
+        return centers;
+    }
+
     /** Service class used for statistics. */
     public static class TotalCostAndCounts {
-        /** */
+        /** Sum of distances from points to the closest centers (upper bounds if distance computation was skipped). */
         double totalCost;
 
-        /** */
-        ConcurrentHashMap<Integer, Vector> sums = new ConcurrentHashMap<>();
+        /** Sums of points closest to the center with a given index. */
+        final double[][] sums;
 
         /** Count of points closest to the center with a given index. */
-        ConcurrentHashMap<Integer, Integer> counts = new ConcurrentHashMap<>();
+        final long[] counts;
 
-        /** Count of points closest to the center with a given index. */
-        ConcurrentHashMap<Integer, ConcurrentHashMap<Double, Integer>> centroidStat = new ConcurrentHashMap<>();
+        /**
+         * Constructs a new instance of statistics.
+         *
+         * @param k Amount of centers.
+         * @param cols Amount of columns.
+         */
+        TotalCostAndCounts(int k, int cols) {
+            sums = new double[k][cols];
+            counts = new long[k];
+        }
+
+        /**
+         * Adds point to the statistics of the center.
+         *
+         * @param centroidIdx Index of the center closest to the point.
+         * @param features Point.
+         * @param dist Distance from the point to the center.
+         */
+        void add(int centroidIdx, Vector features, double dist) {
+            double[] sum = sums[centroidIdx];
+            double[] arr = DistanceKernels.arrayOf(features);
+
+            if (arr != null) {
+                for (int j = 0; j < sum.length; j++)
+                    sum[j] += arr[j];
+            }
+            else {
+                for (int j = 0; j < sum.length; j++)
+                    sum[j] += features.get(j);
+            }
+
+            counts[centroidIdx]++;
+            totalCost += dist;
+        }
 
         /** Merge current */
         TotalCostAndCounts merge(TotalCostAndCounts other) {
-            this.totalCost += totalCost;
-            this.sums = MapUtil.mergeMaps(sums, other.sums, Vector::plus, ConcurrentHashMap::new);
-            this.counts = MapUtil.mergeMaps(counts, other.counts, (i1, i2) -> i1 + i2, ConcurrentHashMap::new);
-            this.centroidStat = MapUtil.mergeMaps(centroidStat, other.centroidStat, (m1, m2) ->
-                MapUtil.mergeMaps(m1, m2, (i1, i2) -> i1 + i2, ConcurrentHashMap::new), ConcurrentHashMap::new);
+            this.totalCost += other.totalCost;
+
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other.counts[i];
+
+                for (int j = 0; j < sums[i].length; j++)
+                    sums[i][j] += other.sums[i][j];
+            }
+
             return this;
         }
 
         /**
-         * @return centroid statistics.
+         * @return Count of points closest to the center with a given index.
          */
-        public ConcurrentHashMap<Integer, ConcurrentHashMap<Double, Integer>> getCentroidStat() {
-            return centroidStat;
+        public long[] getCounts() {
+            return counts;
         }
     }
 
@@ -383,4 +751,74 @@ public class KMeansTrainer extends SingleLabelDatasetTrainer<KMeansModel> {
         this.distance = distance;
         return this;
     }
+
+    /**
+     * Gets the batch size.
+     *
+     * @return The parameter value.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Set up the amount of rows sampled from every partition on each iteration. Non-positive value means that all
+     * the rows are used on each iteration.
+     *
+     * @param batchSize The parameter value.
+     * @return Model with new batch size parameter value.
+     */
+    public KMeansTrainer withBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Gets the initialization strategy.
+     *
+     * @return The parameter value.
+     */
+    public InitStrategy getInitStrategy() {
+        return initStgy;
+    }
+
+    /**
+     * Set up the initialization strategy of cluster centers.
+     *
+     * @param initStgy The parameter value.
+     * @return Model with new initialization strategy parameter value.
+     */
+    public KMeansTrainer withInitStrategy(InitStrategy initStgy) {
+        this.initStgy = initStgy;
+        return this;
+    }
+
+    /**
+     * Gets the amount of k-means|| initialization rounds.
+     *
+     * @return The parameter value.
+     */
+    public int getInitSteps() {
+        return initSteps;
+    }
+
+    /**
+     * Set up the amount of k-means|| initialization rounds.
+     *
+     * @param initSteps The parameter value.
+     * @return Model with new amount of k-means|| initialization rounds parameter value.
+     */
+    public KMeansTrainer withInitSteps(int initSteps) {
+        this.initSteps = initSteps;
+        return this;
+    }
+
+    /** Initialization strategy of cluster centers. */
+    public enum InitStrategy {
+        /** K random rows are taken as centers. */
+        RANDOM,
+
+        /** Centers are chosen using scalable k-means++ (k-means||) algorithm. */
+        K_MEANS_PARALLEL
+    }
 }
@@ -30,7 +30,9 @@ import org.apache.ignite.ml.environment.LearningEnvironment;
 import org.apache.ignite.ml.environment.LearningEnvironmentBuilder;
 import org.apache.ignite.ml.math.functions.IgniteFunction;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
 import org.apache.ignite.ml.preprocessing.Preprocessor;
+import org.apache.ignite.ml.tree.data.DecisionTreeData;
 
 /**
  * Contains logic of error computing and convergence checking for Gradient Boosting algorithms.
@@ -142,4 +144,28 @@ public abstract class ConvergenceChecker<K, V> implements Serializable {
         Double mdlAnswer = currMdl.predict(features);
         return -loss.gradient(sampleSize, realAnswer, mdlAnswer);
     }
+
+    /**
+     * Compute error for the specific row of partition. If partition keeps running predictions of the current model
+     * (see {@link DecisionTreeData#getPredictions()}) they are used instead of the model prediction, in this case
+     * labels of the partition are residuals and original labels are taken from
+     * {@link DecisionTreeData#getCopiedOriginalLabels()}.
+     *
+     * @param part Partition.
+     * @param row Row index.
+     * @param currMdl Current model.
+     * @return Error.
+     */
+    protected double computeError(FeatureMatrixWithLabelsOnHeapData part, int row, ModelsComposition currMdl) {
+        if (part instanceof DecisionTreeData) {
+            DecisionTreeData data = (DecisionTreeData)part;
+
+            if (data.getPredictions() != null) {
+                double realAnswer = externalLbToInternalMapping.apply(data.getCopiedOriginalLabels()[row]);
+                return -loss.gradient(sampleSize, realAnswer, data.getPredictions()[row]);
+            }
+        }
+
+        return computeError(VectorUtils.of(part.getFeatures()[row]), part.getLabels()[row], currMdl);
+    }
 }
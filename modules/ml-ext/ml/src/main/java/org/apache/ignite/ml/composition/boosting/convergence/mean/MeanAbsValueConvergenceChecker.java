@@ -26,7 +26,6 @@ import org.apache.ignite.ml.dataset.DatasetBuilder;
 import org.apache.ignite.ml.dataset.primitive.FeatureMatrixWithLabelsOnHeapData;
 import org.apache.ignite.ml.dataset.primitive.context.EmptyContext;
 import org.apache.ignite.ml.math.functions.IgniteFunction;
-import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
 import org.apache.ignite.ml.preprocessing.Preprocessor;
 
 /**
@@ -81,7 +80,7 @@ public class MeanAbsValueConvergenceChecker<K, V> extends ConvergenceChecker<K,
         Double sum = 0.0;
 
         for (int i = 0; i < part.getFeatures().length; i++) {
-            double error = computeError(VectorUtils.of(part.getFeatures()[i]), part.getLabels()[i], mdl);
+            double error = computeError(part, i, mdl);
             sum += Math.abs(error);
         }
 
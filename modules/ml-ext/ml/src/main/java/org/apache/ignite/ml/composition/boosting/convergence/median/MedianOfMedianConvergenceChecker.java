@@ -26,7 +26,6 @@ import org.apache.ignite.ml.dataset.DatasetBuilder;
 import org.apache.ignite.ml.dataset.primitive.FeatureMatrixWithLabelsOnHeapData;
 import org.apache.ignite.ml.dataset.primitive.context.EmptyContext;
 import org.apache.ignite.ml.math.functions.IgniteFunction;
-import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
 import org.apache.ignite.ml.preprocessing.Preprocessor;
 
 /**
@@ -81,7 +80,7 @@ public class MedianOfMedianConvergenceChecker<K, V> extends ConvergenceChecker<K
     private double[] computeMedian(ModelsComposition mdl, FeatureMatrixWithLabelsOnHeapData data) {
         double[] errors = new double[data.getLabels().length];
         for (int i = 0; i < errors.length; i++)
-            errors[i] = Math.abs(computeError(VectorUtils.of(data.getFeatures()[i]), data.getLabels()[i], mdl));
+            errors[i] = Math.abs(computeError(data, i, mdl));
         return new double[] {getMedian(errors)};
     }
 
@@ -104,6 +104,38 @@ public interface Dataset<C extends Serializable, D extends AutoCloseable> extend
         return compute(map, reduce, null);
     }
 
+    /**
+     * Applies the specified {@code map} function to every partition {@code data} and {@link LearningEnvironment}
+     * in the dataset and then reduces {@code map} results to final result by using the {@code reduce} function. Unlike
+     * {@link #compute(IgniteBiFunction, IgniteBinaryOperator, Object)} results might be reduced hierarchically (on the
+     * nodes partitions are placed on and then along a tree of nodes), so that only one result is sent to the caller.
+     * The {@code reduce} function should be associative and commutative. By default it's equal to {@code compute}.
+     *
+     * @param map Function applied to every partition {@code data} and {@link LearningEnvironment}.
+     * @param reduce Function applied to results of {@code map} to get final result.
+     * @param identity Identity.
+     * @param <R> Type of a result.
+     * @return Final result.
+     */
+    public default <R> R computeWithTreeReduce(IgniteBiFunction<D, LearningEnvironment, R> map,
+        IgniteBinaryOperator<R> reduce, R identity) {
+        return compute(map, reduce, identity);
+    }
+
+    /**
+     * Applies the specified {@code map} function to every partition {@code data} in the dataset and then reduces
+     * {@code map} results to final result by using the {@code reduce} function hierarchically (see
+     * {@link #computeWithTreeReduce(IgniteBiFunction, IgniteBinaryOperator, Object)}).
+     *
+     * @param map Function applied to every partition {@code data}.
+     * @param reduce Function applied to results of {@code map} to get final result.
+     * @param <R> Type of a result.
+     * @return Final result.
+     */
+    public default <R> R computeWithTreeReduce(IgniteFunction<D, R> map, IgniteBinaryOperator<R> reduce) {
+        return computeWithTreeReduce((data, env) -> map.apply(data), reduce, null);
+    }
+
     /**
      * Applies the specified {@code map} function to every partition {@code data} and {@code context} in the dataset
      * and then reduces {@code map} results to final result by using the {@code reduce} function.
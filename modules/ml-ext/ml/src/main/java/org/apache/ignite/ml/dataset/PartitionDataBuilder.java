@@ -40,6 +40,12 @@ import org.apache.ignite.ml.math.functions.IgniteBiFunction;
  */
 @FunctionalInterface
 public interface PartitionDataBuilder<K, V, C extends Serializable, D extends AutoCloseable> extends Serializable {
+    /**
+     * Value of {@code upstreamDataSize} passed to the builder when partition {@code upstream} data is read in a single
+     * pass and its size is not known in advance (see {@link #isUnknownSizeSupported()}).
+     */
+    public static final long UNKNOWN_SIZE = -1;
+
     /**
      * Builds a new partition {@code data} from a partition {@code upstream} data and partition {@code context}.
      * Important: there is no guarantee that there will be no more than one UpstreamEntry with given key,
@@ -49,7 +55,8 @@ public interface PartitionDataBuilder<K, V, C extends Serializable, D extends Au
      *
      * @param env Learning environment.
      * @param upstreamData Partition {@code upstream} data.
-     * @param upstreamDataSize Partition {@code upstream} data size.
+     * @param upstreamDataSize Partition {@code upstream} data size or {@link #UNKNOWN_SIZE} if the builder supports
+     * unknown size and dataset reads the partition {@code upstream} data in a single pass.
      * @param ctx Partition {@code context}.
      * @return Partition {@code data}.
      */
@@ -72,6 +79,18 @@ public interface PartitionDataBuilder<K, V, C extends Serializable, D extends Au
         return build(env, upstreamData.iterator(), upstreamDataSize, ctx);
     }
 
+    /**
+     * Returns {@code true} if this builder is able to build partition {@code data} without knowing the partition
+     * {@code upstream} data size in advance (in this case {@link #UNKNOWN_SIZE} is passed as a size). Such builders
+     * allow dataset to read the partition {@code upstream} data in a single pass instead of making an additional pass
+     * to count entries.
+     *
+     * @return {@code true} if this builder accepts {@link #UNKNOWN_SIZE} as a partition {@code upstream} data size.
+     */
+    public default boolean isUnknownSizeSupported() {
+        return false;
+    }
+
     /**
      * Makes a composed partition {@code data} builder that first builds a {@code data} and then applies the specified
      * function on the result.
@@ -82,7 +101,22 @@ public interface PartitionDataBuilder<K, V, C extends Serializable, D extends Au
      */
     public default <D2 extends AutoCloseable> PartitionDataBuilder<K, V, C, D2> andThen(
         IgniteBiFunction<D, C, D2> fun) {
-        return (env, upstreamData, upstreamDataSize, ctx) ->
-            fun.apply(build(env, upstreamData, upstreamDataSize, ctx), ctx);
+        PartitionDataBuilder<K, V, C, D> self = this;
+
+        return new PartitionDataBuilder<K, V, C, D2>() {
+            /** */
+            private static final long serialVersionUID = -4413870735421367617L;
+
+            /** {@inheritDoc} */
+            @Override public D2 build(LearningEnvironment env, Iterator<UpstreamEntry<K, V>> upstreamData,
+                long upstreamDataSize, C ctx) {
+                return fun.apply(self.build(env, upstreamData, upstreamDataSize, ctx), ctx);
+            }
+
+            /** {@inheritDoc} */
+            @Override public boolean isUnknownSizeSupported() {
+                return self.isUnknownSizeSupported();
+            }
+        };
     }
 }
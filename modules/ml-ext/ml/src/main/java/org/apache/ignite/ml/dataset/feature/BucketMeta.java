@@ -50,7 +50,7 @@ public class BucketMeta implements Serializable {
      * @param val Value.
      * @return Bucket id.
      */
-    public int getBucketId(Double val) {
+    public int getBucketId(double val) {
         if (featureMeta.isCategoricalFeature())
             return (int)Math.rint(val);
 
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.dataset.feature;
+
+import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.math.primitives.vector.impl.DenseFloatVector;
+import org.apache.ignite.ml.structures.LabeledVector;
+
+/**
+ * Precision of feature values kept in partition {@code data}. Lower precision reduces memory consumed by dataset at
+ * the cost of rounding errors in features.
+ * <p>
+ * The setting is honored only by trainers that explicitly accept it: {@link org.apache.ignite.ml.knn.KNNTrainer} and
+ * {@link org.apache.ignite.ml.tree.randomforest.RandomForestTrainer}. Other dataset consumers (e.g. decision trees and
+ * gradient boosting on trees that keep {@code double[][]} rows in {@code DecisionTreeData}) always keep features with
+ * double precision.</p>
+ */
+public enum FeaturePrecision {
+    /** Features are kept as is (usually with double precision). */
+    DOUBLE,
+
+    /** Dense features are kept with single precision ({@code float}). */
+    FLOAT;
+
+    /**
+     * Converts features to this precision.
+     *
+     * @param features Features.
+     * @return Features with this precision.
+     */
+    public Vector convert(Vector features) {
+        if (this == DOUBLE || !features.isDense() || !features.isNumeric() || features instanceof DenseFloatVector)
+            return features;
+
+        float[] res = new float[features.size()];
+
+        for (int i = 0; i < res.length; i++)
+            res[i] = (float)features.get(i);
+
+        return new DenseFloatVector(res);
+    }
+
+    /**
+     * Converts features of the specified labeled vector to this precision.
+     *
+     * @param vec Labeled vector.
+     * @param <L> Type of a label.
+     * @return Labeled vector with features with this precision.
+     */
+    public <L> LabeledVector<L> convert(LabeledVector<L> vec) {
+        if (this == DOUBLE)
+            return vec;
+
+        return new LabeledVector<>(convert(vec.features()), vec.label());
+    }
+}
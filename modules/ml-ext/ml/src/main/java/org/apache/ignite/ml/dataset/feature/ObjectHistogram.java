@@ -45,6 +45,16 @@ public abstract class ObjectHistogram<T> implements Histogram<T, ObjectHistogram
         hist.put(bucket, bucketVal + cntrVal);
     }
 
+    /**
+     * Adds value to the counter of the bucket.
+     *
+     * @param bucket Bucket id.
+     * @param val Value.
+     */
+    public void addToBucket(Integer bucket, double val) {
+        hist.merge(bucket, val, Double::sum);
+    }
+
     /** {@inheritDoc} */
     @Override public Set<Integer> buckets() {
         return hist.keySet();
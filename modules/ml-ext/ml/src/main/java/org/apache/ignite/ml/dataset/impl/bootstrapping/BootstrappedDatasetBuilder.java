@@ -23,6 +23,7 @@ import org.apache.commons.math3.distribution.PoissonDistribution;
 import org.apache.commons.math3.random.Well19937c;
 import org.apache.ignite.ml.dataset.PartitionDataBuilder;
 import org.apache.ignite.ml.dataset.UpstreamEntry;
+import org.apache.ignite.ml.dataset.feature.FeaturePrecision;
 import org.apache.ignite.ml.dataset.primitive.context.EmptyContext;
 import org.apache.ignite.ml.environment.LearningEnvironment;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
@@ -51,6 +52,9 @@ public class BootstrappedDatasetBuilder<K, V> implements PartitionDataBuilder<K,
     /** Subsample size. */
     private final double subsampleSize;
 
+    /** Precision of features kept in partition data. */
+    private final FeaturePrecision featurePrecision;
+
     /**
      * Creates an instance of BootstrappedDatasetBuilder.
      *
@@ -59,9 +63,23 @@ public class BootstrappedDatasetBuilder<K, V> implements PartitionDataBuilder<K,
      * @param subsampleSize Subsample size.
      */
     public BootstrappedDatasetBuilder(Preprocessor<K, V> preprocessor, int samplesCnt, double subsampleSize) {
+        this(preprocessor, samplesCnt, subsampleSize, FeaturePrecision.DOUBLE);
+    }
+
+    /**
+     * Creates an instance of BootstrappedDatasetBuilder.
+     *
+     * @param preprocessor Mapper of upstream entries into {@link LabeledVector}.
+     * @param samplesCnt Samples count.
+     * @param subsampleSize Subsample size.
+     * @param featurePrecision Precision of features kept in partition data.
+     */
+    public BootstrappedDatasetBuilder(Preprocessor<K, V> preprocessor, int samplesCnt, double subsampleSize,
+        FeaturePrecision featurePrecision) {
         this.preprocessor = preprocessor;
         this.samplesCnt = samplesCnt;
         this.subsampleSize = subsampleSize;
+        this.featurePrecision = featurePrecision;
     }
 
     /** {@inheritDoc} */
@@ -84,7 +102,7 @@ public class BootstrappedDatasetBuilder<K, V> implements PartitionDataBuilder<K,
         while (upstreamData.hasNext()) {
             UpstreamEntry<K, V> nextRow = upstreamData.next();
             LabeledVector<Double> vecAndLb = preprocessor.apply(nextRow.getKey(), nextRow.getValue());
-            Vector features = vecAndLb.features();
+            Vector features = featurePrecision.convert(vecAndLb.features());
             Double lb = vecAndLb.label();
             int[] repetitionCounters = new int[samplesCnt];
             Arrays.setAll(repetitionCounters, i -> poissonDistribution.sample());
@@ -18,13 +18,21 @@
 package org.apache.ignite.ml.dataset.impl.cache;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteCache;
 import org.apache.ignite.Ignition;
+import org.apache.ignite.cache.affinity.Affinity;
+import org.apache.ignite.cluster.ClusterGroup;
+import org.apache.ignite.cluster.ClusterGroupEmptyException;
+import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.lang.IgniteBiPredicate;
+import org.apache.ignite.lang.IgniteRunnable;
 import org.apache.ignite.ml.dataset.Dataset;
 import org.apache.ignite.ml.dataset.DatasetBuilder;
 import org.apache.ignite.ml.dataset.PartitionDataBuilder;
@@ -86,6 +94,30 @@ public class CacheBasedDataset<K, V, C extends Serializable, D extends AutoClose
      */
     private final LearningEnvironment locLearningEnv;
 
+    /** Whether partition {@code upstream} is read in a single pass when partition {@code data} builder supports it. */
+    private final boolean singlePassLoading;
+
+    /** Whether computations are executed as one job per node instead of one job per partition. */
+    private final boolean nodeGroupedCompute;
+
+    /** Whether partition {@code context} is kept in local storage and written to the dataset cache on checkpoints. */
+    private final boolean localContextStorage;
+
+    /**
+     * Number of computations with partition {@code context} kept in local storage after which it's written into the
+     * dataset cache, non-positive value disables periodic checkpoints.
+     */
+    private final int checkpointInterval;
+
+    /** Number of computations with partition {@code context} kept in local storage since the last checkpoint. */
+    private final AtomicInteger uncheckpointedComputations = new AtomicInteger();
+
+    /**
+     * IDs of primary nodes of all partitions at the last computation with partition {@code context}, {@code null} if
+     * there was none.
+     */
+    private volatile UUID[] ctxPrimaryNodes;
+
     /**
      * Constructs a new instance of dataset based on Ignite Cache, which is used as {@code upstream} and as reliable storage for
      * partition {@code context} as well.
@@ -112,6 +144,157 @@ public class CacheBasedDataset<K, V, C extends Serializable, D extends AutoClose
         boolean upstreamKeepBinary,
         LearningEnvironment localLearningEnv,
         int retriesCnt) {
+        this(ignite, upstreamCache, filter, upstreamTransformerBuilder, datasetCache, envBuilder, partDataBuilder,
+            datasetId, upstreamKeepBinary, localLearningEnv, retriesCnt, false);
+    }
+
+    /**
+     * Constructs a new instance of dataset based on Ignite Cache, which is used as {@code upstream} and as reliable storage for
+     * partition {@code context} as well.
+     *
+     * @param ignite Ignite instance.
+     * @param upstreamCache Ignite Cache with {@code upstream} data.
+     * @param filter Filter for {@code upstream} data.
+     * @param upstreamTransformerBuilder Transformer of upstream data (see description in {@link DatasetBuilder}).
+     * @param datasetCache Ignite Cache with partition {@code context}.
+     * @param partDataBuilder Partition {@code data} builder.
+     * @param datasetId Dataset ID.
+     * @param localLearningEnv Local learning environment.
+     * @param retriesCnt Number of retries for the case when one of partitions not found on the node where computation is performed.
+     * @param singlePassLoading Whether partition {@code upstream} is read in a single pass when partition {@code data}
+     * builder supports unknown {@code upstream} data size.
+     */
+    public CacheBasedDataset(
+        Ignite ignite,
+        IgniteCache<K, V> upstreamCache,
+        IgniteBiPredicate<K, V> filter,
+        UpstreamTransformerBuilder upstreamTransformerBuilder,
+        IgniteCache<Integer, C> datasetCache,
+        LearningEnvironmentBuilder envBuilder,
+        PartitionDataBuilder<K, V, C, D> partDataBuilder,
+        UUID datasetId,
+        boolean upstreamKeepBinary,
+        LearningEnvironment localLearningEnv,
+        int retriesCnt,
+        boolean singlePassLoading) {
+        this(ignite, upstreamCache, filter, upstreamTransformerBuilder, datasetCache, envBuilder, partDataBuilder,
+            datasetId, upstreamKeepBinary, localLearningEnv, retriesCnt, singlePassLoading, false);
+    }
+
+    /**
+     * Constructs a new instance of dataset based on Ignite Cache, which is used as {@code upstream} and as reliable storage for
+     * partition {@code context} as well.
+     *
+     * @param ignite Ignite instance.
+     * @param upstreamCache Ignite Cache with {@code upstream} data.
+     * @param filter Filter for {@code upstream} data.
+     * @param upstreamTransformerBuilder Transformer of upstream data (see description in {@link DatasetBuilder}).
+     * @param datasetCache Ignite Cache with partition {@code context}.
+     * @param partDataBuilder Partition {@code data} builder.
+     * @param datasetId Dataset ID.
+     * @param localLearningEnv Local learning environment.
+     * @param retriesCnt Number of retries for the case when one of partitions not found on the node where computation is performed.
+     * @param singlePassLoading Whether partition {@code upstream} is read in a single pass when partition {@code data}
+     * builder supports unknown {@code upstream} data size.
+     * @param nodeGroupedCompute Whether computations are executed as one job per node that processes all primary
+     * partitions of the node and reduces their results locally, instead of one job per partition.
+     */
+    public CacheBasedDataset(
+        Ignite ignite,
+        IgniteCache<K, V> upstreamCache,
+        IgniteBiPredicate<K, V> filter,
+        UpstreamTransformerBuilder upstreamTransformerBuilder,
+        IgniteCache<Integer, C> datasetCache,
+        LearningEnvironmentBuilder envBuilder,
+        PartitionDataBuilder<K, V, C, D> partDataBuilder,
+        UUID datasetId,
+        boolean upstreamKeepBinary,
+        LearningEnvironment localLearningEnv,
+        int retriesCnt,
+        boolean singlePassLoading,
+        boolean nodeGroupedCompute) {
+        this(ignite, upstreamCache, filter, upstreamTransformerBuilder, datasetCache, envBuilder, partDataBuilder,
+            datasetId, upstreamKeepBinary, localLearningEnv, retriesCnt, singlePassLoading, nodeGroupedCompute, false);
+    }
+
+    /**
+     * Constructs a new instance of dataset based on Ignite Cache, which is used as {@code upstream} and as reliable storage for
+     * partition {@code context} as well.
+     *
+     * @param ignite Ignite instance.
+     * @param upstreamCache Ignite Cache with {@code upstream} data.
+     * @param filter Filter for {@code upstream} data.
+     * @param upstreamTransformerBuilder Transformer of upstream data (see description in {@link DatasetBuilder}).
+     * @param datasetCache Ignite Cache with partition {@code context}.
+     * @param partDataBuilder Partition {@code data} builder.
+     * @param datasetId Dataset ID.
+     * @param localLearningEnv Local learning environment.
+     * @param retriesCnt Number of retries for the case when one of partitions not found on the node where computation is performed.
+     * @param singlePassLoading Whether partition {@code upstream} is read in a single pass when partition {@code data}
+     * builder supports unknown {@code upstream} data size.
+     * @param nodeGroupedCompute Whether computations are executed as one job per node that processes all primary
+     * partitions of the node and reduces their results locally, instead of one job per partition.
+     * @param localContextStorage Whether partition {@code context} is kept in local storage of the node where
+     * computation is performed and written to the dataset cache only on checkpoints.
+     */
+    public CacheBasedDataset(
+        Ignite ignite,
+        IgniteCache<K, V> upstreamCache,
+        IgniteBiPredicate<K, V> filter,
+        UpstreamTransformerBuilder upstreamTransformerBuilder,
+        IgniteCache<Integer, C> datasetCache,
+        LearningEnvironmentBuilder envBuilder,
+        PartitionDataBuilder<K, V, C, D> partDataBuilder,
+        UUID datasetId,
+        boolean upstreamKeepBinary,
+        LearningEnvironment localLearningEnv,
+        int retriesCnt,
+        boolean singlePassLoading,
+        boolean nodeGroupedCompute,
+        boolean localContextStorage) {
+        this(ignite, upstreamCache, filter, upstreamTransformerBuilder, datasetCache, envBuilder, partDataBuilder,
+            datasetId, upstreamKeepBinary, localLearningEnv, retriesCnt, singlePassLoading, nodeGroupedCompute,
+            localContextStorage, CacheBasedDatasetBuilder.DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Constructs a new instance of dataset based on Ignite Cache, which is used as {@code upstream} and as reliable storage for
+     * partition {@code context} as well.
+     *
+     * @param ignite Ignite instance.
+     * @param upstreamCache Ignite Cache with {@code upstream} data.
+     * @param filter Filter for {@code upstream} data.
+     * @param upstreamTransformerBuilder Transformer of upstream data (see description in {@link DatasetBuilder}).
+     * @param datasetCache Ignite Cache with partition {@code context}.
+     * @param partDataBuilder Partition {@code data} builder.
+     * @param datasetId Dataset ID.
+     * @param localLearningEnv Local learning environment.
+     * @param retriesCnt Number of retries for the case when one of partitions not found on the node where computation is performed.
+     * @param singlePassLoading Whether partition {@code upstream} is read in a single pass when partition {@code data}
+     * builder supports unknown {@code upstream} data size.
+     * @param nodeGroupedCompute Whether computations are executed as one job per node that processes all primary
+     * partitions of the node and reduces their results locally, instead of one job per partition.
+     * @param localContextStorage Whether partition {@code context} is kept in local storage of the node where
+     * computation is performed and written to the dataset cache only on checkpoints.
+     * @param checkpointInterval Number of computations with partition {@code context} kept in local storage after
+     * which it's written into the dataset cache, non-positive value disables periodic checkpoints.
+     */
+    public CacheBasedDataset(
+        Ignite ignite,
+        IgniteCache<K, V> upstreamCache,
+        IgniteBiPredicate<K, V> filter,
+        UpstreamTransformerBuilder upstreamTransformerBuilder,
+        IgniteCache<Integer, C> datasetCache,
+        LearningEnvironmentBuilder envBuilder,
+        PartitionDataBuilder<K, V, C, D> partDataBuilder,
+        UUID datasetId,
+        boolean upstreamKeepBinary,
+        LearningEnvironment localLearningEnv,
+        int retriesCnt,
+        boolean singlePassLoading,
+        boolean nodeGroupedCompute,
+        boolean localContextStorage,
+        int checkpointInterval) {
 
         this.ignite = ignite;
         this.upstreamCache = upstreamCache;
@@ -124,17 +307,28 @@ public class CacheBasedDataset<K, V, C extends Serializable, D extends AutoClose
         this.upstreamKeepBinary = upstreamKeepBinary;
         this.locLearningEnv = localLearningEnv;
         this.retries = retriesCnt;
+        this.singlePassLoading = singlePassLoading;
+        this.nodeGroupedCompute = nodeGroupedCompute;
+        this.localContextStorage = localContextStorage;
+        this.checkpointInterval = checkpointInterval;
     }
 
     /** {@inheritDoc} */
     @Override public <R> R computeWithCtx(IgniteTriFunction<C, D, LearningEnvironment, R> map, IgniteBinaryOperator<R> reduce, R identity) {
         String upstreamCacheName = upstreamCache.getName();
         String datasetCacheName = datasetCache.getName();
+        UUID id = datasetId;
+        boolean locCtxStorage = localContextStorage;
 
-        return computeForAllPartitions(part -> {
+        if (locCtxStorage)
+            checkpointOnTopologyChange();
+
+        R res = computeForAllPartitions(part -> {
             LearningEnvironment env = ComputeUtils.getLearningEnvironment(ignite, datasetId, part, envBuilder);
 
-            C ctx = ComputeUtils.getContext(Ignition.localIgnite(), datasetCacheName, part);
+            C ctx = locCtxStorage ?
+                ComputeUtils.getLocalContext(Ignition.localIgnite(), datasetCacheName, id, part) :
+                ComputeUtils.getContext(Ignition.localIgnite(), datasetCacheName, part);
 
             D data = ComputeUtils.getData(
                 Ignition.localIgnite(),
@@ -145,24 +339,59 @@ public class CacheBasedDataset<K, V, C extends Serializable, D extends AutoClose
                 datasetId,
                 partDataBuilder,
                 env,
-                upstreamKeepBinary
+                upstreamKeepBinary,
+                singlePassLoading
             );
 
             if (data != null) {
                 R res = map.apply(ctx, data, env);
 
                 // Saves partition context after update.
-                ComputeUtils.saveContext(Ignition.localIgnite(), datasetCacheName, part, ctx);
+                if (locCtxStorage)
+                    ComputeUtils.saveLocalContext(Ignition.localIgnite(), id, part, ctx);
+                else
+                    ComputeUtils.saveContext(Ignition.localIgnite(), datasetCacheName, part, ctx);
 
                 return res;
             }
 
             return null;
         }, reduce, identity);
+
+        // Bounds the number of partition context updates lost if a node leaves the cluster.
+        if (locCtxStorage) {
+            int computations = uncheckpointedComputations.incrementAndGet();
+
+            if (checkpointInterval > 0 && computations >= checkpointInterval)
+                checkpoint();
+        }
+
+        return res;
     }
 
     /** {@inheritDoc} */
     @Override public <R> R compute(IgniteBiFunction<D, LearningEnvironment, R> map, IgniteBinaryOperator<R> reduce, R identity) {
+        return compute(map, reduce, identity, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override public <R> R computeWithTreeReduce(IgniteBiFunction<D, LearningEnvironment, R> map,
+        IgniteBinaryOperator<R> reduce, R identity) {
+        return compute(map, reduce, identity, true);
+    }
+
+    /**
+     * Applies the specified {@code map} function to every partition {@code data} and reduces results.
+     *
+     * @param map Function applied to every partition {@code data} and {@link LearningEnvironment}.
+     * @param reduce Function applied to results of {@code map} to get final result.
+     * @param identity Identity.
+     * @param treeReduce Whether results are reduced along a tree of nodes.
+     * @param <R> Type of a result.
+     * @return Final result.
+     */
+    private <R> R compute(IgniteBiFunction<D, LearningEnvironment, R> map, IgniteBinaryOperator<R> reduce, R identity,
+        boolean treeReduce) {
         String upstreamCacheName = upstreamCache.getName();
         String datasetCacheName = datasetCache.getName();
 
@@ -178,10 +407,29 @@ public class CacheBasedDataset<K, V, C extends Serializable, D extends AutoClose
                 datasetId,
                 partDataBuilder,
                 env,
-                upstreamKeepBinary
+                upstreamKeepBinary,
+                singlePassLoading
             );
             return data != null ? map.apply(data, env) : null;
-        }, reduce, identity);
+        }, reduce, identity, treeReduce);
+    }
+
+    /**
+     * Writes partition {@code context} objects updated since the last checkpoint from local storages of data nodes
+     * into the dataset cache. Does nothing if partition {@code context} is not kept in local storage, because in this
+     * case it's written into the dataset cache after every computation. Besides explicit calls, checkpoints are made
+     * every {@code checkpointInterval} computations with partition {@code context}.
+     */
+    public void checkpoint() {
+        if (!localContextStorage)
+            return;
+
+        UUID id = datasetId;
+        String datasetCacheName = datasetCache.getName();
+
+        broadcastToDataNodes(() -> ComputeUtils.flushContexts(Ignition.localIgnite(), datasetCacheName, id));
+
+        uncheckpointedComputations.set(0);
     }
 
     /** {@inheritDoc} */
@@ -189,12 +437,100 @@ public class CacheBasedDataset<K, V, C extends Serializable, D extends AutoClose
         datasetCache.destroy();
         ComputeUtils.removeData(ignite, datasetId);
         ComputeUtils.removeLearningEnv(ignite, datasetId);
+        ComputeUtils.removeContexts(ignite, datasetId);
+
+        // Releases partition data kept in local storages of data nodes (it might be stored off-heap).
+        UUID id = datasetId;
+        broadcastToDataNodes(() -> {
+            Ignite locIgnite = Ignition.localIgnite();
+
+            ComputeUtils.removeData(locIgnite, id);
+            ComputeUtils.removeLearningEnv(locIgnite, id);
+            ComputeUtils.removeContexts(locIgnite, id);
+        });
+    }
+
+    /**
+     * Runs the specified job on all data nodes of the {@code upstream} cache. Does nothing if there are no such nodes
+     * (e.g. all of them have left the cluster), because in this case there is no local state left to process.
+     *
+     * @param job Job.
+     */
+    private void broadcastToDataNodes(IgniteRunnable job) {
+        ClusterGroup dataNodes = ignite.cluster().forDataNodes(upstreamCache.getName());
+
+        if (dataNodes.nodes().isEmpty())
+            return;
+
+        try {
+            ignite.compute(dataNodes).withNoFailover().broadcast(job);
+        }
+        catch (ClusterGroupEmptyException ignored) {
+            // All data nodes have left the cluster after the check above.
+        }
+    }
+
+    /**
+     * Makes a checkpoint if primary node of any partition has been changed since the last computation with partition
+     * {@code context}, so that partitions moved to another node will be loaded there with the latest partition
+     * {@code context}. Primary nodes are taken from the affinity of the dataset cache that is used to route
+     * computations. It reflects the assignment switched after rebalancing (late affinity assignment), unlike the
+     * topology version that changes as soon as a node joins, i.e. before partitions are actually moved. Partition
+     * {@code context} objects kept on nodes that have left the cluster can't be written, such partitions are rebuilt
+     * from the last checkpoint and a warning is logged.
+     */
+    private void checkpointOnTopologyChange() {
+        Affinity<Integer> aff = ignite.affinity(datasetCache.getName());
+
+        UUID[] primaryNodes = new UUID[aff.partitions()];
+
+        for (int part = 0; part < primaryNodes.length; part++) {
+            ClusterNode node = aff.mapPartitionToNode(part);
+            primaryNodes[part] = node != null ? node.id() : null;
+        }
+
+        if (ctxPrimaryNodes != null && !Arrays.equals(ctxPrimaryNodes, primaryNodes)) {
+            warnOnLostContexts();
+
+            checkpoint();
+        }
+
+        ctxPrimaryNodes = primaryNodes;
+    }
+
+    /**
+     * Logs a warning if primary nodes of some partitions have left the cluster since the last computation with
+     * partition {@code context} and these partitions have been updated since the last checkpoint, so that their
+     * {@code context} is going to be rebuilt from the stale one kept in the dataset cache.
+     */
+    private void warnOnLostContexts() {
+        int computations = uncheckpointedComputations.get();
+
+        if (computations == 0)
+            return;
+
+        List<Integer> lostParts = new ArrayList<>();
+
+        for (int part = 0; part < ctxPrimaryNodes.length; part++) {
+            UUID nodeId = ctxPrimaryNodes[part];
+
+            if (nodeId != null && ignite.cluster().node(nodeId) == null)
+                lostParts.add(part);
+        }
+
+        if (!lostParts.isEmpty()) {
+            ignite.log().getLogger(getClass()).warning("Partition context is rebuilt from the last checkpoint, " +
+                "updates made since the checkpoint are lost [datasetId=" + datasetId + ", partitions=" + lostParts +
+                ", lostComputations=" + computations + "]");
+        }
     }
 
     /**
      * Calls the {@code MapReduce} job specified as the {@code fun} function and the {@code reduce} reducer on all
      * partitions with guarantee that partitions with the same index of upstream and partition {@code context} caches
-     * will be on the same node during the computation and will not be moved before computation is finished.
+     * will be on the same node during the computation and will not be moved before computation is finished. In node
+     * grouped mode results of partitions are reduced on the nodes they are computed on, partitions that changed their
+     * primary node during the computation are computed again.
      *
      * @param fun Function that applies to all partitions.
      * @param reduce Function that reduces results of {@code fun}.
@@ -203,7 +539,39 @@ public class CacheBasedDataset<K, V, C extends Serializable, D extends AutoClose
      * @return Final result.
      */
     private <R> R computeForAllPartitions(IgniteFunction<Integer, R> fun, IgniteBinaryOperator<R> reduce, R identity) {
+        return computeForAllPartitions(fun, reduce, identity, false);
+    }
+
+    /**
+     * Calls the {@code MapReduce} job specified as the {@code fun} function and the {@code reduce} reducer on all
+     * partitions (see {@link #computeForAllPartitions(IgniteFunction, IgniteBinaryOperator, Object)}). In tree reduce
+     * mode results of partitions are reduced on the nodes they are computed on and then along a binary tree of nodes.
+     *
+     * @param fun Function that applies to all partitions.
+     * @param reduce Function that reduces results of {@code fun}.
+     * @param identity Identity.
+     * @param treeReduce Whether results are reduced along a tree of nodes.
+     * @param <R> Type of a result.
+     * @return Final result.
+     */
+    private <R> R computeForAllPartitions(IgniteFunction<Integer, R> fun, IgniteBinaryOperator<R> reduce, R identity,
+        boolean treeReduce) {
         Collection<String> cacheNames = Arrays.asList(datasetCache.getName(), upstreamCache.getName());
+
+        if (treeReduce) {
+            R treeRes = ComputeUtils.affinityCallTreeReduceWithRetries(ignite, cacheNames, fun, reduce, retries,
+                RETRY_INTERVAL, locLearningEnv.deployingContext());
+
+            return treeRes != null ? reduce.apply(identity, treeRes) : identity;
+        }
+
+        if (nodeGroupedCompute) {
+            R nodesRes = ComputeUtils.affinityCallGroupedByNodeWithRetries(ignite, cacheNames, fun, reduce, retries,
+                RETRY_INTERVAL, locLearningEnv.deployingContext());
+
+            return nodesRes != null ? reduce.apply(identity, nodesRes) : identity;
+        }
+
         Collection<R> results =
             ComputeUtils.affinityCallWithRetries(ignite, cacheNames, fun, retries, RETRY_INTERVAL, locLearningEnv.deployingContext());
 
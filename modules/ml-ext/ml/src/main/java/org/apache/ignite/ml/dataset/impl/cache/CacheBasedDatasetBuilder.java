@@ -44,6 +44,12 @@ public class CacheBasedDatasetBuilder<K, V> implements DatasetBuilder<K, V> {
     /** Default number of retries for the case when one of partitions not found on the node where loading is performed. */
     public static final int DEFAULT_NUMBER_OF_RETRIES = 15 * 60;
 
+    /**
+     * Default number of computations with partition {@code context} kept in local storage after which the
+     * {@code context} is written into the dataset cache.
+     */
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 10;
+
     /** Retry interval (ms) for the case when one of partitions not found on the node where loading is performed. */
     private static final int RETRY_INTERVAL = 1000;
 
@@ -68,6 +74,21 @@ public class CacheBasedDatasetBuilder<K, V> implements DatasetBuilder<K, V> {
     /** Number of retries for the case when one of partitions not found on the node where loading is performed. */
     private final int retries;
 
+    /** Whether partition {@code upstream} is read in a single pass when partition {@code data} builder supports it. */
+    private final boolean singlePassLoading;
+
+    /** Whether dataset computations are executed as one job per node instead of one job per partition. */
+    private final boolean nodeGroupedCompute;
+
+    /** Whether partition {@code context} is kept in local storage and written to the dataset cache on checkpoints. */
+    private final boolean localContextStorage;
+
+    /**
+     * Number of computations with partition {@code context} kept in local storage after which it's written into the
+     * dataset cache, non-positive value disables periodic checkpoints.
+     */
+    private final int checkpointInterval;
+
     /**
      * Constructs a new instance of cache based dataset builder that makes {@link CacheBasedDataset} with default
      * predicate that passes all upstream entries to dataset.
@@ -120,12 +141,124 @@ public class CacheBasedDatasetBuilder<K, V> implements DatasetBuilder<K, V> {
         UpstreamTransformerBuilder transformerBuilder,
         Boolean isKeepBinary,
         int retries) {
+        this(ignite, upstreamCache, filter, transformerBuilder, isKeepBinary, retries, false);
+    }
+
+    /**
+     * Constructs a new instance of cache based dataset builder that makes {@link CacheBasedDataset}.
+     *
+     * @param ignite Ignite.
+     * @param upstreamCache Upstream cache.
+     * @param filter Filter.
+     * @param transformerBuilder Transformer builder.
+     * @param isKeepBinary Is keep binary for upstream cache.
+     * @param retries Number of retries for the case when one of partitions not found on the node where loading is performed.
+     * @param singlePassLoading Whether partition {@code upstream} is read in a single pass when partition {@code data}
+     * builder supports unknown {@code upstream} data size.
+     */
+    public CacheBasedDatasetBuilder(Ignite ignite,
+        IgniteCache<K, V> upstreamCache,
+        IgniteBiPredicate<K, V> filter,
+        UpstreamTransformerBuilder transformerBuilder,
+        Boolean isKeepBinary,
+        int retries,
+        boolean singlePassLoading) {
+        this(ignite, upstreamCache, filter, transformerBuilder, isKeepBinary, retries, singlePassLoading, false);
+    }
+
+    /**
+     * Constructs a new instance of cache based dataset builder that makes {@link CacheBasedDataset}.
+     *
+     * @param ignite Ignite.
+     * @param upstreamCache Upstream cache.
+     * @param filter Filter.
+     * @param transformerBuilder Transformer builder.
+     * @param isKeepBinary Is keep binary for upstream cache.
+     * @param retries Number of retries for the case when one of partitions not found on the node where loading is performed.
+     * @param singlePassLoading Whether partition {@code upstream} is read in a single pass when partition {@code data}
+     * builder supports unknown {@code upstream} data size.
+     * @param nodeGroupedCompute Whether dataset computations are executed as one job per node instead of one job per
+     * partition.
+     */
+    public CacheBasedDatasetBuilder(Ignite ignite,
+        IgniteCache<K, V> upstreamCache,
+        IgniteBiPredicate<K, V> filter,
+        UpstreamTransformerBuilder transformerBuilder,
+        Boolean isKeepBinary,
+        int retries,
+        boolean singlePassLoading,
+        boolean nodeGroupedCompute) {
+        this(ignite, upstreamCache, filter, transformerBuilder, isKeepBinary, retries, singlePassLoading,
+            nodeGroupedCompute, false);
+    }
+
+    /**
+     * Constructs a new instance of cache based dataset builder that makes {@link CacheBasedDataset}.
+     *
+     * @param ignite Ignite.
+     * @param upstreamCache Upstream cache.
+     * @param filter Filter.
+     * @param transformerBuilder Transformer builder.
+     * @param isKeepBinary Is keep binary for upstream cache.
+     * @param retries Number of retries for the case when one of partitions not found on the node where loading is performed.
+     * @param singlePassLoading Whether partition {@code upstream} is read in a single pass when partition {@code data}
+     * builder supports unknown {@code upstream} data size.
+     * @param nodeGroupedCompute Whether dataset computations are executed as one job per node instead of one job per
+     * partition.
+     * @param localContextStorage Whether partition {@code context} is kept in local storage and written to the dataset
+     * cache only on checkpoints.
+     */
+    public CacheBasedDatasetBuilder(Ignite ignite,
+        IgniteCache<K, V> upstreamCache,
+        IgniteBiPredicate<K, V> filter,
+        UpstreamTransformerBuilder transformerBuilder,
+        Boolean isKeepBinary,
+        int retries,
+        boolean singlePassLoading,
+        boolean nodeGroupedCompute,
+        boolean localContextStorage) {
+        this(ignite, upstreamCache, filter, transformerBuilder, isKeepBinary, retries, singlePassLoading,
+            nodeGroupedCompute, localContextStorage, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Constructs a new instance of cache based dataset builder that makes {@link CacheBasedDataset}.
+     *
+     * @param ignite Ignite.
+     * @param upstreamCache Upstream cache.
+     * @param filter Filter.
+     * @param transformerBuilder Transformer builder.
+     * @param isKeepBinary Is keep binary for upstream cache.
+     * @param retries Number of retries for the case when one of partitions not found on the node where loading is performed.
+     * @param singlePassLoading Whether partition {@code upstream} is read in a single pass when partition {@code data}
+     * builder supports unknown {@code upstream} data size.
+     * @param nodeGroupedCompute Whether dataset computations are executed as one job per node instead of one job per
+     * partition.
+     * @param localContextStorage Whether partition {@code context} is kept in local storage and written to the dataset
+     * cache only on checkpoints.
+     * @param checkpointInterval Number of computations with partition {@code context} kept in local storage after
+     * which it's written into the dataset cache, non-positive value disables periodic checkpoints.
+     */
+    public CacheBasedDatasetBuilder(Ignite ignite,
+        IgniteCache<K, V> upstreamCache,
+        IgniteBiPredicate<K, V> filter,
+        UpstreamTransformerBuilder transformerBuilder,
+        Boolean isKeepBinary,
+        int retries,
+        boolean singlePassLoading,
+        boolean nodeGroupedCompute,
+        boolean localContextStorage,
+        int checkpointInterval) {
         this.ignite = ignite;
         this.upstreamCache = upstreamCache;
         this.filter = filter;
         this.transformerBuilder = transformerBuilder;
         this.upstreamKeepBinary = isKeepBinary;
         this.retries = retries;
+        this.singlePassLoading = singlePassLoading;
+        this.nodeGroupedCompute = nodeGroupedCompute;
+        this.localContextStorage = localContextStorage;
+        this.checkpointInterval = checkpointInterval;
     }
 
     /** {@inheritDoc} */
@@ -175,19 +308,25 @@ public class CacheBasedDatasetBuilder<K, V> implements DatasetBuilder<K, V> {
             datasetId,
             upstreamKeepBinary,
             localLearningEnv,
-            retries
+            retries,
+            singlePassLoading,
+            nodeGroupedCompute,
+            localContextStorage,
+            checkpointInterval
         );
     }
 
     /** {@inheritDoc} */
     @Override public DatasetBuilder<K, V> withUpstreamTransformer(UpstreamTransformerBuilder builder) {
-        return new CacheBasedDatasetBuilder<>(ignite, upstreamCache, filter, transformerBuilder.andThen(builder));
+        return new CacheBasedDatasetBuilder<>(ignite, upstreamCache, filter, transformerBuilder.andThen(builder),
+            upstreamKeepBinary, retries, singlePassLoading, nodeGroupedCompute, localContextStorage, checkpointInterval);
     }
 
     /** {@inheritDoc} */
     @Override public DatasetBuilder<K, V> withFilter(IgniteBiPredicate<K, V> filterToAdd) {
         return new CacheBasedDatasetBuilder<>(ignite, upstreamCache,
-            (e1, e2) -> filter.apply(e1, e2) && filterToAdd.apply(e1, e2));
+            (e1, e2) -> filter.apply(e1, e2) && filterToAdd.apply(e1, e2), transformerBuilder, upstreamKeepBinary,
+            retries, singlePassLoading, nodeGroupedCompute, localContextStorage, checkpointInterval);
     }
 
     /**
@@ -196,7 +335,8 @@ public class CacheBasedDatasetBuilder<K, V> implements DatasetBuilder<K, V> {
      * @param isKeepBinary Is keep binary.
      */
     public CacheBasedDatasetBuilder<K, V> withKeepBinary(boolean isKeepBinary) {
-        return new CacheBasedDatasetBuilder<>(ignite, upstreamCache, filter, transformerBuilder, isKeepBinary, retries);
+        return new CacheBasedDatasetBuilder<>(ignite, upstreamCache, filter, transformerBuilder, isKeepBinary, retries,
+            singlePassLoading, nodeGroupedCompute, localContextStorage, checkpointInterval);
     }
 
     /**
@@ -206,7 +346,65 @@ public class CacheBasedDatasetBuilder<K, V> implements DatasetBuilder<K, V> {
      * @return CacheBasedDatasetBuilder instance.
      */
     public CacheBasedDatasetBuilder<K, V> withRetriesNumber(int retries) {
-        return new CacheBasedDatasetBuilder<>(ignite, upstreamCache, filter, transformerBuilder, upstreamKeepBinary, retries);
+        return new CacheBasedDatasetBuilder<>(ignite, upstreamCache, filter, transformerBuilder, upstreamKeepBinary,
+            retries, singlePassLoading, nodeGroupedCompute, localContextStorage, checkpointInterval);
+    }
+
+    /**
+     * Enables or disables single pass loading of partition {@code data}. When enabled and partition {@code data}
+     * builder supports unknown {@code upstream} data size (see {@link PartitionDataBuilder#isUnknownSizeSupported()}),
+     * each partition {@code upstream} is scanned once instead of twice (first scan is used to count entries). Disabled
+     * by default.
+     *
+     * @param singlePassLoading Whether single pass loading is enabled.
+     * @return CacheBasedDatasetBuilder instance.
+     */
+    public CacheBasedDatasetBuilder<K, V> withSinglePassLoading(boolean singlePassLoading) {
+        return new CacheBasedDatasetBuilder<>(ignite, upstreamCache, filter, transformerBuilder, upstreamKeepBinary,
+            retries, singlePassLoading, nodeGroupedCompute, localContextStorage, checkpointInterval);
+    }
+
+    /**
+     * Enables or disables node grouped execution of dataset computations. When enabled, each computation sends one
+     * job per node instead of one job per partition. The job processes all primary partitions of the node in
+     * parallel and reduces their results locally, so that the client receives one result per node. Disabled by
+     * default.
+     *
+     * @param nodeGroupedCompute Whether node grouped execution is enabled.
+     * @return CacheBasedDatasetBuilder instance.
+     */
+    public CacheBasedDatasetBuilder<K, V> withNodeGroupedCompute(boolean nodeGroupedCompute) {
+        return new CacheBasedDatasetBuilder<>(ignite, upstreamCache, filter, transformerBuilder, upstreamKeepBinary,
+            retries, singlePassLoading, nodeGroupedCompute, localContextStorage, checkpointInterval);
+    }
+
+    /**
+     * Enables or disables keeping of partition {@code context} in local storages of the nodes where computations are
+     * performed. When enabled, partition {@code context} updated by a computation isn't written into the dataset
+     * cache, it's written only on {@link CacheBasedDataset#checkpoint()}, on the first computation after primary
+     * nodes of partitions have changed and periodically (see {@link #withCheckpointInterval(int)}). A partition moved
+     * to another node gets partition {@code context} from the last checkpoint, so updates made since the last
+     * checkpoint are lost if the node keeping them leaves the cluster. Disabled by default.
+     *
+     * @param localContextStorage Whether partition {@code context} is kept in local storage.
+     * @return CacheBasedDatasetBuilder instance.
+     */
+    public CacheBasedDatasetBuilder<K, V> withLocalContextStorage(boolean localContextStorage) {
+        return new CacheBasedDatasetBuilder<>(ignite, upstreamCache, filter, transformerBuilder, upstreamKeepBinary,
+            retries, singlePassLoading, nodeGroupedCompute, localContextStorage, checkpointInterval);
+    }
+
+    /**
+     * Sets number of computations with partition {@code context} kept in local storage after which it's written into
+     * the dataset cache, so that at most this number of updates is lost if a node leaves the cluster during training.
+     * Non-positive value disables periodic checkpoints. {@link #DEFAULT_CHECKPOINT_INTERVAL} by default.
+     *
+     * @param checkpointInterval Checkpoint interval.
+     * @return CacheBasedDatasetBuilder instance.
+     */
+    public CacheBasedDatasetBuilder<K, V> withCheckpointInterval(int checkpointInterval) {
+        return new CacheBasedDatasetBuilder<>(ignite, upstreamCache, filter, transformerBuilder, upstreamKeepBinary,
+            retries, singlePassLoading, nodeGroupedCompute, localContextStorage, checkpointInterval);
     }
 
     /**
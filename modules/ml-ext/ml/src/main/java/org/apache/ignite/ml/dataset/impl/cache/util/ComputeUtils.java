@@ -24,10 +24,17 @@ import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.LockSupport;
 import java.util.stream.Stream;
 import org.apache.ignite.Ignite;
@@ -38,6 +45,9 @@ import org.apache.ignite.cache.affinity.Affinity;
 import org.apache.ignite.cache.query.QueryCursor;
 import org.apache.ignite.cache.query.ScanQuery;
 import org.apache.ignite.cluster.ClusterGroup;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.cluster.ClusterTopologyException;
+import org.apache.ignite.compute.ComputeJobContext;
 import org.apache.ignite.internal.util.lang.GridPeerDeployAware;
 import org.apache.ignite.lang.IgniteBiPredicate;
 import org.apache.ignite.lang.IgniteCallable;
@@ -50,8 +60,11 @@ import org.apache.ignite.ml.dataset.UpstreamTransformerBuilder;
 import org.apache.ignite.ml.environment.LearningEnvironment;
 import org.apache.ignite.ml.environment.LearningEnvironmentBuilder;
 import org.apache.ignite.ml.environment.deploy.DeployingContext;
+import org.apache.ignite.ml.math.functions.IgniteBinaryOperator;
 import org.apache.ignite.ml.math.functions.IgniteFunction;
 import org.apache.ignite.ml.util.Utils;
+import org.apache.ignite.resources.JobContextResource;
+import org.apache.ignite.thread.IgniteThreadPoolExecutor;
 
 /**
  * Util class that provides common methods to perform computations on top of the Ignite Compute Grid.
@@ -70,6 +83,15 @@ public final class ComputeUtils {
     /** Template of the key used to store partition {@link LearningEnvironment} in local storage. */
     private static final String ENVIRONMENT_STORAGE_KEY_TEMPLATE = "part_environment_storage_%s";
 
+    /** Template of the key used to store partition {@code context} in local storage. */
+    private static final String CONTEXT_STORAGE_KEY_TEMPLATE = "part_context_storage_%s";
+
+    /** Key used to store the pool that computes partitions of node jobs in local storage. */
+    private static final String COMPUTE_POOL_KEY = "ml_dataset_compute_pool";
+
+    /** Time in milliseconds after which idle threads of the pool that computes partitions of node jobs stop. */
+    private static final long COMPUTE_POOL_KEEP_ALIVE = TimeUnit.SECONDS.toMillis(60);
+
     /**
      * Calls the specified {@code fun} function on all partitions so that is't guaranteed that partitions with the same
      * index of all specified caches will be placed on the same node and will not be moved before computation is
@@ -97,6 +119,7 @@ public final class ComputeUtils {
 
         BitSet completionFlags = new BitSet(partitions);
         Collection<R> results = new ArrayList<>();
+        IgniteException lastErr = null;
 
         for (int t = 0; t <= retries; t++) {
             ClusterGroup clusterGrp = ignite.cluster().forDataNodes(primaryCache);
@@ -123,7 +146,8 @@ public final class ComputeUtils {
                     results.add(res);
                     completionFlags.set(entry.getKey());
                 }
-                catch (IgniteException ignore) {
+                catch (IgniteException e) {
+                    lastErr = e;
                 }
 
             if (completionFlags.cardinality() == partitions)
@@ -132,7 +156,8 @@ public final class ComputeUtils {
             LockSupport.parkNanos(interval * 1_000_000);
         }
 
-        throw new IllegalStateException();
+        throw new IllegalStateException("Failed to compute all partitions [partitions=" + partitions
+            + ", completed=" + completionFlags.cardinality() + ", retries=" + retries + "]", lastErr);
     }
 
     /**
@@ -154,6 +179,162 @@ public final class ComputeUtils {
         return affinityCallWithRetries(ignite, cacheNames, fun, retries, 0, deployingContext);
     }
 
+    /**
+     * Calls the specified {@code fun} function on all partitions sending one job per node. The job processes all
+     * partitions that are primary on the node for all specified caches in parallel and reduces their results using
+     * the specified {@code reduce} operator, so that only one result per node is sent back. Partitions that are not
+     * primary on the node the job is executed on or changed their primary node during the computation are computed
+     * again on the next attempt, so are partitions of a node that left the topology. Other failures, including
+     * exceptions thrown by {@code fun}, are propagated to the caller.
+     *
+     * @param ignite Ignite instance.
+     * @param cacheNames Collection of cache names.
+     * @param fun Function to be applied on all partitions.
+     * @param reduce Function that reduces results of {@code fun}, might be applied on any node.
+     * @param retries Number of retries for the case when one of partitions not found on the node.
+     * @param interval Interval of retries for the case when one of partitions not found on the node.
+     * @param deployingCtx Deploy context of user-defined classes for peer class loading.
+     * @param <R> Type of a result.
+     * @return Reduced result or {@code null} if all partitions returned {@code null}.
+     */
+    public static <R> R affinityCallGroupedByNodeWithRetries(Ignite ignite, Collection<String> cacheNames,
+        IgniteFunction<Integer, R> fun, IgniteBinaryOperator<R> reduce, int retries, int interval,
+        DeployingContext deployingCtx) {
+        assert !cacheNames.isEmpty();
+        assert interval >= 0;
+
+        String primaryCache = cacheNames.iterator().next();
+
+        Affinity<?> aff = ignite.affinity(primaryCache);
+        int partitions = aff.partitions();
+
+        BitSet completionFlags = new BitSet(partitions);
+        R res = null;
+        ClusterTopologyException lastErr = null;
+
+        for (int t = 0; t <= retries; t++) {
+            List<Integer> remaining = new ArrayList<>();
+            for (int part = 0; part < partitions; part++)
+                if (!completionFlags.get(part))
+                    remaining.add(part);
+
+            // Sends one job per node.
+            List<IgniteFuture<NodeResult<R>>> futures = new ArrayList<>();
+            for (Map.Entry<ClusterNode, Collection<Integer>> e : aff.mapPartitionsToNodes(remaining).entrySet()) {
+                int[] parts = e.getValue().stream().mapToInt(Integer::intValue).toArray();
+
+                try {
+                    futures.add(ignite.compute(ignite.cluster().forNode(e.getKey())).callAsync(
+                        new DeployableNodeCallable<>(deployingCtx, cacheNames, parts, fun, reduce)
+                    ));
+                }
+                catch (ClusterTopologyException err) {
+                    lastErr = err;
+                }
+            }
+
+            // Collects results.
+            for (IgniteFuture<NodeResult<R>> fut : futures)
+                try {
+                    NodeResult<R> nodeRes = fut.get();
+
+                    if (nodeRes.res != null)
+                        res = res == null ? nodeRes.res : reduce.apply(res, nodeRes.res);
+
+                    for (int part : nodeRes.completedParts)
+                        completionFlags.set(part);
+                }
+                catch (ClusterTopologyException e) {
+                    lastErr = e;
+                }
+
+            if (completionFlags.cardinality() == partitions)
+                return res;
+
+            LockSupport.parkNanos(interval * 1_000_000);
+        }
+
+        throw new IllegalStateException("Failed to compute all partitions [partitions=" + partitions
+            + ", completed=" + completionFlags.cardinality() + ", retries=" + retries + "]", lastErr);
+    }
+
+    /**
+     * Calls the specified {@code fun} function on all partitions and reduces results along a binary tree of nodes. The
+     * client sends one job to the root node, every node sends the job to its children, processes all partitions that
+     * are primary on the node for all specified caches in parallel and reduces their results together with results of
+     * its children, so that every node receives at most two results and the client receives only one. Partitions that
+     * are not primary on the node the job is executed on, changed their primary node during the computation or belong
+     * to a subtree whose node left the topology are computed again on the next attempt. Other failures, including
+     * exceptions thrown by {@code fun}, are propagated to the caller.
+     *
+     * @param ignite Ignite instance.
+     * @param cacheNames Collection of cache names.
+     * @param fun Function to be applied on all partitions.
+     * @param reduce Function that reduces results of {@code fun}, might be applied on any node.
+     * @param retries Number of retries for the case when one of partitions not found on the node.
+     * @param interval Interval of retries for the case when one of partitions not found on the node.
+     * @param deployingCtx Deploy context of user-defined classes for peer class loading.
+     * @param <R> Type of a result.
+     * @return Reduced result or {@code null} if all partitions returned {@code null}.
+     */
+    public static <R> R affinityCallTreeReduceWithRetries(Ignite ignite, Collection<String> cacheNames,
+        IgniteFunction<Integer, R> fun, IgniteBinaryOperator<R> reduce, int retries, int interval,
+        DeployingContext deployingCtx) {
+        assert !cacheNames.isEmpty();
+        assert interval >= 0;
+
+        String primaryCache = cacheNames.iterator().next();
+
+        Affinity<?> aff = ignite.affinity(primaryCache);
+        int partitions = aff.partitions();
+
+        BitSet completionFlags = new BitSet(partitions);
+        R res = null;
+        ClusterTopologyException lastErr = null;
+
+        for (int t = 0; t <= retries; t++) {
+            List<Integer> remaining = new ArrayList<>();
+            for (int part = 0; part < partitions; part++)
+                if (!completionFlags.get(part))
+                    remaining.add(part);
+
+            Map<ClusterNode, Collection<Integer>> nodeToParts = aff.mapPartitionsToNodes(remaining);
+
+            UUID[] nodeIds = new UUID[nodeToParts.size()];
+            int[][] nodeParts = new int[nodeToParts.size()][];
+
+            int idx = 0;
+            for (Map.Entry<ClusterNode, Collection<Integer>> e : nodeToParts.entrySet()) {
+                nodeIds[idx] = e.getKey().id();
+                nodeParts[idx] = e.getValue().stream().mapToInt(Integer::intValue).toArray();
+                idx++;
+            }
+
+            try {
+                NodeResult<R> treeRes = ignite.compute(ignite.cluster().forNodeId(nodeIds[0])).call(
+                    new DeployableTreeNodeCallable<>(deployingCtx, cacheNames, nodeIds, nodeParts, 0, fun, reduce)
+                );
+
+                if (treeRes.res != null)
+                    res = res == null ? treeRes.res : reduce.apply(res, treeRes.res);
+
+                for (int part : treeRes.completedParts)
+                    completionFlags.set(part);
+            }
+            catch (ClusterTopologyException e) {
+                lastErr = e;
+            }
+
+            if (completionFlags.cardinality() == partitions)
+                return res;
+
+            LockSupport.parkNanos(interval * 1_000_000);
+        }
+
+        throw new IllegalStateException("Failed to compute all partitions [partitions=" + partitions
+            + ", completed=" + completionFlags.cardinality() + ", retries=" + retries + "]", lastErr);
+    }
+
     /**
      * Gets learning environment for given partition. If learning environment is not found in local node map,
      * it will be created with specified {@link LearningEnvironmentBuilder}.
@@ -205,6 +386,42 @@ public final class ComputeUtils {
         PartitionDataBuilder<K, V, C, D> partDataBuilder,
         LearningEnvironment env,
         boolean isKeepBinary) {
+        return getData(ignite, upstreamCacheName, filter, transformerBuilder, datasetCacheName, datasetId,
+            partDataBuilder, env, isKeepBinary, false);
+    }
+
+    /**
+     * Extracts partition {@code data} from the local storage, if it's not found in local storage recovers this {@code
+     * data} from a partition {@code upstream} and {@code context}. Be aware that this method should be called from
+     * the node where partition is placed. If {@code singlePassLoading} is set and partition {@code data} builder
+     * supports unknown {@code upstream} data size, the partition {@code upstream} is scanned only once, otherwise it's
+     * scanned twice: to count entries and to build partition {@code data}.
+     *
+     * @param ignite Ignite instance.
+     * @param upstreamCacheName Name of an {@code upstream} cache.
+     * @param filter Filter for {@code upstream} data.
+     * @param transformerBuilder Builder of upstream transformers.
+     * @param datasetCacheName Name of a partition {@code context} cache.
+     * @param datasetId Dataset ID.
+     * @param partDataBuilder Partition data builder.
+     * @param env Learning environment.
+     * @param isKeepBinary Support of binary objects.
+     * @param singlePassLoading Whether partition {@code upstream} should be read in a single pass when possible.
+     * @param <K> Type of a key in {@code upstream} data.
+     * @param <V> Type of a value in {@code upstream} data.
+     * @param <C> Type of a partition {@code context}.
+     * @param <D> Type of a partition {@code data}.
+     * @return Partition {@code data}.
+     */
+    public static <K, V, C extends Serializable, D extends AutoCloseable> D getData(
+        Ignite ignite,
+        String upstreamCacheName, IgniteBiPredicate<K, V> filter,
+        UpstreamTransformerBuilder transformerBuilder,
+        String datasetCacheName, UUID datasetId,
+        PartitionDataBuilder<K, V, C, D> partDataBuilder,
+        LearningEnvironment env,
+        boolean isKeepBinary,
+        boolean singlePassLoading) {
 
         PartitionDataStorage dataStorage = (PartitionDataStorage)ignite
             .cluster()
@@ -228,6 +445,10 @@ public final class ComputeUtils {
             qry.setFilter(filter);
 
             UpstreamTransformer transformer = transformerBuilder.build(env);
+
+            if (singlePassLoading && partDataBuilder.isUnknownSizeSupported())
+                return buildDataInSinglePass(upstreamCache, qry, transformer, partDataBuilder, env, ctx);
+
             UpstreamTransformer transformerCp = Utils.copy(transformer);
 
             long cnt = computeCount(upstreamCache, qry, transformer);
@@ -252,13 +473,57 @@ public final class ComputeUtils {
     }
 
     /**
-     * Remove data from local cache by Dataset ID.
+     * Builds partition {@code data} reading partition {@code upstream} data only once. Partition {@code upstream} data
+     * size is not computed in advance, so {@link PartitionDataBuilder#UNKNOWN_SIZE} is passed to the builder.
+     *
+     * @param upstreamCache Ignite cache with {@code upstream} data.
+     * @param qry Local scan query over the partition.
+     * @param transformer Upstream transformer.
+     * @param partDataBuilder Partition data builder that supports unknown {@code upstream} data size.
+     * @param env Learning environment.
+     * @param ctx Partition {@code context}.
+     * @param <K> Type of a key in {@code upstream} data.
+     * @param <V> Type of a value in {@code upstream} data.
+     * @param <C> Type of a partition {@code context}.
+     * @param <D> Type of a partition {@code data}.
+     * @return Partition {@code data} or {@code null} if partition {@code upstream} data is empty.
+     */
+    private static <K, V, C extends Serializable, D extends AutoCloseable> D buildDataInSinglePass(
+        IgniteCache<K, V> upstreamCache,
+        ScanQuery<K, V> qry,
+        UpstreamTransformer transformer,
+        PartitionDataBuilder<K, V, C, D> partDataBuilder,
+        LearningEnvironment env,
+        C ctx) {
+        assert partDataBuilder.isUnknownSizeSupported();
+
+        try (QueryCursor<UpstreamEntry<K, V>> cursor = upstreamCache.query(qry,
+            e -> new UpstreamEntry<>(e.getKey(), e.getValue()))) {
+
+            Stream<UpstreamEntry> transformedStream = transformer.transform(
+                Utils.asStream(cursor.iterator()).map(x -> (UpstreamEntry)x));
+            Iterator<UpstreamEntry<K, V>> iter = Utils.asStream(transformedStream.iterator())
+                .map(x -> (UpstreamEntry<K, V>)x).iterator();
+
+            if (!iter.hasNext())
+                return null;
+
+            return partDataBuilder.build(env, iter, PartitionDataBuilder.UNKNOWN_SIZE, ctx);
+        }
+    }
+
+    /**
+     * Remove data from local cache by Dataset ID. Removed partition {@code data} objects are closed.
      *
      * @param ignite Ignite instance.
      * @param datasetId Dataset ID.
      */
     public static void removeData(Ignite ignite, UUID datasetId) {
-        ignite.cluster().nodeLocalMap().remove(String.format(DATA_STORAGE_KEY_TEMPLATE, datasetId));
+        Object dataStorage = ignite.cluster().nodeLocalMap()
+            .remove(String.format(DATA_STORAGE_KEY_TEMPLATE, datasetId));
+
+        if (dataStorage != null)
+            ((PartitionDataStorage)dataStorage).close();
     }
 
     /**
@@ -368,6 +633,98 @@ public final class ComputeUtils {
         datasetCache.put(part, ctx);
     }
 
+    /**
+     * Extracts partition {@code context} from local storage. If local storage doesn't contain partition {@code
+     * context} (it's the first computation on this node or partition has been moved to this node) it's loaded from the
+     * Ignite Cache.
+     *
+     * @param ignite Ignite instance.
+     * @param datasetCacheName Dataset cache name.
+     * @param datasetId Dataset ID.
+     * @param part Partition index.
+     * @param <C> Type of a partition {@code context}.
+     * @return Partition {@code context}.
+     */
+    public static <C extends Serializable> C getLocalContext(Ignite ignite, String datasetCacheName, UUID datasetId,
+        int part) {
+        return getContextStorage(ignite, datasetId).computeContextIfAbsent(part,
+            () -> getContext(ignite, datasetCacheName, part));
+    }
+
+    /**
+     * Saves the specified partition {@code context} into local storage and marks it as dirty. The {@code context} is
+     * written into the Ignite Cache on the next {@link #flushContexts(Ignite, String, UUID)} call.
+     *
+     * @param ignite Ignite instance.
+     * @param datasetId Dataset ID.
+     * @param part Partition index.
+     * @param ctx Partition {@code context}.
+     * @param <C> Type of a partition {@code context}.
+     */
+    public static <C extends Serializable> void saveLocalContext(Ignite ignite, UUID datasetId, int part, C ctx) {
+        getContextStorage(ignite, datasetId).put(part, ctx);
+    }
+
+    /**
+     * Writes dirty partition {@code context} objects kept in local storage into the Ignite Cache and removes from local
+     * storage {@code context} objects of partitions this node is not primary for anymore, so that they will be loaded
+     * from the Ignite Cache if partitions are moved back.
+     *
+     * @param ignite Ignite instance.
+     * @param datasetCacheName Dataset cache name.
+     * @param datasetId Dataset ID.
+     * @return Number of written partition {@code context} objects.
+     */
+    public static int flushContexts(Ignite ignite, String datasetCacheName, UUID datasetId) {
+        Object ctxStorage = ignite.cluster().nodeLocalMap().get(String.format(CONTEXT_STORAGE_KEY_TEMPLATE, datasetId));
+
+        if (ctxStorage == null)
+            return 0;
+
+        PartitionContextStorage storage = (PartitionContextStorage)ctxStorage;
+
+        Map<Integer, Serializable> dirty = storage.pollDirty();
+
+        if (!dirty.isEmpty()) {
+            IgniteCache<Integer, Serializable> datasetCache = ignite.cache(datasetCacheName);
+            datasetCache.putAll(dirty);
+        }
+
+        Affinity<?> aff = ignite.affinity(datasetCacheName);
+        ClusterNode locNode = ignite.cluster().localNode();
+        storage.retain(part -> locNode.equals(aff.mapPartitionToNode(part)));
+
+        return dirty.size();
+    }
+
+    /**
+     * Remove partition {@code context} objects from local storage by Dataset ID.
+     *
+     * @param ignite Ignite instance.
+     * @param datasetId Dataset ID.
+     */
+    public static void removeContexts(Ignite ignite, UUID datasetId) {
+        Object ctxStorage = ignite.cluster().nodeLocalMap()
+            .remove(String.format(CONTEXT_STORAGE_KEY_TEMPLATE, datasetId));
+
+        if (ctxStorage != null)
+            ((PartitionContextStorage)ctxStorage).clear();
+    }
+
+    /**
+     * Returns local storage of partition {@code context} objects of the specified dataset.
+     *
+     * @param ignite Ignite instance.
+     * @param datasetId Dataset ID.
+     * @return Local storage of partition {@code context} objects.
+     */
+    private static PartitionContextStorage getContextStorage(Ignite ignite, UUID datasetId) {
+        return (PartitionContextStorage)ignite
+            .cluster()
+            .nodeLocalMap()
+            .computeIfAbsent(String.format(CONTEXT_STORAGE_KEY_TEMPLATE, datasetId), key -> new PartitionContextStorage());
+    }
+
     /**
      * Computes number of entries selected from the cache by the query.
      *
@@ -407,6 +764,311 @@ public final class ComputeUtils {
         return res;
     }
 
+    /**
+     * Returns the pool that computes partitions of node jobs on the local node. The pool is created on first use
+     * and shared by all node jobs, its idle threads stop after {@link #COMPUTE_POOL_KEEP_ALIVE}. Ignite threads
+     * are used, so that Ignition.localIgnite() works inside of the function.
+     *
+     * @param locIgnite Local Ignite instance.
+     * @return Pool.
+     */
+    private static ExecutorService computePool(Ignite locIgnite) {
+        ConcurrentMap<String, ExecutorService> nodeLocMap = locIgnite.cluster().nodeLocalMap();
+
+        return nodeLocMap.computeIfAbsent(COMPUTE_POOL_KEY, key -> {
+            int threads = Runtime.getRuntime().availableProcessors();
+
+            IgniteThreadPoolExecutor pool = new IgniteThreadPoolExecutor("ml-dataset-compute", locIgnite.name(),
+                threads, threads, COMPUTE_POOL_KEEP_ALIVE, new LinkedBlockingQueue<>());
+
+            pool.allowCoreThreadTimeOut(true);
+
+            return pool;
+        });
+    }
+
+    /**
+     * Result of a node job: reduced result of completed partitions and indices of these partitions.
+     *
+     * @param <R> Type of a result.
+     */
+    private static class NodeResult<R> implements Serializable {
+        /** */
+        private static final long serialVersionUID = 7215386447816283746L;
+
+        /** Reduced result of completed partitions. */
+        private final R res;
+
+        /** Completed partitions. */
+        private final int[] completedParts;
+
+        /**
+         * Constructs a new instance of node result.
+         *
+         * @param res Reduced result of completed partitions.
+         * @param completedParts Completed partitions.
+         */
+        NodeResult(R res, int[] completedParts) {
+            this.res = res;
+            this.completedParts = completedParts;
+        }
+    }
+
+    /**
+     * Callable that processes a set of partitions on the node it's executed on, contains deploy context and can pass
+     * missing classes during learning session by p2p deployment.
+     *
+     * @param <R> Type of a result.
+     */
+    private static class DeployableNodeCallable<R> implements GridPeerDeployAware, IgniteCallable<NodeResult<R>> {
+        /** */
+        private static final long serialVersionUID = -4424012764592815385L;
+
+        /** Cache names. */
+        protected final Collection<String> cacheNames;
+
+        /** Partitions. */
+        private final int[] parts;
+
+        /** Function to be applied on partitions. */
+        protected final IgniteFunction<Integer, R> fun;
+
+        /** Function that reduces results of {@code fun}. */
+        protected final IgniteBinaryOperator<R> reduce;
+
+        /** Deploy context. */
+        private transient DeployingContext deployingContext;
+
+        /**
+         * Creates an instance of DeployableNodeCallable.
+         *
+         * @param deployingCtx Deploy context.
+         * @param cacheNames Cache names.
+         * @param parts Partitions.
+         * @param fun Function to be applied on partitions.
+         * @param reduce Function that reduces results of {@code fun}.
+         */
+        DeployableNodeCallable(DeployingContext deployingCtx, Collection<String> cacheNames, int[] parts,
+            IgniteFunction<Integer, R> fun, IgniteBinaryOperator<R> reduce) {
+            this.deployingContext = deployingCtx;
+            this.cacheNames = new ArrayList<>(cacheNames);
+            this.parts = parts;
+            this.fun = fun;
+            this.reduce = reduce;
+        }
+
+        /** {@inheritDoc} */
+        @Override public NodeResult<R> call() throws Exception {
+            Ignite locIgnite = Ignition.localIgnite();
+
+            List<Integer> locParts = new ArrayList<>(parts.length);
+            for (int part : parts)
+                if (isPrimaryForAllCaches(locIgnite, part))
+                    locParts.add(part);
+
+            if (locParts.isEmpty())
+                return new NodeResult<>(null, new int[0]);
+
+            ExecutorService pool = computePool(locIgnite);
+
+            List<Future<R>> futures = new ArrayList<>(locParts.size());
+            for (Integer part : locParts)
+                futures.add(pool.submit(() -> fun.apply(part)));
+
+            try {
+                R res = null;
+                int[] completedParts = new int[locParts.size()];
+                int completedCnt = 0;
+
+                for (int i = 0; i < locParts.size(); i++) {
+                    R partRes;
+
+                    try {
+                        partRes = futures.get(i).get();
+                    }
+                    catch (ExecutionException e) {
+                        // Partition might have been moved during the computation, in this case it's computed again.
+                        if (!isPrimaryForAllCaches(locIgnite, locParts.get(i)))
+                            continue;
+
+                        throw e.getCause() instanceof Exception ? (Exception)e.getCause() : e;
+                    }
+
+                    // Partition might have been moved during the computation, in this case it's computed again.
+                    if (!isPrimaryForAllCaches(locIgnite, locParts.get(i)))
+                        continue;
+
+                    if (partRes != null)
+                        res = res == null ? partRes : reduce.apply(res, partRes);
+
+                    completedParts[completedCnt++] = locParts.get(i);
+                }
+
+                return new NodeResult<>(res, Arrays.copyOf(completedParts, completedCnt));
+            }
+            finally {
+                // Stops computation of remaining partitions if the job failed or was cancelled.
+                futures.forEach(fut -> fut.cancel(true));
+            }
+        }
+
+        /**
+         * Checks that the specified partition is primary on the local node for all caches.
+         *
+         * @param locIgnite Local Ignite instance.
+         * @param part Partition.
+         * @return {@code true} if the partition is primary on the local node for all caches.
+         */
+        private boolean isPrimaryForAllCaches(Ignite locIgnite, int part) {
+            ClusterNode locNode = locIgnite.cluster().localNode();
+
+            for (String cacheName : cacheNames)
+                if (!locIgnite.affinity(cacheName).mapPartitionToNode(part).equals(locNode))
+                    return false;
+
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override public Class<?> deployClass() {
+            return deployingContext.userClass();
+        }
+
+        /** {@inheritDoc} */
+        @Override public ClassLoader classLoader() {
+            return deployingContext.clientClassLoader();
+        }
+    }
+
+    /**
+     * Callable that processes a set of partitions on the node it's executed on as a node of a binary tree. Before
+     * processing of local partitions it sends itself to its children, then reduces results of local partitions and
+     * results of children subtrees. While children are running, the job is suspended by its continuation, so it
+     * doesn't hold a thread of the public pool.
+     *
+     * @param <R> Type of a result.
+     */
+    private static class DeployableTreeNodeCallable<R> extends DeployableNodeCallable<R> {
+        /** */
+        private static final long serialVersionUID = 2804553497735290834L;
+
+        /** Number of children of every tree node. */
+        private static final int FAN_OUT = 2;
+
+        /** Identifiers of tree nodes in the level order. */
+        private final UUID[] nodeIds;
+
+        /** Partitions of tree nodes. */
+        private final int[][] nodeParts;
+
+        /** Index of this tree node. */
+        private final int idx;
+
+        /** Job context used to suspend the job until children complete. */
+        @JobContextResource
+        private transient ComputeJobContext jobCtx;
+
+        /** Futures of children, {@code null} before the first execution of the job. */
+        private transient List<IgniteFuture<NodeResult<R>>> childFutures;
+
+        /** Result of local partitions. */
+        private transient NodeResult<R> locRes;
+
+        /**
+         * Creates an instance of DeployableTreeNodeCallable.
+         *
+         * @param deployingCtx Deploy context.
+         * @param cacheNames Cache names.
+         * @param nodeIds Identifiers of tree nodes in the level order.
+         * @param nodeParts Partitions of tree nodes.
+         * @param idx Index of this tree node.
+         * @param fun Function to be applied on partitions.
+         * @param reduce Function that reduces results of {@code fun}.
+         */
+        DeployableTreeNodeCallable(DeployingContext deployingCtx, Collection<String> cacheNames, UUID[] nodeIds,
+            int[][] nodeParts, int idx, IgniteFunction<Integer, R> fun, IgniteBinaryOperator<R> reduce) {
+            super(deployingCtx, cacheNames, nodeParts[idx], fun, reduce);
+
+            this.nodeIds = nodeIds;
+            this.nodeParts = nodeParts;
+            this.idx = idx;
+        }
+
+        /** {@inheritDoc} */
+        @Override public NodeResult<R> call() throws Exception {
+            // The job is executed again by its continuation when all children complete.
+            if (childFutures == null) {
+                childFutures = sendToChildren();
+
+                locRes = super.call();
+
+                if (!childFutures.isEmpty() && !childFutures.stream().allMatch(IgniteFuture::isDone)) {
+                    jobCtx.holdcc();
+
+                    AtomicInteger pending = new AtomicInteger(childFutures.size());
+
+                    for (IgniteFuture<NodeResult<R>> fut : childFutures)
+                        fut.listen(f -> {
+                            if (pending.decrementAndGet() == 0)
+                                jobCtx.callcc();
+                        });
+
+                    return null;
+                }
+            }
+
+            R res = locRes.res;
+            int[] completedParts = locRes.completedParts;
+
+            for (IgniteFuture<NodeResult<R>> fut : childFutures) {
+                try {
+                    NodeResult<R> childRes = fut.get();
+
+                    if (childRes.res != null)
+                        res = res == null ? childRes.res : reduce.apply(res, childRes.res);
+
+                    int[] merged = Arrays.copyOf(completedParts, completedParts.length + childRes.completedParts.length);
+                    System.arraycopy(childRes.completedParts, 0, merged, completedParts.length,
+                        childRes.completedParts.length);
+                    completedParts = merged;
+                }
+                catch (ClusterTopologyException ignore) {
+                    // Partitions of the subtree are computed again on the next attempt.
+                }
+            }
+
+            return new NodeResult<>(res, completedParts);
+        }
+
+        /**
+         * Sends the job to children of this tree node.
+         *
+         * @return Futures of children that the job was sent to.
+         */
+        private List<IgniteFuture<NodeResult<R>>> sendToChildren() {
+            Ignite locIgnite = Ignition.localIgnite();
+
+            // Deploy context isn't serialized, classes of the function are deployed from this node to children.
+            DeployingContext childDeployingCtx = DeployingContext.unitialized();
+            childDeployingCtx.initByClientObject(fun);
+
+            List<IgniteFuture<NodeResult<R>>> futures = new ArrayList<>(FAN_OUT);
+            for (int child = idx * FAN_OUT + 1; child <= idx * FAN_OUT + FAN_OUT && child < nodeIds.length; child++) {
+                try {
+                    futures.add(locIgnite.compute(locIgnite.cluster().forNodeId(nodeIds[child])).callAsync(
+                        new DeployableTreeNodeCallable<>(childDeployingCtx, cacheNames, nodeIds, nodeParts, child,
+                            fun, reduce)
+                    ));
+                }
+                catch (ClusterTopologyException ignore) {
+                    // Partitions of the subtree are computed again on the next attempt.
+                }
+            }
+
+            return futures;
+        }
+    }
+
     /**
      * Callable that contains deploy context and can pass missing classes
      * during learning session by p2p deployment.
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.dataset.impl.cache.util;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+/**
+ * Local storage used to keep partition {@code context} between computations. Contexts updated in the storage are
+ * marked as dirty and written to the dataset cache only when they are flushed.
+ */
+class PartitionContextStorage {
+    /** Storage of a partition {@code context}. */
+    private final ConcurrentMap<Integer, Serializable> storage = new ConcurrentHashMap<>();
+
+    /** Indices of partitions which {@code context} was updated since the last flush. */
+    private final Set<Integer> dirty = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Retrieves partition {@code context} correspondent to specified partition index if it exists in local storage or
+     * loads it using the specified {@code supplier}. Loaded {@code context} is not marked as dirty.
+     *
+     * @param <C> Type of a partition {@code context}.
+     * @param part Partition index.
+     * @param supplier Partition {@code context} supplier.
+     * @return Partition {@code context}.
+     */
+    @SuppressWarnings("unchecked")
+    <C extends Serializable> C computeContextIfAbsent(int part, Supplier<C> supplier) {
+        Serializable ctx = storage.get(part);
+
+        if (ctx == null) {
+            ctx = supplier.get();
+
+            if (ctx != null) {
+                Serializable prev = storage.putIfAbsent(part, ctx);
+
+                if (prev != null)
+                    ctx = prev;
+            }
+        }
+
+        return (C)ctx;
+    }
+
+    /**
+     * Puts the specified partition {@code context} into the storage and marks it as dirty.
+     *
+     * @param part Partition index.
+     * @param ctx Partition {@code context}.
+     */
+    void put(int part, Serializable ctx) {
+        if (ctx == null)
+            return;
+
+        storage.put(part, ctx);
+        dirty.add(part);
+    }
+
+    /**
+     * Collects dirty partition {@code context} objects and resets their dirty flags.
+     *
+     * @return Map of partition index to partition {@code context} that has to be written to the dataset cache.
+     */
+    Map<Integer, Serializable> pollDirty() {
+        Map<Integer, Serializable> res = new HashMap<>();
+
+        for (Integer part : dirty) {
+            dirty.remove(part);
+
+            Serializable ctx = storage.get(part);
+
+            if (ctx != null)
+                res.put(part, ctx);
+        }
+
+        return res;
+    }
+
+    /**
+     * Removes partition {@code context} objects which partition indices don't satisfy the given predicate. Dirty
+     * objects are expected to be flushed before.
+     *
+     * @param pred Predicate that accepts indices of partitions to be kept.
+     */
+    void retain(IntPredicate pred) {
+        for (Integer part : storage.keySet()) {
+            if (!pred.test(part)) {
+                storage.remove(part);
+                dirty.remove(part);
+            }
+        }
+    }
+
+    /**
+     * Checks if partition {@code context} of the specified partition was updated since the last flush.
+     *
+     * @param part Partition index.
+     * @return {@code true} if partition {@code context} is dirty.
+     */
+    boolean isDirty(int part) {
+        return dirty.contains(part);
+    }
+
+    /**
+     * Removes all partition {@code context} objects from the storage.
+     */
+    void clear() {
+        storage.clear();
+        dirty.clear();
+    }
+}
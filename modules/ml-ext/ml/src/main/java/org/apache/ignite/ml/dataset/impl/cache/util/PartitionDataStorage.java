@@ -23,6 +23,7 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import org.apache.ignite.internal.util.typedef.internal.U;
 
 /**
  * Local storage used to keep partition {@code data}.
@@ -62,4 +63,16 @@ class PartitionDataStorage {
 
         return (D)data;
     }
+
+    /**
+     * Closes all partition {@code data} objects kept in the storage and removes them from the storage.
+     */
+    void close() {
+        for (Integer part : storage.keySet()) {
+            Object data = storage.remove(part);
+
+            if (data instanceof AutoCloseable)
+                U.closeQuiet((AutoCloseable)data);
+        }
+    }
 }
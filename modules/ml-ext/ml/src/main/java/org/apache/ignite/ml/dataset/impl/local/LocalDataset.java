@@ -21,6 +21,7 @@ import java.io.Serializable;
 import java.util.List;
 import org.apache.ignite.ml.dataset.Dataset;
 import org.apache.ignite.ml.environment.LearningEnvironment;
+import org.apache.ignite.ml.environment.logging.MLLogger;
 import org.apache.ignite.ml.math.functions.IgniteBiFunction;
 import org.apache.ignite.ml.math.functions.IgniteBinaryOperator;
 import org.apache.ignite.ml.math.functions.IgniteTriFunction;
@@ -89,7 +90,19 @@ public class LocalDataset<C extends Serializable, D extends AutoCloseable> imple
 
     /** {@inheritDoc} */
     @Override public void close() {
-        // Do nothing, GC will clean up.
+        for (int part = 0; part < data.size(); part++) {
+            D partData = data.get(part);
+
+            if (partData != null) {
+                try {
+                    partData.close();
+                }
+                catch (Exception e) {
+                    envs.get(part).logger(getClass()).log(MLLogger.VerboseLevel.LOW,
+                        "Failed to close partition data [part=%d, err=%s]", part, e);
+                }
+            }
+        }
     }
 
     /** */
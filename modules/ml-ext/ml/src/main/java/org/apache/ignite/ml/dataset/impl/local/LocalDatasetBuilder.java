@@ -19,12 +19,12 @@ package org.apache.ignite.ml.dataset.impl.local;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.ignite.lang.IgniteBiPredicate;
+import org.apache.ignite.lang.IgniteBiTuple;
 import org.apache.ignite.ml.dataset.DatasetBuilder;
 import org.apache.ignite.ml.dataset.PartitionContextBuilder;
 import org.apache.ignite.ml.dataset.PartitionDataBuilder;
@@ -33,8 +33,8 @@ import org.apache.ignite.ml.dataset.UpstreamTransformer;
 import org.apache.ignite.ml.dataset.UpstreamTransformerBuilder;
 import org.apache.ignite.ml.environment.LearningEnvironment;
 import org.apache.ignite.ml.environment.LearningEnvironmentBuilder;
-import org.apache.ignite.ml.math.functions.IgniteFunction;
-import org.apache.ignite.ml.util.Utils;
+import org.apache.ignite.ml.environment.parallelism.Promise;
+import org.apache.ignite.ml.math.functions.IgniteSupplier;
 
 /**
  * A dataset builder that makes {@link LocalDataset}. Encapsulate logic of building local dataset such as allocation
@@ -98,68 +98,39 @@ public class LocalDatasetBuilder<K, V> implements DatasetBuilder<K, V> {
         this(upstreamMap, filter, partitions, UpstreamTransformerBuilder.identity());
     }
 
-    /** {@inheritDoc} */
+    /**
+     * {@inheritDoc}
+     *
+     * Partitions are built using {@link LearningEnvironment#parallelismStrategy() parallelism strategy} of the
+     * specified learning environment, so that they are built concurrently if the strategy allows it. Upstream
+     * transformer is applied once per partition.
+     */
     @Override public <C extends Serializable, D extends AutoCloseable> LocalDataset<C, D> build(
         LearningEnvironmentBuilder envBuilder,
         PartitionContextBuilder<K, V, C> partCtxBuilder, PartitionDataBuilder<K, V, C, D> partDataBuilder,
         LearningEnvironment learningEnvironment) {
 
-        List<C> ctxList = new ArrayList<>();
-        List<D> dataList = new ArrayList<>();
-
-        List<UpstreamEntry<K, V>> entriesList = new ArrayList<>();
-
-        upstreamMap
-            .entrySet()
-            .stream()
-            .filter(en -> filter.apply(en.getKey(), en.getValue()))
-            .map(en -> new UpstreamEntry<>(en.getKey(), en.getValue()))
-            .forEach(entriesList::add);
-
-        int partSize = Math.max(1, entriesList.size() / partitions);
-
-        Iterator<UpstreamEntry<K, V>> firstKeysIter = entriesList.iterator();
-        Iterator<UpstreamEntry<K, V>> secondKeysIter = entriesList.iterator();
-        Iterator<UpstreamEntry<K, V>> thirdKeysIter = entriesList.iterator();
-
-        int ptr = 0;
-
         List<LearningEnvironment> envs = IntStream.range(0, partitions).boxed().map(envBuilder::buildForWorker)
             .collect(Collectors.toList());
 
+        List<List<UpstreamEntry<K, V>>> windows = splitUpstream();
+
+        List<IgniteSupplier<IgniteBiTuple<C, D>>> tasks = new ArrayList<>(partitions);
         for (int part = 0; part < partitions; part++) {
-            int cntBeforeTransform =
-                part == partitions - 1 ? entriesList.size() - ptr : Math.min(partSize, entriesList.size() - ptr);
             LearningEnvironment env = envs.get(part);
-            UpstreamTransformer transformer1 = upstreamTransformerBuilder.build(env);
-            UpstreamTransformer transformer2 = Utils.copy(transformer1);
-            UpstreamTransformer transformer3 = Utils.copy(transformer1);
-
-            int cnt = (int)transformer1.transform(Utils.asStream(new IteratorWindow<>(thirdKeysIter, k -> k, cntBeforeTransform))).count();
-
-            Iterator<UpstreamEntry> iter = transformer2.transform(
-                Utils.asStream(new IteratorWindow<>(firstKeysIter, k -> k, cntBeforeTransform)).map(x -> (UpstreamEntry)x)
-            ).iterator();
-            Iterator<UpstreamEntry<K, V>> convertedBack = Utils.asStream(iter).map(x -> (UpstreamEntry<K, V>)x).iterator();
+            List<UpstreamEntry<K, V>> window = windows.get(part);
 
-            C ctx = cntBeforeTransform > 0 ? partCtxBuilder.build(env, convertedBack, cnt) : null;
-
-            Iterator<UpstreamEntry> iter1 = transformer3.transform(
-                    Utils.asStream(new IteratorWindow<>(secondKeysIter, k -> k, cntBeforeTransform))).iterator();
-
-            Iterator<UpstreamEntry<K, V>> convertedBack1 = Utils.asStream(iter1).map(x -> (UpstreamEntry<K, V>)x).iterator();
+            tasks.add(() -> buildPartition(env, window, partCtxBuilder, partDataBuilder));
+        }
 
-            D data = cntBeforeTransform > 0 ? partDataBuilder.build(
-                env,
-                convertedBack1,
-                cnt,
-                ctx
-            ) : null;
+        List<C> ctxList = new ArrayList<>(partitions);
+        List<D> dataList = new ArrayList<>(partitions);
 
-            ctxList.add(ctx);
-            dataList.add(data);
+        for (Promise<IgniteBiTuple<C, D>> partRes : learningEnvironment.parallelismStrategy().submit(tasks)) {
+            IgniteBiTuple<C, D> ctxAndData = partRes.unsafeGet();
 
-            ptr += cntBeforeTransform;
+            ctxList.add(ctxAndData.get1());
+            dataList.add(ctxAndData.get2());
         }
 
         return new LocalDataset<>(envs, ctxList, dataList);
@@ -177,48 +148,71 @@ public class LocalDatasetBuilder<K, V> implements DatasetBuilder<K, V> {
     }
 
     /**
-     * Utils class that wraps iterator so that it produces only specified number of entries and allows to transform
-     * entries from one type to another.
+     * Splits filtered {@code upstream} entries into windows of consecutive entries, one window per partition. All
+     * partitions except the last one get the same number of entries, the last partition gets the rest.
      *
-     * @param <K> Initial type of entries.
-     * @param <T> Target type of entries.
+     * @return List of windows.
      */
-    private static class IteratorWindow<K, T> implements Iterator<T> {
-        /** Delegate iterator. */
-        private final Iterator<K> delegate;
-
-        /** Transformer that transforms entries from one type to another. */
-        private final IgniteFunction<K, T> map;
-
-        /** Count of entries to produce. */
-        private final int cnt;
-
-        /** Number of already produced entries. */
-        private int ptr;
-
-        /**
-         * Constructs a new instance of iterator window wrapper.
-         *
-         * @param delegate Delegate iterator.
-         * @param map Transformer that transforms entries from one type to another.
-         * @param cnt Count of entries to produce.
-         */
-        IteratorWindow(Iterator<K> delegate, IgniteFunction<K, T> map, int cnt) {
-            this.delegate = delegate;
-            this.map = map;
-            this.cnt = cnt;
-        }
+    private List<List<UpstreamEntry<K, V>>> splitUpstream() {
+        int size = (int)upstreamMap.entrySet().stream().filter(en -> filter.apply(en.getKey(), en.getValue())).count();
+        int partSize = Math.max(1, size / partitions);
 
-        /** {@inheritDoc} */
-        @Override public boolean hasNext() {
-            return delegate.hasNext() && ptr < cnt;
+        List<List<UpstreamEntry<K, V>>> windows = new ArrayList<>(partitions);
+        int[] windowSizes = new int[partitions];
+
+        int ptr = 0;
+        for (int part = 0; part < partitions; part++) {
+            windowSizes[part] = part == partitions - 1 ? size - ptr : Math.min(partSize, size - ptr);
+            windows.add(new ArrayList<>(windowSizes[part]));
+
+            ptr += windowSizes[part];
         }
 
-        /** {@inheritDoc} */
-        @Override public T next() {
-            ++ptr;
+        int part = 0;
+        for (Map.Entry<K, V> en : upstreamMap.entrySet()) {
+            if (!filter.apply(en.getKey(), en.getValue()))
+                continue;
+
+            while (windows.get(part).size() == windowSizes[part])
+                part++;
 
-            return map.apply(delegate.next());
+            windows.get(part).add(new UpstreamEntry<>(en.getKey(), en.getValue()));
         }
+
+        return windows;
+    }
+
+    /**
+     * Builds partition {@code context} and {@code data} on the specified window of {@code upstream} entries. Upstream
+     * transformer output is kept in memory, so that it's computed once for both builders.
+     *
+     * @param env Learning environment of the partition.
+     * @param window Partition {@code upstream} entries.
+     * @param partCtxBuilder Partition {@code context} builder.
+     * @param partDataBuilder Partition {@code data} builder.
+     * @param <C> Type of a partition {@code context}.
+     * @param <D> Type of a partition {@code data}.
+     * @return Partition {@code context} and {@code data}, both are {@code null} if window is empty.
+     */
+    @SuppressWarnings("unchecked")
+    private <C extends Serializable, D extends AutoCloseable> IgniteBiTuple<C, D> buildPartition(
+        LearningEnvironment env,
+        List<UpstreamEntry<K, V>> window,
+        PartitionContextBuilder<K, V, C> partCtxBuilder,
+        PartitionDataBuilder<K, V, C, D> partDataBuilder) {
+
+        if (window.isEmpty())
+            return new IgniteBiTuple<>(null, null);
+
+        UpstreamTransformer transformer = upstreamTransformerBuilder.build(env);
+
+        List<UpstreamEntry<K, V>> transformed = transformer.transform(window.stream().map(x -> (UpstreamEntry)x))
+            .map(x -> (UpstreamEntry<K, V>)x)
+            .collect(Collectors.toList());
+
+        C ctx = partCtxBuilder.build(env, transformed.iterator(), transformed.size());
+        D data = partDataBuilder.build(env, transformed.iterator(), transformed.size(), ctx);
+
+        return new IgniteBiTuple<>(ctx, data);
     }
 }
@@ -57,6 +57,12 @@ public class DatasetWrapper<C extends Serializable, D extends AutoCloseable> imp
         return delegate.compute(map, reduce, identity);
     }
 
+    /** {@inheritDoc} */
+    @Override public <R> R computeWithTreeReduce(IgniteBiFunction<D, LearningEnvironment, R> map,
+        IgniteBinaryOperator<R> reduce, R identity) {
+        return delegate.computeWithTreeReduce(map, reduce, identity);
+    }
+
     /** {@inheritDoc} */
     @Override public void close() throws Exception {
         delegate.close();
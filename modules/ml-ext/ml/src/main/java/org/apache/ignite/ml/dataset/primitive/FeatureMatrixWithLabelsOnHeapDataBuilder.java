@@ -18,7 +18,10 @@
 package org.apache.ignite.ml.dataset.primitive;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
 import org.apache.ignite.ml.dataset.PartitionDataBuilder;
 import org.apache.ignite.ml.dataset.UpstreamEntry;
 import org.apache.ignite.ml.environment.LearningEnvironment;
@@ -57,6 +60,9 @@ public class FeatureMatrixWithLabelsOnHeapDataBuilder<K, V, C extends Serializab
         Iterator<UpstreamEntry<K, V>> upstreamData,
         long upstreamDataSize,
         C ctx) {
+        if (upstreamDataSize == UNKNOWN_SIZE)
+            return buildWithUnknownSize(upstreamData);
+
         double[][] features = new double[Math.toIntExact(upstreamDataSize)][];
         double[] labels = new double[Math.toIntExact(upstreamDataSize)];
 
@@ -73,4 +79,30 @@ public class FeatureMatrixWithLabelsOnHeapDataBuilder<K, V, C extends Serializab
 
         return new FeatureMatrixWithLabelsOnHeapData(features, labels);
     }
+
+    /** {@inheritDoc} */
+    @Override public boolean isUnknownSizeSupported() {
+        return true;
+    }
+
+    /**
+     * Builds partition data in a single pass using growable buffers.
+     *
+     * @param upstreamData Partition {@code upstream} data.
+     * @return Partition data.
+     */
+    private FeatureMatrixWithLabelsOnHeapData buildWithUnknownSize(Iterator<UpstreamEntry<K, V>> upstreamData) {
+        List<double[]> features = new ArrayList<>();
+        DoubleArrayList labels = new DoubleArrayList();
+
+        while (upstreamData.hasNext()) {
+            UpstreamEntry<K, V> entry = upstreamData.next();
+
+            LabeledVector<Double> labeledVector = preprocessor.apply(entry.getKey(), entry.getValue());
+            features.add(labeledVector.features().asArray());
+            labels.add(labeledVector.label().doubleValue());
+        }
+
+        return new FeatureMatrixWithLabelsOnHeapData(features.toArray(new double[0][]), labels.toDoubleArray());
+    }
 }
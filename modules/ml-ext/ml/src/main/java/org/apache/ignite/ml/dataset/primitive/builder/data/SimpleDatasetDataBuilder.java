@@ -19,12 +19,14 @@ package org.apache.ignite.ml.dataset.primitive.builder.data;
 
 import java.io.Serializable;
 import java.util.Iterator;
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
 import org.apache.ignite.ml.dataset.PartitionDataBuilder;
 import org.apache.ignite.ml.dataset.UpstreamEntry;
 import org.apache.ignite.ml.dataset.primitive.data.SimpleDatasetData;
 import org.apache.ignite.ml.environment.LearningEnvironment;
 import org.apache.ignite.ml.math.exceptions.preprocessing.NonDoubleVectorException;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.math.util.MatrixUtil;
 import org.apache.ignite.ml.preprocessing.Preprocessor;
 
 /**
@@ -56,6 +58,9 @@ public class SimpleDatasetDataBuilder<K, V, C extends Serializable, CO extends S
     @Override public SimpleDatasetData build(
         LearningEnvironment env,
         Iterator<UpstreamEntry<K, V>> upstreamData, long upstreamDataSize, C ctx) {
+        if (upstreamDataSize == UNKNOWN_SIZE)
+            return buildWithUnknownSize(upstreamData);
+
         // Prepares the matrix of features in flat column-major format.
         int cols = -1;
         double[] features = null;
@@ -83,4 +88,44 @@ public class SimpleDatasetDataBuilder<K, V, C extends Serializable, CO extends S
 
         return new SimpleDatasetData(features, Math.toIntExact(upstreamDataSize));
     }
+
+    /** {@inheritDoc} */
+    @Override public boolean isUnknownSizeSupported() {
+        return true;
+    }
+
+    /**
+     * Builds partition {@code data} in a single pass. Rows are collected into a growable row-major buffer which is
+     * converted into column-major format when all rows are read.
+     *
+     * @param upstreamData Partition {@code upstream} data.
+     * @return Partition {@code data}.
+     */
+    private SimpleDatasetData buildWithUnknownSize(Iterator<UpstreamEntry<K, V>> upstreamData) {
+        int cols = -1;
+        int rows = 0;
+        DoubleArrayList buf = new DoubleArrayList();
+
+        while (upstreamData.hasNext()) {
+            UpstreamEntry<K, V> entry = upstreamData.next();
+            Vector row = preprocessor.apply(entry.getKey(), entry.getValue()).features();
+            if (row.isNumeric()) {
+                if (cols < 0)
+                    cols = row.size();
+                else
+                    assert row.size() == cols : "Feature extractor must return exactly " + cols + " features";
+
+                for (int i = 0; i < cols; i++)
+                    buf.add(row.get(i));
+
+                rows++;
+            }
+            else
+                throw new NonDoubleVectorException(row);
+        }
+
+        double[] features = cols < 0 ? null : MatrixUtil.toColumnMajor(buf.elements(), rows, cols);
+
+        return new SimpleDatasetData(features, rows);
+    }
 }
@@ -19,11 +19,13 @@ package org.apache.ignite.ml.dataset.primitive.builder.data;
 
 import java.io.Serializable;
 import java.util.Iterator;
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
 import org.apache.ignite.ml.dataset.PartitionDataBuilder;
 import org.apache.ignite.ml.dataset.UpstreamEntry;
 import org.apache.ignite.ml.dataset.primitive.data.SimpleLabeledDatasetData;
 import org.apache.ignite.ml.environment.LearningEnvironment;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.math.util.MatrixUtil;
 import org.apache.ignite.ml.preprocessing.Preprocessor;
 import org.apache.ignite.ml.structures.LabeledVector;
 
@@ -56,6 +58,9 @@ public class SimpleLabeledDatasetDataBuilder<K, V, C extends Serializable>
         LearningEnvironment env,
         Iterator<UpstreamEntry<K, V>> upstreamData,
         long upstreamDataSize, C ctx) {
+        if (upstreamDataSize == UNKNOWN_SIZE)
+            return buildWithUnknownSize(upstreamData);
+
         // Prepares the matrix of features in flat column-major format.
         int featureCols = -1;
         int lbCols = -1;
@@ -97,4 +102,57 @@ public class SimpleLabeledDatasetDataBuilder<K, V, C extends Serializable>
 
         return new SimpleLabeledDatasetData(features, labels, Math.toIntExact(upstreamDataSize));
     }
+
+    /** {@inheritDoc} */
+    @Override public boolean isUnknownSizeSupported() {
+        return true;
+    }
+
+    /**
+     * Builds partition {@code data} in a single pass. Rows are collected into growable row-major buffers which are
+     * converted into column-major format when all rows are read.
+     *
+     * @param upstreamData Partition {@code upstream} data.
+     * @return Partition {@code data}.
+     */
+    private SimpleLabeledDatasetData buildWithUnknownSize(Iterator<UpstreamEntry<K, V>> upstreamData) {
+        int featureCols = -1;
+        int lbCols = -1;
+        int rows = 0;
+        DoubleArrayList featuresBuf = new DoubleArrayList();
+        DoubleArrayList labelsBuf = new DoubleArrayList();
+
+        while (upstreamData.hasNext()) {
+            UpstreamEntry<K, V> entry = upstreamData.next();
+
+            LabeledVector<double[]> labeledVector = vectorizer.apply(entry.getKey(), entry.getValue());
+            Vector featureRow = labeledVector.features();
+
+            if (featureCols < 0)
+                featureCols = featureRow.size();
+            else
+                assert featureRow.size() == featureCols : "Feature extractor must return exactly " + featureCols
+                    + " features";
+
+            for (int i = 0; i < featureCols; i++)
+                featuresBuf.add(featureRow.get(i));
+
+            double[] lbRow = labeledVector.label();
+
+            if (lbCols < 0)
+                lbCols = lbRow.length;
+
+            assert lbRow.length == lbCols : "Label extractor must return exactly " + lbCols + " labels";
+
+            labelsBuf.addElements(labelsBuf.size(), lbRow);
+
+            rows++;
+        }
+
+        double[] features = featureCols < 0 ? null :
+            MatrixUtil.toColumnMajor(featuresBuf.elements(), rows, featureCols);
+        double[] labels = lbCols < 0 ? null : MatrixUtil.toColumnMajor(labelsBuf.elements(), rows, lbCols);
+
+        return new SimpleLabeledDatasetData(features, labels, rows);
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.ml.environment.logging;
 
+import java.io.Serializable;
 import org.apache.ignite.ml.IgniteModel;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
 
@@ -52,7 +53,10 @@ public class NoOpLogger implements MLLogger {
     /**
      * NoOpLogger factory.
      */
-    private static class Factory implements MLLogger.Factory {
+    private static class Factory implements MLLogger.Factory, Serializable {
+        /** */
+        private static final long serialVersionUID = 5864605548782107893L;
+
         /** NoOpLogger instance. */
         private static final NoOpLogger NO_OP_LOGGER = new NoOpLogger();
 
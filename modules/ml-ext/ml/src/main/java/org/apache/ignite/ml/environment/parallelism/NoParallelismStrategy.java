@@ -17,6 +17,7 @@
 
 package org.apache.ignite.ml.environment.parallelism;
 
+import java.io.Serializable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -26,7 +27,10 @@ import org.jetbrains.annotations.NotNull;
 /**
  * All tasks should be processed in one thread.
  */
-public class NoParallelismStrategy implements ParallelismStrategy {
+public class NoParallelismStrategy implements ParallelismStrategy, Serializable {
+    /** */
+    private static final long serialVersionUID = -3612539702375983126L;
+
     /** Instance. */
     public static final ParallelismStrategy INSTANCE = new NoParallelismStrategy();
 
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.ml.inference;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
 import java.util.Objects;
 import java.util.UUID;
@@ -29,12 +31,13 @@ import org.apache.ignite.ml.IgniteModel;
 import org.apache.ignite.ml.inference.builder.AsyncModelBuilder;
 import org.apache.ignite.ml.inference.builder.SingleModelBuilder;
 import org.apache.ignite.ml.inference.builder.SyncModelBuilder;
-import org.apache.ignite.ml.inference.parser.IgniteModelParser;
+import org.apache.ignite.ml.inference.parser.CompactIgniteModelParser;
 import org.apache.ignite.ml.inference.reader.ModelStorageModelReader;
 import org.apache.ignite.ml.inference.storage.descriptor.ModelDescriptorStorage;
 import org.apache.ignite.ml.inference.storage.descriptor.ModelDescriptorStorageFactory;
 import org.apache.ignite.ml.inference.storage.model.ModelStorage;
 import org.apache.ignite.ml.inference.storage.model.ModelStorageFactory;
+import org.apache.ignite.ml.inference.util.CompactBinaryCodec;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
 import org.apache.ignite.ml.util.Utils;
 import org.jetbrains.annotations.NotNull;
@@ -64,8 +67,7 @@ public final class IgniteModelStorageUtil {
      */
     public static <I extends Serializable, O extends Serializable> void saveModel(Ignite ignite,
         IgniteModel<I, O> mdl, String name) {
-        IgniteModel<byte[], byte[]> mdlWrapper = wrapIgniteModel(mdl);
-        byte[] serializedMdl = Utils.serialize(mdlWrapper);
+        byte[] serializedMdl = Utils.serialize(mdl);
         UUID mdlId = UUID.randomUUID();
 
         saveModelDescriptor(ignite, name, mdlId);
@@ -110,7 +112,9 @@ public final class IgniteModelStorageUtil {
     }
 
     /**
-     * Retrieves Ignite model by name using synchronous model builder.
+     * Retrieves Ignite model by name using synchronous model builder. If model is processed locally (with
+     * {@link SingleModelBuilder}) it's parsed once and invoked directly, otherwise inputs and outputs are transferred as
+     * byte arrays.
      *
      * @param ignite Ignite instance.
      * @param name Model name.
@@ -124,9 +128,21 @@ public final class IgniteModelStorageUtil {
         ModelDescriptor desc = Objects.requireNonNull(getModelDescriptor(ignite, name),
             "Model not found [name=" + name + "]");
 
+        if (mdlBldr instanceof SingleModelBuilder && isCompact(desc)) {
+            @SuppressWarnings("unchecked")
+            CompactIgniteModelParser<I, O> parser = (CompactIgniteModelParser<I, O>)desc.getParser();
+
+            try (InputStream in = desc.getReader().readAsStream()) {
+                return parser.parseIgniteModel(in);
+            }
+            catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
         Model<byte[], byte[]> infMdl = mdlBldr.build(desc.getReader(), desc.getParser());
 
-        return unwrapIgniteSyncModel(infMdl);
+        return unwrapIgniteSyncModel(infMdl, isCompact(desc));
     }
 
     /**
@@ -143,7 +159,7 @@ public final class IgniteModelStorageUtil {
 
         Model<byte[], Future<byte[]>> infMdl = mdlBldr.build(desc.getReader(), desc.getParser());
 
-        return unwrapIgniteAsyncModel(infMdl);
+        return unwrapIgniteAsyncModel(infMdl, isCompact(desc));
     }
 
     /**
@@ -187,7 +203,7 @@ public final class IgniteModelStorageUtil {
             null,
             new ModelSignature(null, null, null),
             new ModelStorageModelReader(IGNITE_MDL_FOLDER + "/" + mdlId),
-            new IgniteModelParser<>()
+            new CompactIgniteModelParser<>()
         ));
 
         if (!saved)
@@ -220,38 +236,58 @@ public final class IgniteModelStorageUtil {
     }
 
     /**
-     * Wraps Ignite model so that model accepts and returns serialized objects (byte arrays).
+     * Checks if model described by specified descriptor accepts and returns objects encoded using
+     * {@link CompactBinaryCodec}. Models saved before the codec was introduced accept and return Java serialized
+     * objects.
      *
-     * @param mdl Ignite model.
-     * @return Ignite model that accepts and returns serialized objects (byte arrays).
+     * @param desc Model descriptor.
+     * @return {@code true} if model uses {@link CompactBinaryCodec}.
      */
-    private static <I extends Serializable, O extends Serializable> IgniteModel<byte[], byte[]> wrapIgniteModel(
-        IgniteModel<I, O> mdl) {
-        return input -> {
-            I deserializedInput = Utils.deserialize(input);
-            O output = mdl.predict(deserializedInput);
+    private static boolean isCompact(ModelDescriptor desc) {
+        return desc.getParser() instanceof CompactIgniteModelParser;
+    }
 
-            return Utils.serialize(output);
-        };
+    /**
+     * Encodes object passed to the model.
+     *
+     * @param obj Object to be encoded.
+     * @param compact Use {@link CompactBinaryCodec} instead of Java serialization.
+     * @return Encoded object.
+     */
+    private static byte[] encode(Serializable obj, boolean compact) {
+        return compact ? CompactBinaryCodec.encode(obj) : Utils.serialize(obj);
+    }
+
+    /**
+     * Decodes object returned by the model.
+     *
+     * @param bytes Encoded object.
+     * @param compact Use {@link CompactBinaryCodec} instead of Java serialization.
+     * @param <T> Type of encoded object.
+     * @return Decoded object.
+     */
+    private static <T extends Serializable> T decode(byte[] bytes, boolean compact) {
+        return compact ? CompactBinaryCodec.decode(bytes) : Utils.deserialize(bytes);
     }
 
     /**
      * Unwraps Ignite model so that model accepts and returns deserialized objects ({@link Vector} and {@link Double}).
      *
      * @param mdl Ignite model.
+     * @param compact Use {@link CompactBinaryCodec} instead of Java serialization.
      * @param <I> Type of input.
      * @param <O> Type of output.
      * @return Ignite model that accepts and returns deserialized objects ({@link Vector} and {@link Double}).
      */
     private static <I extends Serializable, O extends Serializable> Model<I, O> unwrapIgniteSyncModel(
-        Model<byte[], byte[]> mdl) {
+        Model<byte[], byte[]> mdl, boolean compact) {
         return new Model<I, O>() {
             /** {@inheritDoc} */
             @Override public O predict(I input) {
-                byte[] serializedInput = Utils.serialize(input);
+                byte[] serializedInput = encode(input, compact);
                 byte[] serializedOutput = mdl.predict(serializedInput);
 
-                return (O)Utils.deserialize(serializedOutput);
+                return decode(serializedOutput, compact);
             }
 
             /** {@inheritDoc} */
@@ -265,16 +301,18 @@ public final class IgniteModelStorageUtil {
      * Unwraps Ignite model so that model accepts and returns deserialized objects ({@link Vector} and {@link Double}).
      *
      * @param mdl Ignite model.
+     * @param compact Use {@link CompactBinaryCodec} instead of Java serialization.
      * @return Ignite model that accepts and returns deserialized objects ({@link Vector} and {@link Double}).
      */
-    private static Model<Vector, Future<Double>> unwrapIgniteAsyncModel(Model<byte[], Future<byte[]>> mdl) {
+    private static Model<Vector, Future<Double>> unwrapIgniteAsyncModel(Model<byte[], Future<byte[]>> mdl,
+        boolean compact) {
         return new Model<Vector, Future<Double>>() {
             /** {@inheritDoc} */
             @Override public Future<Double> predict(Vector input) {
-                byte[] serializedInput = Utils.serialize(input);
+                byte[] serializedInput = encode(input, compact);
                 Future<byte[]> serializedOutput = mdl.predict(serializedInput);
 
-                return new FutureDeserializationWrapper<>(serializedOutput);
+                return new FutureDeserializationWrapper<>(serializedOutput, compact);
             }
 
             /** {@inheritDoc} */
@@ -290,17 +328,22 @@ public final class IgniteModelStorageUtil {
      *
      * @param <T> Type of return value.
      */
-    private static class FutureDeserializationWrapper<T> implements Future<T> {
+    private static class FutureDeserializationWrapper<T extends Serializable> implements Future<T> {
         /** Delegate. */
         private final Future<byte[]> delegate;
 
+        /** Use {@link CompactBinaryCodec} instead of Java serialization. */
+        private final boolean compact;
+
         /**
          * Constructs a new instance of future deserialization wrapper.
          *
          * @param delegate Delegate.
+         * @param compact Use {@link CompactBinaryCodec} instead of Java serialization.
          */
-        public FutureDeserializationWrapper(Future<byte[]> delegate) {
+        public FutureDeserializationWrapper(Future<byte[]> delegate, boolean compact) {
             this.delegate = delegate;
+            this.compact = compact;
         }
 
         /** {@inheritDoc} */
@@ -320,13 +363,13 @@ public final class IgniteModelStorageUtil {
 
         /** {@inheritDoc} */
         @Override public T get() throws InterruptedException, ExecutionException {
-            return (T)Utils.deserialize(delegate.get());
+            return decode(delegate.get(), compact);
         }
 
         /** {@inheritDoc} */
         @Override public T get(long timeout, @NotNull TimeUnit unit) throws InterruptedException, ExecutionException,
             TimeoutException {
-            return (T)Utils.deserialize(delegate.get(timeout, unit));
+            return decode(delegate.get(timeout, unit), compact);
         }
     }
 }
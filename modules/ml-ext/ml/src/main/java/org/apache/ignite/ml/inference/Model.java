@@ -17,6 +17,9 @@
 
 package org.apache.ignite.ml.inference;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Inference model that can be used to make predictions.
  *
@@ -32,6 +35,22 @@ public interface Model<I, O> extends AutoCloseable {
      */
     public O predict(I input);
 
+    /**
+     * Make predictions for the specified list of input arguments. Default implementation makes predictions one by
+     * one, models that can process a batch more efficiently than a sequence of single inputs should override it.
+     *
+     * @param inputs List of input arguments.
+     * @return List of prediction results in the same order as inputs.
+     */
+    public default List<O> predictBatch(List<I> inputs) {
+        List<O> res = new ArrayList<>(inputs.size());
+
+        for (I input : inputs)
+            res.add(predict(input));
+
+        return res;
+    }
+
     /** {@inheritDoc} */
     @Override public void close();
 }
@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.inference.builder;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.ml.inference.Model;
+import org.apache.ignite.ml.inference.parser.ModelParser;
+import org.apache.ignite.ml.inference.reader.ModelReader;
+
+/**
+ * Implementation of asynchronous inference model builder that builds model processed locally, coalescing concurrent
+ * requests into batches. A batch is collected until it reaches max batch size or max wait time passes since the
+ * first request of the batch has been taken, and then evaluated in one {@link Model#predictBatch(List)} call.
+ */
+public class BatchingModelBuilder implements AsyncModelBuilder {
+    /** Number of threads to be utilized for model inference. */
+    private final int threads;
+
+    /** Max number of requests in a batch. */
+    private final int maxBatchSize;
+
+    /** Max time in microseconds a batch waits for new requests. */
+    private final long maxWaitMicros;
+
+    /**
+     * Constructs a new instance of batching inference model builder.
+     *
+     * @param threads Number of threads to be utilized for model inference.
+     * @param maxBatchSize Max number of requests in a batch.
+     * @param maxWait Max time a batch waits for new requests.
+     * @param unit Time unit of {@code maxWait}.
+     */
+    public BatchingModelBuilder(int threads, int maxBatchSize, long maxWait, TimeUnit unit) {
+        if (threads < 1)
+            throw new IllegalArgumentException("Number of threads should be positive [threads=" + threads + ']');
+
+        if (maxBatchSize < 1)
+            throw new IllegalArgumentException("Max batch size should be positive [maxBatchSize=" +
+                maxBatchSize + ']');
+
+        if (maxWait < 0)
+            throw new IllegalArgumentException("Max wait time should not be negative [maxWait=" + maxWait + ']');
+
+        this.threads = threads;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitMicros = unit.toMicros(maxWait);
+    }
+
+    /** {@inheritDoc} */
+    @Override public <I extends Serializable, O extends Serializable> BatchingInfModel<I, O> build(
+        ModelReader reader, ModelParser<I, O, ?> parser) {
+        return new BatchingInfModel<>(parser.parse(reader), threads, maxBatchSize, maxWaitMicros);
+    }
+
+    /**
+     * Batching inference model that coalesces requests into batches and performs inference in multiple threads.
+     *
+     * @param <I> Type of model input.
+     * @param <O> Type of model output.
+     */
+    public static class BatchingInfModel<I extends Serializable, O extends Serializable>
+        implements Model<I, Future<O>> {
+        /** Inference model. */
+        private final Model<I, O> mdl;
+
+        /** Max number of requests in a batch. */
+        private final int maxBatchSize;
+
+        /** Max time in microseconds a batch waits for new requests. */
+        private final long maxWaitMicros;
+
+        /** Queue of requests. */
+        private final BlockingQueue<Request<I, O>> queue = new LinkedBlockingQueue<>();
+
+        /** Thread pool. */
+        private final ExecutorService threadPool;
+
+        /** Metrics. */
+        private final BatchingModelMetrics metrics = new BatchingModelMetrics(queue::size);
+
+        /** Whether model is closed. */
+        private volatile boolean closed;
+
+        /**
+         * Constructs a new instance of batching inference model.
+         *
+         * @param mdl Inference model.
+         * @param threads Number of threads.
+         * @param maxBatchSize Max number of requests in a batch.
+         * @param maxWaitMicros Max time in microseconds a batch waits for new requests.
+         */
+        BatchingInfModel(Model<I, O> mdl, int threads, int maxBatchSize, long maxWaitMicros) {
+            this.mdl = mdl;
+            this.maxBatchSize = maxBatchSize;
+            this.maxWaitMicros = maxWaitMicros;
+            this.threadPool = Executors.newFixedThreadPool(threads);
+
+            for (int i = 0; i < threads; i++)
+                threadPool.submit(this::processRequests);
+        }
+
+        /** {@inheritDoc} */
+        @Override public Future<O> predict(I input) {
+            if (closed)
+                throw new IllegalStateException("Model is closed");
+
+            Request<I, O> req = new Request<>(input);
+            queue.add(req);
+
+            // Model might be closed after the check above and the queue might be drained before the request has been
+            // added, so the request has to be failed here.
+            if (closed && queue.remove(req))
+                req.fut.completeExceptionally(new IllegalStateException("Model is closed"));
+
+            return req.fut;
+        }
+
+        /**
+         * Returns metrics of this model.
+         *
+         * @return Metrics.
+         */
+        public BatchingModelMetrics getMetrics() {
+            return metrics;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void close() {
+            closed = true;
+
+            threadPool.shutdownNow();
+
+            try {
+                threadPool.awaitTermination(1, TimeUnit.MINUTES);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            Request<I, O> req;
+            while ((req = queue.poll()) != null)
+                req.fut.completeExceptionally(new IllegalStateException("Model is closed"));
+
+            mdl.close();
+        }
+
+        /**
+         * Takes requests from the queue, collects them into batches and processes batches until the model is closed.
+         */
+        private void processRequests() {
+            List<Request<I, O>> batch = new ArrayList<>(maxBatchSize);
+
+            try {
+                while (!closed) {
+                    Request<I, O> first = queue.take();
+                    batch.add(first);
+
+                    long deadline = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(maxWaitMicros);
+
+                    while (batch.size() < maxBatchSize) {
+                        queue.drainTo(batch, maxBatchSize - batch.size());
+
+                        long timeout = deadline - System.nanoTime();
+                        if (batch.size() == maxBatchSize || timeout <= 0)
+                            break;
+
+                        Request<I, O> next = queue.poll(timeout, TimeUnit.NANOSECONDS);
+                        if (next == null)
+                            break;
+
+                        batch.add(next);
+                    }
+
+                    processBatch(batch);
+
+                    batch.clear();
+                }
+            }
+            catch (InterruptedException e) {
+                for (Request<I, O> req : batch)
+                    req.fut.completeExceptionally(new IllegalStateException("Model is closed"));
+            }
+        }
+
+        /**
+         * Evaluates batch of requests in one call and completes their futures.
+         *
+         * @param batch Batch of requests.
+         */
+        private void processBatch(List<Request<I, O>> batch) {
+            List<I> inputs = new ArrayList<>(batch.size());
+            for (Request<I, O> req : batch)
+                inputs.add(req.input);
+
+            List<O> outputs = null;
+            Throwable err = null;
+
+            try {
+                outputs = mdl.predictBatch(inputs);
+
+                if (outputs.size() != inputs.size())
+                    throw new IllegalStateException("Model returned wrong number of predictions [expected=" +
+                        inputs.size() + ", actual=" + outputs.size() + ']');
+            }
+            catch (Throwable e) {
+                err = e;
+            }
+
+            metrics.onBatch(batch.size(), err != null);
+
+            for (int i = 0; i < batch.size(); i++) {
+                Request<I, O> req = batch.get(i);
+
+                if (err == null)
+                    req.fut.complete(outputs.get(i));
+                else
+                    req.fut.completeExceptionally(err);
+
+                metrics.onRequest(System.nanoTime() - req.submitted);
+            }
+        }
+    }
+
+    /**
+     * Inference request waiting in the queue.
+     *
+     * @param <I> Type of model input.
+     * @param <O> Type of model output.
+     */
+    private static class Request<I, O> {
+        /** Input. */
+        private final I input;
+
+        /** Future to be completed with prediction. */
+        private final CompletableFuture<O> fut = new CompletableFuture<>();
+
+        /** Time of submission in nanoseconds. */
+        private final long submitted = System.nanoTime();
+
+        /**
+         * Constructs a new instance of inference request.
+         *
+         * @param input Input.
+         */
+        Request(I input) {
+            this.input = input;
+        }
+    }
+}
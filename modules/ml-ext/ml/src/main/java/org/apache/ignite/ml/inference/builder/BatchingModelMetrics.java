@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.inference.builder;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Metrics of inference model built by {@link BatchingModelBuilder}: current queue depth, number of processed
+ * requests and batches, histograms of batch sizes and request latencies. All methods are thread-safe.
+ */
+public class BatchingModelMetrics {
+    /** Upper bounds of batch size histogram buckets. */
+    private static final long[] BATCH_SIZE_BOUNDS = {1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1024};
+
+    /** Upper bounds of latency histogram buckets in microseconds. */
+    private static final long[] LATENCY_BOUNDS = {100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000,
+        100_000, 250_000, 500_000, 1_000_000};
+
+    /** Supplier of current queue depth. */
+    private final IntSupplier queueDepth;
+
+    /** Number of processed requests. */
+    private final LongAdder requests = new LongAdder();
+
+    /** Number of processed batches. */
+    private final LongAdder batches = new LongAdder();
+
+    /** Number of failed requests. */
+    private final LongAdder failures = new LongAdder();
+
+    /** Histogram of batch sizes. */
+    private final Histogram batchSizes = new Histogram(BATCH_SIZE_BOUNDS);
+
+    /** Histogram of request latencies (from submission to completion) in microseconds. */
+    private final Histogram latencies = new Histogram(LATENCY_BOUNDS);
+
+    /**
+     * Constructs a new instance of batching model metrics.
+     *
+     * @param queueDepth Supplier of current queue depth.
+     */
+    BatchingModelMetrics(IntSupplier queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+
+    /**
+     * Records processed batch.
+     *
+     * @param size Batch size.
+     * @param failed Whether batch processing failed.
+     */
+    void onBatch(int size, boolean failed) {
+        batches.increment();
+        requests.add(size);
+        batchSizes.add(size);
+
+        if (failed)
+            failures.add(size);
+    }
+
+    /**
+     * Records latency of processed request.
+     *
+     * @param latencyNanos Latency in nanoseconds.
+     */
+    void onRequest(long latencyNanos) {
+        latencies.add(latencyNanos / 1_000);
+    }
+
+    /**
+     * Returns number of requests waiting in the queue.
+     *
+     * @return Queue depth.
+     */
+    public int getQueueDepth() {
+        return queueDepth.getAsInt();
+    }
+
+    /**
+     * Returns number of processed requests.
+     *
+     * @return Number of processed requests.
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * Returns number of processed batches.
+     *
+     * @return Number of processed batches.
+     */
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    /**
+     * Returns number of requests failed with exception.
+     *
+     * @return Number of failed requests.
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * Returns histogram of batch sizes.
+     *
+     * @return Histogram of batch sizes.
+     */
+    public Histogram getBatchSizes() {
+        return batchSizes;
+    }
+
+    /**
+     * Returns histogram of request latencies (from submission to completion) in microseconds.
+     *
+     * @return Histogram of request latencies.
+     */
+    public Histogram getLatencies() {
+        return latencies;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return "BatchingModelMetrics{" +
+            "queueDepth=" + getQueueDepth() +
+            ", requests=" + getRequests() +
+            ", batches=" + getBatches() +
+            ", failures=" + getFailures() +
+            ", batchSizes=" + batchSizes +
+            ", latencies=" + latencies +
+            '}';
+    }
+
+    /**
+     * Histogram with fixed bucket bounds. Value {@code v} is counted in the first bucket with upper bound greater than
+     * or equal to {@code v}, values greater than all bounds are counted in the last extra bucket.
+     */
+    public static class Histogram {
+        /** Upper bounds of buckets. */
+        private final long[] bounds;
+
+        /** Counts of values in buckets. */
+        private final AtomicLongArray counts;
+
+        /**
+         * Constructs a new instance of histogram.
+         *
+         * @param bounds Upper bounds of buckets in ascending order.
+         */
+        Histogram(long[] bounds) {
+            this.bounds = bounds;
+            this.counts = new AtomicLongArray(bounds.length + 1);
+        }
+
+        /**
+         * Adds value into histogram.
+         *
+         * @param val Value.
+         */
+        void add(long val) {
+            int idx = Arrays.binarySearch(bounds, val);
+
+            counts.incrementAndGet(idx >= 0 ? idx : -idx - 1);
+        }
+
+        /**
+         * Returns upper bounds of buckets (the last bucket has no upper bound).
+         *
+         * @return Upper bounds of buckets.
+         */
+        public long[] getBounds() {
+            return bounds.clone();
+        }
+
+        /**
+         * Returns counts of values in buckets.
+         *
+         * @return Counts of values in buckets.
+         */
+        public long[] getCounts() {
+            long[] res = new long[counts.length()];
+
+            for (int i = 0; i < res.length; i++)
+                res[i] = counts.get(i);
+
+            return res;
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            StringBuilder sb = new StringBuilder("[");
+
+            for (int i = 0; i < counts.length(); i++) {
+                if (i > 0)
+                    sb.append(", ");
+
+                sb.append(i < bounds.length ? "<=" + bounds[i] : ">" + bounds[bounds.length - 1])
+                    .append(": ")
+                    .append(counts.get(i));
+            }
+
+            return sb.append(']').toString();
+        }
+    }
+}
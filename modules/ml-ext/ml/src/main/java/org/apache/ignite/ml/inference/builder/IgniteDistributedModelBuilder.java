@@ -330,7 +330,7 @@ public class IgniteDistributedModelBuilder implements AsyncModelBuilder {
             resQueue = ignite.queue(String.format(INFERENCE_RESPONSE_QUEUE_NAME_PATTERN, suffix), QUEUE_CAPACITY,
                 queueCfg);
 
-            mdl = parser.parse(reader.read());
+            mdl = parser.parse(reader);
         }
 
         /** {@inheritDoc} */
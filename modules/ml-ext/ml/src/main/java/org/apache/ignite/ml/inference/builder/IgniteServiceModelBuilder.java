@@ -0,0 +1,380 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.inference.builder;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.cluster.ClusterTopologyException;
+import org.apache.ignite.internal.cluster.ClusterTopologyCheckedException;
+import org.apache.ignite.internal.processors.service.GridServiceNotFoundException;
+import org.apache.ignite.internal.util.typedef.X;
+import org.apache.ignite.ml.inference.Model;
+import org.apache.ignite.ml.inference.parser.ModelParser;
+import org.apache.ignite.ml.inference.reader.ModelReader;
+import org.apache.ignite.services.Service;
+import org.apache.ignite.services.ServiceContext;
+import org.apache.ignite.services.ServiceDescriptor;
+
+/**
+ * Builder that allows to start Apache Ignite services for distributed inference and get a facade that allows to work
+ * with this distributed inference infrastructure as with a single inference model (see {@link Model}).
+ *
+ * Unlike {@link IgniteDistributedModelBuilder} this builder doesn't use cache based queues. Requests are coalesced
+ * into batches on the caller side (see {@link BatchingModelBuilder}) and every batch is sent directly to one of the
+ * nodes the service is deployed on using a service proxy. A node is chosen by the least number of batches in flight
+ * per service instance deployed on it, so that the load is distributed according to the {@code instances} and
+ * {@code maxPerNode} deployment. Models are assumed to be thread-safe, because one service instance might process
+ * several batches concurrently.
+ *
+ * Be aware that {@link Model#close()} method must be called to clear allocated resources and stop services.
+ */
+public class IgniteServiceModelBuilder implements AsyncModelBuilder {
+    /** Template of the inference service name. */
+    private static final String INFERENCE_SERVICE_NAME_PATTERN = "inference_service_direct_%s";
+
+    /** Ignite instance. */
+    private final Ignite ignite;
+
+    /** Number of service instances maintaining to make distributed inference. */
+    private final int instances;
+
+    /** Max per node number of instances. */
+    private final int maxPerNode;
+
+    /** Max number of requests in a batch. */
+    private final int maxBatchSize;
+
+    /** Max time a batch waits for new requests. */
+    private final long maxWait;
+
+    /** Time unit of {@link #maxWait}. */
+    private final TimeUnit unit;
+
+    /**
+     * Constructs a new instance of Ignite service inference model builder.
+     *
+     * @param ignite Ignite instance.
+     * @param instances Number of service instances maintaining to make distributed inference.
+     * @param maxPerNode Max per node number of instances.
+     * @param maxBatchSize Max number of requests in a batch.
+     * @param maxWait Max time a batch waits for new requests.
+     * @param unit Time unit of {@code maxWait}.
+     */
+    public IgniteServiceModelBuilder(Ignite ignite, int instances, int maxPerNode, int maxBatchSize, long maxWait,
+        TimeUnit unit) {
+        this.ignite = ignite;
+        this.instances = instances;
+        this.maxPerNode = maxPerNode;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWait = maxWait;
+        this.unit = unit;
+    }
+
+    /**
+     * Starts the specified in constructor number of service instances and returns the facade represented by the
+     * {@link Model} that sends batches of requests to these services.
+     *
+     * Be aware that {@link Model#close()} method must be called to clear allocated resources and stop services.
+     *
+     * @param reader Inference model reader.
+     * @param parser Inference model parser.
+     * @param <I> Type of model input.
+     * @param <O> Type of model output.
+     * @return Facade represented by {@link Model}.
+     */
+    @Override public <I extends Serializable, O extends Serializable> BatchingModelBuilder.BatchingInfModel<I, O> build(
+        ModelReader reader, ModelParser<I, O, ?> parser) {
+        ServiceRoutingModel<I, O> routingMdl = new ServiceRoutingModel<>(ignite, UUID.randomUUID().toString(),
+            reader, parser, instances, maxPerNode);
+
+        return new BatchingModelBuilder.BatchingInfModel<>(routingMdl, Math.max(1, routingMdl.getInstances()),
+            maxBatchSize, unit.toMicros(maxWait));
+    }
+
+    /**
+     * Service interface used to invoke distributed inference via service proxies.
+     *
+     * @param <I> Type of model input.
+     * @param <O> Type of model output.
+     */
+    public static interface InferenceService<I extends Serializable, O extends Serializable> {
+        /**
+         * Makes predictions for the specified batch of inputs.
+         *
+         * @param inputs Batch of inputs.
+         * @return Predictions in the same order as inputs.
+         */
+        public ArrayList<O> predict(ArrayList<I> inputs);
+    }
+
+    /**
+     * Model that deploys inference services and sends every batch of inputs to the least loaded node the service is
+     * deployed on.
+     *
+     * @param <I> Type of model input.
+     * @param <O> Type of model output.
+     */
+    private static class ServiceRoutingModel<I extends Serializable, O extends Serializable> implements Model<I, O> {
+        /** Ignite instance. */
+        private final Ignite ignite;
+
+        /** Service name. */
+        private final String svcName;
+
+        /** Routes to the nodes the service is deployed on. */
+        private volatile List<Route<I, O>> routes;
+
+        /**
+         * Constructs a new instance of service routing model.
+         *
+         * @param ignite Ignite instance.
+         * @param suffix Suffix that with correspondent template formats service name.
+         * @param reader Inference model reader.
+         * @param parser Inference model parser.
+         * @param instances Number of service instances maintaining to make distributed inference.
+         * @param maxPerNode Max per node number of instances.
+         */
+        ServiceRoutingModel(Ignite ignite, String suffix, ModelReader reader, ModelParser<I, O, ?> parser,
+            int instances, int maxPerNode) {
+            this.ignite = ignite;
+            this.svcName = String.format(INFERENCE_SERVICE_NAME_PATTERN, suffix);
+
+            ignite.services().deployMultiple(svcName, new InferenceServiceImpl<>(reader, parser), instances,
+                maxPerNode);
+
+            routes = findRoutes();
+        }
+
+        /** {@inheritDoc} */
+        @Override public O predict(I input) {
+            return predictBatch(Collections.singletonList(input)).get(0);
+        }
+
+        /** {@inheritDoc} */
+        @Override public List<O> predictBatch(List<I> inputs) {
+            ArrayList<I> batch = new ArrayList<>(inputs);
+
+            try {
+                return send(batch);
+            }
+            catch (IgniteException e) {
+                // Errors of the model are passed to the caller as is.
+                if (!isRoutingFailure(e))
+                    throw e;
+
+                // Topology might have changed, so routes are refreshed and the batch is resent once.
+                routes = findRoutes();
+
+                return send(batch);
+            }
+        }
+
+        /**
+         * Checks that the batch failed because the chosen node left the topology or doesn't have the service anymore.
+         *
+         * @param e Exception.
+         * @return {@code true} if the batch can be resent to another node.
+         */
+        private boolean isRoutingFailure(IgniteException e) {
+            return X.hasCause(e, ClusterTopologyException.class, ClusterTopologyCheckedException.class,
+                GridServiceNotFoundException.class);
+        }
+
+        /**
+         * Sends batch to the least loaded node.
+         *
+         * @param batch Batch of inputs.
+         * @return Predictions.
+         */
+        private List<O> send(ArrayList<I> batch) {
+            Route<I, O> route = leastLoaded();
+
+            route.inFlight.incrementAndGet();
+
+            try {
+                return route.proxy.predict(batch);
+            }
+            finally {
+                route.inFlight.decrementAndGet();
+            }
+        }
+
+        /**
+         * Returns route with the least number of batches in flight per service instance.
+         *
+         * @return Route.
+         */
+        private Route<I, O> leastLoaded() {
+            List<Route<I, O>> routes = this.routes;
+
+            if (routes.isEmpty())
+                throw new ClusterTopologyException("Inference service is not deployed [name=" + svcName + ']');
+
+            Route<I, O> res = null;
+            double minLoad = Double.MAX_VALUE;
+
+            for (Route<I, O> route : routes) {
+                double load = (double)route.inFlight.get() / route.instances;
+
+                if (load < minLoad) {
+                    minLoad = load;
+                    res = route;
+                }
+            }
+
+            return res;
+        }
+
+        /**
+         * Finds the nodes the service is deployed on and creates a route for every of them.
+         *
+         * @return Routes.
+         */
+        @SuppressWarnings("unchecked")
+        private List<Route<I, O>> findRoutes() {
+            List<Route<I, O>> res = new ArrayList<>();
+
+            for (ServiceDescriptor desc : ignite.services().serviceDescriptors()) {
+                if (!svcName.equals(desc.name()))
+                    continue;
+
+                for (Map.Entry<UUID, Integer> e : desc.topologySnapshot().entrySet()) {
+                    if (e.getValue() == null || e.getValue() <= 0)
+                        continue;
+
+                    InferenceService<I, O> proxy = ignite.services(ignite.cluster().forNodeId(e.getKey()))
+                        .serviceProxy(svcName, InferenceService.class, true);
+
+                    res.add(new Route<>(proxy, e.getValue()));
+                }
+            }
+
+            return res;
+        }
+
+        /**
+         * Returns total number of deployed service instances.
+         *
+         * @return Number of service instances.
+         */
+        int getInstances() {
+            int res = 0;
+
+            for (Route<I, O> route : routes)
+                res += route.instances;
+
+            return res;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void close() {
+            ignite.services().cancel(svcName);
+        }
+    }
+
+    /**
+     * Route to the node the service is deployed on.
+     *
+     * @param <I> Type of model input.
+     * @param <O> Type of model output.
+     */
+    private static class Route<I extends Serializable, O extends Serializable> {
+        /** Service proxy bound to the node. */
+        private final InferenceService<I, O> proxy;
+
+        /** Number of service instances deployed on the node. */
+        private final int instances;
+
+        /** Number of batches in flight. */
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        /**
+         * Constructs a new instance of route.
+         *
+         * @param proxy Service proxy bound to the node.
+         * @param instances Number of service instances deployed on the node.
+         */
+        Route(InferenceService<I, O> proxy, int instances) {
+            this.proxy = proxy;
+            this.instances = instances;
+        }
+    }
+
+    /**
+     * Apache Ignite service that makes inference for batches of inputs received via service proxy. This service is
+     * assumed to be deployed in {@link #build(ModelReader, ModelParser)} method and cancelled in
+     * {@link Model#close()} method of the inference model.
+     *
+     * @param <I> Type of model input.
+     * @param <O> Type of model output.
+     */
+    private static class InferenceServiceImpl<I extends Serializable, O extends Serializable>
+        implements Service, InferenceService<I, O> {
+        /** */
+        private static final long serialVersionUID = 4262931497093406416L;
+
+        /** Inference model reader. */
+        private final ModelReader reader;
+
+        /** Inference model parser. */
+        private final ModelParser<I, O, ?> parser;
+
+        /** Inference model, is created in {@link #init(ServiceContext)} method. */
+        private transient Model<I, O> mdl;
+
+        /**
+         * Constructs a new instance of inference service.
+         *
+         * @param reader Inference model reader.
+         * @param parser Inference model parser.
+         */
+        InferenceServiceImpl(ModelReader reader, ModelParser<I, O, ?> parser) {
+            this.reader = reader;
+            this.parser = parser;
+        }
+
+        /** {@inheritDoc} */
+        @Override public ArrayList<O> predict(ArrayList<I> inputs) {
+            return new ArrayList<>(mdl.predictBatch(inputs));
+        }
+
+        /** {@inheritDoc} */
+        @Override public void init(ServiceContext ctx) {
+            mdl = parser.parse(reader);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void execute(ServiceContext ctx) {
+            // Do nothing. Requests are processed in service proxy calls.
+        }
+
+        /** {@inheritDoc} */
+        @Override public void cancel(ServiceContext ctx) {
+            if (mdl != null)
+                mdl.close();
+        }
+    }
+}
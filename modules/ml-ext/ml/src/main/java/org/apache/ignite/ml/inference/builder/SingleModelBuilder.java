@@ -29,6 +29,6 @@ public class SingleModelBuilder implements SyncModelBuilder {
     /** {@inheritDoc} */
     @Override public <I extends Serializable, O extends Serializable, M extends Model<I, O>> M build(ModelReader reader,
         ModelParser<I, O, M> parser) {
-        return parser.parse(reader.read());
+        return parser.parse(reader);
     }
 }
@@ -45,7 +45,7 @@ public class ThreadedModelBuilder implements AsyncModelBuilder {
     /** {@inheritDoc} */
     @Override public <I extends Serializable, O extends Serializable> Model<I, Future<O>> build(
         ModelReader reader, ModelParser<I, O, ?> parser) {
-        return new ThreadedInfModel<>(parser.parse(reader.read()), threads);
+        return new ThreadedInfModel<>(parser.parse(reader), threads);
     }
 
     /**
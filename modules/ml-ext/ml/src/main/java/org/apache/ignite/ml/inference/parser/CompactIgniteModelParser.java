@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.inference.parser;
+
+import java.io.InputStream;
+import java.io.Serializable;
+import org.apache.ignite.ml.IgniteModel;
+import org.apache.ignite.ml.inference.util.CompactBinaryCodec;
+
+/**
+ * Implementation of model parser that accepts serialized {@link IgniteModel} and builds a model that accepts and
+ * returns objects encoded using {@link CompactBinaryCodec}. The typed model itself is available via
+ * {@link #parseIgniteModel(byte[])} to be invoked in-process without any encoding.
+ *
+ * @param <I> Type of model input.
+ * @param <O> Type of model output.
+ */
+public class CompactIgniteModelParser<I extends Serializable, O extends Serializable>
+    implements ModelParser<byte[], byte[], IgniteModel<byte[], byte[]>> {
+    /** */
+    private static final long serialVersionUID = 6012794410683432867L;
+
+    /** {@inheritDoc} */
+    @Override public IgniteModel<byte[], byte[]> parse(byte[] mdl) {
+        return wrap(parseIgniteModel(mdl));
+    }
+
+    /** {@inheritDoc} */
+    @Override public IgniteModel<byte[], byte[]> parse(InputStream mdl) {
+        return wrap(parseIgniteModel(mdl));
+    }
+
+    /**
+     * Parses serialized Ignite model.
+     *
+     * @param mdl Serialized model represented by byte array.
+     * @return Ignite model.
+     */
+    public IgniteModel<I, O> parseIgniteModel(byte[] mdl) {
+        return new IgniteModelParser<I, O>().parse(mdl);
+    }
+
+    /**
+     * Parses serialized Ignite model.
+     *
+     * @param mdl Serialized model represented by stream.
+     * @return Ignite model.
+     */
+    public IgniteModel<I, O> parseIgniteModel(InputStream mdl) {
+        return new IgniteModelParser<I, O>().parse(mdl);
+    }
+
+    /**
+     * Wraps Ignite model so that model accepts and returns objects encoded using {@link CompactBinaryCodec}.
+     *
+     * @param igniteMdl Ignite model.
+     * @return Ignite model that accepts and returns encoded objects.
+     */
+    private IgniteModel<byte[], byte[]> wrap(IgniteModel<I, O> igniteMdl) {
+        return new IgniteModel<byte[], byte[]>() {
+            /** {@inheritDoc} */
+            @Override public byte[] predict(byte[] input) {
+                I decodedInput = CompactBinaryCodec.decode(input);
+                O output = igniteMdl.predict(decodedInput);
+
+                return CompactBinaryCodec.encode(output);
+            }
+
+            /** {@inheritDoc} */
+            @Override public void close() {
+                igniteMdl.close();
+            }
+        };
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.ignite.ml.inference.parser;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import org.apache.ignite.ml.IgniteModel;
 import org.apache.ignite.ml.math.functions.IgniteFunction;
@@ -35,8 +36,19 @@ public class IgniteModelParser<I, O> implements ModelParser<I, O, IgniteModel<I,
 
     /** {@inheritDoc} */
     @Override public IgniteModel<I, O> parse(byte[] mdl) {
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(mdl);
-             ObjectInputStream ois = new ObjectInputStream(bais)) {
+        try (ByteArrayInputStream bais = new ByteArrayInputStream(mdl)) {
+            return parse(bais);
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public IgniteModel<I, O> parse(InputStream mdl) {
+        try {
+            ObjectInputStream ois = new ObjectInputStream(mdl);
+
             @SuppressWarnings("unchecked")
             IgniteModel<I, O> res = (IgniteModel<I, O>)ois.readObject();
 
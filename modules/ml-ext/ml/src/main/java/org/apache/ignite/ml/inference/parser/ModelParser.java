@@ -17,8 +17,12 @@
 
 package org.apache.ignite.ml.inference.parser;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
 import org.apache.ignite.ml.inference.Model;
+import org.apache.ignite.ml.inference.reader.ModelReader;
 
 /**
  * Model parser that accepts a serialized model represented by byte array, parses it and returns {@link Model}.
@@ -35,4 +39,41 @@ public interface ModelParser<I, O, M extends Model<I, O>> extends Serializable {
      * @return Inference model.
      */
     public M parse(byte[] mdl);
+
+    /**
+     * Accepts serialized model represented by stream, parses it and returns {@link Model}. Default implementation
+     * reads the whole stream into byte array, parsers able to consume stream directly override it. Stream isn't closed.
+     *
+     * @param mdl Serialized model represented by stream.
+     * @return Inference model.
+     */
+    public default M parse(InputStream mdl) {
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            byte[] buf = new byte[8192];
+            int read;
+            while ((read = mdl.read(buf)) != -1)
+                out.write(buf, 0, read);
+
+            return parse(out.toByteArray());
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Reads model using specified reader, parses it and returns {@link Model}. Model is passed from reader to parser as
+     * a stream, so it isn't materialized as a single byte array if both of them support streaming.
+     *
+     * @param reader Model reader.
+     * @return Inference model.
+     */
+    public default M parse(ModelReader reader) {
+        try (InputStream in = reader.readAsStream()) {
+            return parse(in);
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
@@ -19,6 +19,7 @@ package org.apache.ignite.ml.inference.reader;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import org.apache.ignite.ml.inference.util.DirectorySerializer;
@@ -58,4 +59,20 @@ public class FileSystemModelReader implements ModelReader {
             throw new RuntimeException(e);
         }
     }
+
+    /** {@inheritDoc} */
+    @Override public InputStream readAsStream() {
+        File file = Paths.get(path).toFile();
+
+        // Directories are serialized as a whole.
+        if (!file.isFile())
+            return ModelReader.super.readAsStream();
+
+        try {
+            return Files.newInputStream(Paths.get(path));
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.ml.inference.reader;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.Serializable;
 
 /**
@@ -30,4 +32,14 @@ public interface ModelReader extends Serializable {
      * @return Inference model in serialized form as byte array.
      */
     public byte[] read();
+
+    /**
+     * Reads model and returns it in serialized form as a stream. Default implementation wraps result of
+     * {@link #read()}, readers able to read model lazily override it.
+     *
+     * @return Inference model in serialized form as a stream.
+     */
+    public default InputStream readAsStream() {
+        return new ByteArrayInputStream(read());
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.ml.inference.reader;
 
+import java.io.InputStream;
 import org.apache.ignite.Ignition;
 import org.apache.ignite.ml.inference.storage.model.ModelStorage;
 import org.apache.ignite.ml.inference.storage.model.ModelStorageFactory;
@@ -61,4 +62,11 @@ public class ModelStorageModelReader implements ModelReader {
 
         return storage.getFile(path);
     }
+
+    /** {@inheritDoc} */
+    @Override public InputStream readAsStream() {
+        ModelStorage storage = mdlStorageSupplier.get();
+
+        return storage.getFileAsStream(path);
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.inference.storage.model;
+
+/**
+ * Implementation of file {@link ModelStorageProvider} works with which content is split into chunks. Every chunk is
+ * kept as a separate regular file (see {@link File}) that isn't listed in any directory, so that large files don't
+ * produce large storage entries.
+ */
+class ChunkedFile implements FileOrDirectory {
+    /** */
+    private static final long serialVersionUID = -3305290683581547123L;
+
+    /** Separator between file path and chunk identifier in chunk path. */
+    private static final String CHUNK_SEPARATOR = "#";
+
+    /** Identifier of the file version, every rewrite of the file creates new chunks with new identifier. */
+    private final String id;
+
+    /** File size in bytes. */
+    private final long size;
+
+    /** Number of chunks. */
+    private final int chunksCnt;
+
+    /**
+     * Constructs a new instance of chunked file.
+     *
+     * @param id Identifier of the file version.
+     * @param size File size in bytes.
+     * @param chunksCnt Number of chunks.
+     */
+    ChunkedFile(String id, long size, int chunksCnt) {
+        this.id = id;
+        this.size = size;
+        this.chunksCnt = chunksCnt;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean isFile() {
+        return true;
+    }
+
+    /**
+     * Returns path of the specified chunk of this file.
+     *
+     * @param path Path to the file.
+     * @param idx Index of the chunk.
+     * @return Path of the chunk.
+     */
+    String getChunkPath(String path, int idx) {
+        return getChunkPath(path, id, idx);
+    }
+
+    /** */
+    long getSize() {
+        return size;
+    }
+
+    /** */
+    int getChunksCnt() {
+        return chunksCnt;
+    }
+
+    /**
+     * Returns path of the specified chunk of the file version.
+     *
+     * @param path Path to the file.
+     * @param id Identifier of the file version.
+     * @param idx Index of the chunk.
+     * @return Path of the chunk.
+     */
+    static String getChunkPath(String path, String id, int idx) {
+        return path + CHUNK_SEPARATOR + id + CHUNK_SEPARATOR + idx;
+    }
+}
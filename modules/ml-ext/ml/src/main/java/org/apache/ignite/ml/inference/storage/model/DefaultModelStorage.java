@@ -17,39 +17,96 @@
 
 package org.apache.ignite.ml.inference.storage.model;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.locks.Lock;
 import java.util.function.Supplier;
 import org.apache.ignite.lang.IgniteBiTuple;
+import org.apache.ignite.ml.inference.util.ByteBufferInputStream;
 
 /**
  * Default implementation of {@link ModelStorage} that can use any {@link ModelStorageProvider} as a backend storage
- * system.
+ * system. Files larger than chunk size are split into chunks kept as separate entries of the storage provider, so
+ * that large models don't produce large entries and can be written and read in a streaming manner.
  */
 public class DefaultModelStorage implements ModelStorage {
+    /** Default chunk size in bytes. */
+    public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
     /** Ignite Cache that is used to store model storage files. */
     private final ModelStorageProvider storageProvider;
 
+    /** Chunk size in bytes. */
+    private final int chunkSize;
+
     /**
      * Constructs a new instance of Ignite model storage.
      *
      * @param storageProvider Model storage provider.
      */
     public DefaultModelStorage(ModelStorageProvider storageProvider) {
+        this(storageProvider, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs a new instance of Ignite model storage.
+     *
+     * @param storageProvider Model storage provider.
+     * @param chunkSize Chunk size in bytes, files larger than chunk size are split into chunks.
+     */
+    public DefaultModelStorage(ModelStorageProvider storageProvider, int chunkSize) {
+        if (chunkSize <= 0)
+            throw new IllegalArgumentException("Chunk size must be positive [chunkSize=" + chunkSize + "]");
+
         this.storageProvider = storageProvider;
+        this.chunkSize = chunkSize;
     }
 
     /** {@inheritDoc} */
     @Override public void putFile(String path, byte[] data, boolean onlyIfNotExist) {
+        putFile(path, new ByteArrayInputStream(data), onlyIfNotExist);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void putFile(String path, InputStream data, boolean onlyIfNotExist) {
+        // Content is written before taking locks, chunks of different file versions don't intersect.
+        FileOrDirectory file = writeContent(path, data);
+
+        FileOrDirectory prevFile;
+        try {
+            prevFile = putFileEntry(path, file, onlyIfNotExist);
+        }
+        catch (RuntimeException | Error e) {
+            removeChunks(path, file);
+            throw e;
+        }
+
+        removeChunks(path, prevFile);
+    }
+
+    /**
+     * Saves file entry into storage provider and updates parent directory.
+     *
+     * @param path Path to file.
+     * @param file File entry.
+     * @param onlyIfNotExist If file already exists throw an exception.
+     * @return Previous file entry associated with the path.
+     */
+    private FileOrDirectory putFileEntry(String path, FileOrDirectory file, boolean onlyIfNotExist) {
         String parentPath = getParent(path);
 
         // Paths are locked in child-first order.
         Lock pathLock = storageProvider.lock(path);
         Lock parentPathLock = storageProvider.lock(parentPath);
 
-        synchronize(() -> {
+        return synchronize(() -> {
             if (exists(path) && onlyIfNotExist)
                 throw new IllegalArgumentException("File already exists [path=" + path + "]");
 
@@ -72,27 +129,55 @@ public class DefaultModelStorage implements ModelStorage {
                 storageProvider.put(parentPath, parent);
             }
 
+            FileOrDirectory prevFile = storageProvider.get(path);
+
             // Save file into cache.
-            storageProvider.put(path, new File(data));
+            storageProvider.put(path, file);
+
+            return prevFile;
         }, pathLock, parentPathLock);
     }
 
     /**  {@inheritDoc}*/
     @Override public byte[] getFile(String path) {
-        FileOrDirectory fileOrDir = storageProvider.get(path);
+        Lock pathLock = storageProvider.lock(path);
 
+        return synchronize(() -> {
+            FileOrDirectory file = getRegularFile(path);
+
+            if (file instanceof ChunkedFile)
+                return readChunks(path, (ChunkedFile)file).array();
+
+            return ((File)file).getData();
+        }, pathLock);
+    }
+
+    /** {@inheritDoc} */
+    @Override public InputStream getFileAsStream(String path) {
+        Lock pathLock = storageProvider.lock(path);
+
+        // Chunks are read lazily without holding the lock.
+        return synchronize(() -> {
+            FileOrDirectory file = getRegularFile(path);
+
+            if (file instanceof ChunkedFile)
+                return new ChunkedFileInputStream(path, (ChunkedFile)file);
+
+            return new ByteBufferInputStream(((File)file).getBuffer());
+        }, pathLock);
+    }
+
+    /** {@inheritDoc} */
+    @Override public ByteBuffer getFileAsBuffer(String path) {
         Lock pathLock = storageProvider.lock(path);
 
         return synchronize(() -> {
-            // If file doesn't exist throw an exception.
-            if (fileOrDir == null)
-                throw new IllegalArgumentException("File doesn't exist [path=" + path + "]");
+            FileOrDirectory file = getRegularFile(path);
 
-            // If file is not a regular file throw an exception.
-            if (!fileOrDir.isFile())
-                throw new IllegalArgumentException("File is not a regular file [path=" + path + "]");
+            if (file instanceof ChunkedFile)
+                return readChunks(path, (ChunkedFile)file).asReadOnlyBuffer();
 
-            return ((File)fileOrDir).getData();
+            return ((File)file).getBuffer();
         }, pathLock);
     }
 
@@ -223,6 +308,8 @@ public class DefaultModelStorage implements ModelStorage {
                 for (String s : ((Directory)file).getFiles())
                     remove(s);
             }
+            else
+                removeChunks(path, file);
         }, pathLock);
     }
 
@@ -245,6 +332,139 @@ public class DefaultModelStorage implements ModelStorage {
         return file != null && file.isFile();
     }
 
+    /**
+     * Returns regular file associated with the specified path.
+     *
+     * @param path Path to file.
+     * @return Regular file (see {@link File} and {@link ChunkedFile}).
+     */
+    private FileOrDirectory getRegularFile(String path) {
+        FileOrDirectory fileOrDir = storageProvider.get(path);
+
+        // If file doesn't exist throw an exception.
+        if (fileOrDir == null)
+            throw new IllegalArgumentException("File doesn't exist [path=" + path + "]");
+
+        // If file is not a regular file throw an exception.
+        if (!fileOrDir.isFile())
+            throw new IllegalArgumentException("File is not a regular file [path=" + path + "]");
+
+        return fileOrDir;
+    }
+
+    /**
+     * Reads content from the specified stream and writes it into storage provider. If content fits into one chunk
+     * it's kept in a regular file, otherwise content is split into chunks.
+     *
+     * @param path Path to file.
+     * @param in Stream with file content.
+     * @return File entry to be associated with the path.
+     */
+    private FileOrDirectory writeContent(String path, InputStream in) {
+        String id = UUID.randomUUID().toString();
+        long size = 0;
+        int chunksCnt = 0;
+
+        try {
+            byte[] chunk = readChunk(in);
+            byte[] nextChunk = chunk.length < chunkSize ? new byte[0] : readChunk(in);
+
+            if (nextChunk.length == 0)
+                return new File(chunk);
+
+            while (chunk.length > 0) {
+                storageProvider.put(ChunkedFile.getChunkPath(path, id, chunksCnt), new File(chunk));
+                chunksCnt++;
+                size += chunk.length;
+
+                chunk = nextChunk;
+                nextChunk = chunk.length < chunkSize ? new byte[0] : readChunk(in);
+            }
+
+            return new ChunkedFile(id, size, chunksCnt);
+        }
+        catch (IOException | RuntimeException e) {
+            for (int i = 0; i < chunksCnt; i++)
+                storageProvider.remove(ChunkedFile.getChunkPath(path, id, i));
+
+            if (e instanceof RuntimeException)
+                throw (RuntimeException)e;
+
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Reads up to chunk size bytes from the specified stream.
+     *
+     * @param in Stream.
+     * @return Chunk, shorter than chunk size only if the end of the stream is reached.
+     * @throws IOException If stream cannot be read.
+     */
+    private byte[] readChunk(InputStream in) throws IOException {
+        byte[] chunk = new byte[chunkSize];
+
+        int len = 0;
+        int read;
+        while (len < chunkSize && (read = in.read(chunk, len, chunkSize - len)) != -1)
+            len += read;
+
+        return len == chunkSize ? chunk : Arrays.copyOf(chunk, len);
+    }
+
+    /**
+     * Reads all chunks of the specified file into heap buffer.
+     *
+     * @param path Path to file.
+     * @param file Chunked file.
+     * @return Buffer with file content.
+     */
+    private ByteBuffer readChunks(String path, ChunkedFile file) {
+        if (file.getSize() > Integer.MAX_VALUE)
+            throw new IllegalStateException("File is too large to be read into a single buffer, use stream instead "
+                + "[path=" + path + ", size=" + file.getSize() + "]");
+
+        ByteBuffer res = ByteBuffer.allocate((int)file.getSize());
+        for (int i = 0; i < file.getChunksCnt(); i++)
+            res.put(getChunk(path, file, i));
+
+        res.flip();
+
+        return res;
+    }
+
+    /**
+     * Returns content of the specified chunk.
+     *
+     * @param path Path to file.
+     * @param file Chunked file.
+     * @param idx Index of the chunk.
+     * @return Read-only buffer with chunk content.
+     */
+    private ByteBuffer getChunk(String path, ChunkedFile file, int idx) {
+        FileOrDirectory chunk = storageProvider.get(file.getChunkPath(path, idx));
+
+        if (chunk == null)
+            throw new IllegalStateException("File has been changed while being read [path=" + path + "]");
+
+        return ((File)chunk).getBuffer();
+    }
+
+    /**
+     * Removes chunks of the specified file if it's a chunked file.
+     *
+     * @param path Path to file.
+     * @param file File entry.
+     */
+    private void removeChunks(String path, FileOrDirectory file) {
+        if (file instanceof ChunkedFile) {
+            ChunkedFile chunkedFile = (ChunkedFile)file;
+
+            for (int i = 0; i < chunkedFile.getChunksCnt(); i++)
+                storageProvider.remove(chunkedFile.getChunkPath(path, i));
+        }
+    }
+
     /**
      * Returns parent directory for the specified path.
      *
@@ -328,4 +548,73 @@ public class DefaultModelStorage implements ModelStorage {
 
         return res;
     }
+
+    /**
+     * Input stream that reads chunks of chunked file one by one. If the file is rewritten or removed while being read
+     * the stream throws {@link IllegalStateException}.
+     */
+    private class ChunkedFileInputStream extends InputStream {
+        /** Path to file. */
+        private final String path;
+
+        /** Chunked file. */
+        private final ChunkedFile file;
+
+        /** Index of the next chunk to be read. */
+        private int nextChunkIdx;
+
+        /** Current chunk. */
+        private ByteBuffer chunk = ByteBuffer.allocate(0);
+
+        /**
+         * Constructs a new instance of chunked file input stream.
+         *
+         * @param path Path to file.
+         * @param file Chunked file.
+         */
+        ChunkedFileInputStream(String path, ChunkedFile file) {
+            this.path = path;
+            this.file = file;
+        }
+
+        /** {@inheritDoc} */
+        @Override public int read() {
+            return nextChunk() ? chunk.get() & 0xFF : -1;
+        }
+
+        /** {@inheritDoc} */
+        @Override public int read(byte[] b, int off, int len) {
+            if (len == 0)
+                return 0;
+
+            if (!nextChunk())
+                return -1;
+
+            int cnt = Math.min(len, chunk.remaining());
+            chunk.get(b, off, cnt);
+
+            return cnt;
+        }
+
+        /** {@inheritDoc} */
+        @Override public int available() {
+            return chunk.remaining();
+        }
+
+        /**
+         * Moves to the next chunk if the current one is read.
+         *
+         * @return {@code true} if there is data to be read, otherwise {@code false}.
+         */
+        private boolean nextChunk() {
+            while (!chunk.hasRemaining()) {
+                if (nextChunkIdx == file.getChunksCnt())
+                    return false;
+
+                chunk = getChunk(path, file, nextChunkIdx++);
+            }
+
+            return true;
+        }
+    }
 }
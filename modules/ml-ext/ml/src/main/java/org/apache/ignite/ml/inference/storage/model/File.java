@@ -17,6 +17,8 @@
 
 package org.apache.ignite.ml.inference.storage.model;
 
+import java.nio.ByteBuffer;
+
 /**
  * Implementation of file {@link ModelStorageProvider} works with.
  */
@@ -45,4 +47,13 @@ class File implements FileOrDirectory {
     protected byte[] getData() {
         return data;
     }
+
+    /**
+     * Returns read-only view of file content.
+     *
+     * @return Read-only view of file content.
+     */
+    protected ByteBuffer getBuffer() {
+        return ByteBuffer.wrap(data).asReadOnlyBuffer();
+    }
 }
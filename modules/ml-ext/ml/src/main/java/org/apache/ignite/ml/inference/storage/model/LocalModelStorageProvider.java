@@ -17,8 +17,13 @@
 
 package org.apache.ignite.ml.inference.storage.model;
 
+import java.io.IOException;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -27,9 +32,13 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Implementation of {@link ModelStorageProvider} based on local {@link ConcurrentHashMap}.
+ * Implementation of {@link ModelStorageProvider} based on local {@link ConcurrentHashMap}. Optionally content of
+ * regular files can be kept in files on local file system and memory mapped instead of being kept in heap.
  */
 public class LocalModelStorageProvider implements ModelStorageProvider {
+    /** Directory to keep content of regular files in, {@code null} if content is kept in heap. */
+    private final Path dir;
+
     /** Storage of the files and directories. */
     private final ConcurrentMap<String, FileOrDirectory> storage = new ConcurrentHashMap<>();
 
@@ -39,6 +48,23 @@ public class LocalModelStorageProvider implements ModelStorageProvider {
     /** Reference queue with reference to be cleaned up. */
     private final ReferenceQueue<Lock> refQueue = new ReferenceQueue<>();
 
+    /**
+     * Constructs a new instance of local model storage provider that keeps content of regular files in heap.
+     */
+    public LocalModelStorageProvider() {
+        this(null);
+    }
+
+    /**
+     * Constructs a new instance of local model storage provider that keeps content of regular files in the specified
+     * directory and memory maps it.
+     *
+     * @param dir Directory to keep content of regular files in, {@code null} if content should be kept in heap.
+     */
+    public LocalModelStorageProvider(Path dir) {
+        this.dir = dir;
+    }
+
     /** {@inheritDoc} */
     @Override public FileOrDirectory get(String key) {
         return storage.get(key);
@@ -46,12 +72,15 @@ public class LocalModelStorageProvider implements ModelStorageProvider {
 
     /** {@inheritDoc} */
     @Override public void put(String key, FileOrDirectory file) {
-        storage.put(key, file);
+        if (dir != null && file instanceof File && !(file instanceof MappedFile))
+            file = map((File)file);
+
+        release(storage.put(key, file));
     }
 
     /** {@inheritDoc} */
     @Override public void remove(String key) {
-        storage.remove(key);
+        release(storage.remove(key));
     }
 
     /** {@inheritDoc} */
@@ -81,6 +110,46 @@ public class LocalModelStorageProvider implements ModelStorageProvider {
         }
     }
 
+    /**
+     * Writes content of the specified file into the directory and memory maps it.
+     *
+     * @param file Regular file.
+     * @return Memory mapped file.
+     */
+    private MappedFile map(File file) {
+        try {
+            Path path = Files.createTempFile(dir, "mdl", ".bin");
+            Files.write(path, file.getData());
+
+            try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+                return new MappedFile(path, ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size()));
+            }
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Removes file system file keeping content of the specified file if it's memory mapped. Mapping itself stays valid
+     * until the buffer is garbage collected, so readers of the removed file aren't affected.
+     *
+     * @param file File or directory.
+     */
+    private void release(FileOrDirectory file) {
+        if (file instanceof MappedFile) {
+            Path path = ((MappedFile)file).getPath();
+
+            try {
+                Files.deleteIfExists(path);
+            }
+            catch (IOException e) {
+                // File systems that don't allow to remove mapped files.
+                path.toFile().deleteOnExit();
+            }
+        }
+    }
+
     /**
      * Weak reference with clean up. Allows to clean up key associated with weak reference content.
      */
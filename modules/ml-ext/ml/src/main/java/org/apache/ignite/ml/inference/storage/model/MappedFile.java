@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.inference.storage.model;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * Implementation of file {@link ModelStorageProvider} works with which content is kept in a file on local file system
+ * and memory mapped instead of being kept in heap.
+ */
+class MappedFile extends File {
+    /** */
+    private static final long serialVersionUID = 2406398163557785741L;
+
+    /** Path to the file keeping content on local file system. */
+    private final transient Path path;
+
+    /** Memory mapped file content. */
+    private final transient MappedByteBuffer buf;
+
+    /**
+     * Constructs a new instance of memory mapped file.
+     *
+     * @param path Path to the file keeping content on local file system.
+     * @param buf Memory mapped file content.
+     */
+    MappedFile(Path path, MappedByteBuffer buf) {
+        super(null);
+
+        this.path = path;
+        this.buf = buf;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected byte[] getData() {
+        byte[] data = new byte[buf.capacity()];
+        getBuffer().get(data);
+
+        return data;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected ByteBuffer getBuffer() {
+        return buf.asReadOnlyBuffer();
+    }
+
+    /** */
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * Replaces memory mapped file by regular file on serialization.
+     *
+     * @return Regular file with the same content.
+     */
+    private Object writeReplace() {
+        return new File(getData());
+    }
+}
@@ -17,6 +17,11 @@
 
 package org.apache.ignite.ml.inference.storage.model;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Set;
 
 /**
@@ -42,6 +47,37 @@ public interface ModelStorage {
         putFile(path, data, false);
     }
 
+    /**
+     * Creates a new or replaces existing file reading its content from the specified stream. Stream isn't closed.
+     *
+     * @param path Path to file.
+     * @param data Stream with file content.
+     * @param onlyIfNotExist If file already exists throw an exception.
+     */
+    public default void putFile(String path, InputStream data, boolean onlyIfNotExist) {
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            byte[] buf = new byte[8192];
+            int read;
+            while ((read = data.read(buf)) != -1)
+                out.write(buf, 0, read);
+
+            putFile(path, out.toByteArray(), onlyIfNotExist);
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Creates a new or replaces existing file reading its content from the specified stream. Stream isn't closed.
+     *
+     * @param path Path to file.
+     * @param data Stream with file content.
+     */
+    public default void putFile(String path, InputStream data) {
+        putFile(path, data, false);
+    }
+
     /**
      * Returns file content.
      *
@@ -50,6 +86,26 @@ public interface ModelStorage {
      */
     public byte[] getFile(String path);
 
+    /**
+     * Returns stream with file content. Implementations can read file content lazily.
+     *
+     * @param path Path to file.
+     * @return Stream with file content.
+     */
+    public default InputStream getFileAsStream(String path) {
+        return new ByteArrayInputStream(getFile(path));
+    }
+
+    /**
+     * Returns read-only buffer with file content. Implementations can avoid copying file content.
+     *
+     * @param path Path to file.
+     * @return Read-only buffer with file content.
+     */
+    public default ByteBuffer getFileAsBuffer(String path) {
+        return ByteBuffer.wrap(getFile(path)).asReadOnlyBuffer();
+    }
+
     /**
      * Creates directory.
      *
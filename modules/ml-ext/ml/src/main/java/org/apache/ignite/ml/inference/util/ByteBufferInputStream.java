@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.inference.util;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Input stream that reads content of {@link ByteBuffer} without copying it.
+ */
+public class ByteBufferInputStream extends InputStream {
+    /** Buffer. */
+    private final ByteBuffer buf;
+
+    /**
+     * Constructs a new instance of byte buffer input stream. Stream reads buffer from the current position up to the
+     * limit and moves the position.
+     *
+     * @param buf Buffer.
+     */
+    public ByteBufferInputStream(ByteBuffer buf) {
+        this.buf = buf;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int read() {
+        return buf.hasRemaining() ? buf.get() & 0xFF : -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int read(byte[] b, int off, int len) {
+        if (len == 0)
+            return 0;
+
+        if (!buf.hasRemaining())
+            return -1;
+
+        int cnt = Math.min(len, buf.remaining());
+        buf.get(b, off, cnt);
+
+        return cnt;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long skip(long n) {
+        int cnt = (int)Math.max(0, Math.min(n, buf.remaining()));
+        buf.position(buf.position() + cnt);
+
+        return cnt;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int available() {
+        return buf.remaining();
+    }
+}
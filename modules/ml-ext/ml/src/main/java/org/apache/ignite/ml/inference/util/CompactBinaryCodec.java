@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.inference.util;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import org.apache.ignite.ml.math.primitives.vector.impl.DenseVector;
+import org.apache.ignite.ml.util.Utils;
+
+/**
+ * Compact binary codec of model inputs and outputs transferred between inference model and its callers. Dense vectors
+ * and doubles (the most common inputs and outputs of Ignite models) are written as raw primitives, all other objects
+ * fall back to Java serialization.
+ */
+public final class CompactBinaryCodec {
+    /** Tag of object written using Java serialization. */
+    private static final byte SERIALIZED = 0;
+
+    /** Tag of {@link Double}. */
+    private static final byte DOUBLE = 1;
+
+    /** Tag of {@link DenseVector}. */
+    private static final byte DENSE_VECTOR = 2;
+
+    /** */
+    private CompactBinaryCodec() {
+        // No-op.
+    }
+
+    /**
+     * Encodes specified object.
+     *
+     * @param obj Object to be encoded.
+     * @return Encoded object as byte array.
+     */
+    public static byte[] encode(Serializable obj) {
+        if (obj instanceof Double) {
+            return ByteBuffer.allocate(1 + Double.BYTES)
+                .put(DOUBLE)
+                .putDouble((Double)obj)
+                .array();
+        }
+
+        // Subclasses of dense vector can keep additional state, dense vector can keep non-numeric values.
+        if (obj != null && obj.getClass() == DenseVector.class && ((DenseVector)obj).isNumeric()) {
+            double[] arr = ((DenseVector)obj).asArray();
+
+            ByteBuffer buf = ByteBuffer.allocate(1 + Integer.BYTES + arr.length * Double.BYTES)
+                .put(DENSE_VECTOR)
+                .putInt(arr.length);
+
+            buf.asDoubleBuffer().put(arr);
+
+            return buf.array();
+        }
+
+        byte[] serialized = Utils.serialize(obj);
+
+        return ByteBuffer.allocate(1 + serialized.length)
+            .put(SERIALIZED)
+            .put(serialized)
+            .array();
+    }
+
+    /**
+     * Decodes object encoded by {@link #encode(Serializable)}.
+     *
+     * @param bytes Encoded object.
+     * @param <T> Type of encoded object.
+     * @return Decoded object.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Serializable> T decode(byte[] bytes) {
+        ByteBuffer buf = ByteBuffer.wrap(bytes);
+
+        byte tag = buf.get();
+        switch (tag) {
+            case DOUBLE:
+                return (T)Double.valueOf(buf.getDouble());
+
+            case DENSE_VECTOR: {
+                double[] arr = new double[buf.getInt()];
+                buf.asDoubleBuffer().get(arr);
+
+                return (T)new DenseVector(arr);
+            }
+
+            case SERIALIZED: {
+                byte[] serialized = new byte[buf.remaining()];
+                buf.get(serialized);
+
+                return Utils.deserialize(serialized);
+            }
+
+            default:
+                throw new IllegalArgumentException("Unknown object tag [tag=" + tag + "]");
+        }
+    }
+}
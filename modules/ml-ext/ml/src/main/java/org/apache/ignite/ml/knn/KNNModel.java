@@ -17,6 +17,7 @@
 
 package org.apache.ignite.ml.knn;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.PriorityQueue;
@@ -26,6 +27,7 @@ import org.apache.ignite.ml.dataset.Dataset;
 import org.apache.ignite.ml.dataset.primitive.context.EmptyContext;
 import org.apache.ignite.ml.knn.utils.PointWithDistance;
 import org.apache.ignite.ml.knn.utils.indices.SpatialIndex;
+import org.apache.ignite.ml.knn.utils.indices.SpatialIndexType;
 import org.apache.ignite.ml.math.distances.DistanceMeasure;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
 import org.apache.ignite.ml.structures.LabeledVector;
@@ -36,14 +38,20 @@ import static org.apache.ignite.ml.knn.utils.PointWithDistanceUtil.tryToAddIntoH
 /**
  * KNN model build on top of distributed spatial indices. Be aware that this model is linked with cluster environment
  * it's been built on and can't be saved or used in other places. Under the hood it keeps {@link Dataset} that consists
- * of a set of resources allocated across the cluster.
+ * of a set of resources allocated across the cluster. Every query is a compute round over all partitions of the
+ * dataset, so use {@link #predict(List)} to make predictions for many points at once. When data fits on one node the
+ * model can be converted into a local one (see {@code toLocal} methods of implementations) that keeps all points in a
+ * single local spatial index and doesn't access the cluster.
  *
  * @param <L> Label type.
  */
 public abstract class KNNModel<L> implements IgniteModel<Vector, L>, SpatialIndex<L> {
-    /** Dataset with {@link SpatialIndex} as a partition data. */
+    /** Dataset with {@link SpatialIndex} as a partition data, {@code null} for local model. */
     private final Dataset<EmptyContext, SpatialIndex<L>> dataset;
 
+    /** Local spatial index, {@code null} for distributed model. */
+    private final SpatialIndex<L> locIdx;
+
     /** Distance measure. */
     protected final DistanceMeasure distanceMeasure;
 
@@ -64,13 +72,69 @@ public abstract class KNNModel<L> implements IgniteModel<Vector, L>, SpatialInde
     protected KNNModel(Dataset<EmptyContext, SpatialIndex<L>> dataset, DistanceMeasure distanceMeasure, int k,
         boolean weighted) {
         this.dataset = dataset;
+        this.locIdx = null;
         this.distanceMeasure = distanceMeasure;
         this.k = k;
         this.weighted = weighted;
     }
 
+    /**
+     * Constructs a new instance of local KNN model.
+     *
+     * @param locIdx Local spatial index with all data points.
+     * @param distanceMeasure Distance measure.
+     * @param k Number of neighbours.
+     * @param weighted Weighted or not.
+     */
+    protected KNNModel(SpatialIndex<L> locIdx, DistanceMeasure distanceMeasure, int k, boolean weighted) {
+        this.dataset = null;
+        this.locIdx = locIdx;
+        this.distanceMeasure = distanceMeasure;
+        this.k = k;
+        this.weighted = weighted;
+    }
+
+    /** {@inheritDoc} */
+    @Override public L predict(Vector input) {
+        return predictByNeighbours(findKClosest(k, input), input);
+    }
+
+    /**
+     * Makes predictions for the specified points. Nearest neighbours of all points are found in one compute round.
+     *
+     * @param inputs Points.
+     * @return Predictions in the same order as points.
+     */
+    public List<L> predict(List<Vector> inputs) {
+        List<List<LabeledVector<L>>> neighbours = findKClosest(k, inputs);
+
+        List<L> res = new ArrayList<>(inputs.size());
+
+        for (int i = 0; i < inputs.size(); i++)
+            res.add(predictByNeighbours(neighbours.get(i), inputs.get(i)));
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<L> predictBatch(List<Vector> inputs) {
+        return predict(inputs);
+    }
+
+    /**
+     * Makes prediction based on the specified list of nearest neighbours.
+     *
+     * @param neighbours List of nearest neighbours.
+     * @param pnt Point to calculate distance to.
+     * @return Prediction.
+     */
+    protected abstract L predictByNeighbours(List<LabeledVector<L>> neighbours, Vector pnt);
+
     /** {@inheritDoc} */
     @Override public List<LabeledVector<L>> findKClosest(int k, Vector pnt) {
+        if (locIdx != null)
+            return locIdx.findKClosest(k, pnt);
+
         List<LabeledVector<L>> res = dataset.compute(spatialIdx -> spatialIdx.findKClosest(k, pnt), (a, b) -> {
             Queue<PointWithDistance<L>> heap = new PriorityQueue<>(Collections.reverseOrder());
             tryToAddIntoHeap(heap, k, pnt, a, distanceMeasure);
@@ -81,10 +145,101 @@ public abstract class KNNModel<L> implements IgniteModel<Vector, L>, SpatialInde
         return res == null ? Collections.emptyList() : res;
     }
 
+    /**
+     * Finds {@code k} closest elements to every of the specified points. All points are sent to the cluster in one
+     * compute round.
+     *
+     * @param k Number of elements to be returned for every point.
+     * @param pnts Points to be used to calculate distance to other points.
+     * @return Lists of the {@code k} closest elements in the same order as points.
+     */
+    public List<List<LabeledVector<L>>> findKClosest(int k, List<Vector> pnts) {
+        List<List<LabeledVector<L>>> res;
+
+        if (locIdx != null) {
+            res = new ArrayList<>(pnts.size());
+
+            for (Vector pnt : pnts)
+                res.add(locIdx.findKClosest(k, pnt));
+
+            return res;
+        }
+
+        List<Vector> qry = new ArrayList<>(pnts);
+
+        res = dataset.compute(spatialIdx -> {
+            List<List<LabeledVector<L>>> partRes = new ArrayList<>(qry.size());
+
+            for (Vector pnt : qry)
+                partRes.add(spatialIdx.findKClosest(k, pnt));
+
+            return partRes;
+        }, (a, b) -> {
+            if (a == null)
+                return b;
+            if (b == null)
+                return a;
+
+            List<List<LabeledVector<L>>> merged = new ArrayList<>(qry.size());
+
+            for (int i = 0; i < qry.size(); i++) {
+                Queue<PointWithDistance<L>> heap = new PriorityQueue<>(Collections.reverseOrder());
+                tryToAddIntoHeap(heap, k, qry.get(i), a.get(i), distanceMeasure);
+                tryToAddIntoHeap(heap, k, qry.get(i), b.get(i), distanceMeasure);
+                merged.add(transformToListOrdered(heap));
+            }
+
+            return merged;
+        });
+
+        if (res == null) {
+            res = new ArrayList<>(pnts.size());
+
+            for (int i = 0; i < pnts.size(); i++)
+                res.add(Collections.emptyList());
+        }
+
+        return res;
+    }
+
+    /**
+     * Returns all data points. For distributed model points of all partitions are collected on this node.
+     *
+     * @return List of all data points.
+     */
+    @Override public List<LabeledVector<L>> getPoints() {
+        if (locIdx != null)
+            return locIdx.getPoints();
+
+        List<LabeledVector<L>> res = dataset.compute(spatialIdx -> new ArrayList<>(spatialIdx.getPoints()), (a, b) -> {
+            if (a == null)
+                return b;
+            if (b == null)
+                return a;
+
+            a.addAll(b);
+
+            return a;
+        });
+
+        return res == null ? Collections.emptyList() : res;
+    }
+
+    /**
+     * Collects all data points on this node and builds a local spatial index of the specified type.
+     *
+     * @param idxType Spatial index type.
+     * @return Local spatial index.
+     */
+    protected SpatialIndex<L> buildLocalIndex(SpatialIndexType idxType) {
+        return idxType.createIndex(new ArrayList<>(getPoints()), distanceMeasure);
+    }
+
     /** {@inheritDoc} */
     @Override public void close() {
         try {
-            dataset.close();
+            if (dataset != null)
+                dataset.close();
         }
         catch (Exception e) {
             throw new RuntimeException(e);
@@ -22,11 +22,10 @@ import java.util.Iterator;
 import java.util.List;
 import org.apache.ignite.ml.dataset.PartitionDataBuilder;
 import org.apache.ignite.ml.dataset.UpstreamEntry;
+import org.apache.ignite.ml.dataset.feature.FeaturePrecision;
 import org.apache.ignite.ml.dataset.primitive.context.EmptyContext;
 import org.apache.ignite.ml.environment.LearningEnvironment;
-import org.apache.ignite.ml.knn.utils.indices.ArraySpatialIndex;
-import org.apache.ignite.ml.knn.utils.indices.BallTreeSpatialIndex;
-import org.apache.ignite.ml.knn.utils.indices.KDTreeSpatialIndex;
+import org.apache.ignite.ml.knn.utils.indices.HNSWParameters;
 import org.apache.ignite.ml.knn.utils.indices.SpatialIndex;
 import org.apache.ignite.ml.knn.utils.indices.SpatialIndexType;
 import org.apache.ignite.ml.math.distances.DistanceMeasure;
@@ -49,6 +48,12 @@ public class KNNPartitionDataBuilder<K, V> implements PartitionDataBuilder<K, V,
     /** Distance measure. */
     private final DistanceMeasure distanceMeasure;
 
+    /** Precision of features kept in spatial index. */
+    private final FeaturePrecision featurePrecision;
+
+    /** Parameters of HNSW spatial index. */
+    private final HNSWParameters hnswParams;
+
     /**
      * Constructs a new instance of KNN partition data builder.
      *
@@ -58,9 +63,38 @@ public class KNNPartitionDataBuilder<K, V> implements PartitionDataBuilder<K, V,
      */
     public KNNPartitionDataBuilder(Preprocessor<K, V> preprocessor, SpatialIndexType spatialIdxType,
         DistanceMeasure distanceMeasure) {
+        this(preprocessor, spatialIdxType, distanceMeasure, FeaturePrecision.DOUBLE);
+    }
+
+    /**
+     * Constructs a new instance of KNN partition data builder.
+     *
+     * @param preprocessor Data preprocessor.
+     * @param spatialIdxType Spatial index type.
+     * @param distanceMeasure Distance measure.
+     * @param featurePrecision Precision of features kept in spatial index.
+     */
+    public KNNPartitionDataBuilder(Preprocessor<K, V> preprocessor, SpatialIndexType spatialIdxType,
+        DistanceMeasure distanceMeasure, FeaturePrecision featurePrecision) {
+        this(preprocessor, spatialIdxType, distanceMeasure, featurePrecision, new HNSWParameters());
+    }
+
+    /**
+     * Constructs a new instance of KNN partition data builder.
+     *
+     * @param preprocessor Data preprocessor.
+     * @param spatialIdxType Spatial index type.
+     * @param distanceMeasure Distance measure.
+     * @param featurePrecision Precision of features kept in spatial index.
+     * @param hnswParams Parameters of HNSW spatial index (used only with {@link SpatialIndexType#HNSW}).
+     */
+    public KNNPartitionDataBuilder(Preprocessor<K, V> preprocessor, SpatialIndexType spatialIdxType,
+        DistanceMeasure distanceMeasure, FeaturePrecision featurePrecision, HNSWParameters hnswParams) {
         this.preprocessor = preprocessor;
         this.spatialIdxType = spatialIdxType;
         this.distanceMeasure = distanceMeasure;
+        this.featurePrecision = featurePrecision;
+        this.hnswParams = hnswParams;
     }
 
     /** {@inheritDoc} */
@@ -71,21 +105,9 @@ public class KNNPartitionDataBuilder<K, V> implements PartitionDataBuilder<K, V,
         List<LabeledVector<Double>> dataPnts = new ArrayList<>();
         while (upstreamData.hasNext()) {
             UpstreamEntry<K, V> entry = upstreamData.next();
-            dataPnts.add(preprocessor.apply(entry.getKey(), entry.getValue()));
+            dataPnts.add(featurePrecision.convert(preprocessor.apply(entry.getKey(), entry.getValue())));
         }
 
-        switch (spatialIdxType) {
-            case ARRAY: {
-                return new ArraySpatialIndex<>(dataPnts, distanceMeasure);
-            }
-            case KD_TREE: {
-                return new KDTreeSpatialIndex<>(dataPnts, distanceMeasure);
-            }
-            case BALL_TREE: {
-                return new BallTreeSpatialIndex<>(dataPnts, distanceMeasure);
-            }
-            default:
-                throw new IllegalArgumentException("Unknown spatial index type [type=" + spatialIdxType + "]");
-        }
+        return spatialIdxType.createIndex(dataPnts, distanceMeasure, hnswParams);
     }
 }
@@ -19,8 +19,10 @@ package org.apache.ignite.ml.knn;
 
 import org.apache.ignite.ml.dataset.Dataset;
 import org.apache.ignite.ml.dataset.DatasetBuilder;
+import org.apache.ignite.ml.dataset.feature.FeaturePrecision;
 import org.apache.ignite.ml.dataset.primitive.builder.context.EmptyContextBuilder;
 import org.apache.ignite.ml.dataset.primitive.context.EmptyContext;
+import org.apache.ignite.ml.knn.utils.indices.HNSWParameters;
 import org.apache.ignite.ml.knn.utils.indices.SpatialIndex;
 import org.apache.ignite.ml.knn.utils.indices.SpatialIndexType;
 import org.apache.ignite.ml.math.distances.DistanceMeasure;
@@ -49,6 +51,12 @@ public abstract class KNNTrainer<M extends KNNModel<Double>, Self extends KNNTra
     /** Weighted or not. */
     protected boolean weighted;
 
+    /** Precision of features kept in spatial indices. */
+    private FeaturePrecision featurePrecision = FeaturePrecision.DOUBLE;
+
+    /** Parameters of HNSW spatial indices. */
+    private HNSWParameters hnswParams = new HNSWParameters();
+
     /** {@inheritDoc} */
     @Override protected <K, V> M fitWithInitializedDeployingContext(DatasetBuilder<K, V> datasetBuilder,
         Preprocessor<K, V> preprocessor) {
@@ -66,7 +74,7 @@ public abstract class KNNTrainer<M extends KNNModel<Double>, Self extends KNNTra
         Dataset<EmptyContext, SpatialIndex<Double>> knnDataset = datasetBuilder.build(
             envBuilder,
             new EmptyContextBuilder<>(),
-            new KNNPartitionDataBuilder<>(preprocessor, idxType, distanceMeasure),
+            new KNNPartitionDataBuilder<>(preprocessor, idxType, distanceMeasure, featurePrecision, hnswParams),
             learningEnvironment()
         );
 
@@ -138,4 +146,27 @@ public abstract class KNNTrainer<M extends KNNModel<Double>, Self extends KNNTra
         this.weighted = weighted;
         return self();
     }
+
+    /**
+     * Sets up {@code featurePrecision} parameter. {@link FeaturePrecision#FLOAT} halves memory consumed by spatial
+     * indices at the cost of rounding errors in features.
+     *
+     * @param featurePrecision Precision of features kept in spatial indices.
+     * @return This instance.
+     */
+    public Self withFeaturePrecision(FeaturePrecision featurePrecision) {
+        this.featurePrecision = featurePrecision;
+        return self();
+    }
+
+    /**
+     * Sets up {@code hnswParams} parameter. Used only with {@link SpatialIndexType#HNSW} index type.
+     *
+     * @param hnswParams Parameters of HNSW spatial indices.
+     * @return This instance.
+     */
+    public Self withHnswParameters(HNSWParameters hnswParams) {
+        this.hnswParams = hnswParams;
+        return self();
+    }
 }
@@ -28,6 +28,7 @@ import org.apache.ignite.ml.dataset.Dataset;
 import org.apache.ignite.ml.dataset.primitive.context.EmptyContext;
 import org.apache.ignite.ml.knn.KNNModel;
 import org.apache.ignite.ml.knn.utils.indices.SpatialIndex;
+import org.apache.ignite.ml.knn.utils.indices.SpatialIndexType;
 import org.apache.ignite.ml.math.distances.DistanceMeasure;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
 import org.apache.ignite.ml.structures.LabeledVector;
@@ -51,11 +52,29 @@ public class KNNClassificationModel extends KNNModel<Double> {
         super(dataset, distanceMeasure, k, weighted);
     }
 
-    /** {@inheritDoc} */
-    @Override public Double predict(Vector input) {
-        List<LabeledVector<Double>> neighbors = findKClosest(k, input);
+    /**
+     * Constructs a new instance of local KNN classification model.
+     *
+     * @param locIdx Local spatial index with all data points.
+     * @param distanceMeasure Distance measure.
+     * @param k Number of neighbours.
+     * @param weighted Weighted or not.
+     */
+    private KNNClassificationModel(SpatialIndex<Double> locIdx, DistanceMeasure distanceMeasure, int k,
+        boolean weighted) {
+        super(locIdx, distanceMeasure, k, weighted);
+    }
 
-        return election(neighbors, input);
+    /**
+     * Creates local copy of this model. All data points are collected on this node and kept in a single local spatial
+     * index of the specified type, so predictions of the local model don't access the cluster. Suitable only if all
+     * data points fit in memory of this node.
+     *
+     * @param idxType Type of local spatial index.
+     * @return Local KNN classification model.
+     */
+    public KNNClassificationModel toLocal(SpatialIndexType idxType) {
+        return new KNNClassificationModel(buildLocalIndex(idxType), distanceMeasure, k, weighted);
     }
 
     /**
@@ -65,7 +84,7 @@ public class KNNClassificationModel extends KNNModel<Double> {
      * @param pnt Point to calculate distance to.
      * @return Label with max votes for it.
      */
-    private Double election(List<LabeledVector<Double>> neighbours, Vector pnt) {
+    @Override protected Double predictByNeighbours(List<LabeledVector<Double>> neighbours, Vector pnt) {
         Collection<GroupedNeighbours> grps = groupByLabel(neighbours);
 
         return election(grps, pnt);
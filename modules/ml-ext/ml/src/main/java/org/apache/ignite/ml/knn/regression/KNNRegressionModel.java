@@ -22,6 +22,7 @@ import org.apache.ignite.ml.dataset.Dataset;
 import org.apache.ignite.ml.dataset.primitive.context.EmptyContext;
 import org.apache.ignite.ml.knn.KNNModel;
 import org.apache.ignite.ml.knn.utils.indices.SpatialIndex;
+import org.apache.ignite.ml.knn.utils.indices.SpatialIndexType;
 import org.apache.ignite.ml.math.distances.DistanceMeasure;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
 import org.apache.ignite.ml.structures.LabeledVector;
@@ -49,11 +50,35 @@ public class KNNRegressionModel extends KNNModel<Double> {
         predictor = weighted ? new KNNRegressionWeightedPredictor() : new KNNRegressionSimplePredictor();
     }
 
-    /** {@inheritDoc} */
-    @Override public Double predict(Vector input) {
-        List<LabeledVector<Double>> neighbors = findKClosest(k, input);
+    /**
+     * Constructs a new instance of local KNN regression model.
+     *
+     * @param locIdx Local spatial index with all data points.
+     * @param distanceMeasure Distance measure.
+     * @param k Number of neighbours.
+     * @param weighted Weighted or not.
+     */
+    private KNNRegressionModel(SpatialIndex<Double> locIdx, DistanceMeasure distanceMeasure, int k,
+        boolean weighted) {
+        super(locIdx, distanceMeasure, k, weighted);
+        predictor = weighted ? new KNNRegressionWeightedPredictor() : new KNNRegressionSimplePredictor();
+    }
+
+    /**
+     * Creates local copy of this model. All data points are collected on this node and kept in a single local spatial
+     * index of the specified type, so predictions of the local model don't access the cluster. Suitable only if all
+     * data points fit in memory of this node.
+     *
+     * @param idxType Type of local spatial index.
+     * @return Local KNN regression model.
+     */
+    public KNNRegressionModel toLocal(SpatialIndexType idxType) {
+        return new KNNRegressionModel(buildLocalIndex(idxType), distanceMeasure, k, weighted);
+    }
 
-        return predictor.predict(neighbors, input);
+    /** {@inheritDoc} */
+    @Override protected Double predictByNeighbours(List<LabeledVector<Double>> neighbours, Vector pnt) {
+        return predictor.predict(neighbours, pnt);
     }
 
     /**
@@ -67,4 +67,9 @@ public class ArraySpatialIndex<L> implements SpatialIndex<L> {
 
         return transformToListOrdered(heap);
     }
+
+    /** {@inheritDoc} */
+    @Override public List<LabeledVector<L>> getPoints() {
+        return data;
+    }
 }
@@ -70,6 +70,16 @@ public class BallTreeSpatialIndex<L> implements SpatialIndex<L> {
         return transformToListOrdered(heap);
     }
 
+    /** {@inheritDoc} */
+    @Override public List<LabeledVector<L>> getPoints() {
+        List<LabeledVector<L>> res = new ArrayList<>();
+
+        if (root != null)
+            root.collectPoints(res);
+
+        return res;
+    }
+
     /**
      * Builds Ball tree.
      *
@@ -295,6 +305,13 @@ public class BallTreeSpatialIndex<L> implements SpatialIndex<L> {
          */
         abstract void findKClosest(Vector pnt, Queue<PointWithDistance<L>> heap, int k);
 
+        /**
+         * Adds all points owned by this node and its descendants into the specified list.
+         *
+         * @param res List of points.
+         */
+        abstract void collectPoints(List<LabeledVector<L>> res);
+
         /** */
         public Vector getCenter() {
             return center;
@@ -348,6 +365,14 @@ public class BallTreeSpatialIndex<L> implements SpatialIndex<L> {
             }
         }
 
+        /** {@inheritDoc} */
+        @Override void collectPoints(List<LabeledVector<L>> res) {
+            if (left != null)
+                left.collectPoints(res);
+            if (right != null)
+                right.collectPoints(res);
+        }
+
         /**
          * Computed distance from point to center of Ball tree node.
          *
@@ -389,5 +414,10 @@ public class BallTreeSpatialIndex<L> implements SpatialIndex<L> {
                 tryToAddIntoHeap(heap, k, dataPnt, distance);
             }
         }
+
+        /** {@inheritDoc} */
+        @Override void collectPoints(List<LabeledVector<L>> res) {
+            res.addAll(points);
+        }
     }
 }
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.knn.utils.indices;
+
+import java.io.Serializable;
+
+/**
+ * Parameters of {@link HNSWSpatialIndex}.
+ */
+public class HNSWParameters implements Serializable {
+    /** */
+    private static final long serialVersionUID = -3196287411035376231L;
+
+    /** Default number of connections per node on upper layers. */
+    public static final int DFLT_M = 16;
+
+    /** Default size of dynamic candidates list used on index construction. */
+    public static final int DFLT_EF_CONSTRUCTION = 200;
+
+    /** Default size of dynamic candidates list used on search. */
+    public static final int DFLT_EF_SEARCH = 50;
+
+    /** Number of connections per node on upper layers (twice as many connections are kept on the bottom layer). */
+    private final int m;
+
+    /** Size of dynamic candidates list used on index construction. */
+    private final int efConstruction;
+
+    /** Size of dynamic candidates list used on search. */
+    private final int efSearch;
+
+    /** Seed of random generator used to assign layers to nodes. */
+    private final long seed;
+
+    /**
+     * Constructs a new instance of HNSW parameters with default values.
+     */
+    public HNSWParameters() {
+        this(DFLT_M, DFLT_EF_CONSTRUCTION, DFLT_EF_SEARCH, 0);
+    }
+
+    /**
+     * Constructs a new instance of HNSW parameters.
+     *
+     * @param m Number of connections per node on upper layers.
+     * @param efConstruction Size of dynamic candidates list used on index construction.
+     * @param efSearch Size of dynamic candidates list used on search.
+     * @param seed Seed of random generator used to assign layers to nodes.
+     */
+    public HNSWParameters(int m, int efConstruction, int efSearch, long seed) {
+        if (m < 2)
+            throw new IllegalArgumentException("Number of connections should be at least 2 [m=" + m + ']');
+
+        if (efConstruction < 1)
+            throw new IllegalArgumentException("EfConstruction should be positive [efConstruction=" +
+                efConstruction + ']');
+
+        if (efSearch < 1)
+            throw new IllegalArgumentException("EfSearch should be positive [efSearch=" + efSearch + ']');
+
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+        this.seed = seed;
+    }
+
+    /** */
+    public int getM() {
+        return m;
+    }
+
+    /** */
+    public int getEfConstruction() {
+        return efConstruction;
+    }
+
+    /** */
+    public int getEfSearch() {
+        return efSearch;
+    }
+
+    /** */
+    public long getSeed() {
+        return seed;
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.knn.utils.indices;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import org.apache.ignite.ml.math.distances.DistanceMeasure;
+import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.structures.LabeledVector;
+
+/**
+ * Hierarchical navigable small world graph based implementation of {@link SpatialIndex} (see Malkov, Yashunin
+ * "Efficient and robust approximate nearest neighbor search using Hierarchical Navigable Small World graphs"). Points
+ * are kept in a hierarchy of proximity graphs, a search greedily descends from the sparse upper layers to the dense
+ * bottom one. Asymptotic runtime complexity of finding {@code k} closest elements is close to {@code O(log(n))} and
+ * it doesn't degrade on high dimensional data, but the result is approximate: some of the true {@code k} closest
+ * elements might be missed. Recall is controlled by {@link HNSWParameters}.
+ *
+ * @param <L> Label type.
+ */
+public class HNSWSpatialIndex<L> implements SpatialIndex<L> {
+    /** Data. */
+    private final List<LabeledVector<L>> data;
+
+    /** Distance measure. */
+    private final DistanceMeasure distanceMeasure;
+
+    /** Max number of connections per node on upper layers. */
+    private final int maxConn;
+
+    /** Max number of connections per node on the bottom layer. */
+    private final int maxConn0;
+
+    /** Size of dynamic candidates list used on search. */
+    private final int efSearch;
+
+    /** Connections of nodes, {@code links[node][layer]} contains ids of neighbours of the node on the layer. */
+    private final int[][][] links;
+
+    /** Numbers of connections of nodes, {@code linksCnt[node][layer]}. */
+    private final int[][] linksCnt;
+
+    /** Entry point of the graph (node with the top layer), {@code -1} if the index is empty. */
+    private int entryPnt = -1;
+
+    /** Top layer of the graph. */
+    private int topLayer = -1;
+
+    /**
+     * Constructs a new instance of HNSW spatial index with default parameters.
+     *
+     * @param data Data points.
+     * @param distanceMeasure Distance measure.
+     */
+    public HNSWSpatialIndex(List<LabeledVector<L>> data, DistanceMeasure distanceMeasure) {
+        this(data, distanceMeasure, new HNSWParameters());
+    }
+
+    /**
+     * Constructs a new instance of HNSW spatial index.
+     *
+     * @param data Data points.
+     * @param distanceMeasure Distance measure.
+     * @param params HNSW parameters.
+     */
+    public HNSWSpatialIndex(List<LabeledVector<L>> data, DistanceMeasure distanceMeasure, HNSWParameters params) {
+        this.data = Collections.unmodifiableList(data);
+        this.distanceMeasure = distanceMeasure;
+        this.maxConn = params.getM();
+        this.maxConn0 = 2 * params.getM();
+        this.efSearch = params.getEfSearch();
+
+        links = new int[data.size()][][];
+        linksCnt = new int[data.size()][];
+
+        Random rnd = new Random(params.getSeed());
+        double levelMult = 1 / Math.log(params.getM());
+
+        for (int node = 0; node < data.size(); node++)
+            insert(node, (int)(-Math.log(1 - rnd.nextDouble()) * levelMult), params.getEfConstruction());
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<LabeledVector<L>> findKClosest(int k, Vector pnt) {
+        if (k <= 0)
+            throw new IllegalArgumentException("Number of neighbours should be positive.");
+
+        if (entryPnt < 0)
+            return Collections.emptyList();
+
+        Candidate ep = new Candidate(entryPnt, distanceMeasure.compute(pnt, features(entryPnt)));
+
+        for (int layer = topLayer; layer > 0; layer--)
+            ep = searchClosest(pnt, ep, layer);
+
+        PriorityQueue<Candidate> res = searchLayer(pnt, Collections.singletonList(ep), Math.max(efSearch, k), 0);
+
+        while (res.size() > k)
+            res.poll();
+
+        List<LabeledVector<L>> neighbours = new ArrayList<>(res.size());
+        while (!res.isEmpty())
+            neighbours.add(data.get(res.poll().node));
+
+        Collections.reverse(neighbours);
+
+        return neighbours;
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<LabeledVector<L>> getPoints() {
+        return data;
+    }
+
+    /**
+     * Inserts the specified node into the graph.
+     *
+     * @param node Node id.
+     * @param nodeLayer Top layer of the node.
+     * @param efConstruction Size of dynamic candidates list.
+     */
+    private void insert(int node, int nodeLayer, int efConstruction) {
+        links[node] = new int[nodeLayer + 1][];
+        linksCnt[node] = new int[nodeLayer + 1];
+
+        for (int layer = 0; layer <= nodeLayer; layer++)
+            links[node][layer] = new int[maxConnections(layer)];
+
+        if (entryPnt < 0) {
+            entryPnt = node;
+            topLayer = nodeLayer;
+
+            return;
+        }
+
+        Vector pnt = features(node);
+        Candidate ep = new Candidate(entryPnt, distanceMeasure.compute(pnt, features(entryPnt)));
+
+        for (int layer = topLayer; layer > nodeLayer; layer--)
+            ep = searchClosest(pnt, ep, layer);
+
+        List<Candidate> eps = Collections.singletonList(ep);
+
+        for (int layer = Math.min(topLayer, nodeLayer); layer >= 0; layer--) {
+            PriorityQueue<Candidate> found = searchLayer(pnt, eps, efConstruction, layer);
+
+            List<Candidate> candidates = new ArrayList<>(found);
+            Collections.sort(candidates);
+
+            List<Candidate> neighbours = selectNeighbours(candidates, maxConn);
+
+            for (Candidate neighbour : neighbours) {
+                links[node][layer][linksCnt[node][layer]++] = neighbour.node;
+                connect(neighbour.node, node, neighbour.dist, layer);
+            }
+
+            eps = candidates;
+        }
+
+        if (nodeLayer > topLayer) {
+            entryPnt = node;
+            topLayer = nodeLayer;
+        }
+    }
+
+    /**
+     * Adds connection from the specified node to the specified neighbour. If the node already has max number of
+     * connections, its connections are reselected.
+     *
+     * @param node Node id.
+     * @param neighbour Neighbour id.
+     * @param dist Distance between node and neighbour.
+     * @param layer Layer.
+     */
+    private void connect(int node, int neighbour, double dist, int layer) {
+        int[] nodeLinks = links[node][layer];
+        int cnt = linksCnt[node][layer];
+
+        if (cnt < nodeLinks.length) {
+            nodeLinks[cnt] = neighbour;
+            linksCnt[node][layer]++;
+
+            return;
+        }
+
+        Vector pnt = features(node);
+
+        List<Candidate> candidates = new ArrayList<>(cnt + 1);
+        candidates.add(new Candidate(neighbour, dist));
+        for (int i = 0; i < cnt; i++)
+            candidates.add(new Candidate(nodeLinks[i], distanceMeasure.compute(pnt, features(nodeLinks[i]))));
+
+        Collections.sort(candidates);
+
+        List<Candidate> selected = selectNeighbours(candidates, nodeLinks.length);
+
+        for (int i = 0; i < selected.size(); i++)
+            nodeLinks[i] = selected.get(i).node;
+
+        linksCnt[node][layer] = selected.size();
+    }
+
+    /**
+     * Selects neighbours using heuristic that prefers candidates closer to the base node than to any of already
+     * selected neighbours, so that connections point in diverse directions. If there are not enough such candidates,
+     * the closest of the discarded ones are added.
+     *
+     * @param candidates Candidates sorted by distance to the base node.
+     * @param m Max number of neighbours.
+     * @return Selected neighbours.
+     */
+    private List<Candidate> selectNeighbours(List<Candidate> candidates, int m) {
+        if (candidates.size() <= m)
+            return candidates;
+
+        List<Candidate> selected = new ArrayList<>(m);
+        List<Candidate> discarded = new ArrayList<>();
+
+        for (Candidate candidate : candidates) {
+            if (selected.size() == m)
+                break;
+
+            Vector pnt = features(candidate.node);
+
+            boolean good = true;
+            for (Candidate s : selected) {
+                if (distanceMeasure.compute(pnt, features(s.node)) < candidate.dist) {
+                    good = false;
+                    break;
+                }
+            }
+
+            if (good)
+                selected.add(candidate);
+            else
+                discarded.add(candidate);
+        }
+
+        for (int i = 0; i < discarded.size() && selected.size() < m; i++)
+            selected.add(discarded.get(i));
+
+        return selected;
+    }
+
+    /**
+     * Greedily searches the closest to the specified point node on the specified layer.
+     *
+     * @param pnt Point.
+     * @param ep Entry point.
+     * @param layer Layer.
+     * @return Closest node found.
+     */
+    private Candidate searchClosest(Vector pnt, Candidate ep, int layer) {
+        Candidate res = ep;
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+
+            int[] nodeLinks = links[res.node][layer];
+            int cnt = linksCnt[res.node][layer];
+
+            for (int i = 0; i < cnt; i++) {
+                double dist = distanceMeasure.compute(pnt, features(nodeLinks[i]));
+
+                if (dist < res.dist) {
+                    res = new Candidate(nodeLinks[i], dist);
+                    changed = true;
+                }
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * Searches {@code ef} closest to the specified point nodes on the specified layer.
+     *
+     * @param pnt Point.
+     * @param eps Entry points.
+     * @param ef Size of dynamic candidates list.
+     * @param layer Layer.
+     * @return Max-heap of found nodes (the most distant node is on the top).
+     */
+    private PriorityQueue<Candidate> searchLayer(Vector pnt, List<Candidate> eps, int ef, int layer) {
+        BitSet visited = new BitSet(data.size());
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>();
+        PriorityQueue<Candidate> res = new PriorityQueue<>(Collections.reverseOrder());
+
+        for (Candidate ep : eps) {
+            visited.set(ep.node);
+            candidates.add(ep);
+            res.add(ep);
+
+            if (res.size() > ef)
+                res.poll();
+        }
+
+        while (!candidates.isEmpty()) {
+            Candidate closest = candidates.poll();
+
+            if (res.size() == ef && closest.dist > res.peek().dist)
+                break;
+
+            int[] nodeLinks = links[closest.node][layer];
+            int cnt = linksCnt[closest.node][layer];
+
+            for (int i = 0; i < cnt; i++) {
+                int neighbour = nodeLinks[i];
+
+                if (visited.get(neighbour))
+                    continue;
+
+                visited.set(neighbour);
+
+                double dist = distanceMeasure.compute(pnt, features(neighbour));
+
+                if (res.size() < ef || dist < res.peek().dist) {
+                    Candidate candidate = new Candidate(neighbour, dist);
+                    candidates.add(candidate);
+                    res.add(candidate);
+
+                    if (res.size() > ef)
+                        res.poll();
+                }
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * Returns max number of connections per node on the specified layer.
+     *
+     * @param layer Layer.
+     * @return Max number of connections.
+     */
+    private int maxConnections(int layer) {
+        return layer == 0 ? maxConn0 : maxConn;
+    }
+
+    /**
+     * Returns features of the specified node.
+     *
+     * @param node Node id.
+     * @return Features.
+     */
+    private Vector features(int node) {
+        return data.get(node).features();
+    }
+
+    /**
+     * Node with distance to target point. Natural ordering is by distance.
+     */
+    private static final class Candidate implements Comparable<Candidate> {
+        /** Node id. */
+        private final int node;
+
+        /** Distance to target point. */
+        private final double dist;
+
+        /**
+         * Constructs a new instance of candidate.
+         *
+         * @param node Node id.
+         * @param dist Distance to target point.
+         */
+        Candidate(int node, double dist) {
+            this.node = node;
+            this.dist = dist;
+        }
+
+        /** {@inheritDoc} */
+        @Override public int compareTo(Candidate o) {
+            return Double.compare(dist, o.dist);
+        }
+    }
+}
@@ -17,7 +17,10 @@
 
 package org.apache.ignite.ml.knn.utils.indices;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.PriorityQueue;
 import java.util.Queue;
@@ -67,6 +70,28 @@ public class KDTreeSpatialIndex<L> implements SpatialIndex<L> {
         return transformToListOrdered(heap);
     }
 
+    /** {@inheritDoc} */
+    @Override public List<LabeledVector<L>> getPoints() {
+        List<LabeledVector<L>> res = new ArrayList<>();
+
+        Deque<TreeNode> stack = new ArrayDeque<>();
+        if (root != null)
+            stack.push(root);
+
+        while (!stack.isEmpty()) {
+            TreeNode node = stack.pop();
+
+            res.add(node.val);
+
+            if (node.left != null)
+                stack.push(node.left);
+            if (node.right != null)
+                stack.push(node.right);
+        }
+
+        return res;
+    }
+
     /**
      * Updates collection of closest points processing specified KD tree node.
      *
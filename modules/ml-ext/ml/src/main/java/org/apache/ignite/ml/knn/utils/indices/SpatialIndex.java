@@ -36,6 +36,18 @@ public interface SpatialIndex<L> extends AutoCloseable {
      */
     public List<LabeledVector<L>> findKClosest(int k, Vector pnt);
 
+    /**
+     * Returns all points kept in the index. Indices that don't keep their points throw
+     * {@link UnsupportedOperationException}, in this case models based on such indices can't be converted into local
+     * ones.
+     *
+     * @return List of all points.
+     */
+    public default List<LabeledVector<L>> getPoints() {
+        throw new UnsupportedOperationException("Spatial index doesn't provide its points [idx=" +
+            getClass().getName() + ']');
+    }
+
     /** {@inheritDoc} */
     @Override public default void close() {
         // No-op.
@@ -17,6 +17,10 @@
 
 package org.apache.ignite.ml.knn.utils.indices;
 
+import java.util.List;
+import org.apache.ignite.ml.math.distances.DistanceMeasure;
+import org.apache.ignite.ml.structures.LabeledVector;
+
 /**
  * Spatial index type.
  */
@@ -28,5 +32,45 @@ public enum SpatialIndexType {
     KD_TREE,
 
     /** Ball tree based spatial index (see {@link BallTreeSpatialIndex}). */
-    BALL_TREE
+    BALL_TREE,
+
+    /** Approximate hierarchical navigable small world graph based spatial index (see {@link HNSWSpatialIndex}). */
+    HNSW;
+
+    /**
+     * Creates spatial index of this type.
+     *
+     * @param data Data points.
+     * @param distanceMeasure Distance measure.
+     * @param <L> Label type.
+     * @return Spatial index.
+     */
+    public <L> SpatialIndex<L> createIndex(List<LabeledVector<L>> data, DistanceMeasure distanceMeasure) {
+        return createIndex(data, distanceMeasure, new HNSWParameters());
+    }
+
+    /**
+     * Creates spatial index of this type.
+     *
+     * @param data Data points.
+     * @param distanceMeasure Distance measure.
+     * @param hnswParams Parameters of {@link HNSWSpatialIndex} (ignored by other index types).
+     * @param <L> Label type.
+     * @return Spatial index.
+     */
+    public <L> SpatialIndex<L> createIndex(List<LabeledVector<L>> data, DistanceMeasure distanceMeasure,
+        HNSWParameters hnswParams) {
+        switch (this) {
+            case ARRAY:
+                return new ArraySpatialIndex<>(data, distanceMeasure);
+            case KD_TREE:
+                return new KDTreeSpatialIndex<>(data, distanceMeasure);
+            case BALL_TREE:
+                return new BallTreeSpatialIndex<>(data, distanceMeasure);
+            case HNSW:
+                return new HNSWSpatialIndex<>(data, distanceMeasure, hnswParams);
+            default:
+                throw new IllegalArgumentException("Unknown spatial index type [type=" + this + "]");
+        }
+    }
 }
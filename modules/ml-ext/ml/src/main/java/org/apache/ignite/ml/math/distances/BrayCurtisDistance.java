@@ -33,6 +33,12 @@ public class BrayCurtisDistance implements DistanceMeasure {
     /** {@inheritDoc} */
     @Override public double compute(Vector a, Vector b)
         throws CardinalityException {
+        double[] arrA = DistanceKernels.arrayOf(a);
+        double[] arrB = DistanceKernels.arrayOf(b);
+
+        if (arrA != null && arrB != null)
+            return DistanceKernels.brayCurtis(arrA, arrB);
+
         double diff = MatrixUtil.localCopyOf(a).minus(b).kNorm(1);
         double sum = MatrixUtil.localCopyOf(a).plus(b).kNorm(1);
 
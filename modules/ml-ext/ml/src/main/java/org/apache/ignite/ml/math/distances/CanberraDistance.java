@@ -36,6 +36,12 @@ public class CanberraDistance implements DistanceMeasure {
      */
     @Override public double compute(Vector a, Vector b)
         throws CardinalityException {
+        double[] arrA = DistanceKernels.arrayOf(a);
+        double[] arrB = DistanceKernels.arrayOf(b);
+
+        if (arrA != null && arrB != null)
+            return DistanceKernels.canberra(arrA, arrB);
+
         Vector top = MatrixUtil.localCopyOf(a).minus(b).map(Math::abs);
         Vector down = MatrixUtil.localCopyOf(a).map(Math::abs)
             .plus(MatrixUtil.localCopyOf(b).map(Math::abs))
@@ -26,6 +26,12 @@ import org.apache.ignite.ml.math.util.MatrixUtil;
 public class ChebyshevDistance implements DistanceMeasure {
     /** {@inheritDoc} */
     @Override public double compute(Vector a, Vector b) throws CardinalityException {
+        double[] arrA = DistanceKernels.arrayOf(a);
+        double[] arrB = DistanceKernels.arrayOf(b);
+
+        if (arrA != null && arrB != null)
+            return DistanceKernels.chebyshev(arrA, arrB);
+
         return MatrixUtil.localCopyOf(a).minus(b).foldMap(Math::max, Math::abs, 0d);
     }
 }
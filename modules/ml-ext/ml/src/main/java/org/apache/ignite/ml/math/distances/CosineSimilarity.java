@@ -26,6 +26,13 @@ import org.apache.ignite.ml.math.util.MatrixUtil;
 public class CosineSimilarity implements DistanceMeasure {
     /** {@inheritDoc} */
     @Override public double compute(Vector a, Vector b) throws CardinalityException {
+        double[] arrA = DistanceKernels.arrayOf(a);
+        double[] arrB = DistanceKernels.arrayOf(b);
+
+        if (arrA != null && arrB != null)
+            return DistanceKernels.dot(arrA, arrB) /
+                (Math.sqrt(DistanceKernels.dot(arrA, arrA)) * Math.sqrt(DistanceKernels.dot(arrB, arrB)));
+
         return MatrixUtil.localCopyOf(a).dot(b) / (a.kNorm(2d) * b.kNorm(2d));
     }
 }
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.math.distances;
+
+import org.apache.ignite.ml.math.exceptions.math.CardinalityException;
+import org.apache.ignite.ml.math.primitives.vector.Vector;
+
+/**
+ * Allocation-free distance kernels working on primitive arrays. Loops are unrolled by four with independent
+ * accumulators, so that JIT compiler can pipeline (and where possible vectorize) them. Kernels are used by
+ * {@link DistanceMeasure} implementations when both operands are backed by arrays, otherwise the generic
+ * {@link Vector} API is used.
+ */
+public final class DistanceKernels {
+    /** */
+    private DistanceKernels() {
+        // No-op.
+    }
+
+    /**
+     * Returns backing array of the specified vector if the vector is array based and the array contains exactly
+     * elements of the vector (it's not a view on a part of the array).
+     *
+     * @param v Vector.
+     * @return Backing array or {@code null} if there is no such array.
+     */
+    public static double[] arrayOf(Vector v) {
+        if (!v.isArrayBased())
+            return null;
+
+        double[] data = v.getStorage().data();
+
+        return data != null && data.length == v.size() ? data : null;
+    }
+
+    /**
+     * Computes squared Euclidean distance.
+     *
+     * @param a The first array.
+     * @param b The second array.
+     * @return Squared Euclidean distance.
+     */
+    public static double squaredEuclidean(double[] a, double[] b) {
+        checkCardinality(a, b);
+
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+
+        int i = 0;
+        for (int bound = a.length & ~3; i < bound; i += 4) {
+            double d0 = a[i] - b[i];
+            double d1 = a[i + 1] - b[i + 1];
+            double d2 = a[i + 2] - b[i + 2];
+            double d3 = a[i + 3] - b[i + 3];
+
+            s0 += d0 * d0;
+            s1 += d1 * d1;
+            s2 += d2 * d2;
+            s3 += d3 * d3;
+        }
+
+        for (; i < a.length; i++) {
+            double d = a[i] - b[i];
+            s0 += d * d;
+        }
+
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Computes Manhattan distance.
+     *
+     * @param a The first array.
+     * @param b The second array.
+     * @return Manhattan distance.
+     */
+    public static double manhattan(double[] a, double[] b) {
+        checkCardinality(a, b);
+
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+
+        int i = 0;
+        for (int bound = a.length & ~3; i < bound; i += 4) {
+            s0 += Math.abs(a[i] - b[i]);
+            s1 += Math.abs(a[i + 1] - b[i + 1]);
+            s2 += Math.abs(a[i + 2] - b[i + 2]);
+            s3 += Math.abs(a[i + 3] - b[i + 3]);
+        }
+
+        for (; i < a.length; i++)
+            s0 += Math.abs(a[i] - b[i]);
+
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Computes Chebyshev distance.
+     *
+     * @param a The first array.
+     * @param b The second array.
+     * @return Chebyshev distance.
+     */
+    public static double chebyshev(double[] a, double[] b) {
+        checkCardinality(a, b);
+
+        double res = 0;
+
+        for (int i = 0; i < a.length; i++)
+            res = Math.max(res, Math.abs(a[i] - b[i]));
+
+        return res;
+    }
+
+    /**
+     * Computes Minkowski distance.
+     *
+     * @param a The first array.
+     * @param b The second array.
+     * @param p Norm parameter.
+     * @return Minkowski distance.
+     */
+    public static double minkowski(double[] a, double[] b, double p) {
+        checkCardinality(a, b);
+
+        double res = 0;
+
+        for (int i = 0; i < a.length; i++)
+            res += Math.pow(Math.abs(a[i] - b[i]), p);
+
+        return Math.pow(res, 1 / p);
+    }
+
+    /**
+     * Computes dot product.
+     *
+     * @param a The first array.
+     * @param b The second array.
+     * @return Dot product.
+     */
+    public static double dot(double[] a, double[] b) {
+        checkCardinality(a, b);
+
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+
+        int i = 0;
+        for (int bound = a.length & ~3; i < bound; i += 4) {
+            s0 += a[i] * b[i];
+            s1 += a[i + 1] * b[i + 1];
+            s2 += a[i + 2] * b[i + 2];
+            s3 += a[i + 3] * b[i + 3];
+        }
+
+        for (; i < a.length; i++)
+            s0 += a[i] * b[i];
+
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Computes Bray-Curtis distance.
+     *
+     * @param a The first array.
+     * @param b The second array.
+     * @return Bray-Curtis distance.
+     */
+    public static double brayCurtis(double[] a, double[] b) {
+        checkCardinality(a, b);
+
+        double diff = 0;
+        double sum = 0;
+
+        for (int i = 0; i < a.length; i++) {
+            diff += Math.abs(a[i] - b[i]);
+            sum += Math.abs(a[i] + b[i]);
+        }
+
+        return diff / sum;
+    }
+
+    /**
+     * Computes Canberra distance.
+     *
+     * @param a The first array.
+     * @param b The second array.
+     * @return Canberra distance.
+     */
+    public static double canberra(double[] a, double[] b) {
+        checkCardinality(a, b);
+
+        double res = 0;
+
+        for (int i = 0; i < a.length; i++) {
+            double down = Math.abs(a[i]) + Math.abs(b[i]);
+
+            if (down != 0)
+                res += Math.abs(a[i] - b[i]) * (1 / down);
+        }
+
+        return res;
+    }
+
+    /**
+     * Checks that arrays have the same length.
+     *
+     * @param a The first array.
+     * @param b The second array.
+     * @throws CardinalityException If arrays have different lengths.
+     */
+    private static void checkCardinality(double[] a, double[] b) {
+        if (a.length != b.length)
+            throw new CardinalityException(a.length, b.length);
+    }
+}
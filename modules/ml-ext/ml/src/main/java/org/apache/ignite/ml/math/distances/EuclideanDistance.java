@@ -29,11 +29,22 @@ public class EuclideanDistance implements DistanceMeasure {
 
     /** {@inheritDoc} */
     @Override public double compute(Vector a, Vector b) throws CardinalityException {
+        double[] arrA = DistanceKernels.arrayOf(a);
+        double[] arrB = DistanceKernels.arrayOf(b);
+
+        if (arrA != null && arrB != null)
+            return Math.sqrt(DistanceKernels.squaredEuclidean(arrA, arrB));
+
         return MatrixUtil.localCopyOf(a).minus(b).kNorm(2.0);
     }
 
     /** {@inheritDoc} */
     @Override public double compute(Vector a, double[] b) throws CardinalityException {
+        double[] arrA = DistanceKernels.arrayOf(a);
+
+        if (arrA != null && arrA.length == b.length)
+            return Math.sqrt(DistanceKernels.squaredEuclidean(arrA, b));
+
         double res = 0.0;
 
         for (int i = 0; i < b.length; i++)
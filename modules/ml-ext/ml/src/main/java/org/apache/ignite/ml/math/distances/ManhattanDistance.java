@@ -30,6 +30,12 @@ public class ManhattanDistance implements DistanceMeasure {
     /** {@inheritDoc} */
     @Override public double compute(Vector a, Vector b)
         throws CardinalityException {
+        double[] arrA = DistanceKernels.arrayOf(a);
+        double[] arrB = DistanceKernels.arrayOf(b);
+
+        if (arrA != null && arrB != null)
+            return DistanceKernels.manhattan(arrA, arrB);
+
         return MatrixUtil.localCopyOf(a).minus(b).kNorm(1.0);
     }
 
@@ -50,6 +50,13 @@ public class MinkowskiDistance implements DistanceMeasure {
     /** {@inheritDoc} */
     @Override public double compute(Vector a, Vector b) throws CardinalityException {
         assert a.size() == b.size();
+
+        double[] arrA = DistanceKernels.arrayOf(a);
+        double[] arrB = DistanceKernels.arrayOf(b);
+
+        if (arrA != null && arrB != null)
+            return DistanceKernels.minkowski(arrA, arrB, p);
+
         IgniteDoubleFunction<Double> fun = value -> Math.pow(Math.abs(value), p);
 
         Double result = MatrixUtil.localCopyOf(a).minus(b).foldMap(PLUS, fun, 0d);
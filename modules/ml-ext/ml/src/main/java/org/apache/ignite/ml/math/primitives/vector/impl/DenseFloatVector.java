@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.math.primitives.vector.impl;
+
+import org.apache.ignite.ml.math.primitives.matrix.Matrix;
+import org.apache.ignite.ml.math.primitives.matrix.impl.DenseMatrix;
+import org.apache.ignite.ml.math.primitives.vector.AbstractVector;
+import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.math.primitives.vector.storage.DenseFloatVectorStorage;
+
+/**
+ * Dense local on-heap vector that keeps values with single precision based on {@code float[]} array. It's suitable
+ * for keeping large datasets in memory when single precision of features is enough. Vectors derived from this one
+ * (copies, results of arithmetic operations) are {@link DenseVector}s with double precision.
+ */
+public class DenseFloatVector extends AbstractVector {
+    /** */
+    public DenseFloatVector() {
+        // No-op.
+    }
+
+    /**
+     * @param size Vector cardinality.
+     */
+    public DenseFloatVector(int size) {
+        setStorage(new DenseFloatVectorStorage(size));
+    }
+
+    /**
+     * @param arr Source array (is not copied).
+     */
+    public DenseFloatVector(float[] arr) {
+        setStorage(new DenseFloatVectorStorage(arr));
+    }
+
+    /**
+     * @param arr Source array to be narrowed to single precision.
+     */
+    public DenseFloatVector(double[] arr) {
+        setStorage(new DenseFloatVectorStorage(arr));
+    }
+
+    /** {@inheritDoc} */
+    @Override public Matrix likeMatrix(int rows, int cols) {
+        return new DenseMatrix(rows, cols);
+    }
+
+    /** {@inheritDoc} */
+    @Override public Vector like(int crd) {
+        return new DenseVector(crd);
+    }
+}
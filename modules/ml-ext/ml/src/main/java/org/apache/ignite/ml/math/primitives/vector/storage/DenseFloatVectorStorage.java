@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.math.primitives.vector.storage;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.Arrays;
+import org.apache.ignite.ml.math.primitives.vector.VectorStorage;
+
+/**
+ * Array based {@link VectorStorage} implementation that keeps values with single precision. Uses half of the memory
+ * of {@link DenseVectorStorage} at the cost of precision loss. Values are widened to {@code double} on read.
+ */
+public class DenseFloatVectorStorage implements VectorStorage {
+    /** Numeric vector array. */
+    private float[] data;
+
+    /**
+     * IMPL NOTE required by {@link Externalizable}.
+     */
+    public DenseFloatVectorStorage() {
+        // No-op.
+    }
+
+    /**
+     * @param size Vector size.
+     */
+    public DenseFloatVectorStorage(int size) {
+        assert size >= 0;
+
+        data = new float[size];
+    }
+
+    /**
+     * @param data Backing data array.
+     */
+    public DenseFloatVectorStorage(float[] data) {
+        assert data != null;
+
+        this.data = data;
+    }
+
+    /**
+     * @param data Data array to be narrowed to single precision.
+     */
+    public DenseFloatVectorStorage(double[] data) {
+        assert data != null;
+
+        this.data = new float[data.length];
+
+        for (int i = 0; i < data.length; i++)
+            this.data[i] = (float)data[i];
+    }
+
+    /** {@inheritDoc} */
+    @Override public int size() {
+        return data == null ? 0 : data.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override public double get(int i) {
+        return data[i];
+    }
+
+    /** {@inheritDoc} */
+    @SuppressWarnings("unchecked")
+    @Override public <T extends Serializable> T getRaw(int i) {
+        return (T)Double.valueOf(data[i]);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void set(int i, double v) {
+        data[i] = (float)v;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void setRaw(int i, Serializable v) {
+        if (v != null && !(v instanceof Number))
+            throw new ClassCastException("Float vector storage supports only numeric values.");
+
+        set(i, v == null ? 0.0 : ((Number)v).doubleValue());
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean isArrayBased() {
+        // There is no backing array of doubles.
+        return false;
+    }
+
+    /**
+     * Returns copy of values widened to double precision. Unlike {@link DenseVectorStorage#data()} changes of the
+     * returned array are not reflected in the storage.
+     *
+     * @return Copy of values.
+     */
+    @Override public double[] data() {
+        double[] res = new double[size()];
+
+        for (int i = 0; i < res.length; i++)
+            res[i] = data[i];
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean isDense() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean isNumeric() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeObject(data);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        data = (float[])in.readObject();
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        DenseFloatVectorStorage storage = (DenseFloatVectorStorage)o;
+        return Arrays.equals(data, storage.data);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int hashCode() {
+        return Arrays.hashCode(data);
+    }
+}
@@ -297,6 +297,26 @@ public final class MatrixUtil {
         return res;
     }
 
+    /**
+     * Converts the specified matrix in a dense flat row-major format into a dense flat column-major format.
+     *
+     * @param src Matrix in a dense flat row-major format (only first {@code rows * cols} elements are used).
+     * @param rows Number of rows.
+     * @param cols Number of columns.
+     * @return Matrix in a dense flat column-major format.
+     */
+    public static double[] toColumnMajor(double[] src, int rows, int cols) {
+        assert src.length >= rows * cols;
+
+        double[] res = new double[rows * cols];
+
+        for (int i = 0; i < rows; i++)
+            for (int j = 0; j < cols; j++)
+                res[j * rows + i] = src[i * cols + j];
+
+        return res;
+    }
+
     /**
      * Performs in-place matrix subtraction.
      *
@@ -21,6 +21,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import org.apache.ignite.lang.IgniteBiTuple;
 import org.apache.ignite.ml.dataset.Dataset;
 import org.apache.ignite.ml.dataset.DatasetBuilder;
 import org.apache.ignite.ml.dataset.primitive.builder.context.EmptyContextBuilder;
@@ -143,64 +144,94 @@ public class MLPTrainer<P extends Serializable> extends MultiLabelDatasetTrainer
                 MultilayerPerceptron finalMdl = mdl;
                 int finalI = i;
 
-                List<P> totUp = dataset.compute(
-                    data -> {
-                        P update = updater.init(finalMdl, loss);
+                IgniteFunction<SimpleLabeledDatasetData, P> locTraining = data -> {
+                    P update = updater.init(finalMdl, loss);
 
-                        MultilayerPerceptron mlp = Utils.copy(finalMdl);
+                    MultilayerPerceptron mlp = Utils.copy(finalMdl);
 
-                        if (data.getFeatures() != null) {
-                            List<P> updates = new ArrayList<>();
+                    if (data.getFeatures() != null) {
+                        List<P> updates = new ArrayList<>();
 
-                            for (int locStep = 0; locStep < locIterations; locStep++) {
-                                int[] rows = Utils.selectKDistinct(
-                                    data.getRows(),
-                                    Math.min(batchSize, data.getRows()),
-                                    new Random(seed ^ (finalI * locStep))
-                                );
+                        for (int locStep = 0; locStep < locIterations; locStep++) {
+                            int[] rows = Utils.selectKDistinct(
+                                data.getRows(),
+                                Math.min(batchSize, data.getRows()),
+                                new Random(seed ^ (finalI * locStep))
+                            );
 
-                                double[] inputsBatch = batch(data.getFeatures(), rows, data.getRows());
-                                double[] groundTruthBatch = batch(data.getLabels(), rows, data.getRows());
+                            double[] inputsBatch = batch(data.getFeatures(), rows, data.getRows());
+                            double[] groundTruthBatch = batch(data.getLabels(), rows, data.getRows());
 
-                                Matrix inputs = new DenseMatrix(inputsBatch, rows.length, 0);
-                                Matrix groundTruth = new DenseMatrix(groundTruthBatch, rows.length, 0);
+                            Matrix inputs = new DenseMatrix(inputsBatch, rows.length, 0);
+                            Matrix groundTruth = new DenseMatrix(groundTruthBatch, rows.length, 0);
 
-                                update = updater.calculateNewUpdate(
-                                    mlp,
-                                    update,
-                                    locStep,
-                                    inputs.transpose(),
-                                    groundTruth.transpose()
-                                );
+                            update = updater.calculateNewUpdate(
+                                mlp,
+                                update,
+                                locStep,
+                                inputs.transpose(),
+                                groundTruth.transpose()
+                            );
 
-                                mlp = updater.update(mlp, update);
-                                updates.add(update);
-                            }
+                            mlp = updater.update(mlp, update);
+                            updates.add(update);
+                        }
+
+                        return updatesStgy.locStepUpdatesReducer().apply(updates);
+                    }
+
+                    return null;
+                };
+
+                P update;
+
+                if (updatesStgy.allUpdatesReducerKind() != null) {
+                    // Updates are reduced on the nodes, so that only one update is sent back.
+                    IgniteBiTuple<P, Integer> totUp = dataset.computeWithTreeReduce(
+                        data -> {
+                            P locUpdate = locTraining.apply(data);
+
+                            return locUpdate != null ? new IgniteBiTuple<>(locUpdate, 1) : null;
+                        },
+                        updatesStgy::mergePartialUpdates
+                    );
+
+                    if (totUp == null)
+                        return getLastTrainedModelOrThrowEmptyDatasetException(lastLearnedMdl);
+
+                    update = totUp.get1();
+                }
+                else {
+                    List<P> totUp = dataset.compute(
+                        data -> {
+                            P locUpdate = locTraining.apply(data);
+
+                            if (locUpdate == null)
+                                return null;
 
                             List<P> res = new ArrayList<>();
-                            res.add(updatesStgy.locStepUpdatesReducer().apply(updates));
+                            res.add(locUpdate);
 
                             return res;
+                        },
+                        (a, b) -> {
+                            if (a == null)
+                                return b;
+                            else if (b == null)
+                                return a;
+                            else {
+                                a.addAll(b);
+                                return a;
+                            }
                         }
+                    );
 
-                        return null;
-                    },
-                    (a, b) -> {
-                        if (a == null)
-                            return b;
-                        else if (b == null)
-                            return a;
-                        else {
-                            a.addAll(b);
-                            return a;
-                        }
-                    }
-                );
+                    if (totUp == null)
+                        return getLastTrainedModelOrThrowEmptyDatasetException(lastLearnedMdl);
 
-                if (totUp == null)
-                    return getLastTrainedModelOrThrowEmptyDatasetException(lastLearnedMdl);
+                    update = updatesStgy.allUpdatesReducer().apply(totUp);
+                }
 
-                P update = updatesStgy.allUpdatesReducer().apply(totUp);
                 mdl = updater.update(mdl, update);
             }
 
@@ -18,9 +18,15 @@
 package org.apache.ignite.ml.nn;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
+import org.apache.ignite.lang.IgniteBiTuple;
+import org.apache.ignite.ml.math.functions.IgniteBiFunction;
 import org.apache.ignite.ml.math.functions.IgniteFunction;
+import org.apache.ignite.ml.optimization.updatecalculators.NesterovParameterUpdate;
 import org.apache.ignite.ml.optimization.updatecalculators.ParameterUpdateCalculator;
+import org.apache.ignite.ml.optimization.updatecalculators.RPropParameterUpdate;
+import org.apache.ignite.ml.optimization.updatecalculators.SimpleGDParameterUpdate;
 
 /**
  * Class encapsulating update strategies for group trainers based on updates.
@@ -28,7 +34,25 @@ import org.apache.ignite.ml.optimization.updatecalculators.ParameterUpdateCalcul
  * @param <M> Type of model to be optimized.
  * @param <U> Type of update.
  */
-public class UpdatesStrategy<M, U extends Serializable> {
+public class UpdatesStrategy<M, U extends Serializable> implements Serializable {
+    /** */
+    private static final long serialVersionUID = 2591487632941265079L;
+
+    /**
+     * Kind of the function used to reduce updates from different trainings. It defines how partial reductions of
+     * updates can be merged when updates are reduced hierarchically.
+     */
+    public enum AllUpdatesReducerKind {
+        /** Function sums updates, partial sums are merged by the same function. */
+        SUM,
+
+        /**
+         * Function averages updates, partial averages are merged with weights equal to numbers of averaged updates.
+         * Requires a function that multiplies an update by a scalar.
+         */
+        AVG
+    }
+
     /**
      * {@link ParameterUpdateCalculator}.
      */
@@ -46,7 +70,21 @@ public class UpdatesStrategy<M, U extends Serializable> {
     private IgniteFunction<List<U>, U> allUpdatesReducer;
 
     /**
-     * Construct instance of this class with given parameters.
+     * Kind of the function used to reduce updates from different trainings, {@code null} if it's unknown and updates
+     * can't be reduced hierarchically.
+     */
+    private AllUpdatesReducerKind allUpdatesReducerKind;
+
+    /**
+     * Function that multiplies an update by a scalar, used to merge partial averages of updates. {@code null} if
+     * updates aren't averaged.
+     */
+    private IgniteBiFunction<U, Double, U> updateScaler;
+
+    /**
+     * Construct instance of this class with given parameters. If {@code allUpdatesReducer} is one of the built-in
+     * functions of {@link SimpleGDParameterUpdate}, {@link RPropParameterUpdate} or {@link NesterovParameterUpdate},
+     * its kind and update scaler are derived, so that updates can be reduced hierarchically.
      *
      * @param updatesCalculator Parameter update calculator.
      * @param locStepUpdatesReducer Function used to reduce updates in one training
@@ -61,6 +99,64 @@ public class UpdatesStrategy<M, U extends Serializable> {
         this.updatesCalculator = updatesCalculator;
         this.locStepUpdatesReducer = locStepUpdatesReducer;
         this.allUpdatesReducer = allUpdatesReducer;
+
+        deriveAllUpdatesReducerKind();
+    }
+
+    /**
+     * Construct instance of this class with given parameters.
+     *
+     * @param updatesCalculator Parameter update calculator.
+     * @param locStepUpdatesReducer Function used to reduce updates in one training
+     * (for example, sum all sequential gradient updates to get one gradient update).
+     * @param allUpdatesReducer Function used to reduce updates from different trainings
+     * (for example, averaging of gradients of all parallel trainings).
+     * @param allUpdatesReducerKind Kind of the function used to reduce updates from different trainings.
+     * @param updateScaler Function that multiplies an update by a scalar, required if updates are averaged.
+     */
+    public UpdatesStrategy(
+        ParameterUpdateCalculator<M, U> updatesCalculator,
+        IgniteFunction<List<U>, U> locStepUpdatesReducer,
+        IgniteFunction<List<U>, U> allUpdatesReducer,
+        AllUpdatesReducerKind allUpdatesReducerKind,
+        IgniteBiFunction<U, Double, U> updateScaler) {
+        this(updatesCalculator, locStepUpdatesReducer, allUpdatesReducer);
+
+        if (allUpdatesReducerKind == AllUpdatesReducerKind.AVG && updateScaler == null)
+            throw new IllegalArgumentException("Update scaler is required to merge partial averages of updates " +
+                "[allUpdatesReducerKind=" + allUpdatesReducerKind + ']');
+
+        this.allUpdatesReducerKind = allUpdatesReducerKind;
+        this.updateScaler = updateScaler;
+    }
+
+    /**
+     * Sets kind of the function used to reduce updates from different trainings and update scaler if the function is
+     * one of the built-in ones.
+     */
+    private void deriveAllUpdatesReducerKind() {
+        Object reducer = allUpdatesReducer;
+
+        if (reducer == SimpleGDParameterUpdate.SUM_LOCAL || reducer == RPropParameterUpdate.SUM
+            || reducer == NesterovParameterUpdate.SUM)
+            allUpdatesReducerKind = AllUpdatesReducerKind.SUM;
+        else if (reducer == SimpleGDParameterUpdate.AVG)
+            averageWith(SimpleGDParameterUpdate.SCALE);
+        else if (reducer == RPropParameterUpdate.AVG)
+            averageWith(RPropParameterUpdate.SCALE);
+        else if (reducer == NesterovParameterUpdate.AVG)
+            averageWith(NesterovParameterUpdate.SCALE);
+    }
+
+    /**
+     * Sets averaging kind of the function used to reduce updates from different trainings.
+     *
+     * @param updateScaler Function that multiplies an update by a scalar.
+     */
+    @SuppressWarnings("unchecked")
+    private void averageWith(IgniteBiFunction<?, Double, ?> updateScaler) {
+        allUpdatesReducerKind = AllUpdatesReducerKind.AVG;
+        this.updateScaler = (IgniteBiFunction<U, Double, U>)updateScaler;
     }
 
     /**
@@ -92,4 +188,47 @@ public class UpdatesStrategy<M, U extends Serializable> {
     public IgniteFunction<List<U>, U> allUpdatesReducer() {
         return allUpdatesReducer;
     }
+
+    /**
+     * Get kind of the function used to reduce updates from different trainings.
+     *
+     * @return Kind of the function used to reduce updates from different trainings, {@code null} if it's unknown.
+     */
+    public AllUpdatesReducerKind allUpdatesReducerKind() {
+        return allUpdatesReducerKind;
+    }
+
+    /**
+     * Merges two partial reductions of updates from different trainings, so that the result is equal to the result of
+     * {@link #allUpdatesReducer()} applied to all updates of both partial reductions. Partial averages are merged
+     * with weights in a single reducer call: {@code (a * na + b * nb) / (na + nb)} is computed as the average of
+     * {@code a * 2na / (na + nb)} and {@code b * 2nb / (na + nb)}.
+     *
+     * @param a First partial reduction and number of reduced updates.
+     * @param b Second partial reduction and number of reduced updates.
+     * @return Merged partial reduction and number of reduced updates.
+     */
+    public IgniteBiTuple<U, Integer> mergePartialUpdates(IgniteBiTuple<U, Integer> a, IgniteBiTuple<U, Integer> b) {
+        assert allUpdatesReducerKind != null;
+
+        if (a == null)
+            return b;
+        if (b == null)
+            return a;
+
+        int cnt = a.get2() + b.get2();
+
+        List<U> updates = new ArrayList<>(2);
+
+        if (allUpdatesReducerKind == AllUpdatesReducerKind.AVG) {
+            updates.add(updateScaler.apply(a.get1(), 2.0 * a.get2() / cnt));
+            updates.add(updateScaler.apply(b.get1(), 2.0 * b.get2() / cnt));
+        }
+        else {
+            updates.add(a.get1());
+            updates.add(b.get1());
+        }
+
+        return new IgniteBiTuple<>(allUpdatesReducer.apply(updates), cnt);
+    }
 }
@@ -20,6 +20,8 @@ package org.apache.ignite.ml.optimization.updatecalculators;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Objects;
+import org.apache.ignite.ml.math.functions.IgniteBiFunction;
+import org.apache.ignite.ml.math.functions.IgniteFunction;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
 import org.apache.ignite.ml.math.primitives.vector.impl.DenseVector;
 
@@ -27,6 +29,18 @@ import org.apache.ignite.ml.math.primitives.vector.impl.DenseVector;
  * Data needed for Nesterov parameters updater.
  */
 public class NesterovParameterUpdate implements Serializable {
+    /** Sums updates returned by different trainings. */
+    public static final IgniteFunction<List<NesterovParameterUpdate>, NesterovParameterUpdate> SUM =
+        NesterovParameterUpdate::sum;
+
+    /** Averages updates returned by different trainings. */
+    public static final IgniteFunction<List<NesterovParameterUpdate>, NesterovParameterUpdate> AVG =
+        NesterovParameterUpdate::avg;
+
+    /** Multiplies update by a scalar (e.g. to merge partial averages of updates). */
+    public static final IgniteBiFunction<NesterovParameterUpdate, Double, NesterovParameterUpdate> SCALE =
+        NesterovParameterUpdate::scale;
+
     /** */
     private static final long serialVersionUID = -6370106062737202385L;
 
@@ -101,4 +115,15 @@ public class NesterovParameterUpdate implements Serializable {
             .divide(parameters.stream()
                 .filter(Objects::nonNull).count())) : null;
     }
+
+    /**
+     * Get parameters updates multiplied by a scalar.
+     *
+     * @param parameters Parameters to scale.
+     * @param factor Scalar.
+     * @return Scaled parameters updates.
+     */
+    public static NesterovParameterUpdate scale(NesterovParameterUpdate parameters, Double factor) {
+        return new NesterovParameterUpdate(parameters.prevIterationUpdates().times(factor));
+    }
 }
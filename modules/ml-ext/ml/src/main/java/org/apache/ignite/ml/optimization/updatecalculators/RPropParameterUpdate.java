@@ -21,6 +21,7 @@ import java.io.Serializable;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import org.apache.ignite.ml.math.functions.IgniteBiFunction;
 import org.apache.ignite.ml.math.functions.IgniteFunction;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
 import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
@@ -41,6 +42,10 @@ public class RPropParameterUpdate implements Serializable {
     /** Sums updates during one training. */
     public static final IgniteFunction<List<RPropParameterUpdate>, RPropParameterUpdate> SUM_LOCAL = RPropParameterUpdate::sumLocal;
 
+    /** Multiplies update by a scalar (e.g. to merge partial averages of updates). */
+    public static final IgniteBiFunction<RPropParameterUpdate, Double, RPropParameterUpdate> SCALE =
+        RPropParameterUpdate::scale;
+
     /** */
     private static final long serialVersionUID = -165584242642323332L;
 
@@ -239,4 +244,20 @@ public class RPropParameterUpdate implements Serializable {
 
         return null;
     }
+
+    /**
+     * Multiplies update by a scalar.
+     *
+     * @param update Update.
+     * @param factor Scalar.
+     * @return Scaled update.
+     */
+    private static RPropParameterUpdate scale(RPropParameterUpdate update, Double factor) {
+        return new RPropParameterUpdate(
+            update.prevIterationUpdates().times(factor),
+            update.prevIterationGradient().times(factor),
+            update.deltas().times(factor),
+            update.updatesMask().copy()
+        );
+    }
 }
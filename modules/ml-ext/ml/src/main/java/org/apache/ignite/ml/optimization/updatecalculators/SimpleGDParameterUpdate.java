@@ -21,6 +21,7 @@ import java.io.Serializable;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import org.apache.ignite.ml.math.functions.IgniteBiFunction;
 import org.apache.ignite.ml.math.functions.IgniteFunction;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
 import org.apache.ignite.ml.math.primitives.vector.impl.DenseVector;
@@ -36,6 +37,10 @@ public class SimpleGDParameterUpdate implements Serializable {
     public static final IgniteFunction<List<SimpleGDParameterUpdate>, SimpleGDParameterUpdate> SUM_LOCAL =
         SimpleGDParameterUpdate::sumLocal;
 
+    /** Method used to multiply update by a scalar (e.g. to merge partial averages of updates). */
+    public static final IgniteBiFunction<SimpleGDParameterUpdate, Double, SimpleGDParameterUpdate> SCALE =
+        SimpleGDParameterUpdate::scale;
+
     /** */
     private static final long serialVersionUID = -8732955283436005621L;
 
@@ -97,4 +102,15 @@ public class SimpleGDParameterUpdate implements Serializable {
         return sum != null ? new SimpleGDParameterUpdate(sum.gradient().
             divide(updates.stream().filter(Objects::nonNull).collect(Collectors.toList()).size())) : null;
     }
+
+    /**
+     * Method used to multiply update by a scalar.
+     *
+     * @param update Update.
+     * @param factor Scalar.
+     * @return Scaled update.
+     */
+    private static SimpleGDParameterUpdate scale(SimpleGDParameterUpdate update, Double factor) {
+        return new SimpleGDParameterUpdate(update.gradient().times(factor));
+    }
 }
@@ -33,6 +33,7 @@ import org.apache.ignite.ml.environment.LearningEnvironmentBuilder;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
 import org.apache.ignite.ml.preprocessing.PreprocessingTrainer;
 import org.apache.ignite.ml.preprocessing.Preprocessor;
+import org.apache.ignite.ml.preprocessing.developer.FusedPreprocessor;
 import org.apache.ignite.ml.trainers.DatasetTrainer;
 
 /**
@@ -145,6 +146,8 @@ public class Pipeline<K, V, C extends Serializable, L> implements Serializable {
             );
         });
 
+        finalPreprocessor = FusedPreprocessor.fuse(finalPreprocessor);
+
         LearningEnvironment env = LearningEnvironmentBuilder.defaultBuilder().buildForTrainer();
         env.initDeployingContext(finalPreprocessor);
         IgniteModel<Vector, Double> internalMdl = finalStage
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.preprocessing;
+
+import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.math.primitives.vector.storage.DenseVectorStorage;
+import org.apache.ignite.ml.structures.LabeledVector;
+
+/**
+ * Preprocessor that transforms features of the row produced by its base preprocessor in place and doesn't touch the
+ * label. Chains of such preprocessors can be fused into one pass over a primitive array of features, see
+ * {@link org.apache.ignite.ml.preprocessing.developer.FusedPreprocessor}.
+ *
+ * @param <K> Type of a key in {@code upstream} data.
+ * @param <V> Type of a value in {@code upstream} data.
+ */
+public interface FusiblePreprocessor<K, V> extends Preprocessor<K, V> {
+    /**
+     * Returns base preprocessor that produces rows transformed by this preprocessor.
+     */
+    public Preprocessor<K, V> basePreprocessor();
+
+    /**
+     * Transforms features in place.
+     *
+     * @param features Features of one row.
+     */
+    public void transform(double[] features);
+
+    /**
+     * Transforms features of the given row in place. Dense vectors owning their whole backing array are transformed
+     * without copying, views and other vectors are transformed through a buffer.
+     *
+     * @param row Row.
+     * @return The same row.
+     */
+    public default LabeledVector transform(LabeledVector row) {
+        Vector features = row.features();
+
+        // Storage of a view returns the whole array of the parent vector, so only dense storage is used directly.
+        if (features.getStorage() instanceof DenseVectorStorage && features.isNumeric()) {
+            transform(features.getStorage().data());
+
+            return row;
+        }
+
+        double[] buf = new double[features.size()];
+
+        for (int i = 0; i < buf.length; i++)
+            buf[i] = features.get(i);
+
+        transform(buf);
+
+        for (int i = 0; i < buf.length; i++)
+            features.set(i, buf[i]);
+
+        return row;
+    }
+}
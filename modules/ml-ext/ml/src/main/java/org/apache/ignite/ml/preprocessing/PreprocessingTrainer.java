@@ -17,6 +17,7 @@
 
 package org.apache.ignite.ml.preprocessing;
 
+import java.io.Serializable;
 import java.util.Map;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteCache;
@@ -32,7 +33,7 @@ import org.apache.ignite.ml.environment.LearningEnvironmentBuilder;
  * @param <K> Type of a key in {@code upstream} data.
  * @param <V> Type of a value in {@code upstream} data.
  */
-public interface PreprocessingTrainer<K, V> {
+public interface PreprocessingTrainer<K, V> extends Serializable {
     /**
      * Fits preprocessor.
      *
@@ -20,6 +20,7 @@ package org.apache.ignite.ml.preprocessing.binarization;
 import java.util.Collections;
 import java.util.List;
 import org.apache.ignite.ml.environment.deploy.DeployableObject;
+import org.apache.ignite.ml.preprocessing.FusiblePreprocessor;
 import org.apache.ignite.ml.preprocessing.Preprocessor;
 import org.apache.ignite.ml.structures.LabeledVector;
 
@@ -32,7 +33,7 @@ import org.apache.ignite.ml.structures.LabeledVector;
  * @param <K> Type of a key in {@code upstream} data.
  * @param <V> Type of a value in {@code upstream} data.
  */
-public final class BinarizationPreprocessor<K, V> implements Preprocessor<K, V>, DeployableObject {
+public final class BinarizationPreprocessor<K, V> implements FusiblePreprocessor<K, V>, DeployableObject {
     /** */
     private static final long serialVersionUID = 6877811577892621239L;
 
@@ -61,14 +62,15 @@ public final class BinarizationPreprocessor<K, V> implements Preprocessor<K, V>,
      * @return Preprocessed row.
      */
     @Override public LabeledVector apply(K k, V v) {
-        LabeledVector res = basePreprocessor.apply(k, v);
+        return transform(basePreprocessor.apply(k, v));
+    }
 
-        for (int i = 0; i < res.size(); i++) {
-            if (res.get(i) > threshold) res.set(i, 1.0);
-            else res.set(i, 0.0);
+    /** {@inheritDoc} */
+    @Override public void transform(double[] features) {
+        for (int i = 0; i < features.length; i++) {
+            if (features[i] > threshold) features[i] = 1.0;
+            else features[i] = 0.0;
         }
-
-        return res;
     }
 
     /** Get the threshold parameter. */
@@ -76,6 +78,11 @@ public final class BinarizationPreprocessor<K, V> implements Preprocessor<K, V>,
         return threshold;
     }
 
+    /** {@inheritDoc} */
+    @Override public Preprocessor<K, V> basePreprocessor() {
+        return basePreprocessor;
+    }
+
     /** {@inheritDoc} */
     @Override public List<Object> getDependencies() {
         return Collections.singletonList(basePreprocessor);
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.preprocessing.developer;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import org.apache.ignite.ml.environment.deploy.DeployableObject;
+import org.apache.ignite.ml.preprocessing.FusiblePreprocessor;
+import org.apache.ignite.ml.preprocessing.Preprocessor;
+import org.apache.ignite.ml.structures.LabeledVector;
+
+/**
+ * Preprocessor that applies a chain of {@link FusiblePreprocessor}s in one pass over a primitive array of features
+ * instead of a chain of nested calls reading and writing vector elements one by one. Features of array based vectors
+ * are transformed in place, other vectors are copied into an array once per row. Fused preprocessor is fusible
+ * itself, so it can be fused again with stages added later.
+ *
+ * NOTE: This is a part of Developer API for internal needs.
+ *
+ * @param <K> Type of a key in {@code upstream} data.
+ * @param <V> Type of a value in {@code upstream} data.
+ */
+public final class FusedPreprocessor<K, V> implements FusiblePreprocessor<K, V>, DeployableObject {
+    /** */
+    private static final long serialVersionUID = -3283911358421740812L;
+
+    /** Base preprocessor producing rows for the first stage. */
+    private final Preprocessor<K, V> basePreprocessor;
+
+    /** Fused stages in order of application. */
+    private final FusiblePreprocessor<K, V>[] stages;
+
+    /**
+     * Constructs a new instance of fused preprocessor.
+     *
+     * @param basePreprocessor Base preprocessor producing rows for the first stage.
+     * @param stages Fused stages in order of application.
+     */
+    private FusedPreprocessor(Preprocessor<K, V> basePreprocessor, FusiblePreprocessor<K, V>[] stages) {
+        this.basePreprocessor = basePreprocessor;
+        this.stages = stages;
+    }
+
+    /**
+     * Fuses the chain of {@link FusiblePreprocessor}s ending with the given preprocessor. Stages of already fused
+     * preprocessors found in the chain are fused as well.
+     *
+     * @param preprocessor Last preprocessor of the chain.
+     * @param <K> Type of a key in {@code upstream} data.
+     * @param <V> Type of a value in {@code upstream} data.
+     * @return Fused preprocessor or the given preprocessor if there is nothing to fuse.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> Preprocessor<K, V> fuse(Preprocessor<K, V> preprocessor) {
+        Deque<FusiblePreprocessor<K, V>> chain = new ArrayDeque<>();
+
+        Preprocessor<K, V> base = preprocessor;
+        while (true) {
+            if (base instanceof FusedPreprocessor) {
+                FusedPreprocessor<K, V> fused = (FusedPreprocessor<K, V>)base;
+
+                for (int i = fused.stages.length - 1; i >= 0; i--)
+                    chain.addFirst(fused.stages[i]);
+
+                base = fused.basePreprocessor;
+            }
+            else if (base instanceof FusiblePreprocessor) {
+                FusiblePreprocessor<K, V> stage = (FusiblePreprocessor<K, V>)base;
+
+                chain.addFirst(stage);
+                base = stage.basePreprocessor();
+            }
+            else
+                break;
+        }
+
+        // Already fused chain is returned as is.
+        if (chain.size() < 2 || preprocessor instanceof FusedPreprocessor)
+            return preprocessor;
+
+        return new FusedPreprocessor<>(base, chain.toArray(new FusiblePreprocessor[chain.size()]));
+    }
+
+    /**
+     * Applies this preprocessor.
+     *
+     * @param k Key.
+     * @param v Value.
+     * @return Preprocessed row.
+     */
+    @Override public LabeledVector apply(K k, V v) {
+        return transform(basePreprocessor.apply(k, v));
+    }
+
+    /**
+     * Applies all fused stages to the features of one row in place.
+     *
+     * @param features Features of one row.
+     */
+    @Override public void transform(double[] features) {
+        for (FusiblePreprocessor<K, V> stage : stages)
+            stage.transform(features);
+    }
+
+    /**
+     * Applies all fused stages to the block of rows in place. It's used to preprocess features that were already
+     * extracted by the base preprocessor.
+     *
+     * @param block Features of rows, one row per array.
+     */
+    public void transform(double[][] block) {
+        for (double[] features : block)
+            transform(features);
+    }
+
+    /** {@inheritDoc} */
+    @Override public Preprocessor<K, V> basePreprocessor() {
+        return basePreprocessor;
+    }
+
+    /** Returns amount of fused stages. */
+    public int getAmountOfStages() {
+        return stages.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<Object> getDependencies() {
+        // The last stage refers to the whole original chain.
+        return Collections.singletonList(stages[stages.length - 1]);
+    }
+}
@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.List;
 import org.apache.ignite.ml.environment.deploy.DeployableObject;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.preprocessing.FusiblePreprocessor;
 import org.apache.ignite.ml.preprocessing.Preprocessor;
 import org.apache.ignite.ml.structures.LabeledVector;
 
@@ -30,7 +31,7 @@ import org.apache.ignite.ml.structures.LabeledVector;
  * @param <K> Type of a key in {@code upstream} data.
  * @param <V> Type of a value in {@code upstream} data.
  */
-public final class ImputerPreprocessor<K, V> implements Preprocessor<K, V>, DeployableObject {
+public final class ImputerPreprocessor<K, V> implements FusiblePreprocessor<K, V>, DeployableObject {
     /** */
     private static final long serialVersionUID = 6887800576392623469L;
 
@@ -59,15 +60,22 @@ public final class ImputerPreprocessor<K, V> implements Preprocessor<K, V>, Depl
      * @return Preprocessed row.
      */
     @Override public LabeledVector apply(K k, V v) {
-        LabeledVector res = basePreprocessor.apply(k, v);
+        return transform(basePreprocessor.apply(k, v));
+    }
 
-        assert res.size() == imputingValues.size();
+    /** {@inheritDoc} */
+    @Override public void transform(double[] features) {
+        assert features.length == imputingValues.size();
 
-        for (int i = 0; i < res.size(); i++) {
-            if (Double.valueOf(res.get(i)).equals(Double.NaN))
-                res.set(i, imputingValues.get(i));
+        for (int i = 0; i < features.length; i++) {
+            if (Double.isNaN(features[i]))
+                features[i] = imputingValues.get(i);
         }
-        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Preprocessor<K, V> basePreprocessor() {
+        return basePreprocessor;
     }
 
     /** {@inheritDoc} */
@@ -20,6 +20,7 @@ package org.apache.ignite.ml.preprocessing.maxabsscaling;
 import java.util.Collections;
 import java.util.List;
 import org.apache.ignite.ml.environment.deploy.DeployableObject;
+import org.apache.ignite.ml.preprocessing.FusiblePreprocessor;
 import org.apache.ignite.ml.preprocessing.Preprocessor;
 import org.apache.ignite.ml.structures.LabeledVector;
 
@@ -34,7 +35,7 @@ import org.apache.ignite.ml.structures.LabeledVector;
  * @param <K> Type of a key in {@code upstream} data.
  * @param <V> Type of a value in {@code upstream} data.
  */
-public final class MaxAbsScalerPreprocessor<K, V> implements Preprocessor<K, V>, DeployableObject {
+public final class MaxAbsScalerPreprocessor<K, V> implements FusiblePreprocessor<K, V>, DeployableObject {
     /** */
     private static final long serialVersionUID = 1L;
 
@@ -63,14 +64,15 @@ public final class MaxAbsScalerPreprocessor<K, V> implements Preprocessor<K, V>,
      * @return Preprocessed row.
      */
     @Override public LabeledVector apply(K k, V v) {
-        LabeledVector res = basePreprocessor.apply(k, v);
-
-        assert res.size() == maxAbs.length;
+        return transform(basePreprocessor.apply(k, v));
+    }
 
-        for (int i = 0; i < res.size(); i++)
-            res.set(i, res.get(i) / maxAbs[i]);
+    /** {@inheritDoc} */
+    @Override public void transform(double[] features) {
+        assert features.length == maxAbs.length;
 
-        return res;
+        for (int i = 0; i < features.length; i++)
+            features[i] /= maxAbs[i];
     }
 
     /** */
@@ -78,6 +80,11 @@ public final class MaxAbsScalerPreprocessor<K, V> implements Preprocessor<K, V>,
         return maxAbs;
     }
 
+    /** {@inheritDoc} */
+    @Override public Preprocessor<K, V> basePreprocessor() {
+        return basePreprocessor;
+    }
+
     /** {@inheritDoc} */
     @Override public List<Object> getDependencies() {
         return Collections.singletonList(basePreprocessor);
@@ -20,6 +20,7 @@ package org.apache.ignite.ml.preprocessing.minmaxscaling;
 import java.util.Collections;
 import java.util.List;
 import org.apache.ignite.ml.environment.deploy.DeployableObject;
+import org.apache.ignite.ml.preprocessing.FusiblePreprocessor;
 import org.apache.ignite.ml.preprocessing.Preprocessor;
 import org.apache.ignite.ml.structures.LabeledVector;
 
@@ -35,7 +36,7 @@ import org.apache.ignite.ml.structures.LabeledVector;
  * @param <K> Type of a key in {@code upstream} data.
  * @param <V> Type of a value in {@code upstream} data.
  */
-public final class MinMaxScalerPreprocessor<K, V> implements Preprocessor<K, V>, DeployableObject {
+public final class MinMaxScalerPreprocessor<K, V> implements FusiblePreprocessor<K, V>, DeployableObject {
     /** */
     private static final long serialVersionUID = 6997800576392623469L;
 
@@ -69,23 +70,24 @@ public final class MinMaxScalerPreprocessor<K, V> implements Preprocessor<K, V>,
      * @return Preprocessed row.
      */
     @Override public LabeledVector apply(K k, V v) {
-        LabeledVector res = basePreprocessor.apply(k, v);
+        return transform(basePreprocessor.apply(k, v));
+    }
 
-        assert res.size() == min.length;
-        assert res.size() == max.length;
+    /** {@inheritDoc} */
+    @Override public void transform(double[] features) {
+        assert features.length == min.length;
+        assert features.length == max.length;
 
-        for (int i = 0; i < res.size(); i++) {
-            double num = res.get(i) - min[i];
+        for (int i = 0; i < features.length; i++) {
+            double num = features[i] - min[i];
             double denom = max[i] - min[i];
             double scaled = num / denom;
 
             if (Double.isNaN(scaled))
-                res.set(i, num);
+                features[i] = num;
             else
-                res.set(i, scaled);
+                features[i] = scaled;
         }
-
-        return res;
     }
 
     /** */
@@ -98,6 +100,11 @@ public final class MinMaxScalerPreprocessor<K, V> implements Preprocessor<K, V>,
         return max;
     }
 
+    /** {@inheritDoc} */
+    @Override public Preprocessor<K, V> basePreprocessor() {
+        return basePreprocessor;
+    }
+
     /** {@inheritDoc} */
     @Override public List<Object> getDependencies() {
         return Collections.singletonList(basePreprocessor);
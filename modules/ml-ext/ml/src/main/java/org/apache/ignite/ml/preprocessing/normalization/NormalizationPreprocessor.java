@@ -20,10 +20,7 @@ package org.apache.ignite.ml.preprocessing.normalization;
 import java.util.Collections;
 import java.util.List;
 import org.apache.ignite.ml.environment.deploy.DeployableObject;
-import org.apache.ignite.ml.math.functions.Functions;
-import org.apache.ignite.ml.math.functions.IgniteBiFunction;
-import org.apache.ignite.ml.math.functions.IgniteDoubleFunction;
-import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.preprocessing.FusiblePreprocessor;
 import org.apache.ignite.ml.preprocessing.Preprocessor;
 import org.apache.ignite.ml.structures.LabeledVector;
 
@@ -37,7 +34,7 @@ import org.apache.ignite.ml.structures.LabeledVector;
  * @param <K> Type of a key in {@code upstream} data.
  * @param <V> Type of a value in {@code upstream} data.
  */
-public final class NormalizationPreprocessor<K, V> implements Preprocessor<K, V>, DeployableObject {
+public final class NormalizationPreprocessor<K, V> implements FusiblePreprocessor<K, V>, DeployableObject {
     /** */
     private static final long serialVersionUID = 6873438115778921295L;
 
@@ -66,32 +63,22 @@ public final class NormalizationPreprocessor<K, V> implements Preprocessor<K, V>
      * @return Preprocessed row.
      */
     @Override public LabeledVector apply(K k, V v) {
-        LabeledVector res = basePreprocessor.apply(k, v);
-
-        double pNorm = Math.pow(foldMap(res.features(), Functions.PLUS, Functions.pow(p), 0d), 1.0 / p);
+        return transform(basePreprocessor.apply(k, v));
+    }
 
-        if (pNorm == 0) pNorm = 1;
+    /** {@inheritDoc} */
+    @Override public void transform(double[] features) {
+        double sum = 0;
 
-        for (int i = 0; i < res.size(); i++)
-            res.set(i, res.get(i) / pNorm);
+        for (double feature : features)
+            sum += p == 2 ? feature * feature : Math.pow(feature, p);
 
-        return res;
-    }
+        double pNorm = Math.pow(sum, 1.0 / p);
 
-    /**
-     * Folds given array into a single value.
-     * @param vec The given array.
-     * @param foldFun Folding function that takes two parameters: accumulator and the current value.
-     * @param mapFun Mapping function that is called on each vector element before its passed to the accumulator (as its
-     * second parameter).
-     * @param zero Zero value for fold operation.
-     * @return Folded value of this vector.
-     */
-    private double foldMap(Vector vec, IgniteBiFunction<Double, Double, Double> foldFun, IgniteDoubleFunction<Double> mapFun, double zero) {
-        for (int i = 0; i < vec.size(); i++)
-            zero = foldFun.apply(zero, mapFun.apply(vec.get(i)));
+        if (pNorm == 0) pNorm = 1;
 
-        return zero;
+        for (int i = 0; i < features.length; i++)
+            features[i] /= pNorm;
     }
 
     /** Gets the degree of L^p space parameter value. */
@@ -99,6 +86,11 @@ public final class NormalizationPreprocessor<K, V> implements Preprocessor<K, V>
         return p;
     }
 
+    /** {@inheritDoc} */
+    @Override public Preprocessor<K, V> basePreprocessor() {
+        return basePreprocessor;
+    }
+
     /** {@inheritDoc} */
     @Override public List<Object> getDependencies() {
         return Collections.singletonList(basePreprocessor);
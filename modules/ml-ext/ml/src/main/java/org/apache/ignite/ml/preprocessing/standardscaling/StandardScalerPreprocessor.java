@@ -20,6 +20,7 @@ package org.apache.ignite.ml.preprocessing.standardscaling;
 import java.util.Collections;
 import java.util.List;
 import org.apache.ignite.ml.environment.deploy.DeployableObject;
+import org.apache.ignite.ml.preprocessing.FusiblePreprocessor;
 import org.apache.ignite.ml.preprocessing.Preprocessor;
 import org.apache.ignite.ml.structures.LabeledVector;
 
@@ -36,7 +37,7 @@ import org.apache.ignite.ml.structures.LabeledVector;
  * @param <K> Type of a key in {@code upstream} data.
  * @param <V> Type of a value in {@code upstream} data.
  */
-public final class StandardScalerPreprocessor<K, V> implements Preprocessor<K, V>, DeployableObject {
+public final class StandardScalerPreprocessor<K, V> implements FusiblePreprocessor<K, V>, DeployableObject {
     /** */
     private static final long serialVersionUID = -5977957318991608203L;
 
@@ -73,14 +74,15 @@ public final class StandardScalerPreprocessor<K, V> implements Preprocessor<K, V
      * @return Preprocessed row.
      */
     @Override public LabeledVector apply(K k, V v) {
-        LabeledVector res = basePreprocessor.apply(k, v);
-
-        assert res.size() == means.length;
+        return transform(basePreprocessor.apply(k, v));
+    }
 
-        for (int i = 0; i < res.size(); i++)
-            res.set(i, (res.get(i) - means[i]) / sigmas[i]);
+    /** {@inheritDoc} */
+    @Override public void transform(double[] features) {
+        assert features.length == means.length;
 
-        return res;
+        for (int i = 0; i < features.length; i++)
+            features[i] = (features[i] - means[i]) / sigmas[i];
     }
 
     /** */
@@ -93,6 +95,11 @@ public final class StandardScalerPreprocessor<K, V> implements Preprocessor<K, V
         return sigmas;
     }
 
+    /** {@inheritDoc} */
+    @Override public Preprocessor<K, V> basePreprocessor() {
+        return basePreprocessor;
+    }
+
     /** {@inheritDoc} */
     @Override public List<Object> getDependencies() {
         return Collections.singletonList(basePreprocessor);
@@ -18,13 +18,20 @@
 package org.apache.ignite.ml.recommendation;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.ignite.ml.IgniteModel;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.recommendation.util.MipsLshIndex;
+import org.apache.ignite.ml.recommendation.util.ObjectFactorIndex;
 
 /**
- * Recommendation model that predicts rating for {@link ObjectSubjectPair}.
+ * Recommendation model that predicts rating for {@link ObjectSubjectPair} and recommends objects with the highest
+ * predicted rating for subjects (see {@link #recommend(Serializable, int)}).
  *
  * @param <O> Type of an object of recommendation.
  * @param <S> Type of a subject of recommendation.
@@ -40,6 +47,21 @@ public class RecommendationModel<O extends Serializable, S extends Serializable>
     /** Subject of recommendation matrix (result of factorization of rating matrix). */
     private final Map<S, Vector> subjMatrix;
 
+    /** Number of hash tables of approximate search index, {@code 0} if exact search is used. */
+    private int approxTables;
+
+    /** Number of bits per hash table of approximate search index. */
+    private int approxBits;
+
+    /** Seed of approximate search index. */
+    private long approxSeed;
+
+    /** Index of objects used to recommend objects, built lazily. */
+    private transient volatile ObjectFactorIndex<O> objIdx;
+
+    /** Approximate search index, built lazily if approximate search is used. */
+    private transient volatile MipsLshIndex approxIdx;
+
     /**
      * Constructs a new instance of recommendation model.
      *
@@ -58,6 +80,185 @@ public class RecommendationModel<O extends Serializable, S extends Serializable>
         return objVector.dot(subjVector);
     }
 
+    /**
+     * Recommends objects with the highest predicted rating for the specified subject.
+     *
+     * @param subj Subject of recommendation.
+     * @param n Number of objects to be recommended.
+     * @return Recommended objects with predicted ratings sorted by rating in descending order, empty list if subject
+     * is unknown.
+     */
+    public List<ObjectSubjectRatingTriplet<O, S>> recommend(S subj, int n) {
+        return recommend(Collections.singletonList(subj), n).get(subj);
+    }
+
+    /**
+     * Recommends objects with the highest predicted rating for every specified subject. Subjects are scored in
+     * batches, so this method is preferable to several calls of {@link #recommend(Serializable, int)}.
+     *
+     * @param subjs Subjects of recommendation.
+     * @param n Number of objects to be recommended for every subject.
+     * @return Recommended objects with predicted ratings sorted by rating in descending order for every subject, empty
+     * list for unknown subjects.
+     */
+    public Map<S, List<ObjectSubjectRatingTriplet<O, S>>> recommend(Collection<S> subjs, int n) {
+        if (n <= 0)
+            throw new IllegalArgumentException("Number of objects to be recommended must be positive [n=" + n + "]");
+
+        ObjectFactorIndex<O> idx = getObjectIndex();
+
+        List<S> knownSubjs = new ArrayList<>(subjs.size());
+        List<double[]> subjFactors = new ArrayList<>(subjs.size());
+        for (S subj : subjs) {
+            Vector subjVector = subjMatrix.get(subj);
+
+            if (subjVector != null) {
+                knownSubjs.add(subj);
+                subjFactors.add(toArray(subjVector));
+            }
+        }
+
+        int[][] top;
+        MipsLshIndex lsh = getApproximateIndex(idx);
+
+        if (lsh == null)
+            top = idx.top(subjFactors.toArray(new double[0][]), n);
+        else {
+            top = new int[subjFactors.size()][];
+
+            for (int i = 0; i < top.length; i++) {
+                double[] factors = subjFactors.get(i);
+                int[] candidates = lsh.candidates(factors);
+
+                // Not enough candidates, fall back to exact search.
+                top[i] = candidates.length < Math.min(n, idx.size()) ?
+                    idx.top(new double[][] {factors}, n)[0] :
+                    idx.top(factors, n, candidates);
+            }
+        }
+
+        Map<S, List<ObjectSubjectRatingTriplet<O, S>>> res = new LinkedHashMap<>();
+        for (S subj : subjs)
+            res.put(subj, Collections.emptyList());
+
+        for (int i = 0; i < knownSubjs.size(); i++) {
+            List<ObjectSubjectRatingTriplet<O, S>> recommendations = new ArrayList<>(top[i].length);
+
+            for (int obj : top[i]) {
+                recommendations.add(new ObjectSubjectRatingTriplet<>(idx.getObject(obj), knownSubjs.get(i),
+                    idx.rating(subjFactors.get(i), obj)));
+            }
+
+            res.put(knownSubjs.get(i), recommendations);
+        }
+
+        return res;
+    }
+
+    /**
+     * Switches recommendation to approximate search based on locality sensitive hashing (see {@link MipsLshIndex}).
+     * Approximate search ranks only objects that are hashed into the same bucket as subject at least in one of hash
+     * tables, so it might miss some objects with the highest rating.
+     *
+     * @param tables Number of hash tables, more tables give better recall and slower search.
+     * @param bits Number of bits per hash table, more bits give faster search and worse recall.
+     * @param seed Seed of random hyperplanes.
+     * @return This model.
+     */
+    public RecommendationModel<O, S> withApproximateSearch(int tables, int bits, long seed) {
+        if (tables <= 0)
+            throw new IllegalArgumentException("Number of tables must be positive [tables=" + tables + "]");
+
+        if (bits <= 0 || bits > 30)
+            throw new IllegalArgumentException("Number of bits must be in [1, 30] [bits=" + bits + "]");
+
+        approxTables = tables;
+        approxBits = bits;
+        approxSeed = seed;
+        approxIdx = null;
+
+        return this;
+    }
+
+    /**
+     * Switches recommendation to exact search.
+     *
+     * @return This model.
+     */
+    public RecommendationModel<O, S> withExactSearch() {
+        approxTables = 0;
+        approxIdx = null;
+
+        return this;
+    }
+
+    /**
+     * Returns index of objects, builds it if it's not built yet.
+     *
+     * @return Index of objects.
+     */
+    private ObjectFactorIndex<O> getObjectIndex() {
+        ObjectFactorIndex<O> idx = objIdx;
+
+        if (idx == null) {
+            synchronized (this) {
+                idx = objIdx;
+
+                if (idx == null) {
+                    List<O> objs = new ArrayList<>(objMatrix.size());
+                    double[][] factors = new double[objMatrix.size()][];
+
+                    for (Map.Entry<O, Vector> e : objMatrix.entrySet()) {
+                        factors[objs.size()] = toArray(e.getValue());
+                        objs.add(e.getKey());
+                    }
+
+                    objIdx = idx = new ObjectFactorIndex<>(objs, factors);
+                }
+            }
+        }
+
+        return idx;
+    }
+
+    /**
+     * Returns approximate search index, builds it if it's not built yet.
+     *
+     * @param idx Index of objects.
+     * @return Approximate search index or {@code null} if exact search is used.
+     */
+    private MipsLshIndex getApproximateIndex(ObjectFactorIndex<O> idx) {
+        if (approxTables == 0)
+            return null;
+
+        MipsLshIndex lsh = approxIdx;
+
+        if (lsh == null) {
+            synchronized (this) {
+                lsh = approxIdx;
+
+                if (lsh == null)
+                    approxIdx = lsh = new MipsLshIndex(idx, approxTables, approxBits, approxSeed);
+            }
+        }
+
+        return lsh;
+    }
+
+    /**
+     * Copies vector into array.
+     *
+     * @param vec Vector.
+     * @return Array.
+     */
+    private static double[] toArray(Vector vec) {
+        double[] res = new double[vec.size()];
+        for (int i = 0; i < res.length; i++)
+            res[i] = vec.get(i);
+
+        return res;
+    }
+
     /** */
     public Map<O, Vector> getObjMatrix() {
         return objMatrix;
@@ -184,8 +184,8 @@ public class RecommendationTrainer {
         for (int i = 0; maxIterations == -1 || i < maxIterations; i++) {
             int seed = i;
 
-            // Calculate gradient on reach partition and aggregate results.
-            MatrixFactorizationGradient<O, S> grad = dataset.compute(
+            // Calculate gradient on reach partition and aggregate results on the nodes.
+            MatrixFactorizationGradient<O, S> grad = dataset.computeWithTreeReduce(
                 (data, env) -> data.calculateGradient(
                     objMatrix,
                     subjMatrix,
@@ -194,7 +194,8 @@ public class RecommendationTrainer {
                     regParam,
                     learningRate
                 ),
-                RecommendationTrainer::sum
+                RecommendationTrainer::sum,
+                null
             );
 
             if (minMdlImprovement != 0 && calculateImprovement(grad) < minMdlImprovement)
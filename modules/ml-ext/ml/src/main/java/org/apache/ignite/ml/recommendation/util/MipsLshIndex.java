@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.recommendation.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Approximate maximum inner product search index over {@link ObjectFactorIndex} based on locality sensitive hashing.
+ * Factors of objects are scaled by the maximal norm and extended by one component so that all of them have unit norm,
+ * this turns maximum inner product search into cosine similarity search which is approximated by random hyperplane
+ * hashing. Index returns candidates that have to be ranked by exact predicted rating.
+ */
+public class MipsLshIndex {
+    /** Number of hash tables. */
+    private final int tables;
+
+    /** Number of bits (random hyperplanes) per hash table. */
+    private final int bits;
+
+    /** Number of factors. */
+    private final int k;
+
+    /** Random hyperplanes in row-major order, {@code tables * bits} rows of {@code k + 1} components. */
+    private final double[] hyperplanes;
+
+    /** Buckets of every hash table, every bucket keeps indices of objects in ascending order. */
+    private final List<Map<Integer, int[]>> buckets;
+
+    /**
+     * Constructs a new instance of approximate maximum inner product search index.
+     *
+     * @param idx Index of objects.
+     * @param tables Number of hash tables, more tables give better recall and more candidates.
+     * @param bits Number of bits per hash table, more bits give less candidates.
+     * @param seed Seed of random hyperplanes.
+     */
+    public MipsLshIndex(ObjectFactorIndex<?> idx, int tables, int bits, long seed) {
+        if (tables <= 0)
+            throw new IllegalArgumentException("Number of tables must be positive [tables=" + tables + "]");
+
+        if (bits <= 0 || bits > 30)
+            throw new IllegalArgumentException("Number of bits must be in [1, 30] [bits=" + bits + "]");
+
+        this.tables = tables;
+        this.bits = bits;
+        this.k = idx.getK();
+
+        Random rnd = new Random(seed);
+        hyperplanes = new double[tables * bits * (k + 1)];
+        for (int i = 0; i < hyperplanes.length; i++)
+            hyperplanes[i] = rnd.nextGaussian();
+
+        double[] factors = idx.getFactors();
+        double[] norms = idx.getNorms();
+
+        // Objects are sorted by norm in descending order.
+        double maxNorm = norms.length == 0 || norms[0] == 0 ? 1 : norms[0];
+
+        List<Map<Integer, List<Integer>>> tblBuckets = new ArrayList<>(tables);
+        for (int t = 0; t < tables; t++)
+            tblBuckets.add(new HashMap<>());
+
+        double[] x = new double[k + 1];
+        for (int o = 0; o < idx.size(); o++) {
+            for (int i = 0; i < k; i++)
+                x[i] = factors[o * k + i] / maxNorm;
+
+            double scaledNorm = norms[o] / maxNorm;
+            x[k] = Math.sqrt(Math.max(0, 1 - scaledNorm * scaledNorm));
+
+            for (int t = 0; t < tables; t++)
+                tblBuckets.get(t).computeIfAbsent(hash(t, x), h -> new ArrayList<>()).add(o);
+        }
+
+        buckets = new ArrayList<>(tables);
+        for (Map<Integer, List<Integer>> tbl : tblBuckets) {
+            Map<Integer, int[]> tblRes = new HashMap<>();
+
+            for (Map.Entry<Integer, List<Integer>> e : tbl.entrySet())
+                tblRes.put(e.getKey(), e.getValue().stream().mapToInt(Integer::intValue).toArray());
+
+            buckets.add(tblRes);
+        }
+    }
+
+    /**
+     * Returns candidates for objects with the highest predicted rating for the specified subject.
+     *
+     * @param subjFactors Factors of subject.
+     * @return Indices of candidate objects in ascending order.
+     */
+    public int[] candidates(double[] subjFactors) {
+        if (subjFactors.length != k)
+            throw new IllegalArgumentException("Subject must have the same number of factors as objects [expected="
+                + k + ", actual=" + subjFactors.length + "]");
+
+        // Last component of subject is zero, so inner product with extended objects is not changed.
+        double[] y = Arrays.copyOf(subjFactors, k + 1);
+
+        List<int[]> found = new ArrayList<>(tables);
+        int cnt = 0;
+        for (int t = 0; t < tables; t++) {
+            int[] bucket = buckets.get(t).get(hash(t, y));
+
+            if (bucket != null) {
+                found.add(bucket);
+                cnt += bucket.length;
+            }
+        }
+
+        int[] res = new int[cnt];
+        int ptr = 0;
+        for (int[] bucket : found) {
+            System.arraycopy(bucket, 0, res, ptr, bucket.length);
+            ptr += bucket.length;
+        }
+
+        Arrays.sort(res);
+
+        int uniqueCnt = 0;
+        for (int i = 0; i < res.length; i++) {
+            if (i == 0 || res[i] != res[i - 1])
+                res[uniqueCnt++] = res[i];
+        }
+
+        return Arrays.copyOf(res, uniqueCnt);
+    }
+
+    /**
+     * Computes hash of the specified vector in the specified table.
+     *
+     * @param tbl Hash table.
+     * @param x Vector of {@code k + 1} components.
+     * @return Hash.
+     */
+    private int hash(int tbl, double[] x) {
+        int res = 0;
+
+        for (int b = 0; b < bits; b++) {
+            int off = (tbl * bits + b) * (k + 1);
+
+            if (ObjectFactorIndex.dot(hyperplanes, off, x, 0, k + 1) >= 0)
+                res |= 1 << b;
+        }
+
+        return res;
+    }
+}
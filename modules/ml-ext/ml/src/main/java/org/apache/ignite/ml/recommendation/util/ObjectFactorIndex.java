@@ -0,0 +1,370 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.recommendation.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Index of objects of recommendation that allows to find objects with the highest predicted rating (inner product of
+ * object and subject factors) for a subject. Factors of objects are kept in a contiguous row-major matrix sorted by
+ * norm in descending order, so that search stops as soon as no remaining object can beat the current top (inner
+ * product is bounded by the product of norms).
+ *
+ * @param <O> Type of an object of recommendation.
+ */
+public class ObjectFactorIndex<O> {
+    /** Number of subjects processed together in batched search. */
+    private static final int SUBJECT_BLOCK_SIZE = 16;
+
+    /** Number of objects processed together in batched search. */
+    private static final int OBJECT_BLOCK_SIZE = 256;
+
+    /** Objects of recommendation sorted by norm of factors in descending order. */
+    private final List<O> objs;
+
+    /** Factors of objects in row-major order. */
+    private final double[] factors;
+
+    /** Norms of factors of objects. */
+    private final double[] norms;
+
+    /** Number of factors. */
+    private final int k;
+
+    /**
+     * Constructs a new instance of object factor index.
+     *
+     * @param objs Objects of recommendation.
+     * @param objFactors Factors of objects (row per object).
+     */
+    public ObjectFactorIndex(List<O> objs, double[][] objFactors) {
+        if (objs.size() != objFactors.length)
+            throw new IllegalArgumentException("Number of objects and factor rows must be equal [objs=" + objs.size()
+                + ", factors=" + objFactors.length + "]");
+
+        k = objFactors.length == 0 ? 0 : objFactors[0].length;
+
+        double[] unsortedNorms = new double[objFactors.length];
+        List<Integer> order = new ArrayList<>(objFactors.length);
+        for (int i = 0; i < objFactors.length; i++) {
+            if (objFactors[i].length != k)
+                throw new IllegalArgumentException("All objects must have the same number of factors [expected=" + k
+                    + ", actual=" + objFactors[i].length + "]");
+
+            unsortedNorms[i] = Math.sqrt(dot(objFactors[i], 0, objFactors[i], 0, k));
+            order.add(i);
+        }
+
+        order.sort((a, b) -> Double.compare(unsortedNorms[b], unsortedNorms[a]));
+
+        List<O> sortedObjs = new ArrayList<>(objFactors.length);
+        factors = new double[objFactors.length * k];
+        norms = new double[objFactors.length];
+
+        for (int i = 0; i < objFactors.length; i++) {
+            int idx = order.get(i);
+
+            sortedObjs.add(objs.get(idx));
+            System.arraycopy(objFactors[idx], 0, factors, i * k, k);
+            norms[i] = unsortedNorms[idx];
+        }
+
+        this.objs = Collections.unmodifiableList(sortedObjs);
+    }
+
+    /**
+     * Finds objects with the highest predicted rating for every specified subject. Subjects are processed in blocks
+     * against blocks of objects, so that a block of object factors is reused by several subjects while it's in cache.
+     *
+     * @param subjFactors Factors of subjects (row per subject).
+     * @param n Number of objects to be found for every subject.
+     * @return Indices of found objects for every subject sorted by predicted rating in descending order.
+     */
+    public int[][] top(double[][] subjFactors, int n) {
+        checkN(n);
+
+        int[][] res = new int[subjFactors.length][];
+
+        for (int subjFrom = 0; subjFrom < subjFactors.length; subjFrom += SUBJECT_BLOCK_SIZE) {
+            int subjTo = Math.min(subjFrom + SUBJECT_BLOCK_SIZE, subjFactors.length);
+
+            TopN[] tops = new TopN[subjTo - subjFrom];
+            double[] subjNorms = new double[subjTo - subjFrom];
+            for (int s = subjFrom; s < subjTo; s++) {
+                checkFactors(subjFactors[s]);
+
+                tops[s - subjFrom] = new TopN(Math.min(n, objs.size()));
+                subjNorms[s - subjFrom] = Math.sqrt(dot(subjFactors[s], 0, subjFactors[s], 0, k));
+            }
+
+            boolean[] done = new boolean[subjTo - subjFrom];
+
+            for (int objFrom = 0; objFrom < objs.size(); objFrom += OBJECT_BLOCK_SIZE) {
+                int objTo = Math.min(objFrom + OBJECT_BLOCK_SIZE, objs.size());
+
+                boolean allDone = true;
+                for (int s = 0; s < tops.length; s++) {
+                    done[s] = done[s] || !tops[s].accepts(subjNorms[s] * norms[objFrom]);
+                    allDone &= done[s];
+                }
+
+                if (allDone)
+                    break;
+
+                for (int s = 0; s < tops.length; s++) {
+                    if (done[s])
+                        continue;
+
+                    double[] subj = subjFactors[subjFrom + s];
+                    for (int o = objFrom; o < objTo; o++)
+                        tops[s].offer(o, dot(subj, 0, factors, o * k, k));
+                }
+            }
+
+            for (int s = 0; s < tops.length; s++)
+                res[subjFrom + s] = tops[s].sortedIndices();
+        }
+
+        return res;
+    }
+
+    /**
+     * Finds objects with the highest predicted rating for the specified subject among specified candidates.
+     *
+     * @param subjFactors Factors of subject.
+     * @param n Number of objects to be found.
+     * @param candidates Indices of candidate objects sorted in ascending order.
+     * @return Indices of found objects sorted by predicted rating in descending order.
+     */
+    public int[] top(double[] subjFactors, int n, int[] candidates) {
+        checkN(n);
+        checkFactors(subjFactors);
+
+        TopN top = new TopN(Math.min(n, candidates.length));
+        double subjNorm = Math.sqrt(dot(subjFactors, 0, subjFactors, 0, k));
+
+        for (int o : candidates) {
+            // Candidates are sorted by norm, so remaining candidates can't beat the current top.
+            if (!top.accepts(subjNorm * norms[o]))
+                break;
+
+            top.offer(o, dot(subjFactors, 0, factors, o * k, k));
+        }
+
+        return top.sortedIndices();
+    }
+
+    /**
+     * Computes predicted rating of the specified object for the specified subject.
+     *
+     * @param subjFactors Factors of subject.
+     * @param idx Index of object.
+     * @return Predicted rating.
+     */
+    public double rating(double[] subjFactors, int idx) {
+        return dot(subjFactors, 0, factors, idx * k, k);
+    }
+
+    /**
+     * Returns object with the specified index.
+     *
+     * @param idx Index of object.
+     * @return Object of recommendation.
+     */
+    public O getObject(int idx) {
+        return objs.get(idx);
+    }
+
+    /**
+     * Returns factors of objects in row-major order sorted by norm in descending order.
+     *
+     * @return Factors of objects.
+     */
+    double[] getFactors() {
+        return factors;
+    }
+
+    /**
+     * Returns norms of factors of objects.
+     *
+     * @return Norms of factors of objects.
+     */
+    double[] getNorms() {
+        return norms;
+    }
+
+    /** */
+    public int size() {
+        return objs.size();
+    }
+
+    /** */
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * Checks that number of objects to be found is positive.
+     *
+     * @param n Number of objects to be found.
+     */
+    private static void checkN(int n) {
+        if (n <= 0)
+            throw new IllegalArgumentException("Number of objects to be found must be positive [n=" + n + "]");
+    }
+
+    /**
+     * Checks that specified factors have expected size.
+     *
+     * @param subjFactors Factors of subject.
+     */
+    private void checkFactors(double[] subjFactors) {
+        if (subjFactors.length != k)
+            throw new IllegalArgumentException("Subject must have the same number of factors as objects [expected="
+                + k + ", actual=" + subjFactors.length + "]");
+    }
+
+    /**
+     * Computes dot product of two vectors kept in arrays.
+     *
+     * @param a First array.
+     * @param aOff Offset of the first vector.
+     * @param b Second array.
+     * @param bOff Offset of the second vector.
+     * @param len Length of vectors.
+     * @return Dot product.
+     */
+    static double dot(double[] a, int aOff, double[] b, int bOff, int len) {
+        double res = 0;
+        for (int i = 0; i < len; i++)
+            res += a[aOff + i] * b[bOff + i];
+
+        return res;
+    }
+
+    /**
+     * Bounded min-heap of object indices keyed by predicted rating.
+     */
+    private static class TopN {
+        /** Indices of objects. */
+        private final int[] idx;
+
+        /** Predicted ratings. */
+        private final double[] ratings;
+
+        /** Number of elements in heap. */
+        private int size;
+
+        /**
+         * Constructs a new instance of top N heap.
+         *
+         * @param n Maximal number of elements.
+         */
+        TopN(int n) {
+            idx = new int[n];
+            ratings = new double[n];
+        }
+
+        /**
+         * Checks if an object with the specified rating would be added to the heap.
+         *
+         * @param rating Rating.
+         * @return {@code true} if an object with the specified rating would be added.
+         */
+        boolean accepts(double rating) {
+            return size < idx.length || (size > 0 && rating > ratings[0]);
+        }
+
+        /**
+         * Offers object to the heap.
+         *
+         * @param objIdx Index of object.
+         * @param rating Predicted rating.
+         */
+        void offer(int objIdx, double rating) {
+            if (size < idx.length) {
+                int i = size++;
+
+                while (i > 0) {
+                    int parent = (i - 1) / 2;
+                    if (ratings[parent] <= rating)
+                        break;
+
+                    idx[i] = idx[parent];
+                    ratings[i] = ratings[parent];
+                    i = parent;
+                }
+
+                idx[i] = objIdx;
+                ratings[i] = rating;
+            }
+            else if (size > 0 && rating > ratings[0])
+                siftDown(objIdx, rating);
+        }
+
+        /**
+         * Replaces the root of the heap by the specified element and restores heap order.
+         *
+         * @param objIdx Index of object.
+         * @param rating Predicted rating.
+         */
+        private void siftDown(int objIdx, double rating) {
+            int i = 0;
+
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size)
+                    break;
+
+                if (child + 1 < size && ratings[child + 1] < ratings[child])
+                    child++;
+
+                if (ratings[child] >= rating)
+                    break;
+
+                idx[i] = idx[child];
+                ratings[i] = ratings[child];
+                i = child;
+            }
+
+            idx[i] = objIdx;
+            ratings[i] = rating;
+        }
+
+        /**
+         * Returns indices of objects sorted by predicted rating in descending order.
+         *
+         * @return Indices of objects.
+         */
+        int[] sortedIndices() {
+            int[] res = new int[size];
+
+            while (size > 0) {
+                res[size - 1] = idx[0];
+
+                size--;
+                if (size > 0)
+                    siftDown(idx[size], ratings[size]);
+            }
+
+            return res;
+        }
+    }
+}
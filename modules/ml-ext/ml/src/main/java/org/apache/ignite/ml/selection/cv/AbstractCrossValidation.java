@@ -21,13 +21,17 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.ignite.IgniteException;
 import org.apache.ignite.lang.IgniteBiPredicate;
 import org.apache.ignite.ml.IgniteModel;
 import org.apache.ignite.ml.dataset.DatasetBuilder;
@@ -46,12 +50,14 @@ import org.apache.ignite.ml.selection.paramgrid.HyperParameterTuningStrategy;
 import org.apache.ignite.ml.selection.paramgrid.ParamGrid;
 import org.apache.ignite.ml.selection.paramgrid.ParameterSetGenerator;
 import org.apache.ignite.ml.selection.paramgrid.RandomStrategy;
+import org.apache.ignite.ml.selection.paramgrid.SuccessiveHalvingStrategy;
 import org.apache.ignite.ml.selection.scoring.evaluator.Evaluator;
 import org.apache.ignite.ml.selection.scoring.metric.Metric;
 import org.apache.ignite.ml.selection.scoring.metric.MetricName;
 import org.apache.ignite.ml.selection.split.mapper.SHA256UniformMapper;
 import org.apache.ignite.ml.selection.split.mapper.UniformMapper;
 import org.apache.ignite.ml.trainers.DatasetTrainer;
+import org.apache.ignite.ml.util.Utils;
 import org.apache.ignite.ml.util.genetic.Chromosome;
 import org.apache.ignite.ml.util.genetic.GeneticAlgorithm;
 import org.jetbrains.annotations.NotNull;
@@ -70,7 +76,8 @@ import org.jetbrains.annotations.NotNull;
  * @param <K> Type of a key in {@code upstream} data.
  * @param <V> Type of a value in {@code upstream} data.
  */
-public abstract class AbstractCrossValidation<M extends IgniteModel<Vector, Double>, K, V> implements Serializable {
+public abstract class AbstractCrossValidation<M extends IgniteModel<Vector, Double>, K, V> implements Serializable,
+    Cloneable {
     /** Learning environment builder. */
     protected LearningEnvironmentBuilder envBuilder = LearningEnvironmentBuilder.defaultBuilder();
 
@@ -107,6 +114,12 @@ public abstract class AbstractCrossValidation<M extends IgniteModel<Vector, Doub
     /** Mapper. */
     protected UniformMapper<K, V> mapper = new SHA256UniformMapper<>();
 
+    /** Maximal amount of folds processed concurrently, non-positive value means parallelism of the environment. */
+    protected int maxConcurrentFolds;
+
+    /** Fraction of the training data of each fold used to train models, changed on copies by successive halving. */
+    private double trainingDataFraction = 1.0;
+
     /**
      * Finds the best set of hyper-parameters based on parameter search strategy.
      */
@@ -115,6 +128,8 @@ public abstract class AbstractCrossValidation<M extends IgniteModel<Vector, Doub
 
         if (hyperParamTuningStgy instanceof BruteForceStrategy) return scoreBruteForceHyperparameterOptimization();
         if (hyperParamTuningStgy instanceof RandomStrategy) return scoreRandomSearchHyperparameterOptimization();
+        if (hyperParamTuningStgy instanceof SuccessiveHalvingStrategy)
+            return scoreSuccessiveHalvingHyperparameterOptimization();
         if (hyperParamTuningStgy instanceof EvolutionOptimizationStrategy)
             return scoreEvolutionAlgorithmSearchHyperparameterOptimization();
         else throw new UnsupportedOperationException("This strategy is not supported yet [strategy="
@@ -138,8 +153,13 @@ public abstract class AbstractCrossValidation<M extends IgniteModel<Vector, Doub
 
         CrossValidationResult cvRes = new CrossValidationResult();
 
+        // Chromosomes are evaluated concurrently only if each of them can get its own copy of the trainer.
+        boolean parallel = concurrency() > 1 && isolatedCopy() != null;
+
         Function<Chromosome, Double> fitnessFunction = (Chromosome chromosome) -> {
-            TaskResult tr = calculateScoresForFixedParamSet(chromosome.toDoubleArray());
+            AbstractCrossValidation<M, K, V> cv = parallel ? isolatedCopy() : this;
+
+            TaskResult tr = cv.calculateScoresForFixedParamSet(chromosome.toDoubleArray(), 1.0);
 
             cvRes.addScores(tr.locScores, tr.paramMap);
 
@@ -168,7 +188,7 @@ public abstract class AbstractCrossValidation<M extends IgniteModel<Vector, Doub
             .withSelectionStgy(stgy.getSelectionStgy())
             .withMutationProbability(stgy.getMutationProbability());
 
-        if (environment.parallelismStrategy().getParallelism() > 1)
+        if (parallel)
             ga.runParallel(environment);
         else
             ga.run();
@@ -191,15 +211,43 @@ public abstract class AbstractCrossValidation<M extends IgniteModel<Vector, Doub
 
         List<Double[]> rndParamSets = paramSetsCp.subList(0, stgy.getMaxTries());
 
-        List<IgniteSupplier<TaskResult>> tasks = rndParamSets.stream()
-            .map(paramSet -> (IgniteSupplier<TaskResult>)(() -> calculateScoresForFixedParamSet(paramSet)))
-            .collect(Collectors.toList());
+        calculateScores(rndParamSets, 1.0).forEach(tr -> cvRes.addScores(tr.locScores, tr.paramMap));
 
-        List<TaskResult> taskResults = environment.parallelismStrategy().submit(tasks).stream()
-            .map(Promise::unsafeGet)
-            .collect(Collectors.toList());
+        return cvRes;
+    }
 
-        taskResults.forEach(tr -> cvRes.addScores(tr.locScores, tr.paramMap));
+    /**
+     * Finds the best set of hyperparameters based on successive halving. Parameter sets are evaluated on growing
+     * fractions of the training data, only the best of them are promoted to the next round. Only scores of the last
+     * round, evaluated on the whole training data, are added to the result.
+     */
+    private CrossValidationResult scoreSuccessiveHalvingHyperparameterOptimization() {
+        SuccessiveHalvingStrategy stgy = (SuccessiveHalvingStrategy)paramGrid.getHyperParameterTuningStrategy();
+
+        List<Double[]> paramSets = new ParameterSetGenerator(paramGrid.getParamValuesByParamIdx()).generate();
+
+        List<Double[]> paramSetsCp = new ArrayList<>(paramSets);
+        Collections.shuffle(paramSetsCp, new Random(stgy.getSeed()));
+
+        List<Double[]> candidates = paramSetsCp.subList(0, Math.min(stgy.getMaxTries(), paramSetsCp.size()));
+
+        int rounds = stgy.getAmountOfRounds();
+        for (int round = 0; round < rounds - 1 && candidates.size() > 1; round++) {
+            List<TaskResult> taskResults = calculateScores(candidates, stgy.getTrainingDataFraction(round));
+
+            List<Double[]> roundCandidates = candidates;
+            int promoted = Math.max(1, candidates.size() / stgy.getReductionFactor());
+
+            candidates = IntStream.range(0, candidates.size()).boxed()
+                .sorted(Comparator.comparingDouble(i -> -taskResults.get(i).getAvgScore()))
+                .limit(promoted)
+                .map(roundCandidates::get)
+                .collect(Collectors.toList());
+        }
+
+        CrossValidationResult cvRes = new CrossValidationResult();
+
+        calculateScores(candidates, 1.0).forEach(tr -> cvRes.addScores(tr.locScores, tr.paramMap));
 
         return cvRes;
     }
@@ -212,16 +260,104 @@ public abstract class AbstractCrossValidation<M extends IgniteModel<Vector, Doub
 
         CrossValidationResult cvRes = new CrossValidationResult();
 
-        List<IgniteSupplier<TaskResult>> tasks = paramSets.stream()
-            .map(paramSet -> (IgniteSupplier<TaskResult>)(() -> calculateScoresForFixedParamSet(paramSet)))
-            .collect(Collectors.toList());
+        calculateScores(paramSets, 1.0).forEach(tr -> cvRes.addScores(tr.locScores, tr.paramMap));
+        return cvRes;
+    }
 
-        List<TaskResult> taskResults = environment.parallelismStrategy().submit(tasks).stream()
-            .map(Promise::unsafeGet)
-            .collect(Collectors.toList());
+    /**
+     * Calculates scores by folds for each of the specified parameter sets.
+     *
+     * @param paramSets Parameter sets.
+     * @param trainingDataFraction Fraction of the training data of each fold used to train models.
+     * @return Task results in the same order as parameter sets.
+     */
+    private List<TaskResult> calculateScores(List<Double[]> paramSets, double trainingDataFraction) {
+        TaskResult[] taskResults = new TaskResult[paramSets.size()];
+
+        List<AbstractCrossValidation<M, K, V>> copies = paramSets.size() > 1 && concurrency() > 1
+            ? isolatedCopies(paramSets.size())
+            : null;
+
+        // If the trainer can't be copied, parameter sets are scored one by one and the parallelism is applied to
+        // the folds of each set, otherwise each set is scored on its own copy and its folds are processed in a row.
+        if (copies == null) {
+            for (int i = 0; i < paramSets.size(); i++)
+                taskResults[i] = calculateScoresForFixedParamSet(paramSets.get(i), trainingDataFraction);
+        }
+        else {
+            runConcurrently(paramSets.size(), concurrency(), i ->
+                taskResults[i] = copies.get(i).calculateScoresForFixedParamSet(paramSets.get(i), trainingDataFraction)
+            );
+        }
 
-        taskResults.forEach(tr -> cvRes.addScores(tr.locScores, tr.paramMap));
-        return cvRes;
+        return Arrays.asList(taskResults);
+    }
+
+    /**
+     * Creates the specified amount of isolated copies of this cross validation.
+     *
+     * @param amount Amount of copies.
+     * @return Copies or {@code null} if the trainer or the pipeline can't be copied.
+     * @see #isolatedCopy()
+     */
+    private List<AbstractCrossValidation<M, K, V>> isolatedCopies(int amount) {
+        List<AbstractCrossValidation<M, K, V>> copies = new ArrayList<>(amount);
+
+        for (int i = 0; i < amount; i++) {
+            AbstractCrossValidation<M, K, V> cp = isolatedCopy();
+
+            if (cp == null)
+                return null;
+
+            copies.add(cp);
+        }
+
+        return copies;
+    }
+
+    /**
+     * Creates a copy of this cross validation with its own deep copies of the trainer (or the pipeline) and the
+     * parameter grid. Both are copied at once, so setters of the copied grid change the copied trainer only and
+     * parameter sets can be scored concurrently. Folds of the copy are processed one after another, other fields are
+     * shared with this cross validation.
+     *
+     * @return Copy or {@code null} if the trainer or the pipeline can't be copied.
+     */
+    @SuppressWarnings("unchecked")
+    private AbstractCrossValidation<M, K, V> isolatedCopy() {
+        Object[] stageAndGrid;
+
+        try {
+            stageAndGrid = Utils.copy(new Object[] {isRunningOnPipeline ? pipeline : trainer, paramGrid});
+        }
+        catch (IgniteException e) {
+            return null;
+        }
+
+        AbstractCrossValidation<M, K, V> cp = shallowCopy();
+
+        if (isRunningOnPipeline)
+            cp.pipeline = (Pipeline<K, V, Integer, Double>)stageAndGrid[0];
+        else
+            cp.trainer = (DatasetTrainer<M, Double>)stageAndGrid[0];
+
+        cp.paramGrid = (ParamGrid)stageAndGrid[1];
+        cp.maxConcurrentFolds = 1;
+
+        return cp;
+    }
+
+    /**
+     * Creates a shallow copy of this cross validation.
+     */
+    @SuppressWarnings("unchecked")
+    private AbstractCrossValidation<M, K, V> shallowCopy() {
+        try {
+            return (AbstractCrossValidation<M, K, V>)clone();
+        }
+        catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     /**
@@ -256,19 +392,33 @@ public abstract class AbstractCrossValidation<M extends IgniteModel<Vector, Doub
         public void setLocScores(double[] locScores) {
             this.locScores = locScores.clone();
         }
+
+        /**
+         * Returns average of local scores.
+         */
+        public double getAvgScore() {
+            return Arrays.stream(locScores).average().orElse(Double.MIN_VALUE);
+        }
     }
 
     /**
-     * Calculates scores by folds and wrap it to TaskResult object.
+     * Calculates scores by folds using the specified fraction of the training data of each fold and wrap it to
+     * TaskResult object.
      *
      * @param paramSet Parameter set.
+     * @param trainingDataFraction Fraction of the training data of each fold used to train models.
      */
-    private TaskResult calculateScoresForFixedParamSet(Double[] paramSet) {
+    private TaskResult calculateScoresForFixedParamSet(Double[] paramSet, double trainingDataFraction) {
         Map<String, Double> paramMap = injectAndGetParametersFromPipeline(paramGrid, paramSet);
 
-        double[] locScores = scoreByFolds();
+        AbstractCrossValidation<M, K, V> cv = this;
+
+        if (trainingDataFraction < 1.0) {
+            cv = shallowCopy();
+            cv.trainingDataFraction = trainingDataFraction;
+        }
 
-        return new TaskResult(paramMap, locScores);
+        return new TaskResult(paramMap, cv.scoreByFolds());
     }
 
     /**
@@ -304,59 +454,157 @@ public abstract class AbstractCrossValidation<M extends IgniteModel<Vector, Doub
      * @return Array of scores of the estimator for each run of the cross validation.
      */
     protected double[] score(Function<IgniteBiPredicate<K, V>, DatasetBuilder<K, V>> datasetBuilderSupplier) {
-        double[] scores = new double[amountOfFolds];
+        return scoreFolds(datasetBuilderSupplier, foldsConcurrency(), (trainSet, testSet) -> {
+            M mdl = trainer.fit(trainSet, preprocessor);
 
-        double foldSize = 1.0 / amountOfFolds;
-        for (int i = 0; i < amountOfFolds; i++) {
-            double from = foldSize * i;
-            double to = foldSize * (i + 1);
+            return Evaluator.evaluate(testSet, mdl, preprocessor, metric).getSingle();
+        });
+    }
 
-            IgniteBiPredicate<K, V> trainSetFilter = (k, v) -> {
-                double pnt = mapper.map(k, v);
-                return pnt < from || pnt > to;
-            };
+    /**
+     * Computes cross-validated metrics.
+     *
+     * @param datasetBuilderSupplier Dataset builder supplier.
+     * @return Array of scores of the estimator for each run of the cross validation.
+     */
+    protected double[] scorePipeline(Function<IgniteBiPredicate<K, V>, DatasetBuilder<K, V>> datasetBuilderSupplier) {
+        int concurrency = foldsConcurrency();
 
-            IgniteBiPredicate<K, V> testSetFilter = (k, v) -> !trainSetFilter.apply(k, v);
+        // Pipeline keeps the state of the last fit, so concurrent folds are fitted on their own copies of it. If the
+        // pipeline can't be copied, its folds are processed one after another.
+        if (concurrency > 1 && copyPipeline() == null)
+            concurrency = 1;
 
-            DatasetBuilder<K, V> trainSet = datasetBuilderSupplier.apply(trainSetFilter);
-            M mdl = trainer.fit(trainSet, preprocessor);
+        boolean cp = concurrency > 1;
 
-            DatasetBuilder<K, V> testSet = datasetBuilderSupplier.apply(testSetFilter);
-            scores[i] = Evaluator.evaluate(testSet, mdl, preprocessor, metric).getSingle();
-        }
+        return scoreFolds(datasetBuilderSupplier, concurrency, (trainSet, testSet) -> {
+            PipelineMdl<K, V> mdl = (cp ? copyPipeline() : pipeline).fit(trainSet);
 
-        return scores;
+            return Evaluator.evaluate(testSet, mdl, mdl.getPreprocessor(), metric).getSingle();
+        });
     }
 
     /**
-     * Computes cross-validated metrics.
+     * Creates a deep copy of the pipeline.
+     *
+     * @return Copy or {@code null} if the pipeline can't be copied.
+     */
+    private Pipeline<K, V, Integer, Double> copyPipeline() {
+        try {
+            return Utils.copy(pipeline);
+        }
+        catch (IgniteException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Trains and evaluates all folds. Folds are processed concurrently, see {@link #runConcurrently}.
      *
      * @param datasetBuilderSupplier Dataset builder supplier.
+     * @param concurrency Maximal amount of folds processed concurrently.
+     * @param foldScorer Function that trains a model on the first dataset and evaluates it on the second one.
      * @return Array of scores of the estimator for each run of the cross validation.
      */
-    protected double[] scorePipeline(Function<IgniteBiPredicate<K, V>, DatasetBuilder<K, V>> datasetBuilderSupplier) {
+    private double[] scoreFolds(Function<IgniteBiPredicate<K, V>, DatasetBuilder<K, V>> datasetBuilderSupplier,
+        int concurrency, BiFunction<DatasetBuilder<K, V>, DatasetBuilder<K, V>, Double> foldScorer) {
         double[] scores = new double[amountOfFolds];
 
-        double foldSize = 1.0 / amountOfFolds;
-        for (int i = 0; i < amountOfFolds; i++) {
-            double from = foldSize * i;
-            double to = foldSize * (i + 1);
+        runConcurrently(amountOfFolds, concurrency, i -> scores[i] = scoreFold(i, datasetBuilderSupplier, foldScorer));
 
-            IgniteBiPredicate<K, V> trainSetFilter = (k, v) -> {
-                double pnt = mapper.map(k, v);
-                return pnt < from || pnt > to;
-            };
+        return scores;
+    }
 
-            IgniteBiPredicate<K, V> testSetFilter = (k, v) -> !trainSetFilter.apply(k, v);
+    /**
+     * Runs the specified task for each index. Indices are split into at most {@code concurrency} groups, groups are
+     * processed in parallel using parallelism strategy of the learning environment, indices of the same group are
+     * processed one after another. A single group is processed in the current thread, so tasks running on the
+     * strategy never wait for other tasks of the strategy.
+     *
+     * @param amount Amount of indices.
+     * @param concurrency Maximal amount of indices processed concurrently.
+     * @param task Task.
+     */
+    private void runConcurrently(int amount, int concurrency, IntConsumer task) {
+        int groups = Math.max(1, Math.min(concurrency, amount));
 
-            DatasetBuilder<K, V> trainSet = datasetBuilderSupplier.apply(trainSetFilter);
-            PipelineMdl<K, V> mdl = pipeline.fit(trainSet);
+        if (groups == 1) {
+            for (int i = 0; i < amount; i++)
+                task.accept(i);
 
-            DatasetBuilder<K, V> testSet = datasetBuilderSupplier.apply(testSetFilter);
-            scores[i] = Evaluator.evaluate(testSet, mdl, pipeline.getFinalPreprocessor(), metric).getSingle();
+            return;
         }
 
-        return scores;
+        List<IgniteSupplier<Boolean>> tasks = new ArrayList<>(groups);
+        for (int grp = 0; grp < groups; grp++) {
+            int firstIdx = grp;
+
+            tasks.add(() -> {
+                for (int i = firstIdx; i < amount; i += groups)
+                    task.accept(i);
+
+                return true;
+            });
+        }
+
+        environment.parallelismStrategy().submit(tasks).forEach(Promise::unsafeGet);
+    }
+
+    /**
+     * Trains and evaluates the specified fold.
+     *
+     * @param foldIdx Fold index.
+     * @param datasetBuilderSupplier Dataset builder supplier.
+     * @param foldScorer Function that trains a model on the first dataset and evaluates it on the second one.
+     * @return Score of the fold.
+     */
+    private double scoreFold(int foldIdx,
+        Function<IgniteBiPredicate<K, V>, DatasetBuilder<K, V>> datasetBuilderSupplier,
+        BiFunction<DatasetBuilder<K, V>, DatasetBuilder<K, V>, Double> foldScorer) {
+        double foldSize = 1.0 / amountOfFolds;
+        double from = foldSize * foldIdx;
+        double to = foldSize * (foldIdx + 1);
+
+        IgniteBiPredicate<K, V> trainSetFilter = (k, v) -> {
+            double pnt = mapper.map(k, v);
+            return pnt < from || pnt > to;
+        };
+
+        IgniteBiPredicate<K, V> testSetFilter = (k, v) -> !trainSetFilter.apply(k, v);
+
+        double fraction = trainingDataFraction;
+        IgniteBiPredicate<K, V> subsampledTrainSetFilter = fraction >= 1.0 ? trainSetFilter : (k, v) -> {
+            double pnt = mapper.map(k, v);
+
+            if (pnt >= from && pnt <= to)
+                return false;
+
+            // Position of the point in the training data with the test range cut out.
+            double trainPnt = (pnt < from ? pnt : pnt - foldSize) / (1 - foldSize);
+
+            return trainPnt < fraction;
+        };
+
+        DatasetBuilder<K, V> trainSet = datasetBuilderSupplier.apply(subsampledTrainSetFilter);
+        DatasetBuilder<K, V> testSet = datasetBuilderSupplier.apply(testSetFilter);
+
+        return foldScorer.apply(trainSet, testSet);
+    }
+
+    /**
+     * Returns amount of folds processed concurrently. If it isn't set explicitly, parallelism of the learning
+     * environment is used.
+     */
+    private int foldsConcurrency() {
+        return maxConcurrentFolds > 0 ? maxConcurrentFolds : concurrency();
+    }
+
+    /**
+     * Returns maximal amount of tasks (parameter sets or folds) processed concurrently, that is parallelism of the
+     * learning environment.
+     */
+    private int concurrency() {
+        return environment.parallelismStrategy().getParallelism();
     }
 
     /**
@@ -443,4 +691,18 @@ public abstract class AbstractCrossValidation<M extends IgniteModel<Vector, Doub
         this.mapper = mapper;
         return this;
     }
+
+    /**
+     * Sets maximal amount of folds trained and evaluated concurrently. Folds are processed using parallelism strategy
+     * of the learning environment, so the actual concurrency is also bounded by this strategy. If several parameter
+     * sets are scored concurrently, folds of each set are processed one after another. Folds of a pipeline that
+     * can't be copied are always processed one after another.
+     *
+     * @param maxConcurrentFolds Maximal amount of concurrent folds, non-positive value means parallelism of the
+     * learning environment.
+     */
+    public AbstractCrossValidation<M, K, V> withMaxConcurrentFolds(int maxConcurrentFolds) {
+        this.maxConcurrentFolds = maxConcurrentFolds;
+        return this;
+    }
 }
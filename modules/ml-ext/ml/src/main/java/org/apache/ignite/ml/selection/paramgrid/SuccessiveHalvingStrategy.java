@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.selection.paramgrid;
+
+/**
+ * This strategy enables the successive halving search in hyper-parameter space. At the beginning randomly chosen
+ * parameter sets are evaluated on a small fraction of the training data of each fold, then only the best
+ * {@code 1 / reductionFactor} part of parameter sets is evaluated on the {@code reductionFactor} times bigger fraction
+ * and so on until remaining parameter sets are evaluated on the whole training data.
+ */
+public class SuccessiveHalvingStrategy extends HyperParameterTuningStrategy {
+    /** Max number of parameter sets evaluated on the first round. */
+    private int maxTries = 100;
+
+    /** Minimal fraction of training data used to evaluate parameter sets on the first round. */
+    private double minTrainingDataFraction = 1.0 / 9;
+
+    /** Factor by which the number of parameter sets is reduced and the training data fraction is increased. */
+    private int reductionFactor = 3;
+
+    /** Seed. */
+    private long seed = 1234L;
+
+    /** Returns the seed. */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Set up the seed number.
+     *
+     * @param seed Seed.
+     */
+    public SuccessiveHalvingStrategy withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /** Returns the max number of parameter sets evaluated on the first round. */
+    public int getMaxTries() {
+        return maxTries;
+    }
+
+    /**
+     * Set up the max number of parameter sets evaluated on the first round.
+     *
+     * @param maxTries Max tries.
+     */
+    public SuccessiveHalvingStrategy withMaxTries(int maxTries) {
+        assert maxTries > 0 : "Max tries should be positive";
+
+        this.maxTries = maxTries;
+        return this;
+    }
+
+    /** Returns the minimal fraction of training data used on the first round. */
+    public double getMinTrainingDataFraction() {
+        return minTrainingDataFraction;
+    }
+
+    /**
+     * Set up the minimal fraction of training data used on the first round.
+     *
+     * @param minTrainingDataFraction Minimal training data fraction in (0, 1].
+     */
+    public SuccessiveHalvingStrategy withMinTrainingDataFraction(double minTrainingDataFraction) {
+        assert minTrainingDataFraction > 0 && minTrainingDataFraction <= 1
+            : "Training data fraction should be in (0, 1]";
+
+        this.minTrainingDataFraction = minTrainingDataFraction;
+        return this;
+    }
+
+    /** Returns the factor by which the number of parameter sets is reduced on each round. */
+    public int getReductionFactor() {
+        return reductionFactor;
+    }
+
+    /**
+     * Set up the factor by which the number of parameter sets is reduced and the training data fraction is increased
+     * on each round.
+     *
+     * @param reductionFactor Reduction factor.
+     */
+    public SuccessiveHalvingStrategy withReductionFactor(int reductionFactor) {
+        assert reductionFactor > 1 : "Reduction factor should be greater than 1";
+
+        this.reductionFactor = reductionFactor;
+        return this;
+    }
+
+    /**
+     * Returns the number of rounds, the last round always uses the whole training data.
+     */
+    public int getAmountOfRounds() {
+        int rounds = 1;
+
+        for (long scale = reductionFactor; scale * minTrainingDataFraction <= 1 + 1e-9; scale *= reductionFactor)
+            rounds++;
+
+        return rounds;
+    }
+
+    /**
+     * Returns the fraction of training data used on the specified round.
+     *
+     * @param round Round index starting from 0.
+     */
+    public double getTrainingDataFraction(int round) {
+        return Math.pow(reductionFactor, round + 1 - getAmountOfRounds());
+    }
+
+    /** {@inheritDoc} */
+    @Override public String getName() {
+        return "Successive Halving";
+    }
+}
@@ -42,6 +42,7 @@ import org.apache.ignite.ml.knn.KNNModel;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
 import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
 import org.apache.ignite.ml.preprocessing.Preprocessor;
+import org.apache.ignite.ml.preprocessing.developer.FusedPreprocessor;
 import org.apache.ignite.ml.selection.scoring.evaluator.aggregator.MetricStatsAggregator;
 import org.apache.ignite.ml.selection.scoring.evaluator.context.EvaluationContext;
 import org.apache.ignite.ml.selection.scoring.metric.Metric;
@@ -426,17 +427,19 @@ public class Evaluator {
         IgniteModel<Vector, Double> mdl,
         Preprocessor<K, V> preprocessor,
         Metric... metrics) {
+        Preprocessor<K, V> fusedPreprocessor = FusedPreprocessor.fuse(preprocessor);
+
         try (Dataset<EmptyContext, FeatureMatrixWithLabelsOnHeapData> dataset = datasetBuilder.build(
             LearningEnvironmentBuilder.defaultBuilder(),
             new EmptyContextBuilder<>(),
-            new FeatureMatrixWithLabelsOnHeapDataBuilder<>(preprocessor),
+            new FeatureMatrixWithLabelsOnHeapDataBuilder<>(fusedPreprocessor),
             LearningEnvironment.DEFAULT_TRAINER_ENV
         )) {
             IgniteCache<K, V> cache = null;
             if (datasetBuilder instanceof CacheBasedDatasetBuilder)
                 cache = ((CacheBasedDatasetBuilder<K, V>)datasetBuilder).getUpstreamCache();
 
-            return evaluate(mdl, dataset, cache, preprocessor, metrics);
+            return evaluate(mdl, dataset, cache, fusedPreprocessor, metrics);
         }
         catch (Exception e) {
             throw new RuntimeException(e);
@@ -505,8 +508,9 @@ public class Evaluator {
             for (Metric m : metrics) {
                 MetricStatsAggregator<Double, ?, ?> aggregator = m.makeAggregator();
                 res.put(aggregator.getClass(), (EvaluationContext)m.makeAggregator().createInitializedContext());
-                return res;
             }
+
+            return res;
         }
 
         return dataset.compute(data -> {
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.selection.scoring.evaluator.aggregator;
+
+import java.io.Serializable;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.ml.IgniteModel;
+import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.selection.scoring.evaluator.context.BinaryClassificationEvaluationContext;
+import org.apache.ignite.ml.structures.LabeledVector;
+
+/**
+ * This class represents statistics for ranking metrics of binary classification like ROC AUC and PR AUC. Instead of
+ * keeping all predictions it keeps histograms of scores of positive and negative samples with fixed amount of bins
+ * over {@code [0, 1]}, so memory doesn't depend on dataset size and histograms of partitions can be merged. Model
+ * should return score of the positive class (e.g. probability), scores outside of {@code [0, 1]} like raw margins of
+ * SVM or linear models are rejected because they can't be binned without loss of ranking. Curves are approximated
+ * with precision of one bin.
+ */
+public class BinaryClassificationScoreHistogramAggregator<L extends Serializable>
+    implements MetricStatsAggregator<L, BinaryClassificationEvaluationContext<L>, BinaryClassificationScoreHistogramAggregator<L>> {
+    /**
+     * Serial version uid.
+     */
+    private static final long serialVersionUID = -2946108218693722305L;
+
+    /**
+     * Default amount of bins.
+     */
+    public static final int DEFAULT_BINS = 1000;
+
+    /**
+     * False label.
+     */
+    private L falseLabel;
+
+    /**
+     * Truth label.
+     */
+    private L truthLabel;
+
+    /**
+     * Amounts of positive samples per score bin.
+     */
+    private final long[] positives;
+
+    /**
+     * Amounts of negative samples per score bin.
+     */
+    private final long[] negatives;
+
+    /**
+     * Creates an instance of BinaryClassificationScoreHistogramAggregator.
+     */
+    public BinaryClassificationScoreHistogramAggregator() {
+        this(DEFAULT_BINS);
+    }
+
+    /**
+     * Creates an instance of BinaryClassificationScoreHistogramAggregator.
+     *
+     * @param bins Amount of score bins.
+     */
+    public BinaryClassificationScoreHistogramAggregator(int bins) {
+        this(null, null, new long[bins], new long[bins]);
+    }
+
+    /**
+     * Creates an instance of BinaryClassificationScoreHistogramAggregator.
+     *
+     * @param falseLabel False label.
+     * @param truthLabel Truth label.
+     * @param positives Amounts of positive samples per score bin.
+     * @param negatives Amounts of negative samples per score bin.
+     */
+    public BinaryClassificationScoreHistogramAggregator(L falseLabel, L truthLabel, long[] positives,
+        long[] negatives) {
+        A.ensure(positives.length > 0, "positives.length > 0");
+        A.ensure(positives.length == negatives.length, "positives.length == negatives.length");
+
+        this.falseLabel = falseLabel;
+        this.truthLabel = truthLabel;
+        this.positives = positives;
+        this.negatives = negatives;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override public void aggregate(IgniteModel<Vector, L> mdl, LabeledVector<L> vector) {
+        L realAns = vector.label();
+
+        long[] hist;
+        if (realAns.equals(truthLabel))
+            hist = positives;
+        else if (realAns.equals(falseLabel))
+            hist = negatives;
+        else
+            return;
+
+        L score = mdl.predict(vector.features());
+        A.ensure(score instanceof Number, "score instanceof Number");
+
+        double val = ((Number)score).doubleValue();
+        if (!(val >= 0 && val <= 1))
+            throw new IllegalArgumentException("Score of the positive class should be in [0, 1], raw scores aren't " +
+                "supported [score=" + val + "]");
+
+        hist[bin(val)]++;
+    }
+
+    /**
+     * Returns bin of the given score.
+     *
+     * @param score Score in {@code [0, 1]}.
+     * @return Bin index.
+     */
+    private int bin(double score) {
+        return Math.min((int)(score * positives.length), positives.length - 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override public BinaryClassificationScoreHistogramAggregator<L> mergeWith(
+        BinaryClassificationScoreHistogramAggregator<L> other) {
+        A.ensure(this.falseLabel.equals(other.falseLabel), "this.falseLabel == other.falseLabel");
+        A.ensure(this.truthLabel.equals(other.truthLabel), "this.truthLabel == other.truthLabel");
+        A.ensure(positives.length == other.positives.length, "this.bins == other.bins");
+
+        long[] mergedPositives = new long[positives.length];
+        long[] mergedNegatives = new long[negatives.length];
+
+        for (int i = 0; i < positives.length; i++) {
+            mergedPositives[i] = positives[i] + other.positives[i];
+            mergedNegatives[i] = negatives[i] + other.negatives[i];
+        }
+
+        return new BinaryClassificationScoreHistogramAggregator<>(falseLabel, truthLabel, mergedPositives,
+            mergedNegatives);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override public BinaryClassificationEvaluationContext<L> createInitializedContext() {
+        return new BinaryClassificationEvaluationContext<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override public void initByContext(BinaryClassificationEvaluationContext<L> ctx) {
+        this.falseLabel = ctx.getFirstClsLbl();
+        this.truthLabel = ctx.getSecondClsLbl();
+    }
+
+    /**
+     * Returns amounts of positive samples per score bin, bins are ordered by score ascending.
+     *
+     * @return Amounts of positive samples.
+     */
+    public long[] getPositives() {
+        return positives;
+    }
+
+    /**
+     * Returns amounts of negative samples per score bin, bins are ordered by score ascending.
+     *
+     * @return Amounts of negative samples.
+     */
+    public long[] getNegatives() {
+        return negatives;
+    }
+
+    /**
+     * Returns false label.
+     *
+     * @return False label.
+     */
+    public L getFalseLabel() {
+        return falseLabel;
+    }
+
+    /**
+     * Returns truth label.
+     *
+     * @return Truth label.
+     */
+    public L getTruthLabel() {
+        return truthLabel;
+    }
+}
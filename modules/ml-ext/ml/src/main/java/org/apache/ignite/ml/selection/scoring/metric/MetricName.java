@@ -26,8 +26,10 @@ import org.apache.ignite.ml.selection.scoring.metric.classification.FalsePositiv
 import org.apache.ignite.ml.selection.scoring.metric.classification.Fdr;
 import org.apache.ignite.ml.selection.scoring.metric.classification.MissRate;
 import org.apache.ignite.ml.selection.scoring.metric.classification.Npv;
+import org.apache.ignite.ml.selection.scoring.metric.classification.PrAuc;
 import org.apache.ignite.ml.selection.scoring.metric.classification.Precision;
 import org.apache.ignite.ml.selection.scoring.metric.classification.Recall;
+import org.apache.ignite.ml.selection.scoring.metric.classification.RocAuc;
 import org.apache.ignite.ml.selection.scoring.metric.classification.Specificity;
 import org.apache.ignite.ml.selection.scoring.metric.classification.TrueNegativeAbsoluteValue;
 import org.apache.ignite.ml.selection.scoring.metric.classification.TruePositiveAbsoluteValue;
@@ -112,6 +114,16 @@ public enum MetricName {
      */
     BALANCED_ACCURACY("Balanced accuracy"),
 
+    /**
+     * Area under ROC curve.
+     */
+    ROC_AUC("ROC AUC"),
+
+    /**
+     * Area under precision-recall curve.
+     */
+    PR_AUC("PR AUC"),
+
     // regression metrics
     /**
      * Mae.
@@ -197,6 +209,10 @@ public enum MetricName {
                 return new MissRate();
             case NPV:
                 return new Npv();
+            case ROC_AUC:
+                return new RocAuc();
+            case PR_AUC:
+                return new PrAuc();
         }
 
         throw new IllegalArgumentException("Cannot define metric by name: " + name());
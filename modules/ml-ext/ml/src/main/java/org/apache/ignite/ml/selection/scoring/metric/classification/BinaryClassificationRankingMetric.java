@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.selection.scoring.metric.classification;
+
+import java.io.Serializable;
+import org.apache.ignite.ml.selection.scoring.evaluator.aggregator.BinaryClassificationScoreHistogramAggregator;
+import org.apache.ignite.ml.selection.scoring.evaluator.context.BinaryClassificationEvaluationContext;
+import org.apache.ignite.ml.selection.scoring.metric.Metric;
+
+/**
+ * Common abstract class for binary classification metrics computed by scores of the model rather than by predicted
+ * labels. Such metrics are computed using histograms of scores, see
+ * {@link BinaryClassificationScoreHistogramAggregator}, so the model should return score of the positive class in
+ * {@code [0, 1]}.
+ */
+public abstract class BinaryClassificationRankingMetric<L extends Serializable>
+    implements Metric<L, BinaryClassificationEvaluationContext<L>, BinaryClassificationScoreHistogramAggregator<L>> {
+    /**
+     * Serial version uid.
+     */
+    private static final long serialVersionUID = 3417815004839712245L;
+
+    /**
+     * Amount of score bins.
+     */
+    private final int bins;
+
+    /**
+     * Creates an instance of BinaryClassificationRankingMetric.
+     *
+     * @param bins Amount of score bins.
+     */
+    public BinaryClassificationRankingMetric(int bins) {
+        this.bins = bins;
+    }
+
+    /**
+     * Creates an instance of BinaryClassificationRankingMetric.
+     */
+    public BinaryClassificationRankingMetric() {
+        this(BinaryClassificationScoreHistogramAggregator.DEFAULT_BINS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override public BinaryClassificationScoreHistogramAggregator<L> makeAggregator() {
+        return new BinaryClassificationScoreHistogramAggregator<>(bins);
+    }
+
+    /**
+     * Returns sum of all elements of the histogram.
+     *
+     * @param hist Histogram.
+     * @return Sum.
+     */
+    protected static long sum(long[] hist) {
+        long res = 0;
+
+        for (long cnt : hist)
+            res += cnt;
+
+        return res;
+    }
+}
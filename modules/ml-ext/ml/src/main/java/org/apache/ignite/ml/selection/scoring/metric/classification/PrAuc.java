@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.selection.scoring.metric.classification;
+
+import java.io.Serializable;
+import org.apache.ignite.ml.selection.scoring.evaluator.aggregator.BinaryClassificationScoreHistogramAggregator;
+import org.apache.ignite.ml.selection.scoring.metric.MetricName;
+
+/**
+ * Area under precision-recall curve metric class for binary classification. It's computed as average precision, i.e.
+ * sum of precisions at each score bin threshold weighted by increase of recall.
+ */
+public class PrAuc<L extends Serializable> extends BinaryClassificationRankingMetric<L> {
+    /**
+     * Serial version uid.
+     */
+    private static final long serialVersionUID = 8016381929461728147L;
+
+    /**
+     * Area under precision-recall curve.
+     */
+    private Double auc = Double.NaN;
+
+    /**
+     * Creates an instance of PrAuc class.
+     *
+     * @param bins Amount of score bins.
+     */
+    public PrAuc(int bins) {
+        super(bins);
+    }
+
+    /**
+     * Creates an instance of PrAuc class.
+     */
+    public PrAuc() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override public PrAuc<L> initBy(BinaryClassificationScoreHistogramAggregator<L> aggr) {
+        long[] positives = aggr.getPositives();
+        long[] negatives = aggr.getNegatives();
+
+        long pos = sum(positives);
+
+        if (pos == 0) {
+            auc = Double.NaN;
+            return this;
+        }
+
+        double area = 0;
+        long tp = 0;
+        long fp = 0;
+        for (int i = positives.length - 1; i >= 0; i--) {
+            tp += positives[i];
+            fp += negatives[i];
+
+            if (positives[i] > 0)
+                area += ((double)positives[i] / pos) * ((double)tp / (tp + fp));
+        }
+
+        auc = area;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override public double value() {
+        return auc;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override public MetricName name() {
+        return MetricName.PR_AUC;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.selection.scoring.metric.classification;
+
+import java.io.Serializable;
+import org.apache.ignite.ml.selection.scoring.evaluator.aggregator.BinaryClassificationScoreHistogramAggregator;
+import org.apache.ignite.ml.selection.scoring.metric.MetricName;
+
+/**
+ * Area under ROC curve metric class for binary classification. Samples with scores from the same bin are considered
+ * as ties.
+ */
+public class RocAuc<L extends Serializable> extends BinaryClassificationRankingMetric<L> {
+    /**
+     * Serial version uid.
+     */
+    private static final long serialVersionUID = -5296131489452935519L;
+
+    /**
+     * Area under ROC curve.
+     */
+    private Double auc = Double.NaN;
+
+    /**
+     * Creates an instance of RocAuc class.
+     *
+     * @param bins Amount of score bins.
+     */
+    public RocAuc(int bins) {
+        super(bins);
+    }
+
+    /**
+     * Creates an instance of RocAuc class.
+     */
+    public RocAuc() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override public RocAuc<L> initBy(BinaryClassificationScoreHistogramAggregator<L> aggr) {
+        long[] positives = aggr.getPositives();
+        long[] negatives = aggr.getNegatives();
+
+        long pos = sum(positives);
+        long neg = sum(negatives);
+
+        if (pos == 0 || neg == 0) {
+            auc = Double.NaN;
+            return this;
+        }
+
+        // Trapezoidal rule over thresholds from the highest score bin to the lowest one.
+        double area = 0;
+        long tp = 0;
+        for (int i = positives.length - 1; i >= 0; i--) {
+            area += negatives[i] * (tp + positives[i] / 2.0);
+            tp += positives[i];
+        }
+
+        auc = area / ((double)pos * neg);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override public double value() {
+        return auc;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override public MetricName name() {
+        return MetricName.ROC_AUC;
+    }
+}
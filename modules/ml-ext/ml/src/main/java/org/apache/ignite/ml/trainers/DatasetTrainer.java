@@ -17,6 +17,9 @@
 
 package org.apache.ignite.ml.trainers;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.util.Map;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteCache;
@@ -32,6 +35,7 @@ import org.apache.ignite.ml.environment.LearningEnvironmentBuilder;
 import org.apache.ignite.ml.environment.logging.MLLogger;
 import org.apache.ignite.ml.math.functions.IgniteFunction;
 import org.apache.ignite.ml.preprocessing.Preprocessor;
+import org.apache.ignite.ml.preprocessing.developer.FusedPreprocessor;
 import org.apache.ignite.ml.preprocessing.developer.PatchedPreprocessor;
 import org.apache.ignite.ml.structures.LabeledVector;
 import org.jetbrains.annotations.NotNull;
@@ -42,12 +46,15 @@ import org.jetbrains.annotations.NotNull;
  * @param <M> Type of a produced model.
  * @param <L> Type of a label.
  */
-public abstract class DatasetTrainer<M extends IgniteModel, L> {
+public abstract class DatasetTrainer<M extends IgniteModel, L> implements Serializable {
+    /** */
+    private static final long serialVersionUID = -4315371457353722389L;
+
     /** Learning environment builder. */
     protected LearningEnvironmentBuilder envBuilder = LearningEnvironmentBuilder.defaultBuilder();
 
-    /** Learning Environment. */
-    protected LearningEnvironment environment = envBuilder.buildForTrainer();
+    /** Learning Environment, rebuilt from the builder when the trainer is deserialized. */
+    protected transient LearningEnvironment environment = envBuilder.buildForTrainer();
 
     /**
      * Returns the trainer which returns identity model.
@@ -89,7 +96,7 @@ public abstract class DatasetTrainer<M extends IgniteModel, L> {
     public <K, V> M fit(DatasetBuilder<K, V> datasetBuilder, Preprocessor<K, V> preprocessor) {
         learningEnvironment().initDeployingContext(preprocessor);
 
-        return fitWithInitializedDeployingContext(datasetBuilder, preprocessor);
+        return fitWithInitializedDeployingContext(datasetBuilder, FusedPreprocessor.fuse(preprocessor));
     }
 
     /**
@@ -104,7 +111,7 @@ public abstract class DatasetTrainer<M extends IgniteModel, L> {
      */
     public <K, V> M fit(DatasetBuilder<K, V> datasetBuilder, Preprocessor<K, V> preprocessor, LearningEnvironment learningEnvironment) {
         environment = learningEnvironment;
-        return fitWithInitializedDeployingContext(datasetBuilder, preprocessor);
+        return fitWithInitializedDeployingContext(datasetBuilder, FusedPreprocessor.fuse(preprocessor));
     }
 
     /**
@@ -318,6 +325,19 @@ public abstract class DatasetTrainer<M extends IgniteModel, L> {
         return this;
     }
 
+    /**
+     * Restores the learning environment that isn't serialized with the trainer.
+     *
+     * @param in Input stream.
+     * @throws IOException If failed.
+     * @throws ClassNotFoundException If failed.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+
+        environment = envBuilder.buildForTrainer();
+    }
+
     /**
      * Gets state of model in arguments, update in according to new data and return new model.
      *
@@ -0,0 +1,350 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.ignite.ml.IgniteModel;
+import org.apache.ignite.ml.composition.ModelsComposition;
+import org.apache.ignite.ml.composition.predictionsaggregator.PredictionsAggregator;
+import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.tree.randomforest.data.RandomForestTreeModel;
+import org.apache.ignite.ml.tree.randomforest.data.TreeNode;
+
+/**
+ * Compiled form of a decision tree or a composition of trees (random forest, gradient boosting) for fast inference.
+ * Nodes of all trees are flattened into parallel primitive arrays (struct of arrays): there are no node objects, no
+ * virtual calls and no boxing on the prediction path. Predictions are made on {@code double[]} features, batch
+ * prediction evaluates all rows on one tree before moving to the next one to keep the tree in CPU cache.
+ *
+ * The model is immutable and thread-safe. Use {@link #compile(DecisionTreeModel)} or
+ * {@link #compile(ModelsComposition)} to create it.
+ */
+public final class CompiledTreeEnsembleModel implements IgniteModel<Vector, Double> {
+    /** */
+    private static final long serialVersionUID = -2953418770155621870L;
+
+    /** Feature index tested in a node, {@code -1} for leaves. */
+    private final int[] featureIds;
+
+    /** Threshold of conditional node or value of leaf. */
+    private final double[] values;
+
+    /** Index of a node used in case tested value is greater than threshold. */
+    private final int[] thenNodes;
+
+    /** Index of a node used in case tested value is not greater than threshold. */
+    private final int[] elseNodes;
+
+    /** Index of a node used in case tested value is missing, {@code -1} if missing values are not allowed. */
+    private final int[] missingNodes;
+
+    /** Index of the root node of every tree. */
+    private final int[] roots;
+
+    /** Predictions aggregator, {@code null} for a single tree. */
+    private final PredictionsAggregator aggregator;
+
+    /**
+     * Constructs a new instance of compiled tree ensemble model.
+     *
+     * @param builder Builder with flattened nodes.
+     * @param roots Index of the root node of every tree.
+     * @param aggregator Predictions aggregator, {@code null} for a single tree.
+     */
+    private CompiledTreeEnsembleModel(Builder builder, int[] roots, PredictionsAggregator aggregator) {
+        this.featureIds = Arrays.copyOf(builder.featureIds, builder.size);
+        this.values = Arrays.copyOf(builder.values, builder.size);
+        this.thenNodes = Arrays.copyOf(builder.thenNodes, builder.size);
+        this.elseNodes = Arrays.copyOf(builder.elseNodes, builder.size);
+        this.missingNodes = Arrays.copyOf(builder.missingNodes, builder.size);
+        this.roots = roots;
+        this.aggregator = aggregator;
+    }
+
+    /**
+     * Compiles decision tree model.
+     *
+     * @param mdl Decision tree model.
+     * @return Compiled model.
+     */
+    public static CompiledTreeEnsembleModel compile(DecisionTreeModel mdl) {
+        Builder builder = new Builder();
+
+        return new CompiledTreeEnsembleModel(builder, new int[] {builder.add(mdl.getRootNode())}, null);
+    }
+
+    /**
+     * Compiles composition of tree models ({@link DecisionTreeModel} or {@link RandomForestTreeModel}). Note that
+     * mappings applied by subclasses after aggregation (e.g. label mapping of gradient boosting models) are not
+     * compiled and have to be applied to predictions separately.
+     *
+     * @param mdl Composition of tree models.
+     * @return Compiled model.
+     */
+    public static CompiledTreeEnsembleModel compile(ModelsComposition<? extends IgniteModel<Vector, Double>> mdl) {
+        List<? extends IgniteModel<Vector, Double>> models = mdl.getModels();
+
+        Builder builder = new Builder();
+        int[] roots = new int[models.size()];
+
+        for (int i = 0; i < roots.length; i++) {
+            IgniteModel<Vector, Double> tree = models.get(i);
+
+            if (tree instanceof DecisionTreeModel)
+                roots[i] = builder.add(((DecisionTreeModel)tree).getRootNode());
+            else if (tree instanceof RandomForestTreeModel)
+                roots[i] = builder.add(((RandomForestTreeModel)tree).getRootNode());
+            else
+                throw new IllegalArgumentException("Unsupported model type [cls=" + tree.getClass().getName() + ']');
+        }
+
+        return new CompiledTreeEnsembleModel(builder, roots, mdl.getPredictionsAggregator());
+    }
+
+    /** {@inheritDoc} */
+    @Override public Double predict(Vector features) {
+        return predict(features.asArray());
+    }
+
+    /**
+     * Makes prediction for the given features.
+     *
+     * @param features Features.
+     * @return Prediction.
+     */
+    public double predict(double[] features) {
+        if (aggregator == null)
+            return predictByTree(roots[0], features);
+
+        double[] predictions = new double[roots.length];
+
+        for (int i = 0; i < roots.length; i++)
+            predictions[i] = predictByTree(roots[i], features);
+
+        return aggregator.apply(predictions);
+    }
+
+    /**
+     * Makes predictions for the given rows. Every tree is applied to all rows before the next tree is taken.
+     *
+     * @param rows Features of every row.
+     * @return Predictions.
+     */
+    public double[] predict(double[][] rows) {
+        double[][] predictions = new double[roots.length][rows.length];
+
+        for (int i = 0; i < roots.length; i++) {
+            int root = roots[i];
+            double[] treePredictions = predictions[i];
+
+            for (int row = 0; row < rows.length; row++)
+                treePredictions[row] = predictByTree(root, rows[row]);
+        }
+
+        if (aggregator == null)
+            return predictions[0];
+
+        double[] res = new double[rows.length];
+        double[] rowPredictions = new double[roots.length];
+
+        for (int row = 0; row < rows.length; row++) {
+            for (int i = 0; i < roots.length; i++)
+                rowPredictions[i] = predictions[i][row];
+
+            res[row] = aggregator.apply(rowPredictions);
+        }
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<Double> predictBatch(List<Vector> inputs) {
+        double[][] rows = new double[inputs.size()][];
+
+        for (int i = 0; i < rows.length; i++)
+            rows[i] = inputs.get(i).asArray();
+
+        double[] predictions = predict(rows);
+
+        List<Double> res = new ArrayList<>(predictions.length);
+        for (double prediction : predictions)
+            res.add(prediction);
+
+        return res;
+    }
+
+    /**
+     * Returns number of trees.
+     *
+     * @return Number of trees.
+     */
+    public int getTreesCount() {
+        return roots.length;
+    }
+
+    /**
+     * Returns total number of nodes of all trees.
+     *
+     * @return Number of nodes.
+     */
+    public int getNodesCount() {
+        return featureIds.length;
+    }
+
+    /**
+     * Walks the tree starting from the given root and returns value of the reached leaf.
+     *
+     * @param root Index of the root node.
+     * @param features Features.
+     * @return Leaf value.
+     */
+    private double predictByTree(int root, double[] features) {
+        int node = root;
+        int featureId;
+
+        while ((featureId = featureIds[node]) >= 0) {
+            double val = features[featureId];
+
+            if (val > values[node])
+                node = thenNodes[node];
+            else if (val <= values[node])
+                node = elseNodes[node];
+            else {
+                node = missingNodes[node];
+
+                if (node < 0)
+                    throw new IllegalArgumentException("Feature must not be null or missing node should be specified");
+            }
+        }
+
+        return values[node];
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return toString(false);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString(boolean pretty) {
+        return "CompiledTreeEnsembleModel [trees=" + roots.length + ", nodes=" + featureIds.length + ']';
+    }
+
+    /**
+     * Flattens tree nodes into growable primitive arrays in depth-first order.
+     */
+    private static class Builder {
+        /** Feature ids. */
+        private int[] featureIds = new int[16];
+
+        /** Thresholds and leaf values. */
+        private double[] values = new double[16];
+
+        /** Then nodes. */
+        private int[] thenNodes = new int[16];
+
+        /** Else nodes. */
+        private int[] elseNodes = new int[16];
+
+        /** Missing nodes. */
+        private int[] missingNodes = new int[16];
+
+        /** Number of added nodes. */
+        private int size;
+
+        /**
+         * Adds decision tree node with all its descendants.
+         *
+         * @param node Decision tree node.
+         * @return Index of the added node.
+         */
+        int add(DecisionTreeNode node) {
+            if (node instanceof DecisionTreeLeafNode)
+                return addNode(-1, ((DecisionTreeLeafNode)node).getVal());
+
+            if (node instanceof DecisionTreeConditionalNode) {
+                DecisionTreeConditionalNode cond = (DecisionTreeConditionalNode)node;
+
+                int idx = addNode(cond.getCol(), cond.getThreshold());
+
+                elseNodes[idx] = add(cond.getElseNode());
+                thenNodes[idx] = add(cond.getThenNode());
+                missingNodes[idx] = cond.getMissingNode() == null ? -1 : add(cond.getMissingNode());
+
+                return idx;
+            }
+
+            throw new IllegalArgumentException("Unsupported node type [cls=" + node.getClass().getName() + ']');
+        }
+
+        /**
+         * Adds random forest tree node with all its descendants. Missing values go to the right node as they do in
+         * {@link TreeNode#predict(Vector)}.
+         *
+         * @param node Random forest tree node.
+         * @return Index of the added node.
+         */
+        int add(TreeNode node) {
+            switch (node.getType()) {
+                case LEAF:
+                    return addNode(-1, node.getVal());
+
+                case CONDITIONAL:
+                    int idx = addNode(node.getFeatureId(), node.getVal());
+
+                    elseNodes[idx] = add(node.getLeft());
+                    thenNodes[idx] = add(node.getRight());
+                    missingNodes[idx] = thenNodes[idx];
+
+                    return idx;
+
+                default:
+                    throw new IllegalArgumentException("Tree node has unknown type");
+            }
+        }
+
+        /**
+         * Adds a single node.
+         *
+         * @param featureId Feature id or {@code -1} for leaf.
+         * @param val Threshold or leaf value.
+         * @return Index of the added node.
+         */
+        private int addNode(int featureId, double val) {
+            if (size == featureIds.length) {
+                int cap = size * 2;
+
+                featureIds = Arrays.copyOf(featureIds, cap);
+                values = Arrays.copyOf(values, cap);
+                thenNodes = Arrays.copyOf(thenNodes, cap);
+                elseNodes = Arrays.copyOf(elseNodes, cap);
+                missingNodes = Arrays.copyOf(missingNodes, cap);
+            }
+
+            featureIds[size] = featureId;
+            values[size] = val;
+            thenNodes[size] = -1;
+            elseNodes[size] = -1;
+            missingNodes[size] = -1;
+
+            return size++;
+        }
+    }
+}
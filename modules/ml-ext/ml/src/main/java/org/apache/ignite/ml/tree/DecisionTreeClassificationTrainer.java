@@ -96,6 +96,19 @@ public class DecisionTreeClassificationTrainer extends DecisionTreeTrainer<GiniI
         return this;
     }
 
+    /**
+     * Sets max number of bins features are quantized into and enables histogram-based split finding. In this mode
+     * features are quantized once, splits are found by accumulating per-bin label statistics instead of sorting, and
+     * index is not built. Value {@code 0} disables the mode.
+     *
+     * @param maxBins Max number of bins (from 2 to 255), or {@code 0}.
+     * @return Decision tree trainer.
+     */
+    public DecisionTreeClassificationTrainer withMaxBins(int maxBins) {
+        this.maxBins = checkMaxBins(maxBins);
+        return this;
+    }
+
     /**
      * Returns a hyper-parameter value.
      *
@@ -64,6 +64,19 @@ public class DecisionTreeRegressionTrainer extends DecisionTreeTrainer<MSEImpuri
         return this;
     }
 
+    /**
+     * Sets max number of bins features are quantized into and enables histogram-based split finding. In this mode
+     * features are quantized once, splits are found by accumulating per-bin label statistics instead of sorting, and
+     * index is not built. Value {@code 0} disables the mode.
+     *
+     * @param maxBins Max number of bins (from 2 to 255), or {@code 0}.
+     * @return Decision tree trainer.
+     */
+    public DecisionTreeRegressionTrainer withMaxBins(int maxBins) {
+        this.maxBins = checkMaxBins(maxBins);
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override protected ImpurityMeasureCalculator<MSEImpurityMeasure> getImpurityMeasureCalculator(
         Dataset<EmptyContext, DecisionTreeData> dataset) {
@@ -30,6 +30,8 @@ import org.apache.ignite.ml.structures.LabeledVector;
 import org.apache.ignite.ml.trainers.SingleLabelDatasetTrainer;
 import org.apache.ignite.ml.tree.data.DecisionTreeData;
 import org.apache.ignite.ml.tree.data.DecisionTreeDataBuilder;
+import org.apache.ignite.ml.tree.data.FeatureHistograms;
+import org.apache.ignite.ml.tree.data.QuantileSketch;
 import org.apache.ignite.ml.tree.impurity.ImpurityMeasure;
 import org.apache.ignite.ml.tree.impurity.ImpurityMeasureCalculator;
 import org.apache.ignite.ml.tree.impurity.util.StepFunction;
@@ -42,6 +44,9 @@ import org.apache.ignite.ml.tree.leaf.DecisionTreeLeafBuilder;
  * @param <T> Type of impurity measure.
  */
 public abstract class DecisionTreeTrainer<T extends ImpurityMeasure<T>> extends SingleLabelDatasetTrainer<DecisionTreeModel> {
+    /** Number of values kept in quantile sketches per bin, defines accuracy of estimated bin thresholds. */
+    private static final int SKETCH_VALUES_PER_BIN = 8;
+
     /** Max tree deep. */
     int maxDeep;
 
@@ -57,6 +62,12 @@ public abstract class DecisionTreeTrainer<T extends ImpurityMeasure<T>> extends
     /** Use index structure instead of using sorting while learning. */
     protected boolean usingIdx = true;
 
+    /**
+     * Max number of bins features are quantized into for histogram-based split finding, {@code 0} if splits are found
+     * using sorting or index.
+     */
+    protected int maxBins;
+
     /**
      * Constructs a new distributed decision tree trainer.
      *
@@ -113,7 +124,7 @@ public abstract class DecisionTreeTrainer<T extends ImpurityMeasure<T>> extends
         try (Dataset<EmptyContext, DecisionTreeData> dataset = datasetBuilder.build(
             envBuilder,
             new EmptyContextBuilder<>(),
-            new DecisionTreeDataBuilder<>(preprocessor, usingIdx),
+            new DecisionTreeDataBuilder<>(preprocessor, usingIdx && maxBins == 0),
             learningEnvironment()
         )) {
             return fit(dataset);
@@ -152,7 +163,44 @@ public abstract class DecisionTreeTrainer<T extends ImpurityMeasure<T>> extends
 
     /** */
     public <K, V> DecisionTreeModel fit(Dataset<EmptyContext, DecisionTreeData> dataset) {
-        return new DecisionTreeModel(split(dataset, e -> true, 0, getImpurityMeasureCalculator(dataset)));
+        ImpurityMeasureCalculator<T> impurityCalc = getImpurityMeasureCalculator(dataset);
+
+        if (maxBins > 0) {
+            double[][] binThresholds = calculateBinThresholds(dataset);
+
+            if (binThresholds == null)
+                return new DecisionTreeModel(decisionTreeLeafBuilder.createLeafNode(dataset, e -> true));
+
+            TreeFilter root = e -> true;
+
+            return new DecisionTreeModel(splitWithHistograms(dataset, root, 0, impurityCalc, binThresholds,
+                calculateHistograms(dataset, binThresholds, root, impurityCalc)));
+        }
+
+        return new DecisionTreeModel(split(dataset, e -> true, 0, impurityCalc));
+    }
+
+    /**
+     * Validates max number of bins.
+     *
+     * @param maxBins Max number of bins.
+     * @return Max number of bins.
+     */
+    static int checkMaxBins(int maxBins) {
+        if (maxBins != 0 && (maxBins < 2 || maxBins > 255))
+            throw new IllegalArgumentException("Max number of bins should be 0 or between 2 and 255 [maxBins=" +
+                maxBins + ']');
+
+        return maxBins;
+    }
+
+    /**
+     * Returns max number of bins used for histogram-based split finding.
+     *
+     * @return Max number of bins or {@code 0} if histograms are not used.
+     */
+    public int getMaxBins() {
+        return maxBins;
     }
 
     /**
@@ -191,6 +239,203 @@ public abstract class DecisionTreeTrainer<T extends ImpurityMeasure<T>> extends
         );
     }
 
+    /**
+     * Splits the node specified by the given dataset and predicate using feature histograms and returns decision tree
+     * node. Histograms of only the smaller child are calculated on the dataset, histograms of the larger one are
+     * obtained by subtraction from the node histograms.
+     *
+     * @param dataset Dataset.
+     * @param filter Decision tree node predicate.
+     * @param deep Current tree deep.
+     * @param impurityCalc Impurity measure calculator.
+     * @param binThresholds Bin thresholds of every column.
+     * @param hist Histograms of the node or {@code null} if the node is empty.
+     * @return Decision tree node.
+     */
+    private DecisionTreeNode splitWithHistograms(Dataset<EmptyContext, DecisionTreeData> dataset, TreeFilter filter,
+        int deep, ImpurityMeasureCalculator<T> impurityCalc, double[][] binThresholds, FeatureHistograms hist) {
+        if (deep >= maxDeep || hist == null)
+            return decisionTreeLeafBuilder.createLeafNode(dataset, filter);
+
+        SplitPoint<T> splitPnt = calculateBestSplitPoint(hist, binThresholds, impurityCalc);
+
+        if (splitPnt == null)
+            return decisionTreeLeafBuilder.createLeafNode(dataset, filter);
+
+        TreeFilter thenFilter = updatePredicateForThenNode(filter, splitPnt);
+        TreeFilter elseFilter = updatePredicateForElseNode(filter, splitPnt);
+
+        FeatureHistograms thenHist = null;
+        FeatureHistograms elseHist = null;
+
+        if (deep + 1 < maxDeep) {
+            long elseCnt = rowsCountBelowThreshold(hist, binThresholds, impurityCalc, splitPnt);
+            boolean elseIsSmaller = elseCnt <= hist.getRowsCnt() - elseCnt;
+
+            FeatureHistograms smallerHist = calculateHistograms(dataset, binThresholds,
+                elseIsSmaller ? elseFilter : thenFilter, impurityCalc);
+            FeatureHistograms largerHist = smallerHist == null ? hist : hist.subtract(smallerHist);
+
+            thenHist = elseIsSmaller ? largerHist : smallerHist;
+            elseHist = elseIsSmaller ? smallerHist : largerHist;
+        }
+
+        DecisionTreeNode thenNode = splitWithHistograms(dataset, thenFilter, deep + 1, impurityCalc, binThresholds,
+            thenHist);
+        DecisionTreeNode elseNode = splitWithHistograms(dataset, elseFilter, deep + 1, impurityCalc, binThresholds,
+            elseHist);
+
+        return new DecisionTreeConditionalNode(
+            splitPnt.col,
+            splitPnt.threshold,
+            thenNode,
+            elseNode,
+            null
+        );
+    }
+
+    /**
+     * Calculates bin thresholds used to quantize features of all partitions into at most {@link #maxBins} bins per
+     * column. Bin thresholds are quantiles of feature values estimated using quantile sketches collected from all
+     * partitions, so that every partition contributes in proportion to its number of rows. Thresholds are calculated
+     * only once for a dataset, subsequent calls (e.g. on next iterations of gradient boosting) reuse thresholds of
+     * already quantized partitions. Partitions are quantized lazily when histograms are calculated, so partitions that
+     * have been rebuilt (e.g. after rebalancing) are quantized with the same thresholds.
+     *
+     * @param dataset Dataset.
+     * @return Bin thresholds of every column or {@code null} if dataset is empty.
+     */
+    private double[][] calculateBinThresholds(Dataset<EmptyContext, DecisionTreeData> dataset) {
+        double[][] binThresholds = dataset.compute(
+            DecisionTreeData::getBinThresholds,
+            (a, b) -> a == null ? b : a
+        );
+
+        if (binThresholds != null)
+            return binThresholds;
+
+        int bins = maxBins;
+        int capacity = bins * SKETCH_VALUES_PER_BIN;
+
+        QuantileSketch[] sketches = dataset.compute(
+            part -> part.quantileSketches(capacity),
+            DecisionTreeTrainer::mergeSketches
+        );
+
+        if (sketches == null)
+            return null;
+
+        binThresholds = new double[sketches.length][];
+
+        for (int col = 0; col < sketches.length; col++)
+            binThresholds[col] = sketches[col].binThresholds(bins);
+
+        return binThresholds;
+    }
+
+    /**
+     * Merges quantile sketches of every column gotten from two partitions.
+     *
+     * @param a Sketches of the first partition.
+     * @param b Sketches of the second partition.
+     * @return Merged sketches.
+     */
+    private static QuantileSketch[] mergeSketches(QuantileSketch[] a, QuantileSketch[] b) {
+        if (a == null)
+            return b;
+        if (b == null)
+            return a;
+
+        for (int col = 0; col < a.length; col++)
+            a[col].merge(b[col]);
+
+        return a;
+    }
+
+    /**
+     * Calculates feature histograms for the node specified by the given dataset and predicate.
+     *
+     * @param dataset Dataset.
+     * @param binThresholds Bin thresholds of every column.
+     * @param filter Decision tree node predicate.
+     * @param impurityCalc Impurity measure calculator.
+     * @return Feature histograms or {@code null} if the node is empty.
+     */
+    private FeatureHistograms calculateHistograms(Dataset<EmptyContext, DecisionTreeData> dataset,
+        double[][] binThresholds, TreeFilter filter, ImpurityMeasureCalculator<T> impurityCalc) {
+        return dataset.compute(
+            part -> impurityCalc.calculateHistograms(part, binThresholds, filter),
+            (a, b) -> a == null ? b : b == null ? a : a.add(b)
+        );
+    }
+
+    /**
+     * Calculates best split point based on feature histograms. Candidate thresholds are bin thresholds.
+     *
+     * @param hist Feature histograms.
+     * @param binThresholds Bin thresholds of every column.
+     * @param impurityCalc Impurity measure calculator.
+     * @return Best split point.
+     */
+    private SplitPoint<T> calculateBestSplitPoint(FeatureHistograms hist, double[][] binThresholds,
+        ImpurityMeasureCalculator<T> impurityCalc) {
+        int statsSize = impurityCalc.histogramStatsSize();
+        double[][] stats = hist.getStats();
+
+        SplitPoint<T> res = null;
+
+        for (int col = 0; col < stats.length; col++) {
+            double[] colStats = stats[col];
+
+            double[] total = new double[statsSize];
+            for (int i = 0; i < colStats.length; i++)
+                total[i % statsSize] += colStats[i];
+
+            double nodeImpurity = impurityCalc.histogramImpurity(new double[statsSize], total).impurity();
+
+            double[] left = new double[statsSize];
+            double[] right = new double[statsSize];
+
+            for (int bin = 0; bin < binThresholds[col].length; bin++) {
+                for (int i = 0; i < statsSize; i++) {
+                    left[i] += colStats[bin * statsSize + i];
+                    right[i] = total[i] - left[i];
+                }
+
+                T val = impurityCalc.histogramImpurity(left, right);
+
+                if (nodeImpurity - val.impurity() > minImpurityDecrease && (res == null || val.compareTo(res.val) < 0))
+                    res = new SplitPoint<>(val, col, binThresholds[col][bin]);
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * Calculates number of rows of the node that go to the "else" node of the given split point.
+     *
+     * @param hist Feature histograms of the node.
+     * @param binThresholds Bin thresholds of every column.
+     * @param impurityCalc Impurity measure calculator.
+     * @param splitPnt Split point.
+     * @return Number of rows with feature value not greater than split point threshold.
+     */
+    private long rowsCountBelowThreshold(FeatureHistograms hist, double[][] binThresholds,
+        ImpurityMeasureCalculator<T> impurityCalc, SplitPoint<T> splitPnt) {
+        int statsSize = impurityCalc.histogramStatsSize();
+        double[] colStats = hist.getStats()[splitPnt.col];
+        int lastBin = Arrays.binarySearch(binThresholds[splitPnt.col], splitPnt.threshold);
+
+        assert lastBin >= 0 : "Split threshold has to be one of bin thresholds";
+
+        double[] left = new double[statsSize];
+        for (int i = 0; i < (lastBin + 1) * statsSize; i++)
+            left[i % statsSize] += colStats[i];
+
+        return impurityCalc.histogramRowsCount(left);
+    }
+
     /**
      * Calculates impurity measure functions for all columns for the node specified by the given dataset and predicate.
      *
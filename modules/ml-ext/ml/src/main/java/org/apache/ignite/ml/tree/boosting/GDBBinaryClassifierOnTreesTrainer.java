@@ -36,6 +36,9 @@ public class GDBBinaryClassifierOnTreesTrainer extends GDBBinaryClassifierTraine
     /** Use index structure instead of using sorting during the learning process. */
     private boolean usingIdx = true;
 
+    /** Max number of bins for histogram-based split finding, {@code 0} if histograms are not used. */
+    private int maxBins;
+
     /**
      * Constructs instance of GDBBinaryClassifierOnTreesTrainer.
      *
@@ -54,7 +57,8 @@ public class GDBBinaryClassifierOnTreesTrainer extends GDBBinaryClassifierTraine
 
     /** {@inheritDoc} */
     @NotNull @Override protected DecisionTreeRegressionTrainer buildBaseModelTrainer() {
-        return new DecisionTreeRegressionTrainer(maxDepth, minImpurityDecrease).withUsingIdx(usingIdx);
+        return new DecisionTreeRegressionTrainer(maxDepth, minImpurityDecrease).withUsingIdx(usingIdx)
+            .withMaxBins(maxBins);
     }
 
     /** {@inheritDoc} */
@@ -78,6 +82,18 @@ public class GDBBinaryClassifierOnTreesTrainer extends GDBBinaryClassifierTraine
         return this;
     }
 
+    /**
+     * Sets max number of bins features are quantized into for histogram-based split finding in base trees. Value
+     * {@code 0} disables histograms.
+     *
+     * @param maxBins Max number of bins (from 2 to 255), or {@code 0}.
+     * @return Decision tree trainer.
+     */
+    public GDBBinaryClassifierOnTreesTrainer withMaxBins(int maxBins) {
+        this.maxBins = maxBins;
+        return this;
+    }
+
     /**
      * Get the max depth.
      *
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.ml.tree.boosting;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import org.apache.ignite.ml.IgniteModel;
@@ -35,13 +36,16 @@ import org.apache.ignite.ml.math.primitives.vector.Vector;
 import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
 import org.apache.ignite.ml.preprocessing.Preprocessor;
 import org.apache.ignite.ml.trainers.DatasetTrainer;
+import org.apache.ignite.ml.tree.DecisionTreeModel;
 import org.apache.ignite.ml.tree.DecisionTreeTrainer;
 import org.apache.ignite.ml.tree.data.DecisionTreeData;
 import org.apache.ignite.ml.tree.data.DecisionTreeDataBuilder;
 
 /**
  * Gradient boosting on trees specific learning strategy reusing learning dataset with index between several learning
- * iterations.
+ * iterations. Running predictions of the composition are kept in partitions and updated by every new tree, so each
+ * iteration applies only the new tree to the rows instead of the whole composition. Partitions rebuilt during learning
+ * (e.g. after rebalancing) lose running predictions, such partitions are initialized again by the current composition.
  */
 public class GDBOnTreesLearningStrategy extends GDBLearningStrategy {
     /** Use index. */
@@ -75,9 +79,15 @@ public class GDBOnTreesLearningStrategy extends GDBLearningStrategy {
         try (Dataset<EmptyContext, DecisionTreeData> dataset = datasetBuilder.build(
             envBuilder,
             new EmptyContextBuilder<>(),
-            new DecisionTreeDataBuilder<>(vectorizer, useIdx),
+            new DecisionTreeDataBuilder<>(vectorizer, useIdx && decisionTreeTrainer.getMaxBins() == 0),
             environment
         )) {
+            double[] initWeights = Arrays.copyOf(compositionWeights, models.size());
+            ModelsComposition initComposition = new ModelsComposition(new ArrayList<>(models),
+                new WeightedPredictionsAggregator(initWeights, meanLbVal));
+
+            dataset.compute(part -> initPredictions(part, initComposition));
+
             for (int i = 0; i < cntOfIterations; i++) {
                 double[] weights = Arrays.copyOf(compositionWeights, models.size());
                 WeightedPredictionsAggregator aggregator = new WeightedPredictionsAggregator(weights, meanLbVal);
@@ -86,21 +96,17 @@ public class GDBOnTreesLearningStrategy extends GDBLearningStrategy {
                 if (convCheck.isConverged(dataset, currComposition))
                     break;
 
-                dataset.compute(part -> {
-                    if (part.getCopiedOriginalLabels() == null)
-                        part.setCopiedOriginalLabels(Arrays.copyOf(part.getLabels(), part.getLabels().length));
-
-                    for (int j = 0; j < part.getLabels().length; j++) {
-                        double mdlAnswer = currComposition.predict(VectorUtils.of(part.getFeatures()[j]));
-                        double originalLbVal = externalLbToInternalMapping.apply(part.getCopiedOriginalLabels()[j]);
-                        part.getLabels()[j] = -loss.gradient(sampleSize, originalLbVal, mdlAnswer);
-                    }
-                });
+                dataset.compute(part -> computeResiduals(part, currComposition));
 
                 long startTs = System.currentTimeMillis();
-                models.add(decisionTreeTrainer.fit(dataset));
+                DecisionTreeModel mdl = decisionTreeTrainer.fit(dataset);
                 double learningTime = (double)(System.currentTimeMillis() - startTs) / 1000.0;
                 trainerEnvironment.logger(getClass()).log(MLLogger.VerboseLevel.LOW, "One model training time was %.2fs", learningTime);
+
+                models.add(mdl);
+
+                double weight = compositionWeights[models.size() - 1];
+                dataset.compute(part -> updatePredictions(part, mdl, weight));
             }
         }
         catch (Exception e) {
@@ -110,4 +116,66 @@ public class GDBOnTreesLearningStrategy extends GDBLearningStrategy {
         compositionWeights = Arrays.copyOf(compositionWeights, models.size());
         return models;
     }
+
+    /**
+     * Saves original labels and initializes running predictions of the initial composition on partition. This is the
+     * only place where all models of composition are applied to the rows.
+     *
+     * @param part Partition.
+     * @param composition Initial composition.
+     */
+    private void initPredictions(DecisionTreeData part, ModelsComposition composition) {
+        double[][] features = part.getFeatures();
+        double[] labels = part.getLabels();
+
+        if (part.getCopiedOriginalLabels() == null)
+            part.setCopiedOriginalLabels(Arrays.copyOf(labels, labels.length));
+
+        double[] predictions = new double[features.length];
+        for (int j = 0; j < features.length; j++)
+            predictions[j] = composition.predict(VectorUtils.of(features[j]));
+
+        part.setPredictions(predictions);
+    }
+
+    /**
+     * Replaces labels of partition by residuals (anti-gradients of loss) of the current composition computed from the
+     * running predictions. Running predictions of rebuilt partition are initialized by the current composition first.
+     *
+     * @param part Partition.
+     * @param composition Current composition.
+     */
+    private void computeResiduals(DecisionTreeData part, ModelsComposition composition) {
+        if (part.getPredictions() == null)
+            initPredictions(part, composition);
+
+        double[] labels = part.getLabels();
+        double[] originalLabels = part.getCopiedOriginalLabels();
+        double[] predictions = part.getPredictions();
+
+        for (int j = 0; j < labels.length; j++) {
+            double originalLbVal = externalLbToInternalMapping.apply(originalLabels[j]);
+            labels[j] = -loss.gradient(sampleSize, originalLbVal, predictions[j]);
+        }
+    }
+
+    /**
+     * Adds weighted answers of the new model to the running predictions of partition. Order of summation is the same
+     * as in {@link WeightedPredictionsAggregator}, so running predictions are equal to predictions of composition.
+     * Rebuilt partition without running predictions is skipped, it's initialized by the next residuals computation.
+     *
+     * @param part Partition.
+     * @param mdl New model.
+     * @param weight Weight of the new model.
+     */
+    private void updatePredictions(DecisionTreeData part, DecisionTreeModel mdl, double weight) {
+        double[][] features = part.getFeatures();
+        double[] predictions = part.getPredictions();
+
+        if (predictions == null)
+            return;
+
+        for (int j = 0; j < features.length; j++)
+            predictions[j] += weight * mdl.predict(VectorUtils.of(features[j]));
+    }
 }
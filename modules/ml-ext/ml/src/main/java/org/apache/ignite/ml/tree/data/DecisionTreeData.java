@@ -18,6 +18,7 @@
 package org.apache.ignite.ml.tree.data;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import org.apache.ignite.ml.dataset.primitive.FeatureMatrixWithLabelsOnHeapData;
 import org.apache.ignite.ml.tree.TreeFilter;
@@ -30,12 +31,24 @@ public class DecisionTreeData extends FeatureMatrixWithLabelsOnHeapData {
     /** Copy of vector with original labels. Auxiliary for Gradient Boosting on Trees.*/
     private double[] copiedOriginalLabels;
 
+    /**
+     * Running predictions of the current composition for every row. Auxiliary for Gradient Boosting on Trees, kept in
+     * sync with the composition so that residuals can be computed without predicting all models again.
+     */
+    private double[] predictions;
+
     /** Indexes cache. */
     private final List<TreeDataIndex> indexesCache;
 
     /** Build index. */
     private final boolean buildIdx;
 
+    /** Bin thresholds for every column used to quantize features, {@code null} if features are not quantized. */
+    private double[][] binThresholds;
+
+    /** Bin indices of features in column-major order (unsigned bytes), {@code null} if features are not quantized. */
+    private byte[][] bins;
+
     /**
      * Constructs a new instance of decision tree data.
      *
@@ -138,6 +151,84 @@ public class DecisionTreeData extends FeatureMatrixWithLabelsOnHeapData {
         this.copiedOriginalLabels = copiedOriginalLabels;
     }
 
+    /** */
+    public double[] getPredictions() {
+        return predictions;
+    }
+
+    /** */
+    public void setPredictions(double[] predictions) {
+        this.predictions = predictions;
+    }
+
+    /**
+     * Returns quantile sketches of every column used to estimate bin thresholds.
+     *
+     * @param capacity Max number of values kept in every sketch.
+     * @return Quantile sketches of every column or {@code null} if partition is empty.
+     */
+    public QuantileSketch[] quantileSketches(int capacity) {
+        double[][] features = getFeatures();
+
+        if (features.length == 0)
+            return null;
+
+        QuantileSketch[] res = new QuantileSketch[features[0].length];
+        double[] col = new double[features.length];
+
+        for (int j = 0; j < res.length; j++) {
+            for (int i = 0; i < features.length; i++)
+                col[i] = features[i][j];
+
+            Arrays.sort(col);
+
+            res[j] = QuantileSketch.of(col, capacity);
+        }
+
+        return res;
+    }
+
+    /**
+     * Quantizes features into bins defined by the given thresholds. Value {@code v} of column {@code j} gets the
+     * smallest bin {@code b} such that {@code v <= binThresholds[j][b]}, or {@code binThresholds[j].length} if there is
+     * no such bin. Quantization is skipped if features are already quantized with the same thresholds.
+     *
+     * @param binThresholds Sorted bin thresholds for every column, each column has at most 254 thresholds.
+     */
+    public void quantize(double[][] binThresholds) {
+        if (bins != null && Arrays.deepEquals(this.binThresholds, binThresholds))
+            return;
+
+        double[][] features = getFeatures();
+
+        byte[][] newBins = new byte[binThresholds.length][features.length];
+
+        for (int j = 0; j < binThresholds.length; j++) {
+            double[] thresholds = binThresholds[j];
+
+            assert thresholds.length < 255 : "Number of bins has to be less than 256";
+
+            for (int i = 0; i < features.length; i++) {
+                int pos = Arrays.binarySearch(thresholds, features[i][j]);
+
+                newBins[j][i] = (byte)(pos >= 0 ? pos : -pos - 1);
+            }
+        }
+
+        this.binThresholds = binThresholds;
+        this.bins = newBins;
+    }
+
+    /** */
+    public double[][] getBinThresholds() {
+        return binThresholds;
+    }
+
+    /** */
+    public byte[][] getBins() {
+        return bins;
+    }
+
     /**
      * Builds index in according to current tree depth and cached indexes in upper levels. Uses depth as key of cached
      * index and replaces cached index with same key.
@@ -18,7 +18,10 @@
 package org.apache.ignite.ml.tree.data;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
 import org.apache.ignite.ml.dataset.PartitionDataBuilder;
 import org.apache.ignite.ml.dataset.UpstreamEntry;
 import org.apache.ignite.ml.environment.LearningEnvironment;
@@ -61,6 +64,9 @@ public class DecisionTreeDataBuilder<K, V, C extends Serializable>
         Iterator<UpstreamEntry<K, V>> upstreamData,
         long upstreamDataSize,
         C ctx) {
+        if (upstreamDataSize == UNKNOWN_SIZE)
+            return buildWithUnknownSize(upstreamData);
+
         double[][] features = new double[Math.toIntExact(upstreamDataSize)][];
         double[] labels = new double[Math.toIntExact(upstreamDataSize)];
 
@@ -70,16 +76,51 @@ public class DecisionTreeDataBuilder<K, V, C extends Serializable>
 
             LabeledVector labeledVector = preprocessor.apply(entry.getKey(), entry.getValue());
             features[ptr] = labeledVector.features().asArray();
-
-            Object lb = labeledVector.label();
-            if (lb instanceof Double)
-                labels[ptr] = (double)lb;
-            else
-                throw new IllegalLabelTypeException(lb.getClass(), lb, Double.class);
+            labels[ptr] = extractLabel(labeledVector);
 
             ptr++;
         }
 
         return new DecisionTreeData(features, labels, buildIdx);
     }
+
+    /** {@inheritDoc} */
+    @Override public boolean isUnknownSizeSupported() {
+        return true;
+    }
+
+    /**
+     * Builds decision tree data in a single pass using growable buffers.
+     *
+     * @param upstreamData Partition {@code upstream} data.
+     * @return Decision tree data.
+     */
+    private DecisionTreeData buildWithUnknownSize(Iterator<UpstreamEntry<K, V>> upstreamData) {
+        List<double[]> features = new ArrayList<>();
+        DoubleArrayList labels = new DoubleArrayList();
+
+        while (upstreamData.hasNext()) {
+            UpstreamEntry<K, V> entry = upstreamData.next();
+
+            LabeledVector labeledVector = preprocessor.apply(entry.getKey(), entry.getValue());
+            features.add(labeledVector.features().asArray());
+            labels.add(extractLabel(labeledVector));
+        }
+
+        return new DecisionTreeData(features.toArray(new double[0][]), labels.toDoubleArray(), buildIdx);
+    }
+
+    /**
+     * Extracts label of the specified labeled vector.
+     *
+     * @param labeledVector Labeled vector.
+     * @return Label.
+     */
+    private static double extractLabel(LabeledVector labeledVector) {
+        Object lb = labeledVector.label();
+        if (lb instanceof Double)
+            return (double)lb;
+        else
+            throw new IllegalLabelTypeException(lb.getClass(), lb, Double.class);
+    }
 }
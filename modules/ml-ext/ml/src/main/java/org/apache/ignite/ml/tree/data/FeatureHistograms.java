@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.tree.data;
+
+import java.io.Serializable;
+
+/**
+ * Per-bin label statistics of all features for one tree node. For every column statistics are kept in a flat array
+ * where statistics of bin {@code b} occupy {@code statsSize} elements starting at {@code b * statsSize}. Histograms of
+ * partitions are merged by {@link #add(FeatureHistograms)}, histogram of a sibling node is obtained from the parent one
+ * by {@link #subtract(FeatureHistograms)}.
+ */
+public class FeatureHistograms implements Serializable {
+    /** */
+    private static final long serialVersionUID = -4312079563187246853L;
+
+    /** Statistics of bins for every column. */
+    private final double[][] stats;
+
+    /** Number of rows accumulated in histograms. */
+    private long rowsCnt;
+
+    /**
+     * Constructs a new instance of feature histograms.
+     *
+     * @param stats Statistics of bins for every column.
+     * @param rowsCnt Number of rows accumulated in histograms.
+     */
+    public FeatureHistograms(double[][] stats, long rowsCnt) {
+        this.stats = stats;
+        this.rowsCnt = rowsCnt;
+    }
+
+    /**
+     * Merges the given histograms into this one.
+     *
+     * @param other Histograms of the same node gotten from another partition.
+     * @return This histograms.
+     */
+    public FeatureHistograms add(FeatureHistograms other) {
+        assert stats.length == other.stats.length : "Histograms have to have the same number of columns";
+
+        for (int col = 0; col < stats.length; col++) {
+            double[] a = stats[col];
+            double[] b = other.stats[col];
+
+            for (int i = 0; i < a.length; i++)
+                a[i] += b[i];
+        }
+
+        rowsCnt += other.rowsCnt;
+
+        return this;
+    }
+
+    /**
+     * Subtracts the given histograms of a child node from this (parent node) histograms. The result is histograms of
+     * the other child node.
+     *
+     * @param child Histograms of a child node.
+     * @return Histograms of the other child node.
+     */
+    public FeatureHistograms subtract(FeatureHistograms child) {
+        assert stats.length == child.stats.length : "Histograms have to have the same number of columns";
+
+        double[][] res = new double[stats.length][];
+
+        for (int col = 0; col < stats.length; col++) {
+            double[] a = stats[col];
+            double[] b = child.stats[col];
+
+            res[col] = new double[a.length];
+
+            for (int i = 0; i < a.length; i++)
+                res[col][i] = a[i] - b[i];
+        }
+
+        return new FeatureHistograms(res, rowsCnt - child.rowsCnt);
+    }
+
+    /** */
+    public double[][] getStats() {
+        return stats;
+    }
+
+    /** */
+    public long getRowsCnt() {
+        return rowsCnt;
+    }
+}
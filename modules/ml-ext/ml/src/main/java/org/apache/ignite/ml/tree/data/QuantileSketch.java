@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.tree.data;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Mergeable summary of a distribution of feature values used to estimate bin thresholds. The sketch keeps sorted
+ * distinct values with weights, where the weight of a value is the number of rows with feature values not greater than
+ * this value and greater than the previous kept value. When the number of kept values exceeds the capacity, adjacent
+ * values are collapsed into groups of approximately equal weight, so that sketches of partitions of different sizes are
+ * merged in proportion to the number of rows they summarize.
+ */
+public class QuantileSketch implements Serializable {
+    /** */
+    private static final long serialVersionUID = 2875325317386478316L;
+
+    /** Max number of kept values. */
+    private final int capacity;
+
+    /** Sorted distinct values. */
+    private double[] values;
+
+    /** Weights of values. */
+    private long[] weights;
+
+    /**
+     * Constructs a new instance of quantile sketch.
+     *
+     * @param capacity Max number of kept values.
+     * @param values Sorted distinct values.
+     * @param weights Weights of values.
+     */
+    private QuantileSketch(int capacity, double[] values, long[] weights) {
+        this.capacity = capacity;
+        this.values = values;
+        this.weights = weights;
+
+        compress();
+    }
+
+    /**
+     * Creates a sketch of the given sorted values.
+     *
+     * @param sorted Sorted values.
+     * @param capacity Max number of kept values.
+     * @return Quantile sketch.
+     */
+    public static QuantileSketch of(double[] sorted, int capacity) {
+        double[] values = new double[sorted.length];
+        long[] weights = new long[sorted.length];
+        int cnt = 0;
+
+        for (double val : sorted) {
+            if (cnt == 0 || val != values[cnt - 1])
+                values[cnt++] = val;
+
+            weights[cnt - 1]++;
+        }
+
+        return new QuantileSketch(capacity, Arrays.copyOf(values, cnt), Arrays.copyOf(weights, cnt));
+    }
+
+    /**
+     * Merges the given sketch into this one.
+     *
+     * @param other Sketch of another part of the same column.
+     * @return This sketch.
+     */
+    public QuantileSketch merge(QuantileSketch other) {
+        double[] resValues = new double[values.length + other.values.length];
+        long[] resWeights = new long[resValues.length];
+        int cnt = 0;
+
+        for (int i = 0, j = 0; i < values.length || j < other.values.length; ) {
+            double val;
+            long weight;
+
+            if (j == other.values.length || (i < values.length && values[i] <= other.values[j])) {
+                val = values[i];
+                weight = weights[i++];
+            }
+            else {
+                val = other.values[j];
+                weight = other.weights[j++];
+            }
+
+            if (cnt > 0 && resValues[cnt - 1] == val)
+                resWeights[cnt - 1] += weight;
+            else {
+                resValues[cnt] = val;
+                resWeights[cnt++] = weight;
+            }
+        }
+
+        values = Arrays.copyOf(resValues, cnt);
+        weights = Arrays.copyOf(resWeights, cnt);
+
+        compress();
+
+        return this;
+    }
+
+    /**
+     * Calculates bin thresholds. If there are no more than {@code maxBins} kept values every value except the last one
+     * becomes a threshold, otherwise thresholds are {@code maxBins - 1} quantiles of the summarized distribution with
+     * evenly spaced ranks (duplicates are removed).
+     *
+     * @param maxBins Max number of bins.
+     * @return Sorted distinct thresholds.
+     */
+    public double[] binThresholds(int maxBins) {
+        if (values.length <= maxBins)
+            return Arrays.copyOf(values, Math.max(values.length - 1, 0));
+
+        long total = totalWeight();
+
+        double[] res = new double[maxBins - 1];
+        int cnt = 0;
+        long cumWeight = 0;
+
+        for (int i = 0, bin = 1; i < values.length && bin < maxBins; i++) {
+            cumWeight += weights[i];
+
+            if (cumWeight * maxBins >= bin * total) {
+                if (i < values.length - 1 && (cnt == 0 || res[cnt - 1] != values[i]))
+                    res[cnt++] = values[i];
+
+                while (bin < maxBins && cumWeight * maxBins >= bin * total)
+                    bin++;
+            }
+        }
+
+        return Arrays.copyOf(res, cnt);
+    }
+
+    /**
+     * Returns total number of summarized rows.
+     *
+     * @return Total number of summarized rows.
+     */
+    public long totalWeight() {
+        long res = 0;
+
+        for (long weight : weights)
+            res += weight;
+
+        return res;
+    }
+
+    /** */
+    public double[] getValues() {
+        return values;
+    }
+
+    /** */
+    public long[] getWeights() {
+        return weights;
+    }
+
+    /**
+     * Collapses adjacent values into at most {@link #capacity} groups of approximately equal weight. Every group is
+     * represented by its greatest value, so the number of rows not greater than a kept value stays exact.
+     */
+    private void compress() {
+        if (values.length <= capacity)
+            return;
+
+        long total = totalWeight();
+
+        double[] resValues = new double[capacity];
+        long[] resWeights = new long[capacity];
+        int cnt = 0;
+        long cumWeight = 0;
+        long grpWeight = 0;
+
+        for (int i = 0; i < values.length; i++) {
+            cumWeight += weights[i];
+            grpWeight += weights[i];
+
+            if (i == values.length - 1 || cumWeight * capacity >= (cnt + 1) * total) {
+                resValues[cnt] = values[i];
+                resWeights[cnt++] = grpWeight;
+                grpWeight = 0;
+            }
+        }
+
+        values = Arrays.copyOf(resValues, cnt);
+        weights = Arrays.copyOf(resWeights, cnt);
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.ignite.ml.math.primitives.vector.Vector;
 import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
 import org.apache.ignite.ml.tree.TreeFilter;
 import org.apache.ignite.ml.tree.data.DecisionTreeData;
+import org.apache.ignite.ml.tree.data.FeatureHistograms;
 import org.apache.ignite.ml.tree.data.TreeDataIndex;
 import org.apache.ignite.ml.tree.impurity.util.StepFunction;
 
@@ -52,6 +53,87 @@ public abstract class ImpurityMeasureCalculator<T extends ImpurityMeasure<T>> im
      */
     public abstract StepFunction<T>[] calculate(DecisionTreeData data, TreeFilter filter, int depth);
 
+    /**
+     * Calculates per-bin label statistics of all columns for rows that pass the given filter. Features are quantized
+     * with the given thresholds if they are not quantized yet (e.g. partition {@code data} has been rebuilt after
+     * rebalancing), see {@link DecisionTreeData#quantize(double[][])}.
+     *
+     * @param data Features and labels.
+     * @param binThresholds Bin thresholds of every column.
+     * @param filter Decision tree node predicate.
+     * @return Feature histograms or {@code null} if there are no rows passed the filter.
+     */
+    public FeatureHistograms calculateHistograms(DecisionTreeData data, double[][] binThresholds, TreeFilter filter) {
+        data.quantize(binThresholds);
+
+        double[][] features = data.getFeatures();
+        double[] labels = data.getLabels();
+        double[][] thresholds = data.getBinThresholds();
+        byte[][] bins = data.getBins();
+
+        int[] rows = new int[features.length];
+        int rowsCnt = 0;
+
+        for (int i = 0; i < features.length; i++) {
+            if (filter.test(features[i]))
+                rows[rowsCnt++] = i;
+        }
+
+        if (rowsCnt == 0)
+            return null;
+
+        int statsSize = histogramStatsSize();
+        double[][] stats = new double[bins.length][];
+
+        for (int col = 0; col < bins.length; col++) {
+            byte[] colBins = bins[col];
+            double[] colStats = new double[(thresholds[col].length + 1) * statsSize];
+
+            for (int k = 0; k < rowsCnt; k++) {
+                int row = rows[k];
+
+                addToHistogram(colStats, (colBins[row] & 0xFF) * statsSize, labels[row]);
+            }
+
+            stats[col] = colStats;
+        }
+
+        return new FeatureHistograms(stats, rowsCnt);
+    }
+
+    /**
+     * Returns number of statistics kept for every bin of a feature histogram.
+     *
+     * @return Number of statistics kept for every bin.
+     */
+    public abstract int histogramStatsSize();
+
+    /**
+     * Adds label to statistics of a bin.
+     *
+     * @param stats Statistics of all bins of a column.
+     * @param off Offset of the bin statistics.
+     * @param lb Label.
+     */
+    protected abstract void addToHistogram(double[] stats, int off, double lb);
+
+    /**
+     * Calculates impurity measure of a split based on accumulated bin statistics of both parts.
+     *
+     * @param left Statistics of the left part.
+     * @param right Statistics of the right part.
+     * @return Impurity measure.
+     */
+    public abstract T histogramImpurity(double[] left, double[] right);
+
+    /**
+     * Returns number of rows accumulated in the given bin statistics.
+     *
+     * @param stats Accumulated statistics.
+     * @return Number of rows.
+     */
+    public abstract long histogramRowsCount(double[] stats);
+
     /**
      * Returns columns count in current dataset.
      *
@@ -115,6 +115,39 @@ public class GiniImpurityMeasureCalculator extends ImpurityMeasureCalculator<Gin
         return null;
     }
 
+    /** {@inheritDoc} */
+    @Override public int histogramStatsSize() {
+        return lbEncoder.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void addToHistogram(double[] stats, int off, double lb) {
+        stats[off + getLabelCode(lb)]++;
+    }
+
+    /** {@inheritDoc} */
+    @Override public GiniImpurityMeasure histogramImpurity(double[] left, double[] right) {
+        long[] leftCnts = new long[left.length];
+        long[] rightCnts = new long[right.length];
+
+        for (int i = 0; i < left.length; i++) {
+            leftCnts[i] = Math.round(left[i]);
+            rightCnts[i] = Math.round(right[i]);
+        }
+
+        return new GiniImpurityMeasure(leftCnts, rightCnts);
+    }
+
+    /** {@inheritDoc} */
+    @Override public long histogramRowsCount(double[] stats) {
+        long res = 0;
+
+        for (double cnt : stats)
+            res += Math.round(cnt);
+
+        return res;
+    }
+
     /**
      * Returns label code.
      *
@@ -113,4 +113,26 @@ public class MSEImpurityMeasureCalculator extends ImpurityMeasureCalculator<MSEI
 
         return null;
     }
+
+    /** {@inheritDoc} */
+    @Override public int histogramStatsSize() {
+        return 3;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void addToHistogram(double[] stats, int off, double lb) {
+        stats[off] += lb;
+        stats[off + 1] += lb * lb;
+        stats[off + 2]++;
+    }
+
+    /** {@inheritDoc} */
+    @Override public MSEImpurityMeasure histogramImpurity(double[] left, double[] right) {
+        return new MSEImpurityMeasure(left[0], left[1], (long)left[2], right[0], right[1], (long)right[2]);
+    }
+
+    /** {@inheritDoc} */
+    @Override public long histogramRowsCount(double[] stats) {
+        return (long)stats[2];
+    }
 }
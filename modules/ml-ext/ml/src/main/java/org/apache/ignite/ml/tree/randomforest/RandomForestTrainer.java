@@ -34,6 +34,7 @@ import org.apache.ignite.ml.dataset.Dataset;
 import org.apache.ignite.ml.dataset.DatasetBuilder;
 import org.apache.ignite.ml.dataset.feature.BucketMeta;
 import org.apache.ignite.ml.dataset.feature.FeatureMeta;
+import org.apache.ignite.ml.dataset.feature.FeaturePrecision;
 import org.apache.ignite.ml.dataset.impl.bootstrapping.BootstrappedDatasetBuilder;
 import org.apache.ignite.ml.dataset.impl.bootstrapping.BootstrappedDatasetPartition;
 import org.apache.ignite.ml.dataset.impl.bootstrapping.BootstrappedVector;
@@ -93,6 +94,9 @@ public abstract class RandomForestTrainer<L, S extends ImpurityComputer<Bootstra
     /** Random generator. */
     private Random random = new Random(seed);
 
+    /** Precision of features kept in bootstrapped dataset. */
+    private FeaturePrecision featurePrecision = FeaturePrecision.DOUBLE;
+
     /** Nodes to learn selection strategy. */
     private Function<Queue<TreeNode>, List<TreeNode>> nodesToLearnSelectionStrgy = this::defaultNodesToLearnSelectionStrgy;
 
@@ -113,7 +117,7 @@ public abstract class RandomForestTrainer<L, S extends ImpurityComputer<Bootstra
         try (Dataset<EmptyContext, BootstrappedDatasetPartition> dataset = datasetBuilder.build(
             envBuilder,
             new EmptyContextBuilder<>(),
-            new BootstrappedDatasetBuilder<>(preprocessor, amountOfTrees, subSampleSize),
+            new BootstrappedDatasetBuilder<>(preprocessor, amountOfTrees, subSampleSize, featurePrecision),
             learningEnvironment())) {
 
             if (!init(dataset))
@@ -198,6 +202,18 @@ public abstract class RandomForestTrainer<L, S extends ImpurityComputer<Bootstra
         return instance();
     }
 
+    /**
+     * Sets precision of features kept in bootstrapped dataset. {@link FeaturePrecision#FLOAT} halves memory consumed
+     * by features at the cost of rounding errors that may shift bucket boundaries of continuous features.
+     *
+     * @param featurePrecision Precision of features.
+     * @return an instance of current object with valid type in according to inheritance.
+     */
+    public T withFeaturePrecision(FeaturePrecision featurePrecision) {
+        this.featurePrecision = featurePrecision;
+        return instance();
+    }
+
     /**
      * Init-step before learning. It may be useful collecting labels statistics step for classification.
      *
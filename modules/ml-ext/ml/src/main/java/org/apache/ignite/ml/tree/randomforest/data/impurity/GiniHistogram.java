@@ -17,25 +17,18 @@
 
 package org.apache.ignite.ml.tree.randomforest.data.impurity;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.TreeMap;
-import java.util.TreeSet;
-import java.util.stream.Collectors;
 import org.apache.ignite.ml.dataset.feature.BucketMeta;
 import org.apache.ignite.ml.dataset.feature.ObjectHistogram;
 import org.apache.ignite.ml.dataset.impl.bootstrapping.BootstrappedVector;
 import org.apache.ignite.ml.tree.randomforest.data.NodeSplit;
-import org.apache.ignite.ml.tree.randomforest.data.impurity.basic.CountersHistogram;
 
 /**
  * Class contains implementation of splitting point finding algorithm based on Gini metric (see
  * https://en.wikipedia.org/wiki/Gini_coefficient) and represents a set of histograms in according to this metric.
+ * Counters are kept in flat arrays indexed by bucket and internal label id.
  */
 public class GiniHistogram extends ImpurityHistogram implements ImpurityComputer<BootstrappedVector, GiniHistogram> {
     /** Serial version uid. */
@@ -47,14 +40,14 @@ public class GiniHistogram extends ImpurityHistogram implements ImpurityComputer
     /** Sample id. */
     private final int sampleId;
 
-    /** Hists of counters for each labels. */
-    private final ArrayList<ObjectHistogram<BootstrappedVector>> hists;
-
     /** Label mapping to internal representation. */
     private final Map<Double, Integer> lblMapping;
 
-    /** Bucket ids. */
-    private final Set<Integer> bucketIds;
+    /** Labels in ascending order, used to map labels without boxing. */
+    private final double[] lbls;
+
+    /** Internal ids of labels from {@link #lbls}. */
+    private final int[] lblIds;
 
     /**
      * Creates an instance of GiniHistogram.
@@ -64,21 +57,23 @@ public class GiniHistogram extends ImpurityHistogram implements ImpurityComputer
      * @param bucketMeta Bucket meta.
      */
     public GiniHistogram(int sampleId, Map<Double, Integer> lblMapping, BucketMeta bucketMeta) {
-        super(bucketMeta.getFeatureMeta().getFeatureId());
-        this.hists = new ArrayList<>(lblMapping.size());
+        super(bucketMeta.getFeatureMeta().getFeatureId(), lblMapping.size());
         this.sampleId = sampleId;
         this.bucketMeta = bucketMeta;
         this.lblMapping = lblMapping;
-        this.bucketIds = new TreeSet<>();
 
-        for (int i = 0; i < lblMapping.size(); i++)
-            hists.add(new CountersHistogram(bucketIds, bucketMeta, featureId, sampleId));
+        lbls = lblMapping.keySet().stream().mapToDouble(Double::doubleValue).sorted().toArray();
+        lblIds = new int[lbls.length];
+        for (int i = 0; i < lbls.length; i++)
+            lblIds[i] = lblMapping.get(lbls[i]);
     }
 
     /** {@inheritDoc} */
     @Override public void addElement(BootstrappedVector vector) {
-        Integer lblId = lblMapping.get(vector.label());
-        hists.get(lblId).addElement(vector);
+        int lblId = lblIds[Arrays.binarySearch(lbls, vector.label())];
+        int bucketId = bucketMeta.getBucketId(vector.features().get(featureId));
+
+        addToStatistic(bucketId, lblId, vector.counters()[sampleId]);
     }
 
     /** {@inheritDoc} */
@@ -89,35 +84,34 @@ public class GiniHistogram extends ImpurityHistogram implements ImpurityComputer
     /** {@inheritDoc} */
     @Override public GiniHistogram plus(GiniHistogram other) {
         GiniHistogram res = new GiniHistogram(sampleId, lblMapping, bucketMeta);
-        res.bucketIds.addAll(this.bucketIds);
-        res.bucketIds.addAll(other.bucketIds);
-        for (int i = 0; i < hists.size(); i++)
-            res.hists.set(i, this.hists.get(i).plus(other.hists.get(i)));
+        res.addAll(this);
+        res.addAll(other);
         return res;
     }
 
     /** {@inheritDoc} */
     @Override public Optional<NodeSplit> findBestSplit() {
-        if (bucketIds.size() < 2)
+        int[] bucketIds = touchedBuckets();
+
+        if (bucketIds.length < 2)
             return Optional.empty();
 
         double bestImpurity = Double.POSITIVE_INFINITY;
         double bestSplitVal = Double.NEGATIVE_INFINITY;
         int bestBucketId = -1;
 
-        List<TreeMap<Integer, Double>> countersDistribPerCls = hists.stream()
-            .map(ObjectHistogram::computeDistributionFunction)
-            .collect(Collectors.toList());
+        int lblsCnt = lbls.length;
 
-        double[] totalSampleCntPerLb = countersDistribPerCls.stream()
-            .mapToDouble(x -> x.isEmpty() ? 0.0 : x.lastEntry().getValue())
-            .toArray();
+        double[] totalSampleCntPerLb = new double[lblsCnt];
+        for (int bucketId : bucketIds) {
+            for (int lbId = 0; lbId < lblsCnt; lbId++)
+                totalSampleCntPerLb[lbId] += getStatistic(bucketId, lbId);
+        }
 
-        Map<Integer, Double> lastLeftValues = new HashMap<>();
-        for (int i = 0; i < lblMapping.size(); i++)
-            lastLeftValues.put(i, 0.0);
+        // Count of samples with label [corresponding lblId] to the left of bucket including the bucket itself.
+        double[] toLeftCnts = new double[lblsCnt];
 
-        for (Integer bucketId : bucketIds) {
+        for (int bucketId : bucketIds) {
             double totalToleftCnt = 0;
             double totalToRightCnt = 0;
 
@@ -125,28 +119,23 @@ public class GiniHistogram extends ImpurityHistogram implements ImpurityComputer
             double rightImpurity = 0;
 
             //Compute number of samples left and right in according to split by bucketId
-            for (int lbId = 0; lbId < lblMapping.size(); lbId++) {
-                Double left = countersDistribPerCls.get(lbId).get(bucketId);
-                if (left == null)
-                    left = lastLeftValues.get(lbId);
-
-                totalToleftCnt += left;
-                totalToRightCnt += totalSampleCntPerLb[lbId] - left;
+            for (int lbId = 0; lbId < lblsCnt; lbId++) {
+                toLeftCnts[lbId] += getStatistic(bucketId, lbId);
 
-                lastLeftValues.put(lbId, left);
+                totalToleftCnt += toLeftCnts[lbId];
+                totalToRightCnt += totalSampleCntPerLb[lbId] - toLeftCnts[lbId];
             }
 
-            for (int lbId = 0; lbId < lblMapping.size(); lbId++) {
-                //count of samples with label [corresponding lblId] to the left of bucket
-                Double toLeftCnt = countersDistribPerCls.get(lbId).getOrDefault(bucketId, lastLeftValues.get(lbId));
+            for (int lbId = 0; lbId < lblsCnt; lbId++) {
+                double toLeftCnt = toLeftCnts[lbId];
 
                 if (toLeftCnt > 0)
-                    leftImpurity += Math.pow(toLeftCnt, 2) / totalToleftCnt;
+                    leftImpurity += toLeftCnt * toLeftCnt / totalToleftCnt;
 
                 //number of samples to the right of bucket = total samples count - toLeftCnt
                 double toRightCnt = totalSampleCntPerLb[lbId] - toLeftCnt;
                 if (toRightCnt > 0)
-                    rightImpurity += (Math.pow(toRightCnt, 2)) / totalToRightCnt;
+                    rightImpurity += toRightCnt * toRightCnt / totalToRightCnt;
             }
 
             double impurityInBucket = -(leftImpurity + rightImpurity);
@@ -160,11 +149,6 @@ public class GiniHistogram extends ImpurityHistogram implements ImpurityComputer
         return checkAndReturnSplitValue(bestBucketId, bestSplitVal, bestImpurity);
     }
 
-    /** {@inheritDoc} */
-    @Override public Set<Integer> buckets() {
-        return bucketIds;
-    }
-
     /**
      * Returns counters histogram for class-label.
      *
@@ -172,32 +156,11 @@ public class GiniHistogram extends ImpurityHistogram implements ImpurityComputer
      * @return Counters histogram for class-label.
      */
     ObjectHistogram<BootstrappedVector> getHistForLabel(Double lbl) {
-        return hists.get(lblMapping.get(lbl));
+        return toObjectHistogram(bucketMeta, sampleId, lblMapping.get(lbl));
     }
 
     /** {@inheritDoc} */
     @Override public boolean isEqualTo(GiniHistogram other) {
-        HashSet<Integer> unionBuckets = new HashSet<>(buckets());
-        unionBuckets.addAll(other.bucketIds);
-        if (unionBuckets.size() != bucketIds.size())
-            return false;
-
-        HashSet<Double> unionMappings = new HashSet<>(lblMapping.keySet());
-        unionMappings.addAll(other.lblMapping.keySet());
-        if (unionMappings.size() != lblMapping.size())
-            return false;
-
-        for (Double lbl : unionMappings) {
-            if (!lblMapping.get(lbl).equals(other.lblMapping.get(lbl)))
-                return false;
-
-            ObjectHistogram<BootstrappedVector> thisHist = getHistForLabel(lbl);
-            ObjectHistogram<BootstrappedVector> otherHist = other.getHistForLabel(lbl);
-            if (!thisHist.isEqualTo(otherHist))
-                return false;
-        }
-
-        return true;
+        return lblMapping.equals(other.lblMapping) && statisticsEqual(other);
     }
-
 }
@@ -21,28 +21,184 @@ import java.io.Serializable;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import org.apache.ignite.ml.dataset.feature.BucketMeta;
+import org.apache.ignite.ml.dataset.feature.ObjectHistogram;
+import org.apache.ignite.ml.dataset.impl.bootstrapping.BootstrappedVector;
 import org.apache.ignite.ml.tree.randomforest.data.NodeSplit;
+import org.apache.ignite.ml.tree.randomforest.data.impurity.basic.CountersHistogram;
 
 /**
- * Helper class for ImpurityHistograms.
+ * Helper class for ImpurityHistograms. Keeps a fixed amount of statistics (for example, counters per class label)
+ * for every bucket in flat primitive arrays indexed by bucket and statistic. Arrays cover a continuous range of bucket
+ * ids and grow when an element from a bucket out of this range is added.
  */
 public abstract class ImpurityHistogram implements Serializable {
     /** Serial version uid. */
     private static final long serialVersionUID = -8982240673834216798L;
 
-    /** Bucket ids. */
-    protected final Set<Integer> bucketIds = new TreeSet<>();
-
     /** Feature id. */
     protected final int featureId;
 
+    /** Amount of statistics kept for every bucket. */
+    private final int statsPerBucket;
+
+    /** Id of the first bucket kept in arrays. */
+    private int firstBucketId;
+
+    /** Amount of buckets kept in arrays. */
+    private int bucketsCnt;
+
+    /**
+     * Statistics, value of statistic {@code s} for bucket {@code b} is kept at index
+     * {@code (b - firstBucketId) * statsPerBucket + s}.
+     */
+    private double[] stats = new double[0];
+
+    /** Flags showing whether an element was added to the statistic, indexed the same way as {@link #stats}. */
+    private boolean[] touched = new boolean[0];
+
     /**
      * Creates an instance of ImpurityHistogram.
      *
      * @param featureId Feature id.
+     * @param statsPerBucket Amount of statistics kept for every bucket.
      */
-    public ImpurityHistogram(int featureId) {
+    public ImpurityHistogram(int featureId, int statsPerBucket) {
         this.featureId = featureId;
+        this.statsPerBucket = statsPerBucket;
+    }
+
+    /**
+     * Adds value to the statistic of the bucket.
+     *
+     * @param bucketId Bucket id.
+     * @param statId Statistic id.
+     * @param val Value.
+     */
+    protected void addToStatistic(int bucketId, int statId, double val) {
+        ensureBucket(bucketId);
+
+        int idx = (bucketId - firstBucketId) * statsPerBucket + statId;
+
+        stats[idx] += val;
+        touched[idx] = true;
+    }
+
+    /**
+     * Returns value of the statistic of the bucket.
+     *
+     * @param bucketId Bucket id.
+     * @param statId Statistic id.
+     * @return Value of the statistic, {@code 0} if there were no elements in the bucket.
+     */
+    protected double getStatistic(int bucketId, int statId) {
+        if (bucketId < firstBucketId || bucketId >= firstBucketId + bucketsCnt)
+            return 0.0;
+
+        return stats[(bucketId - firstBucketId) * statsPerBucket + statId];
+    }
+
+    /**
+     * Adds all statistics of other histogram to this one.
+     *
+     * @param other Other histogram.
+     */
+    protected void addAll(ImpurityHistogram other) {
+        assert statsPerBucket == other.statsPerBucket;
+
+        if (other.bucketsCnt == 0)
+            return;
+
+        ensureBucket(other.firstBucketId);
+        ensureBucket(other.firstBucketId + other.bucketsCnt - 1);
+
+        int offset = (other.firstBucketId - firstBucketId) * statsPerBucket;
+
+        for (int i = 0; i < other.stats.length; i++) {
+            stats[offset + i] += other.stats[i];
+            touched[offset + i] |= other.touched[i];
+        }
+    }
+
+    /**
+     * Returns ids of buckets containing added elements in ascending order.
+     *
+     * @return Bucket ids.
+     */
+    protected int[] touchedBuckets() {
+        int[] res = new int[bucketsCnt];
+        int size = 0;
+
+        for (int b = 0; b < bucketsCnt; b++) {
+            if (isTouched(b))
+                res[size++] = firstBucketId + b;
+        }
+
+        int[] trimmed = new int[size];
+        System.arraycopy(res, 0, trimmed, 0, size);
+
+        return trimmed;
+    }
+
+    /**
+     * @return Bucket ids.
+     */
+    public Set<Integer> buckets() {
+        Set<Integer> res = new TreeSet<>();
+
+        for (int bucketId : touchedBuckets())
+            res.add(bucketId);
+
+        return res;
+    }
+
+    /**
+     * Compares statistics of this histogram with other one.
+     *
+     * @param other Other histogram.
+     * @return {@code true} if both histograms have elements in the same statistics and values of statistics are equal
+     * with precision {@code 0.001}.
+     */
+    protected boolean statisticsEqual(ImpurityHistogram other) {
+        if (statsPerBucket != other.statsPerBucket)
+            return false;
+
+        int from = Math.min(firstBucketId, other.firstBucketId);
+        int to = Math.max(firstBucketId + bucketsCnt, other.firstBucketId + other.bucketsCnt);
+
+        for (int bucketId = from; bucketId < to; bucketId++) {
+            for (int statId = 0; statId < statsPerBucket; statId++) {
+                if (isTouched(bucketId, statId) != other.isTouched(bucketId, statId))
+                    return false;
+
+                if (Math.abs(getStatistic(bucketId, statId) - other.getStatistic(bucketId, statId)) > 0.001)
+                    return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Creates histogram of values of the statistic per bucket.
+     *
+     * @param bucketMeta Bucket meta.
+     * @param sampleId Sample id.
+     * @param statId Statistic id.
+     * @return Histogram of values of the statistic.
+     */
+    protected ObjectHistogram<BootstrappedVector> toObjectHistogram(BucketMeta bucketMeta, int sampleId, int statId) {
+        ObjectHistogram<BootstrappedVector> res = new CountersHistogram(new TreeSet<>(), bucketMeta, featureId,
+            sampleId);
+
+        for (int b = 0; b < bucketsCnt; b++) {
+            int idx = b * statsPerBucket + statId;
+
+            if (touched[idx])
+                res.addToBucket(firstBucketId + b, stats[idx]);
+        }
+
+        return res;
     }
 
     /**
@@ -66,13 +222,80 @@ public abstract class ImpurityHistogram implements Serializable {
      * @return True if best found bucket is last within all bucketIds.
      */
     private boolean isLastBucket(int bestBucketId) {
-        int minBucketId = Integer.MAX_VALUE;
-        int maxBucketId = Integer.MIN_VALUE;
-        for (Integer bucketId : bucketIds) {
-            minBucketId = Math.min(minBucketId, bucketId);
-            maxBucketId = Math.max(maxBucketId, bucketId);
+        for (int b = bucketsCnt - 1; b >= 0; b--) {
+            if (isTouched(b))
+                return bestBucketId == firstBucketId + b;
+        }
+
+        return false;
+    }
+
+    /**
+     * @param pos Position of bucket in arrays.
+     * @return {@code true} if any statistic of the bucket contains added elements.
+     */
+    private boolean isTouched(int pos) {
+        for (int statId = 0; statId < statsPerBucket; statId++) {
+            if (touched[pos * statsPerBucket + statId])
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * @param bucketId Bucket id.
+     * @param statId Statistic id.
+     * @return {@code true} if the statistic of the bucket contains added elements.
+     */
+    private boolean isTouched(int bucketId, int statId) {
+        if (bucketId < firstBucketId || bucketId >= firstBucketId + bucketsCnt)
+            return false;
+
+        return touched[(bucketId - firstBucketId) * statsPerBucket + statId];
+    }
+
+    /**
+     * Grows arrays to cover the bucket if needed. Arrays grow at least twice to amortize copying.
+     *
+     * @param bucketId Bucket id.
+     */
+    private void ensureBucket(int bucketId) {
+        if (bucketsCnt == 0) {
+            resize(bucketId, 1);
+            return;
+        }
+
+        if (bucketId >= firstBucketId && bucketId < firstBucketId + bucketsCnt)
+            return;
+
+        int from = Math.min(firstBucketId, bucketId);
+        int to = Math.max(firstBucketId + bucketsCnt, bucketId + 1);
+        int cnt = Math.max(to - from, 2 * bucketsCnt);
+
+        resize(bucketId < firstBucketId ? to - cnt : from, cnt);
+    }
+
+    /**
+     * Moves statistics to new arrays covering the specified range of buckets.
+     *
+     * @param newFirstBucketId Id of the first bucket kept in new arrays.
+     * @param newBucketsCnt Amount of buckets kept in new arrays.
+     */
+    private void resize(int newFirstBucketId, int newBucketsCnt) {
+        double[] newStats = new double[newBucketsCnt * statsPerBucket];
+        boolean[] newTouched = new boolean[newBucketsCnt * statsPerBucket];
+
+        if (bucketsCnt > 0) {
+            int offset = (firstBucketId - newFirstBucketId) * statsPerBucket;
+
+            System.arraycopy(stats, 0, newStats, offset, stats.length);
+            System.arraycopy(touched, 0, newTouched, offset, touched.length);
         }
 
-        return bestBucketId == maxBucketId;
+        stats = newStats;
+        touched = newTouched;
+        firstBucketId = newFirstBucketId;
+        bucketsCnt = newBucketsCnt;
     }
 }
@@ -19,17 +19,21 @@ package org.apache.ignite.ml.tree.randomforest.data.impurity;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.ignite.ml.dataset.Dataset;
 import org.apache.ignite.ml.dataset.feature.BucketMeta;
 import org.apache.ignite.ml.dataset.impl.bootstrapping.BootstrappedDatasetPartition;
 import org.apache.ignite.ml.dataset.impl.bootstrapping.BootstrappedVector;
 import org.apache.ignite.ml.dataset.primitive.context.EmptyContext;
+import org.apache.ignite.ml.environment.LearningEnvironment;
+import org.apache.ignite.ml.math.functions.IgniteSupplier;
 import org.apache.ignite.ml.tree.randomforest.data.NodeId;
 import org.apache.ignite.ml.tree.randomforest.data.NodeSplit;
 import org.apache.ignite.ml.tree.randomforest.data.RandomForestTreeModel;
@@ -57,49 +61,128 @@ public abstract class ImpurityHistogramsComputer<S extends ImpurityComputer<Boot
         Dataset<EmptyContext, BootstrappedDatasetPartition> dataset) {
 
         return dataset.compute(
-            x -> aggregateImpurityStatisticsOnPartition(x, roots, histMeta, nodesToLearn),
+            (x, env) -> aggregateImpurityStatisticsOnPartition(x, env, roots, histMeta, nodesToLearn),
             this::reduceImpurityStatistics
         );
     }
 
     /**
-     * Aggregates statistics for impurity computing for each corner nodes for each trees in random forest. This
-     * algorithm predict corner node in decision tree for learning vector and stocks it to correspond histogram.
+     * Aggregates statistics for impurity computing for each corner nodes for each trees in random forest. Trees are
+     * divided into groups processed in parallel using parallelism strategy of the learning environment, every group
+     * makes a single pass over the partition.
      *
      * @param dataset Dataset.
+     * @param env Learning environment.
      * @param roots Trees.
      * @param histMeta Histogram buckets meta.
      * @param part Partition.
      * @return Leaf statistics for impurity computing.
      */
     private Map<NodeId, NodeImpurityHistograms<S>> aggregateImpurityStatisticsOnPartition(
-        BootstrappedDatasetPartition dataset, ArrayList<RandomForestTreeModel> roots,
+        BootstrappedDatasetPartition dataset, LearningEnvironment env, ArrayList<RandomForestTreeModel> roots,
         Map<Integer, BucketMeta> histMeta,
         Map<NodeId, TreeNode> part) {
 
-        Map<NodeId, NodeImpurityHistograms<S>> res = part.keySet().stream()
-            .collect(Collectors.toMap(n -> n, NodeImpurityHistograms::new));
+        int groups = Math.max(1, Math.min(env.parallelismStrategy().getParallelism(), roots.size()));
+
+        if (groups == 1)
+            return aggregateImpurityStatisticsOnPartition(dataset, roots, histMeta, part, 0, roots.size());
+
+        List<IgniteSupplier<Map<NodeId, NodeImpurityHistograms<S>>>> tasks = new ArrayList<>(groups);
+        for (int grp = 0; grp < groups; grp++) {
+            int fromTree = roots.size() * grp / groups;
+            int toTree = roots.size() * (grp + 1) / groups;
+
+            tasks.add(() -> aggregateImpurityStatisticsOnPartition(dataset, roots, histMeta, part, fromTree, toTree));
+        }
+
+        Map<NodeId, NodeImpurityHistograms<S>> res = new HashMap<>();
+        env.parallelismStrategy().submit(tasks).forEach(promise -> res.putAll(promise.unsafeGet()));
 
-        dataset.forEach(vector -> {
-            for (int sampleId = 0; sampleId < vector.counters().length; sampleId++) {
-                if (vector.counters()[sampleId] == 0)
+        return res;
+    }
+
+    /**
+     * Aggregates statistics for impurity computing for each corner nodes for the specified range of trees in random
+     * forest. This algorithm predict corner node in decision tree for learning vector and stocks it to correspond
+     * histogram.
+     *
+     * @param dataset Dataset.
+     * @param roots Trees.
+     * @param histMeta Histogram buckets meta.
+     * @param part Partition.
+     * @param fromTree Index of the first tree (inclusive).
+     * @param toTree Index of the last tree (exclusive).
+     * @return Leaf statistics for impurity computing.
+     */
+    private Map<NodeId, NodeImpurityHistograms<S>> aggregateImpurityStatisticsOnPartition(
+        BootstrappedDatasetPartition dataset, ArrayList<RandomForestTreeModel> roots,
+        Map<Integer, BucketMeta> histMeta,
+        Map<NodeId, TreeNode> part, int fromTree, int toTree) {
+
+        // Features used by trees and their bucket metas, to avoid lookups for every vector.
+        int[][] usedFeatures = new int[toTree - fromTree][];
+        BucketMeta[][] usedFeaturesMeta = new BucketMeta[toTree - fromTree][];
+        for (int sampleId = fromTree; sampleId < toTree; sampleId++) {
+            int[] features = roots.get(sampleId).getUsedFeatures().stream().mapToInt(Integer::intValue).toArray();
+
+            usedFeatures[sampleId - fromTree] = features;
+            usedFeaturesMeta[sampleId - fromTree] = Arrays.stream(features).mapToObj(histMeta::get)
+                .toArray(BucketMeta[]::new);
+        }
+
+        Map<NodeId, List<S>> hists = new HashMap<>();
+        for (NodeId nodeId : part.keySet()) {
+            if (nodeId.getTreeId() >= fromTree && nodeId.getTreeId() < toTree) {
+                int featuresCnt = usedFeatures[nodeId.getTreeId() - fromTree].length;
+
+                hists.put(nodeId, new ArrayList<>(Collections.nCopies(featuresCnt, null)));
+            }
+        }
+
+        for (int i = 0; i < dataset.getRowsCount(); i++) {
+            BootstrappedVector vector = dataset.getRow(i);
+            int[] counters = vector.counters();
+
+            for (int sampleId = fromTree; sampleId < toTree; sampleId++) {
+                if (counters[sampleId] == 0)
                     continue;
 
-                RandomForestTreeModel root = roots.get(sampleId);
-                NodeId key = root.getRootNode().predictNextNodeKey(vector.features());
-                if (!part.containsKey(key)) //if we didn't take all nodes from learning queue
+                NodeId key = roots.get(sampleId).getRootNode().predictNextNodeKey(vector.features());
+
+                List<S> nodeHists = hists.get(key);
+                if (nodeHists == null) //if we didn't take all nodes from learning queue
                     continue;
 
-                NodeImpurityHistograms<S> statistics = res.get(key);
-                for (Integer featureId : root.getUsedFeatures()) {
-                    BucketMeta meta = histMeta.get(featureId);
-                    if (!statistics.perFeatureStatistics.containsKey(featureId))
-                        statistics.perFeatureStatistics.put(featureId, createImpurityComputerForFeature(sampleId, meta));
-                    S impurityComputer = statistics.perFeatureStatistics.get(featureId);
+                int[] features = usedFeatures[sampleId - fromTree];
+                for (int f = 0; f < features.length; f++) {
+                    S impurityComputer = nodeHists.get(f);
+
+                    if (impurityComputer == null) {
+                        impurityComputer = createImpurityComputerForFeature(sampleId,
+                            usedFeaturesMeta[sampleId - fromTree][f]);
+
+                        nodeHists.set(f, impurityComputer);
+                    }
+
                     impurityComputer.addElement(vector);
                 }
             }
+        }
+
+        Map<NodeId, NodeImpurityHistograms<S>> res = new HashMap<>();
+        hists.forEach((nodeId, nodeHists) -> {
+            NodeImpurityHistograms<S> statistics = new NodeImpurityHistograms<>(nodeId);
+            int[] features = usedFeatures[nodeId.getTreeId() - fromTree];
+
+            for (int f = 0; f < features.length; f++) {
+                if (nodeHists.get(f) != null)
+                    statistics.perFeatureStatistics.put(features[f], nodeHists.get(f));
+            }
+
+            res.put(nodeId, statistics);
         });
+
         return res;
     }
 
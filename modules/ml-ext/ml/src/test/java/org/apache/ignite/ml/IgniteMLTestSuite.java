@@ -42,7 +42,7 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 /**
- * Test suite for all module tests. IMPL NOTE tests in {@code org.apache.ignite.ml.tree.performance} are not
+ * Test suite for all module tests. IMPL NOTE tests in {@code org.apache.ignite.ml.*.performance} packages are not
  * included here because these are intended only for manual execution.
  */
 @RunWith(Suite.class)
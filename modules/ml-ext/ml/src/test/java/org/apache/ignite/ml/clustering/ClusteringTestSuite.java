@@ -22,8 +22,8 @@ import org.apache.ignite.ml.clustering.gmm.GmmModelTest;
 import org.apache.ignite.ml.clustering.gmm.GmmPartitionDataTest;
 import org.apache.ignite.ml.clustering.gmm.GmmTrainerIntegrationTest;
 import org.apache.ignite.ml.clustering.gmm.GmmTrainerTest;
-import org.apache.ignite.ml.clustering.gmm.MeanWithClusterProbAggregatorTest;
 import org.apache.ignite.ml.clustering.gmm.NewComponentStatisticsAggregatorTest;
+import org.apache.ignite.ml.clustering.gmm.SufficientStatisticsAggregatorTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
@@ -40,10 +40,10 @@ import org.junit.runners.Suite;
     CovarianceMatricesAggregatorTest.class,
     GmmModelTest.class,
     GmmPartitionDataTest.class,
-    MeanWithClusterProbAggregatorTest.class,
     GmmTrainerTest.class,
     GmmTrainerIntegrationTest.class,
-    NewComponentStatisticsAggregatorTest.class
+    NewComponentStatisticsAggregatorTest.class,
+    SufficientStatisticsAggregatorTest.class
 })
 public class ClusteringTestSuite {
 }
@@ -19,6 +19,7 @@ package org.apache.ignite.ml.clustering;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
 import org.apache.ignite.ml.clustering.kmeans.KMeansModel;
 import org.apache.ignite.ml.clustering.kmeans.KMeansTrainer;
 import org.apache.ignite.ml.common.TrainerTest;
@@ -26,12 +27,15 @@ import org.apache.ignite.ml.dataset.feature.extractor.Vectorizer;
 import org.apache.ignite.ml.dataset.feature.extractor.impl.DoubleArrayVectorizer;
 import org.apache.ignite.ml.dataset.impl.local.LocalDatasetBuilder;
 import org.apache.ignite.ml.math.distances.EuclideanDistance;
+import org.apache.ignite.ml.math.distances.MinkowskiDistance;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
 import org.apache.ignite.ml.math.primitives.vector.impl.DenseVector;
 import org.jetbrains.annotations.NotNull;
 import org.junit.Test;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -101,6 +105,117 @@ public class KMeansTrainerTest extends TrainerTest {
         assertEquals(originalMdl.predict(secondVector), updatedMdlOnEmptyDataset.predict(secondVector), PRECISION);
     }
 
+    /**
+     * Distance bounds must not change the result, so training with Euclidean distance (bounds are used) and with
+     * Minkowski distance with p = 2 (bounds aren't used) from the same centers must give the same centers.
+     */
+    @Test
+    public void testDistanceBoundsDoNotChangeResult() {
+        Map<Integer, double[]> blobs = generateBlobs(300);
+        Vectorizer<Integer, double[], Integer, Double> vectorizer =
+            new DoubleArrayVectorizer<Integer>().labeled(Vectorizer.LabelCoordinate.LAST);
+
+        Vector[] initCenters = new Vector[4];
+        for (int i = 0; i < initCenters.length; i++)
+            initCenters[i] = new DenseVector(new double[] {blobs.get(i)[0], blobs.get(i)[1]});
+
+        KMeansTrainer trainer = new KMeansTrainer()
+            .withAmountOfClusters(4)
+            .withMaxIterations(20)
+            .withEpsilon(1e-6);
+
+        KMeansModel mdlWithBounds = trainer.withDistance(new EuclideanDistance()).update(
+            new KMeansModel(initCenters, new EuclideanDistance()),
+            new LocalDatasetBuilder<>(blobs, parts),
+            vectorizer
+        );
+
+        KMeansModel mdlWithoutBounds = trainer.withDistance(new MinkowskiDistance(2)).update(
+            new KMeansModel(initCenters, new MinkowskiDistance(2)),
+            new LocalDatasetBuilder<>(blobs, parts),
+            vectorizer
+        );
+
+        for (int i = 0; i < initCenters.length; i++) {
+            assertArrayEquals(mdlWithoutBounds.centers()[i].asArray(), mdlWithBounds.centers()[i].asArray(),
+                PRECISION);
+        }
+    }
+
+    /** */
+    @Test
+    public void testMiniBatch() {
+        KMeansTrainer trainer = new KMeansTrainer()
+            .withAmountOfClusters(2)
+            .withMaxIterations(30)
+            .withBatchSize(20);
+
+        assertEquals(20, trainer.getBatchSize());
+
+        checkSeparatesBlobs(trainer);
+    }
+
+    /** */
+    @Test
+    public void testKMeansParallelInitialization() {
+        KMeansTrainer trainer = new KMeansTrainer()
+            .withAmountOfClusters(2)
+            .withInitStrategy(KMeansTrainer.InitStrategy.K_MEANS_PARALLEL)
+            .withInitSteps(3);
+
+        assertEquals(KMeansTrainer.InitStrategy.K_MEANS_PARALLEL, trainer.getInitStrategy());
+        assertEquals(3, trainer.getInitSteps());
+
+        checkSeparatesBlobs(trainer);
+    }
+
+    /**
+     * Checks that trainer finds two well separated clusters.
+     *
+     * @param trainer Trainer.
+     */
+    private void checkSeparatesBlobs(KMeansTrainer trainer) {
+        Map<Integer, double[]> blobs = new HashMap<>();
+        Random rnd = new Random(42);
+
+        for (int i = 0; i < 200; i++) {
+            double center = i % 2 == 0 ? 10.0 : -10.0;
+            blobs.put(i, new double[] {center + rnd.nextGaussian(), center + rnd.nextGaussian(), 0.0});
+        }
+
+        KMeansModel mdl = trainer.fit(
+            new LocalDatasetBuilder<>(blobs, parts),
+            new DoubleArrayVectorizer<Integer>().labeled(Vectorizer.LabelCoordinate.LAST)
+        );
+
+        double first = mdl.predict(new DenseVector(new double[] {10.0, 10.0}));
+        double second = mdl.predict(new DenseVector(new double[] {-10.0, -10.0}));
+
+        assertNotEquals(first, second, PRECISION);
+        assertEquals(first, mdl.predict(new DenseVector(new double[] {9.0, 11.0})), PRECISION);
+        assertEquals(second, mdl.predict(new DenseVector(new double[] {-11.0, -9.0})), PRECISION);
+    }
+
+    /**
+     * Generates points around four centers.
+     *
+     * @param size Amount of points.
+     * @return Points, the last coordinate is a label.
+     */
+    private static Map<Integer, double[]> generateBlobs(int size) {
+        Map<Integer, double[]> res = new HashMap<>();
+        Random rnd = new Random(0);
+
+        for (int i = 0; i < size; i++) {
+            double x = (i % 2 == 0 ? 5.0 : -5.0) + rnd.nextGaussian() * 2;
+            double y = (i % 4 < 2 ? 5.0 : -5.0) + rnd.nextGaussian() * 2;
+
+            res.put(i, new double[] {x, y, 0.0});
+        }
+
+        return res;
+    }
+
     /** */
     @NotNull private KMeansTrainer createAndCheckTrainer() {
         KMeansTrainer trainer = new KMeansTrainer()
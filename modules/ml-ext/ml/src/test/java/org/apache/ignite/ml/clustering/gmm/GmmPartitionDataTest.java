@@ -69,8 +69,7 @@ public class GmmPartitionDataTest {
     /** */
     @Test
     public void testUpdatePcxi() {
-        GmmPartitionData.updatePcxi(
-            data,
+        GmmModel mdl = new GmmModel(
             VectorUtils.of(0.3, 0.7),
             Arrays.asList(
                 new MultivariateGaussianDistribution(VectorUtils.of(1.0, 0.5), new DenseMatrix(new double[] {0.5, 0., 0., 1.}, 2)),
@@ -78,6 +77,8 @@ public class GmmPartitionDataTest {
             )
         );
 
+        SufficientStatisticsAggregator.map(data, new SufficientStatisticsAggregator.LogDensity(mdl, false));
+
         assertEquals(0.49, data.pcxi(0, 0), 1e-2);
         assertEquals(0.50, data.pcxi(1, 0), 1e-2);
 
@@ -87,4 +88,29 @@ public class GmmPartitionDataTest {
         assertEquals(0.49, data.pcxi(0, 2), 1e-2);
         assertEquals(0.50, data.pcxi(1, 2), 1e-2);
     }
+
+    /** */
+    @Test
+    public void testUpdateLogProbs() {
+        GmmModel mdl = new GmmModel(
+            VectorUtils.of(0.3, 0.7),
+            Arrays.asList(
+                new MultivariateGaussianDistribution(VectorUtils.of(1.0, 0.5), new DenseMatrix(new double[] {0.5, 0., 0., 1.}, 2)),
+                new MultivariateGaussianDistribution(VectorUtils.of(0.0, 0.5), new DenseMatrix(new double[] {1.0, 0., 0., 1.}, 2))
+            )
+        );
+
+        double maxLogProb = GmmPartitionData.updateLogProbs(data,
+            new SufficientStatisticsAggregator.LogDensity(mdl, false));
+
+        double expMaxLogProb = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < data.size(); i++) {
+            double expLogProb = Math.log(mdl.prob(data.getX(i)));
+
+            assertEquals(expLogProb, data.logProb(i), 1e-6);
+            expMaxLogProb = Math.max(expMaxLogProb, expLogProb);
+        }
+
+        assertEquals(expMaxLogProb, maxLogProb, 1e-6);
+    }
 }
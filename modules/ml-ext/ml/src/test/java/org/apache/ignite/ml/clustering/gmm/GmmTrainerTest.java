@@ -63,6 +63,30 @@ public class GmmTrainerTest extends TrainerTest {
         Assert.assertArrayEquals(new double[] {-1.33, -1.33}, mdl.distributions().get(1).mean().asArray(), 1e-2);
     }
 
+    /** */
+    @Test
+    public void testFitWithDiagonalCovariance() {
+        GmmTrainer trainer = new GmmTrainer(2, 1)
+            .withInitialMeans(Arrays.asList(
+                VectorUtils.of(1.0, 2.0),
+                VectorUtils.of(-1.0, -2.0)))
+            .withDiagonalCovariance(true);
+
+        GmmModel mdl = trainer.fit(
+            new LocalDatasetBuilder<>(data, parts),
+            new DoubleArrayVectorizer<Integer>().labeled(Vectorizer.LabelCoordinate.LAST)
+        );
+
+        Assert.assertEquals(2, mdl.countOfComponents());
+        Assert.assertArrayEquals(new double[] {1.33, 1.33}, mdl.distributions().get(0).mean().asArray(), 1e-2);
+        Assert.assertArrayEquals(new double[] {-1.33, -1.33}, mdl.distributions().get(1).mean().asArray(), 1e-2);
+
+        for (int c = 0; c < 2; c++) {
+            Assert.assertEquals(0.0, mdl.distributions().get(c).covariance().get(0, 1), 0.0);
+            Assert.assertEquals(0.0, mdl.distributions().get(c).covariance().get(1, 0), 0.0);
+        }
+    }
+
     /** */
     @Test(expected = IllegalArgumentException.class)
     public void testOnEmptyPartition() throws Throwable {
@@ -27,8 +27,6 @@ import static org.apache.ignite.ml.clustering.gmm.NewComponentStatisticsAggregat
 import static org.apache.ignite.ml.clustering.gmm.NewComponentStatisticsAggregator.computeNewMeanReduce;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 /**
  * Tests for {@link NewComponentStatisticsAggregator} class.
@@ -54,20 +52,16 @@ public class NewComponentStatisticsAggregatorTest {
         new double[3][]
     );
 
-    /** */
-    GmmModel model;
-
     /** */
     @Before
     public void before() {
-        model = mock(GmmModel.class);
-        when(model.prob(data1.getX(0))).thenReturn(0.1);
-        when(model.prob(data1.getX(1))).thenReturn(0.4);
-        when(model.prob(data1.getX(2))).thenReturn(0.9);
-
-        when(model.prob(data2.getX(0))).thenReturn(0.2);
-        when(model.prob(data2.getX(1))).thenReturn(0.6);
-        when(model.prob(data2.getX(2))).thenReturn(0.1);
+        data1.setLogProb(0, Math.log(0.1));
+        data1.setLogProb(1, Math.log(0.4));
+        data1.setLogProb(2, Math.log(0.9));
+
+        data2.setLogProb(0, Math.log(0.2));
+        data2.setLogProb(1, Math.log(0.6));
+        data2.setLogProb(2, Math.log(0.1));
     }
 
     /** */
@@ -104,7 +98,7 @@ public class NewComponentStatisticsAggregatorTest {
     /** */
     @Test
     public void testMap() {
-        NewComponentStatisticsAggregator agg = computeNewMeanMap(data1, 1.0, 2, model);
+        NewComponentStatisticsAggregator agg = computeNewMeanMap(data1, Math.log(1.0 / 2));
 
         assertEquals(2, agg.rowCountForNewCluster());
         assertEquals(data1.size(), agg.totalRowCount());
@@ -114,10 +108,9 @@ public class NewComponentStatisticsAggregatorTest {
     /** */
     @Test
     public void testReduce() {
-        double maxXsProb = 1.0;
-        int maxProbDivergence = 2;
-        NewComponentStatisticsAggregator agg1 = computeNewMeanMap(data1, maxXsProb, maxProbDivergence, model);
-        NewComponentStatisticsAggregator agg2 = computeNewMeanMap(data2, maxXsProb, maxProbDivergence, model);
+        double logProbThreshold = Math.log(1.0 / 2);
+        NewComponentStatisticsAggregator agg1 = computeNewMeanMap(data1, logProbThreshold);
+        NewComponentStatisticsAggregator agg2 = computeNewMeanMap(data2, logProbThreshold);
 
         NewComponentStatisticsAggregator res = computeNewMeanReduce(agg1, null);
         assertEquals(agg1.rowCountForNewCluster(), res.rowCountForNewCluster());
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.clustering.gmm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.apache.ignite.ml.math.primitives.matrix.impl.DenseMatrix;
+import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
+import org.apache.ignite.ml.math.stat.MultivariateGaussianDistribution;
+import org.apache.ignite.ml.structures.LabeledVector;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests for {@link SufficientStatisticsAggregator}.
+ */
+public class SufficientStatisticsAggregatorTest {
+    /** Model. */
+    private GmmModel mdl;
+
+    /** */
+    @Before
+    public void setUp() {
+        mdl = new GmmModel(
+            VectorUtils.of(0.3, 0.7),
+            Arrays.asList(
+                new MultivariateGaussianDistribution(VectorUtils.of(1.0, 0.5), new DenseMatrix(new double[] {0.5, 0., 0., 1.}, 2)),
+                new MultivariateGaussianDistribution(VectorUtils.of(0.0, 0.5), new DenseMatrix(new double[] {1.0, 0., 0., 1.}, 2))
+            )
+        );
+    }
+
+    /** */
+    @Test
+    public void testMap() {
+        GmmPartitionData data = data(VectorUtils.of(1, 0), VectorUtils.of(0, 1), VectorUtils.of(1, 1));
+
+        SufficientStatisticsAggregator stats = SufficientStatisticsAggregator.map(data,
+            new SufficientStatisticsAggregator.LogDensity(mdl, false));
+
+        assertEquals(0.49, data.pcxi(0, 0), 1e-2);
+        assertEquals(0.50, data.pcxi(1, 0), 1e-2);
+
+        assertEquals(0.18, data.pcxi(0, 1), 1e-2);
+        assertEquals(0.81, data.pcxi(1, 1), 1e-2);
+
+        double logLikelihood = 0;
+        for (int i = 0; i < data.size(); i++) {
+            assertEquals(Math.log(mdl.prob(data.getX(i))), data.logProb(i), 1e-6);
+            logLikelihood += data.logProb(i);
+        }
+
+        assertEquals(3, stats.rowCount());
+        assertEquals(logLikelihood, stats.logLikelihood(), 1e-6);
+
+        GmmModel newMdl = stats.model(mdl);
+
+        for (int c = 0; c < 2; c++) {
+            double pcxiSum = 0;
+            double[] mean = new double[2];
+
+            for (int i = 0; i < data.size(); i++) {
+                pcxiSum += data.pcxi(c, i);
+                for (int j = 0; j < 2; j++)
+                    mean[j] += data.pcxi(c, i) * data.getX(i).get(j);
+            }
+
+            for (int j = 0; j < 2; j++)
+                mean[j] /= pcxiSum;
+
+            assertEquals(pcxiSum / 3, newMdl.componentsProbs().get(c), 1e-6);
+            assertArrayEquals(mean, newMdl.distributions().get(c).mean().asArray(), 1e-6);
+        }
+    }
+
+    /** */
+    @Test
+    public void testReduce() {
+        Random rnd = new Random(0L);
+
+        List<Vector> xs = new ArrayList<>();
+        for (int i = 0; i < 100; i++)
+            xs.add(VectorUtils.of(rnd.nextGaussian(), rnd.nextGaussian() + i % 2));
+
+        SufficientStatisticsAggregator.LogDensity density = new SufficientStatisticsAggregator.LogDensity(mdl, false);
+
+        GmmModel expMdl = SufficientStatisticsAggregator.map(data(xs.toArray(new Vector[0])), density).model(mdl);
+
+        SufficientStatisticsAggregator stats = SufficientStatisticsAggregator.reduce(
+            SufficientStatisticsAggregator.map(data(xs.subList(0, 30).toArray(new Vector[0])), density),
+            SufficientStatisticsAggregator.map(data(xs.subList(30, 100).toArray(new Vector[0])), density)
+        );
+
+        GmmModel res = stats.model(mdl);
+
+        assertEquals(100, stats.rowCount());
+        assertArrayEquals(expMdl.componentsProbs().asArray(), res.componentsProbs().asArray(), 1e-6);
+
+        for (int c = 0; c < 2; c++) {
+            assertArrayEquals(expMdl.distributions().get(c).mean().asArray(),
+                res.distributions().get(c).mean().asArray(), 1e-6);
+            assertArrayEquals(expMdl.distributions().get(c).covariance().getStorage().data(),
+                res.distributions().get(c).covariance().getStorage().data(), 1e-6);
+        }
+    }
+
+    /** */
+    @Test
+    public void testDiagonalCovariance() {
+        GmmPartitionData data = data(VectorUtils.of(1, 0), VectorUtils.of(0, 1), VectorUtils.of(1, 1),
+            VectorUtils.of(2, 2), VectorUtils.of(-1, 0.5));
+
+        GmmModel fullMdl = SufficientStatisticsAggregator.map(data,
+            new SufficientStatisticsAggregator.LogDensity(mdl, false)).model(mdl);
+        GmmModel diagMdl = SufficientStatisticsAggregator.map(data,
+            new SufficientStatisticsAggregator.LogDensity(mdl, true)).model(mdl);
+
+        for (int c = 0; c < 2; c++) {
+            assertArrayEquals(fullMdl.distributions().get(c).mean().asArray(),
+                diagMdl.distributions().get(c).mean().asArray(), 1e-6);
+
+            assertEquals(fullMdl.distributions().get(c).covariance().get(0, 0),
+                diagMdl.distributions().get(c).covariance().get(0, 0), 1e-6);
+            assertEquals(fullMdl.distributions().get(c).covariance().get(1, 1),
+                diagMdl.distributions().get(c).covariance().get(1, 1), 1e-6);
+
+            assertEquals(0.0, diagMdl.distributions().get(c).covariance().get(0, 1), 0.0);
+            assertEquals(0.0, diagMdl.distributions().get(c).covariance().get(1, 0), 0.0);
+        }
+    }
+
+    /** */
+    @Test
+    public void testHighDimension() {
+        int d = 400;
+        Random rnd = new Random(0L);
+
+        Vector[] xs = new Vector[10];
+        for (int i = 0; i < xs.length; i++) {
+            double[] x = new double[d];
+            for (int j = 0; j < d; j++)
+                x[j] = rnd.nextGaussian() * 3;
+
+            xs[i] = VectorUtils.of(x);
+        }
+
+        double[] mean = new double[d];
+        double[] cov = new double[d * d];
+        for (int j = 0; j < d; j++)
+            cov[j * d + j] = 1.0;
+
+        GmmModel highDimMdl = new GmmModel(VectorUtils.of(0.5, 0.5), Arrays.asList(
+            new MultivariateGaussianDistribution(VectorUtils.of(mean), new DenseMatrix(cov, d)),
+            new MultivariateGaussianDistribution(VectorUtils.of(mean), new DenseMatrix(cov, d))
+        ));
+
+        GmmPartitionData data = data(xs);
+
+        SufficientStatisticsAggregator stats = SufficientStatisticsAggregator.map(data,
+            new SufficientStatisticsAggregator.LogDensity(highDimMdl, true));
+
+        // Likelihood of every vector underflows, but P(c|xi) and log-likelihood are still computed.
+        for (int i = 0; i < data.size(); i++) {
+            assertEquals(0.0, highDimMdl.prob(data.getX(i)), 0.0);
+            assertEquals(0.5, data.pcxi(0, i), 1e-6);
+            assertEquals(0.5, data.pcxi(1, i), 1e-6);
+            assertFalse(Double.isInfinite(data.logProb(i)));
+        }
+
+        assertFalse(Double.isInfinite(stats.logLikelihood()));
+    }
+
+    /**
+     * Creates partition data with given vectors.
+     *
+     * @param xs Vectors.
+     * @return Partition data.
+     */
+    private static GmmPartitionData data(Vector... xs) {
+        List<LabeledVector<Double>> rows = new ArrayList<>();
+        for (Vector x : xs)
+            rows.add(new LabeledVector<>(x, 0.));
+
+        return new GmmPartitionData(rows, new double[xs.length][2]);
+    }
+}
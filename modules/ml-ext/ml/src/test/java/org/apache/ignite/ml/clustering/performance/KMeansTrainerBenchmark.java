@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.clustering.performance;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.apache.ignite.ml.clustering.kmeans.KMeansTrainer;
+import org.apache.ignite.ml.dataset.feature.extractor.Vectorizer;
+import org.apache.ignite.ml.dataset.feature.extractor.impl.DoubleArrayVectorizer;
+import org.apache.ignite.ml.dataset.impl.local.LocalDatasetBuilder;
+
+/**
+ * Compares KMeans training time with full distance search (Minkowski distance with p = 2, distance bounds aren't
+ * used), with distance bounds (Euclidean distance) and in mini-batch mode. For manual run, number of entries and
+ * clusters can be specified using {@code ENTRIES} and {@code CLUSTERS} system properties.
+ */
+public class KMeansTrainerBenchmark {
+    /** Number of entries in the upstream map. */
+    private static final int ENTRIES = Integer.getInteger("ENTRIES", 100_000);
+
+    /** Number of clusters. */
+    private static final int CLUSTERS = Integer.getInteger("CLUSTERS", 100);
+
+    /** Number of features in each entry. */
+    private static final int FEATURES = 10;
+
+    /** Number of partitions. */
+    private static final int PARTITIONS = 4;
+
+    /** Measures training time in different modes. For manual run. */
+    /*@Test
+    public void benchmarkTraining() {
+        Map<Integer, double[]> upstream = generate();
+
+        KMeansTrainer fullSearch = new KMeansTrainer()
+            .withAmountOfClusters(CLUSTERS)
+            .withMaxIterations(20)
+            .withDistance(new MinkowskiDistance(2));
+
+        KMeansTrainer bounds = new KMeansTrainer()
+            .withAmountOfClusters(CLUSTERS)
+            .withMaxIterations(20)
+            .withDistance(new EuclideanDistance());
+
+        KMeansTrainer miniBatch = new KMeansTrainer()
+            .withAmountOfClusters(CLUSTERS)
+            .withMaxIterations(20)
+            .withBatchSize(ENTRIES / PARTITIONS / 20);
+
+        KMeansTrainer kMeansParallel = new KMeansTrainer()
+            .withAmountOfClusters(CLUSTERS)
+            .withMaxIterations(20)
+            .withInitStrategy(KMeansTrainer.InitStrategy.K_MEANS_PARALLEL);
+
+        // Warm-up.
+        train(upstream, bounds);
+
+        System.out.println(String.format("KMeans training [entries=%d, clusters=%d, full search=%d ms, " +
+            "bounds=%d ms, mini-batch=%d ms, bounds with k-means|| initialization=%d ms]", ENTRIES, CLUSTERS,
+            train(upstream, fullSearch), train(upstream, bounds), train(upstream, miniBatch),
+            train(upstream, kMeansParallel)));
+    }*/
+
+    /**
+     * Trains KMeans model on the specified map.
+     *
+     * @param upstream Upstream map.
+     * @param trainer Trainer.
+     * @return Training time in milliseconds.
+     */
+    private long train(Map<Integer, double[]> upstream, KMeansTrainer trainer) {
+        long start = System.currentTimeMillis();
+
+        trainer.fit(
+            new LocalDatasetBuilder<>(upstream, PARTITIONS),
+            new DoubleArrayVectorizer<Integer>().labeled(Vectorizer.LabelCoordinate.LAST)
+        );
+
+        return System.currentTimeMillis() - start;
+    }
+
+    /**
+     * Generates upstream map with points around random centers.
+     *
+     * @return Upstream map.
+     */
+    private Map<Integer, double[]> generate() {
+        Map<Integer, double[]> upstream = new HashMap<>(ENTRIES * 2);
+
+        Random rnd = new Random(0);
+
+        double[][] centers = new double[CLUSTERS][FEATURES];
+        for (double[] center : centers) {
+            for (int j = 0; j < FEATURES; j++)
+                center[j] = rnd.nextDouble() * 100;
+        }
+
+        for (int i = 0; i < ENTRIES; i++) {
+            double[] center = centers[rnd.nextInt(CLUSTERS)];
+            double[] row = new double[FEATURES + 1];
+
+            for (int j = 0; j < FEATURES; j++)
+                row[j] = center[j] + rnd.nextGaussian();
+
+            upstream.put(i, row);
+        }
+
+        return upstream;
+    }
+}
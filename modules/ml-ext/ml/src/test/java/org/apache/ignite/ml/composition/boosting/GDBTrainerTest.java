@@ -17,24 +17,38 @@
 
 package org.apache.ignite.ml.composition.boosting;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.BiFunction;
+import org.apache.ignite.lang.IgniteBiPredicate;
 import org.apache.ignite.ml.IgniteModel;
 import org.apache.ignite.ml.common.TrainerTest;
 import org.apache.ignite.ml.composition.ModelsComposition;
 import org.apache.ignite.ml.composition.boosting.convergence.mean.MeanAbsValueConvergenceCheckerFactory;
 import org.apache.ignite.ml.composition.boosting.convergence.simple.ConvergenceCheckerStubFactory;
 import org.apache.ignite.ml.composition.predictionsaggregator.WeightedPredictionsAggregator;
+import org.apache.ignite.ml.dataset.Dataset;
+import org.apache.ignite.ml.dataset.DatasetBuilder;
+import org.apache.ignite.ml.dataset.PartitionContextBuilder;
+import org.apache.ignite.ml.dataset.PartitionDataBuilder;
+import org.apache.ignite.ml.dataset.UpstreamTransformerBuilder;
 import org.apache.ignite.ml.dataset.feature.extractor.Vectorizer;
 import org.apache.ignite.ml.dataset.feature.extractor.impl.DoubleArrayVectorizer;
+import org.apache.ignite.ml.dataset.impl.local.LocalDataset;
 import org.apache.ignite.ml.dataset.impl.local.LocalDatasetBuilder;
+import org.apache.ignite.ml.environment.LearningEnvironment;
+import org.apache.ignite.ml.environment.LearningEnvironmentBuilder;
 import org.apache.ignite.ml.math.functions.IgniteBiFunction;
+import org.apache.ignite.ml.math.functions.IgniteBinaryOperator;
+import org.apache.ignite.ml.math.functions.IgniteTriFunction;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
 import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
 import org.apache.ignite.ml.tree.DecisionTreeModel;
 import org.apache.ignite.ml.tree.boosting.GDBBinaryClassifierOnTreesTrainer;
 import org.apache.ignite.ml.tree.boosting.GDBRegressionOnTreesTrainer;
+import org.apache.ignite.ml.tree.data.DecisionTreeData;
+import org.apache.ignite.ml.tree.data.DecisionTreeDataBuilder;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
@@ -154,6 +168,127 @@ public class GDBTrainerTest extends TrainerTest {
         assertEquals(500, ((ModelsComposition)fitter.apply(trainer, learningSample)).getModels().size());
     }
 
+    /** */
+    @Test
+    public void testRunningPredictionsMatchComposition() {
+        int size = 100;
+
+        Map<Integer, double[]> learningSample = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            double x = -5.0 + 0.1 * i;
+            learningSample.put(i, new double[] {x, Math.sin(x) + 0.5 * x});
+        }
+
+        GDBTrainer onTreesTrainer = new GDBRegressionOnTreesTrainer(0.3, 30, 3, 0.0)
+            .withUsingIdx(false)
+            .withCheckConvergenceStgyFactory(new ConvergenceCheckerStubFactory());
+
+        GDBTrainer genericTrainer = new GDBRegressionOnTreesTrainer(0.3, 30, 3, 0.0) {
+            /** {@inheritDoc} */
+            @Override protected GDBLearningStrategy getLearningStrategy() {
+                return new GDBLearningStrategy();
+            }
+        }.withUsingIdx(false)
+            .withCheckConvergenceStgyFactory(new ConvergenceCheckerStubFactory());
+
+        GDBModel onTreesMdl = onTreesTrainer.fit(
+            learningSample, 1,
+            new DoubleArrayVectorizer<Integer>().labeled(Vectorizer.LabelCoordinate.LAST)
+        );
+        GDBModel genericMdl = genericTrainer.fit(
+            learningSample, 1,
+            new DoubleArrayVectorizer<Integer>().labeled(Vectorizer.LabelCoordinate.LAST)
+        );
+
+        assertEquals(30, onTreesMdl.getModels().size());
+        assertEquals(genericMdl.getModels().size(), onTreesMdl.getModels().size());
+
+        for (double[] row : learningSample.values()) {
+            Vector features = VectorUtils.of(row[0]);
+            assertEquals(genericMdl.predict(features), onTreesMdl.predict(features), 1e-9);
+        }
+    }
+
+    /** */
+    @Test
+    public void testFitRegressionWithBins() {
+        int size = 300;
+
+        Map<Integer, double[]> learningSample = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            double x = -5.0 + 10.0 * i / size;
+            learningSample.put(i, new double[] {x, Math.sin(x) + 0.5 * x});
+        }
+
+        GDBTrainer onTreesTrainer = new GDBRegressionOnTreesTrainer(0.3, 30, 3, 0.0)
+            .withMaxBins(32)
+            .withCheckConvergenceStgyFactory(new ConvergenceCheckerStubFactory());
+
+        GDBTrainer genericTrainer = new GDBRegressionOnTreesTrainer(0.3, 30, 3, 0.0) {
+            /** {@inheritDoc} */
+            @Override protected GDBLearningStrategy getLearningStrategy() {
+                return new GDBLearningStrategy();
+            }
+        }.withMaxBins(32)
+            .withCheckConvergenceStgyFactory(new ConvergenceCheckerStubFactory());
+
+        GDBModel onTreesMdl = onTreesTrainer.fit(
+            learningSample, 3,
+            new DoubleArrayVectorizer<Integer>().labeled(Vectorizer.LabelCoordinate.LAST)
+        );
+        GDBModel genericMdl = genericTrainer.fit(
+            learningSample, 3,
+            new DoubleArrayVectorizer<Integer>().labeled(Vectorizer.LabelCoordinate.LAST)
+        );
+
+        assertEquals(30, onTreesMdl.getModels().size());
+
+        double mse = 0.0;
+        for (double[] row : learningSample.values()) {
+            Vector features = VectorUtils.of(row[0]);
+            double p = onTreesMdl.predict(features);
+
+            assertEquals(genericMdl.predict(features), p, 1e-9);
+
+            mse += Math.pow(row[1] - p, 2);
+        }
+        mse /= size;
+
+        assertEquals(0.0, mse, 0.05);
+    }
+
+    /** */
+    @Test
+    public void testFitAfterPartitionRebuild() {
+        int size = 100;
+
+        Map<Integer, double[]> learningSample = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            double x = -5.0 + 0.1 * i;
+            learningSample.put(i, new double[] {x, Math.sin(x) + 0.5 * x});
+        }
+
+        GDBTrainer trainer = new GDBRegressionOnTreesTrainer(0.3, 10, 3, 0.0)
+            .withUsingIdx(false)
+            .withCheckConvergenceStgyFactory(new ConvergenceCheckerStubFactory());
+
+        GDBModel mdl = trainer.fit(
+            learningSample, 3,
+            new DoubleArrayVectorizer<Integer>().labeled(Vectorizer.LabelCoordinate.LAST)
+        );
+        GDBModel rebuiltMdl = trainer.fit(
+            new RebuildingDatasetBuilder(new LocalDatasetBuilder<>(learningSample, 3)),
+            new DoubleArrayVectorizer<Integer>().labeled(Vectorizer.LabelCoordinate.LAST)
+        );
+
+        assertEquals(mdl.getModels().size(), rebuiltMdl.getModels().size());
+
+        for (double[] row : learningSample.values()) {
+            Vector features = VectorUtils.of(row[0]);
+            assertEquals(mdl.predict(features), rebuiltMdl.predict(features), 1e-9);
+        }
+    }
+
     /** */
     @Test
     public void testUpdate() {
@@ -207,4 +342,82 @@ public class GDBTrainerTest extends TrainerTest {
             assertEquals(originalAnswer, updatedMdlAnswer2, 0.01);
         });
     }*/
+
+    /**
+     * Dataset builder emulating rebuild of the first partition of decision tree data after rebalancing. Partition is
+     * rebuilt after initialization of running predictions, so it has original labels and no running predictions.
+     */
+    private static class RebuildingDatasetBuilder implements DatasetBuilder<Integer, double[]> {
+        /** Delegate. */
+        private final LocalDatasetBuilder<Integer, double[]> delegate;
+
+        /**
+         * @param delegate Delegate.
+         */
+        RebuildingDatasetBuilder(LocalDatasetBuilder<Integer, double[]> delegate) {
+            this.delegate = delegate;
+        }
+
+        /** {@inheritDoc} */
+        @Override public <C extends Serializable, D extends AutoCloseable> Dataset<C, D> build(
+            LearningEnvironmentBuilder envBuilder,
+            PartitionContextBuilder<Integer, double[], C> partCtxBuilder,
+            PartitionDataBuilder<Integer, double[], C, D> partDataBuilder,
+            LearningEnvironment localLearningEnv) {
+            LocalDataset<C, D> dataset = delegate.build(envBuilder, partCtxBuilder, partDataBuilder, localLearningEnv);
+
+            if (!(partDataBuilder instanceof DecisionTreeDataBuilder))
+                return dataset;
+
+            return new Dataset<C, D>() {
+                /** Amount of computations. */
+                private int computations;
+
+                /** {@inheritDoc} */
+                @Override public <R> R computeWithCtx(IgniteTriFunction<C, D, LearningEnvironment, R> map,
+                    IgniteBinaryOperator<R> reduce, R identity) {
+                    R res = dataset.computeWithCtx(map, reduce, identity);
+                    afterComputation();
+                    return res;
+                }
+
+                /** {@inheritDoc} */
+                @Override public <R> R compute(IgniteBiFunction<D, LearningEnvironment, R> map,
+                    IgniteBinaryOperator<R> reduce, R identity) {
+                    R res = dataset.compute(map, reduce, identity);
+                    afterComputation();
+                    return res;
+                }
+
+                /** {@inheritDoc} */
+                @Override public void close() {
+                    dataset.close();
+                }
+
+                /** Rebuilds the first partition after the first computation. */
+                @SuppressWarnings("unchecked")
+                private void afterComputation() {
+                    if (++computations != 1)
+                        return;
+
+                    DecisionTreeData part = (DecisionTreeData)dataset.getData().get(0);
+                    assertTrue(part.getPredictions() != null);
+
+                    dataset.getData().set(0, (D)new DecisionTreeData(part.getFeatures(),
+                        part.getCopiedOriginalLabels(), false));
+                }
+            };
+        }
+
+        /** {@inheritDoc} */
+        @Override public DatasetBuilder<Integer, double[]> withUpstreamTransformer(UpstreamTransformerBuilder builder) {
+            throw new UnsupportedOperationException();
+        }
+
+        /** {@inheritDoc} */
+        @Override public DatasetBuilder<Integer, double[]> withFilter(
+            IgniteBiPredicate<Integer, double[]> filterToAdd) {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
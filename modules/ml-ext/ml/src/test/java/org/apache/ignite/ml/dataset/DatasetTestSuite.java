@@ -24,6 +24,7 @@ import org.apache.ignite.ml.dataset.impl.cache.CacheBasedDatasetTest;
 import org.apache.ignite.ml.dataset.impl.cache.util.ComputeUtilsTest;
 import org.apache.ignite.ml.dataset.impl.cache.util.DatasetAffinityFunctionWrapperTest;
 import org.apache.ignite.ml.dataset.impl.cache.util.IteratorWithConcurrentModificationCheckerTest;
+import org.apache.ignite.ml.dataset.impl.cache.util.PartitionContextStorageTest;
 import org.apache.ignite.ml.dataset.impl.cache.util.PartitionDataStorageTest;
 import org.apache.ignite.ml.dataset.impl.local.LocalDatasetBuilderTest;
 import org.apache.ignite.ml.dataset.primitive.DatasetWrapperTest;
@@ -41,6 +42,7 @@ import org.junit.runners.Suite;
     DatasetAffinityFunctionWrapperTest.class,
     IteratorWithConcurrentModificationCheckerTest.class,
     PartitionDataStorageTest.class,
+    PartitionContextStorageTest.class,
     LocalDatasetBuilderTest.class,
     SimpleDatasetTest.class,
     SimpleLabeledDatasetTest.class,
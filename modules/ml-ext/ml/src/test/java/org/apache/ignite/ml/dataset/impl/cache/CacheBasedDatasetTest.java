@@ -185,6 +185,152 @@ public class CacheBasedDatasetTest extends GridCommonAbstractTest {
             areAllPartitionsNotReserved(upstreamCache.getName(), dataset.getDatasetCache().getName()));
     }
 
+    /**
+     * Tests that partition {@code context} kept in local storage is updated between computations and written into the
+     * dataset cache only on checkpoint.
+     */
+    @Test
+    public void testLocalContextStorage() {
+        int partitions = 4;
+
+        IgniteCache<Integer, String> upstreamCache = generateTestData(partitions, 0);
+
+        CacheBasedDatasetBuilder<Integer, String> builder = new CacheBasedDatasetBuilder<>(ignite, upstreamCache)
+            .withLocalContextStorage(true);
+
+        CacheBasedDataset<Integer, String, long[], SimpleDatasetData> dataset = builder.build(
+            TestUtils.testEnvBuilder(),
+            (env, upstream, upstreamSize) -> new long[] {0},
+            (env, upstream, upstreamSize, ctx) -> new SimpleDatasetData(new double[0], 0),
+            TestUtils.testEnvBuilder().buildForTrainer()
+        );
+
+        for (int i = 0; i < 3; i++)
+            dataset.computeWithCtx((ctx, data) -> {
+                ctx[0]++;
+            });
+
+        long sum = dataset.computeWithCtx((ctx, data) -> ctx[0], (a, b) -> a + b, 0L);
+
+        assertEquals("Computations should see partition context from local storage", 3L * partitions, sum);
+
+        for (int part = 0; part < partitions; part++)
+            assertEquals("Partition context should not be written before checkpoint",
+                0L, dataset.getDatasetCache().get(part)[0]);
+
+        dataset.checkpoint();
+
+        for (int part = 0; part < partitions; part++)
+            assertEquals("Partition context should be written on checkpoint",
+                3L, dataset.getDatasetCache().get(part)[0]);
+
+        dataset.close();
+    }
+
+    /**
+     * Tests that partition {@code context} kept in local storage is written into the dataset cache every
+     * {@code checkpointInterval} computations.
+     */
+    @Test
+    public void testLocalContextStoragePeriodicCheckpoint() {
+        int partitions = 4;
+
+        IgniteCache<Integer, String> upstreamCache = generateTestData(partitions, 0);
+
+        CacheBasedDatasetBuilder<Integer, String> builder = new CacheBasedDatasetBuilder<>(ignite, upstreamCache)
+            .withLocalContextStorage(true)
+            .withCheckpointInterval(2);
+
+        CacheBasedDataset<Integer, String, long[], SimpleDatasetData> dataset = builder.build(
+            TestUtils.testEnvBuilder(),
+            (env, upstream, upstreamSize) -> new long[] {0},
+            (env, upstream, upstreamSize, ctx) -> new SimpleDatasetData(new double[0], 0),
+            TestUtils.testEnvBuilder().buildForTrainer()
+        );
+
+        for (int i = 0; i < 3; i++)
+            dataset.computeWithCtx((ctx, data) -> {
+                ctx[0]++;
+            });
+
+        for (int part = 0; part < partitions; part++)
+            assertEquals("Partition context should be written on periodic checkpoint",
+                2L, dataset.getDatasetCache().get(part)[0]);
+
+        dataset.computeWithCtx((ctx, data) -> {
+            ctx[0]++;
+        });
+
+        for (int part = 0; part < partitions; part++)
+            assertEquals("Partition context should be written on periodic checkpoint",
+                4L, dataset.getDatasetCache().get(part)[0]);
+
+        dataset.close();
+    }
+
+    /**
+     * Tests that partition {@code context} kept in local storage isn't lost when a node joins the cluster during
+     * training and partitions are moved to this node.
+     */
+    @Test
+    public void testLocalContextStorageWhenNodeJoins() throws Exception {
+        int partitions = 32;
+
+        IgniteCache<Integer, String> upstreamCache = generateTestData(partitions, 0);
+
+        CacheBasedDatasetBuilder<Integer, String> builder = new CacheBasedDatasetBuilder<>(ignite, upstreamCache)
+            .withLocalContextStorage(true);
+
+        CacheBasedDataset<Integer, String, long[], SimpleDatasetData> dataset = builder.build(
+            TestUtils.testEnvBuilder(),
+            (env, upstream, upstreamSize) -> new long[] {0},
+            (env, upstream, upstreamSize, ctx) -> new SimpleDatasetData(new double[0], 0),
+            TestUtils.testEnvBuilder().buildForTrainer()
+        );
+
+        try {
+            for (int i = 0; i < 3; i++)
+                dataset.computeWithCtx((ctx, data) -> {
+                    ctx[0]++;
+                });
+
+            Ignite newNode = startGrid(NODE_COUNT + 1);
+
+            // The computation is performed right after the node has joined, most likely before partitions are moved.
+            dataset.computeWithCtx((ctx, data) -> {
+                ctx[0]++;
+            });
+
+            awaitPartitionMapExchange();
+
+            assertFalse("New node should become primary for some partitions",
+                ignite.affinity(dataset.getDatasetCache().getName()).primaryPartitions(newNode.cluster().localNode())
+                    .length == 0);
+
+            for (int i = 0; i < 2; i++)
+                dataset.computeWithCtx((ctx, data) -> {
+                    ctx[0]++;
+                });
+
+            long sum = dataset.computeWithCtx((ctx, data) -> ctx[0], (a, b) -> a + b, 0L);
+
+            assertEquals("Partition context updates should not be lost", 6L * partitions, sum);
+
+            dataset.checkpoint();
+
+            for (int part = 0; part < partitions; part++)
+                assertEquals("Partition context should be written on checkpoint",
+                    6L, dataset.getDatasetCache().get(part)[0]);
+        }
+        finally {
+            dataset.close();
+
+            stopGrid(NODE_COUNT + 1);
+
+            awaitPartitionMapExchange();
+        }
+    }
+
     /**
      * Checks that all partitions of all specified caches are not reserved.
      *
@@ -21,20 +21,26 @@ import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteAtomicLong;
 import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteException;
 import org.apache.ignite.Ignition;
 import org.apache.ignite.cache.affinity.AffinityFunction;
 import org.apache.ignite.cache.affinity.AffinityFunctionContext;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
 import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.internal.util.typedef.X;
 import org.apache.ignite.ml.TestUtils;
+import org.apache.ignite.ml.dataset.PartitionDataBuilder;
 import org.apache.ignite.ml.dataset.UpstreamEntry;
 import org.apache.ignite.ml.dataset.UpstreamTransformerBuilder;
+import org.apache.ignite.ml.environment.LearningEnvironment;
 import org.apache.ignite.ml.environment.deploy.DeployingContext;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.junit.Test;
@@ -146,6 +152,142 @@ public class ComputeUtilsTest extends GridCommonAbstractTest {
         }
     }
 
+    /**
+     * Tests that node grouped call processes every partition exactly once and reduces results of all partitions.
+     */
+    @Test
+    public void testAffinityCallGroupedByNodeWithRetries() {
+        String firstCacheName = "CACHE_1_" + UUID.randomUUID();
+        String secondCacheName = "CACHE_2_" + UUID.randomUUID();
+
+        CacheConfiguration<Integer, Integer> cacheConfiguration1 = new CacheConfiguration<>();
+        cacheConfiguration1.setName(firstCacheName);
+        cacheConfiguration1.setAffinity(new RendezvousAffinityFunction(false, 32));
+        IgniteCache<Integer, Integer> cache1 = ignite.createCache(cacheConfiguration1);
+
+        CacheConfiguration<Integer, Integer> cacheConfiguration2 = new CacheConfiguration<>();
+        cacheConfiguration2.setName(secondCacheName);
+        cacheConfiguration2.setAffinity(new RendezvousAffinityFunction(false, 32));
+        IgniteCache<Integer, Integer> cache2 = ignite.createCache(cacheConfiguration2);
+
+        try (IgniteAtomicLong cnt = ignite.atomicLong("COUNTER_" + UUID.randomUUID(), 0, true)) {
+            Integer res = ComputeUtils.affinityCallGroupedByNodeWithRetries(
+                ignite,
+                Arrays.asList(firstCacheName, secondCacheName),
+                part -> {
+                    Ignite locIgnite = Ignition.localIgnite();
+
+                    assertEquals(locIgnite.affinity(firstCacheName).mapPartitionToNode(part),
+                        locIgnite.cluster().localNode());
+
+                    cnt.incrementAndGet();
+
+                    return part;
+                },
+                Integer::sum,
+                0,
+                0,
+                DeployingContext.unitialized()
+            );
+
+            assertEquals(32, cnt.get());
+            assertEquals(31 * 32 / 2, res.intValue());
+        }
+        finally {
+            cache1.destroy();
+            cache2.destroy();
+        }
+    }
+
+    /**
+     * Tests that node grouped call propagates an exception thrown by the function instead of retrying the partition.
+     */
+    @Test
+    public void testAffinityCallGroupedByNodeWithRetriesPropagatesFunctionException() {
+        String cacheName = "CACHE_1_" + UUID.randomUUID();
+
+        CacheConfiguration<Integer, Integer> cacheConfiguration = new CacheConfiguration<>();
+        cacheConfiguration.setName(cacheName);
+        cacheConfiguration.setAffinity(new RendezvousAffinityFunction(false, 32));
+        IgniteCache<Integer, Integer> cache = ignite.createCache(cacheConfiguration);
+
+        try {
+            try {
+                ComputeUtils.affinityCallGroupedByNodeWithRetries(
+                    ignite,
+                    Collections.singletonList(cacheName),
+                    part -> {
+                        if (part == 5)
+                            throw new IllegalArgumentException("Test failure");
+
+                        return part;
+                    },
+                    Integer::sum,
+                    3,
+                    0,
+                    DeployingContext.unitialized()
+                );
+            }
+            catch (IgniteException e) {
+                assertTrue(X.hasCause(e, IllegalArgumentException.class));
+
+                return;
+            }
+
+            fail("Missing IgniteException");
+        }
+        finally {
+            cache.destroy();
+        }
+    }
+
+    /**
+     * Tests that tree reduce call processes every partition exactly once and reduces results of all partitions.
+     */
+    @Test
+    public void testAffinityCallTreeReduceWithRetries() {
+        String firstCacheName = "CACHE_1_" + UUID.randomUUID();
+        String secondCacheName = "CACHE_2_" + UUID.randomUUID();
+
+        CacheConfiguration<Integer, Integer> cacheConfiguration1 = new CacheConfiguration<>();
+        cacheConfiguration1.setName(firstCacheName);
+        cacheConfiguration1.setAffinity(new RendezvousAffinityFunction(false, 32));
+        IgniteCache<Integer, Integer> cache1 = ignite.createCache(cacheConfiguration1);
+
+        CacheConfiguration<Integer, Integer> cacheConfiguration2 = new CacheConfiguration<>();
+        cacheConfiguration2.setName(secondCacheName);
+        cacheConfiguration2.setAffinity(new RendezvousAffinityFunction(false, 32));
+        IgniteCache<Integer, Integer> cache2 = ignite.createCache(cacheConfiguration2);
+
+        try (IgniteAtomicLong cnt = ignite.atomicLong("COUNTER_" + UUID.randomUUID(), 0, true)) {
+            Integer res = ComputeUtils.affinityCallTreeReduceWithRetries(
+                ignite,
+                Arrays.asList(firstCacheName, secondCacheName),
+                part -> {
+                    Ignite locIgnite = Ignition.localIgnite();
+
+                    assertEquals(locIgnite.affinity(firstCacheName).mapPartitionToNode(part),
+                        locIgnite.cluster().localNode());
+
+                    cnt.incrementAndGet();
+
+                    return part;
+                },
+                Integer::sum,
+                0,
+                0,
+                DeployingContext.unitialized()
+            );
+
+            assertEquals(32, cnt.get());
+            assertEquals(31 * 32 / 2, res.intValue());
+        }
+        finally {
+            cache1.destroy();
+            cache2.destroy();
+        }
+    }
+
     /**
      * Tests {@code getData()} method.
      */
@@ -208,6 +350,55 @@ public class ComputeUtilsTest extends GridCommonAbstractTest {
         assertEquals(1, cnt.get());
     }
 
+    /**
+     * Tests {@code getData()} method with single pass loading.
+     */
+    @Test
+    public void testGetDataInSinglePass() {
+        ClusterNode node = grid(1).cluster().localNode();
+
+        String upstreamCacheName = "CACHE_1_" + UUID.randomUUID();
+        String datasetCacheName = "CACHE_2_" + UUID.randomUUID();
+
+        CacheConfiguration<Integer, Integer> upstreamCacheConfiguration = new CacheConfiguration<>();
+        upstreamCacheConfiguration.setName(upstreamCacheName);
+        upstreamCacheConfiguration.setAffinity(new TestAffinityFunction(node));
+        IgniteCache<Integer, Integer> upstreamCache = ignite.createCache(upstreamCacheConfiguration);
+
+        CacheConfiguration<Integer, Integer> datasetCacheConfiguration = new CacheConfiguration<>();
+        datasetCacheConfiguration.setName(datasetCacheName);
+        datasetCacheConfiguration.setAffinity(new TestAffinityFunction(node));
+        IgniteCache<Integer, Integer> datasetCache = ignite.createCache(datasetCacheConfiguration);
+
+        for (int i = 0; i < 10; i++)
+            upstreamCache.put(i, i);
+        datasetCache.put(0, 0);
+
+        UUID datasetId = UUID.randomUUID();
+
+        Collection<TestPartitionData> data = ComputeUtils.affinityCallWithRetries(
+            ignite,
+            Arrays.asList(datasetCacheName, upstreamCacheName),
+            part -> ComputeUtils.<Integer, Integer, Serializable, TestPartitionData>getData(
+                ignite,
+                upstreamCacheName,
+                (k, v) -> true,
+                UpstreamTransformerBuilder.identity(),
+                datasetCacheName,
+                datasetId,
+                new SumPartitionDataBuilder(),
+                TestUtils.testEnvBuilder().buildForWorker(part),
+                false,
+                true
+            ),
+            0,
+            DeployingContext.unitialized()
+        );
+
+        assertEquals(1, data.size());
+        assertEquals(90, data.iterator().next().val.intValue());
+    }
+
     /**
      * Tests {@code initContext()} method.
      */
@@ -276,6 +467,34 @@ public class ComputeUtilsTest extends GridCommonAbstractTest {
         }
     }
 
+    /**
+     * Partition data builder that supports unknown upstream data size and sums keys and values.
+     */
+    private static class SumPartitionDataBuilder
+        implements PartitionDataBuilder<Integer, Integer, Serializable, TestPartitionData> {
+        /** */
+        private static final long serialVersionUID = -2542476516440442530L;
+
+        /** {@inheritDoc} */
+        @Override public TestPartitionData build(LearningEnvironment env,
+            Iterator<UpstreamEntry<Integer, Integer>> upstreamData, long upstreamDataSize, Serializable ctx) {
+            assertEquals(PartitionDataBuilder.UNKNOWN_SIZE, upstreamDataSize);
+
+            int sum = 0;
+            while (upstreamData.hasNext()) {
+                UpstreamEntry<Integer, Integer> e = upstreamData.next();
+                sum += e.getKey() + e.getValue();
+            }
+
+            return new TestPartitionData(sum);
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean isUnknownSizeSupported() {
+            return true;
+        }
+    }
+
     /**
      * Affinity function used in tests in this class. Defines one partition and assign it on the specified cluster node.
      */
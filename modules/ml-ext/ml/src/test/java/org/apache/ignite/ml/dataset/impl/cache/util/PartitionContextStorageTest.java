@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.dataset.impl.cache.util;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link PartitionContextStorage}.
+ */
+public class PartitionContextStorageTest {
+    /** Context storage. */
+    private PartitionContextStorage ctxStorage = new PartitionContextStorage();
+
+    /** Tests {@code computeContextIfAbsent()} method. */
+    @Test
+    public void testComputeContextIfAbsent() {
+        AtomicLong cnt = new AtomicLong();
+
+        for (int i = 0; i < 10; i++) {
+            Integer res = ctxStorage.computeContextIfAbsent(0, () -> {
+                cnt.incrementAndGet();
+
+                return 42;
+            });
+
+            assertEquals(42, res.intValue());
+        }
+
+        assertEquals(1, cnt.intValue());
+        assertFalse(ctxStorage.isDirty(0));
+    }
+
+    /** Tests that {@code null} context is not kept in the storage. */
+    @Test
+    public void testComputeContextIfAbsentWithNullContext() {
+        AtomicLong cnt = new AtomicLong();
+
+        for (int i = 0; i < 10; i++) {
+            Integer res = ctxStorage.computeContextIfAbsent(0, () -> {
+                cnt.incrementAndGet();
+
+                return null;
+            });
+
+            assertNull(res);
+        }
+
+        assertEquals(10, cnt.intValue());
+    }
+
+    /** Tests {@code put()} and {@code pollDirty()} methods. */
+    @Test
+    public void testPollDirty() {
+        ctxStorage.computeContextIfAbsent(0, () -> 1);
+        ctxStorage.computeContextIfAbsent(1, () -> 2);
+
+        ctxStorage.put(1, 3);
+
+        assertFalse(ctxStorage.isDirty(0));
+        assertTrue(ctxStorage.isDirty(1));
+
+        Map<Integer, Serializable> dirty = ctxStorage.pollDirty();
+
+        assertEquals(1, dirty.size());
+        assertEquals(3, dirty.get(1));
+        assertFalse(ctxStorage.isDirty(1));
+        assertTrue(ctxStorage.pollDirty().isEmpty());
+
+        Integer res = ctxStorage.computeContextIfAbsent(1, () -> 4);
+
+        assertEquals(3, res.intValue());
+    }
+
+    /** Tests {@code retain()} method. */
+    @Test
+    public void testRetain() {
+        ctxStorage.put(0, 1);
+        ctxStorage.put(1, 2);
+
+        ctxStorage.retain(part -> part == 0);
+
+        assertEquals(1, ctxStorage.pollDirty().size());
+
+        Integer res = ctxStorage.computeContextIfAbsent(1, () -> 5);
+
+        assertEquals(5, res.intValue());
+    }
+}
@@ -22,8 +22,12 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.ignite.ml.TestUtils;
+import org.apache.ignite.ml.dataset.DatasetBuilder;
 import org.apache.ignite.ml.dataset.PartitionContextBuilder;
 import org.apache.ignite.ml.dataset.PartitionDataBuilder;
+import org.apache.ignite.ml.dataset.UpstreamEntry;
+import org.apache.ignite.ml.environment.LearningEnvironment;
+import org.apache.ignite.ml.environment.parallelism.ParallelismStrategy;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
@@ -89,9 +93,58 @@ public class LocalDatasetBuilderTest {
         assertEquals(10, cnt.intValue());
     }
 
+    /** Tests {@code build()} method with parallelism strategy that builds partitions concurrently. */
+    @Test
+    public void testBuildInParallel() {
+        Map<Integer, Integer> data = new HashMap<>();
+        for (int i = 0; i < 1000; i++)
+            data.put(i, i);
+
+        AtomicLong transformerCnt = new AtomicLong();
+
+        DatasetBuilder<Integer, Integer> builder = new LocalDatasetBuilder<>(data, (k, v) -> k % 2 == 0, 10)
+            .withUpstreamTransformer(env -> {
+                transformerCnt.incrementAndGet();
+
+                return upstream -> upstream.map(e -> new UpstreamEntry<>(e.getKey(), (Integer)e.getValue() + 1));
+            });
+
+        LearningEnvironment trainerEnv = TestUtils.testEnvBuilder()
+            .withParallelismStrategyType(ParallelismStrategy.Type.ON_DEFAULT_POOL)
+            .buildForTrainer();
+
+        LocalDataset<Serializable, TestPartitionData> dataset = buildDataset(
+            (LocalDatasetBuilder<Integer, Integer>)builder,
+            trainerEnv
+        );
+
+        assertEquals(10, transformerCnt.intValue());
+
+        AtomicLong cnt = new AtomicLong();
+
+        dataset.compute((partData, env) -> {
+            cnt.incrementAndGet();
+
+            int[] arr = partData.data;
+
+            assertEquals(50, arr.length);
+
+            for (int i = 0; i < 50; i++)
+                assertEquals((env.partition() * 50 + i) * 2 + 1, arr[i]);
+        });
+
+        assertEquals(10, cnt.intValue());
+    }
+
     /** */
     private LocalDataset<Serializable, TestPartitionData> buildDataset(
         LocalDatasetBuilder<Integer, Integer> builder) {
+        return buildDataset(builder, TestUtils.testEnvBuilder().buildForTrainer());
+    }
+
+    /** */
+    private LocalDataset<Serializable, TestPartitionData> buildDataset(
+        LocalDatasetBuilder<Integer, Integer> builder, LearningEnvironment trainerEnv) {
         PartitionContextBuilder<Integer, Integer, Serializable> partCtxBuilder = (env, upstream, upstreamSize) -> null;
 
         PartitionDataBuilder<Integer, Integer, Serializable, TestPartitionData> partDataBuilder =
@@ -109,7 +162,7 @@ public class LocalDatasetBuilderTest {
             TestUtils.testEnvBuilder(),
             partCtxBuilder.andThen(x -> null),
             partDataBuilder.andThen((x, y) -> x),
-            TestUtils.testEnvBuilder().buildForTrainer()
+            trainerEnv
         );
     }
 
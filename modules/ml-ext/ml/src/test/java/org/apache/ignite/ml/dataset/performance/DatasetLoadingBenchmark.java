@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.dataset.performance;
+
+import java.util.Random;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteDataStreamer;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.ml.dataset.Dataset;
+import org.apache.ignite.ml.dataset.feature.extractor.Vectorizer;
+import org.apache.ignite.ml.dataset.feature.extractor.impl.DoubleArrayVectorizer;
+import org.apache.ignite.ml.dataset.impl.cache.CacheBasedDatasetBuilder;
+import org.apache.ignite.ml.dataset.primitive.FeatureMatrixWithLabelsOnHeapData;
+import org.apache.ignite.ml.dataset.primitive.FeatureMatrixWithLabelsOnHeapDataBuilder;
+import org.apache.ignite.ml.dataset.primitive.builder.context.EmptyContextBuilder;
+import org.apache.ignite.ml.dataset.primitive.context.EmptyContext;
+import org.apache.ignite.ml.environment.LearningEnvironmentBuilder;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+
+/**
+ * Compares two-pass (count and build) and single pass partition data loading of {@link CacheBasedDatasetBuilder} on
+ * a large cache. For manual run, number of rows and features can be specified using {@code ROWS} and {@code FEATURES}
+ * system properties.
+ */
+public class DatasetLoadingBenchmark extends GridCommonAbstractTest {
+    /** Number of nodes in grid. */
+    private static final int NODE_COUNT = 3;
+
+    /** Number of rows in the upstream cache. */
+    private static final int ROWS = Integer.getInteger("ROWS", 2_000_000);
+
+    /** Number of features in each row. */
+    private static final int FEATURES = Integer.getInteger("FEATURES", 20);
+
+    /** Number of measurements of each mode. */
+    private static final int ITERATIONS = 5;
+
+    /** Ignite instance. */
+    private Ignite ignite;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        for (int i = 1; i <= NODE_COUNT; i++)
+            startGrid(i);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() {
+        /* Grid instance. */
+        ignite = grid(NODE_COUNT);
+        ignite.configuration().setPeerClassLoadingEnabled(true);
+        IgniteUtils.setCurrentIgniteName(ignite.configuration().getIgniteInstanceName());
+    }
+
+    /** Measures dataset loading time in both modes. For manual run. */
+    /*@Test
+    public void benchmarkLoading() {
+        IgniteCache<Integer, double[]> upstream = fillCache();
+
+        try {
+            // Warm-up.
+            load(upstream, false);
+            load(upstream, true);
+
+            long twoPassTime = 0;
+            long singlePassTime = 0;
+
+            for (int i = 0; i < ITERATIONS; i++) {
+                twoPassTime += load(upstream, false);
+                singlePassTime += load(upstream, true);
+            }
+
+            log.info(String.format("Dataset loading [rows=%d, features=%d, twoPass=%d ms, singlePass=%d ms]",
+                ROWS, FEATURES, twoPassTime / ITERATIONS, singlePassTime / ITERATIONS));
+        }
+        finally {
+            upstream.destroy();
+        }
+    }*/
+
+    /**
+     * Builds dataset on the specified cache and loads data of all partitions.
+     *
+     * @param upstream Upstream cache.
+     * @param singlePass Whether single pass loading is enabled.
+     * @return Loading time in milliseconds.
+     */
+    private long load(IgniteCache<Integer, double[]> upstream, boolean singlePass) {
+        CacheBasedDatasetBuilder<Integer, double[]> datasetBuilder = new CacheBasedDatasetBuilder<>(ignite, upstream)
+            .withSinglePassLoading(singlePass);
+
+        long start = System.currentTimeMillis();
+
+        try (Dataset<EmptyContext, FeatureMatrixWithLabelsOnHeapData> dataset = datasetBuilder.build(
+            LearningEnvironmentBuilder.defaultBuilder(),
+            new EmptyContextBuilder<>(),
+            new FeatureMatrixWithLabelsOnHeapDataBuilder<>(
+                new DoubleArrayVectorizer<Integer>().labeled(Vectorizer.LabelCoordinate.LAST)
+            ),
+            LearningEnvironmentBuilder.defaultBuilder().buildForTrainer()
+        )) {
+            int rows = dataset.compute(data -> data.getLabels().length, (a, b) -> a == null ? b : b == null ? a : a + b);
+
+            assertEquals(ROWS, rows);
+
+            return System.currentTimeMillis() - start;
+        }
+        catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Creates and fills upstream cache with random data.
+     *
+     * @return Upstream cache.
+     */
+    private IgniteCache<Integer, double[]> fillCache() {
+        CacheConfiguration<Integer, double[]> cacheCfg = new CacheConfiguration<>();
+        cacheCfg.setName("DATASET_LOADING_BENCHMARK");
+        cacheCfg.setAffinity(new RendezvousAffinityFunction(false, 64));
+
+        IgniteCache<Integer, double[]> cache = ignite.createCache(cacheCfg);
+
+        Random rnd = new Random(0);
+
+        try (IgniteDataStreamer<Integer, double[]> streamer = ignite.dataStreamer(cache.getName())) {
+            for (int i = 0; i < ROWS; i++) {
+                double[] row = new double[FEATURES + 1];
+
+                for (int j = 0; j < row.length; j++)
+                    row[j] = rnd.nextDouble();
+
+                streamer.addData(i, row);
+            }
+        }
+
+        return cache;
+    }
+}
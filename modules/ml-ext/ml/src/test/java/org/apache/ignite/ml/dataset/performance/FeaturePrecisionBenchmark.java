@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.dataset.performance;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import org.apache.ignite.ml.dataset.feature.FeaturePrecision;
+import org.apache.ignite.ml.dataset.feature.extractor.Vectorizer;
+import org.apache.ignite.ml.dataset.feature.extractor.impl.DoubleArrayVectorizer;
+import org.apache.ignite.ml.knn.regression.KNNRegressionTrainer;
+import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
+import org.apache.ignite.ml.tree.randomforest.RandomForestRegressionTrainer;
+
+/**
+ * Compares accuracy and memory footprint of {@link FeaturePrecision#DOUBLE} and {@link FeaturePrecision#FLOAT} modes
+ * of {@link KNNRegressionTrainer} and {@link RandomForestRegressionTrainer}. For manual run, number of rows and
+ * features can be specified using {@code ROWS} and {@code FEATURES} system properties.
+ */
+public class FeaturePrecisionBenchmark {
+    /** Number of rows in the train set. */
+    private static final int ROWS = Integer.getInteger("ROWS", 50_000);
+
+    /** Number of features in each row. */
+    private static final int FEATURES = Integer.getInteger("FEATURES", 20);
+
+    /** Number of rows in the test set. */
+    private static final int TEST_ROWS = 1_000;
+
+    /** Number of partitions. */
+    private static final int PARTS = 4;
+
+    /** Measures accuracy and memory of both modes. For manual run. */
+    /*@Test
+    public void benchmarkPrecision() {
+        Map<Integer, double[]> train = generate(ROWS, new Random(0));
+        Map<Integer, double[]> test = generate(TEST_ROWS, new Random(1));
+
+        FeaturePrecision[] precisions = FeaturePrecision.values();
+
+        long[] mems = new long[precisions.length];
+        double[] knnMses = new double[precisions.length];
+        double[] rfMses = new double[precisions.length];
+
+        for (int p = 0; p < precisions.length; p++) {
+            FeaturePrecision precision = precisions[p];
+
+            long mem = featuresMemory(train, precision);
+
+            KNNRegressionModel knnMdl = new KNNRegressionTrainer()
+                .withK(5)
+                .withFeaturePrecision(precision)
+                .fit(train, PARTS, vectorizer());
+
+            List<FeatureMeta> meta = new ArrayList<>();
+            for (int i = 0; i < FEATURES; i++)
+                meta.add(new FeatureMeta("", i, false));
+
+            RandomForestModel rfMdl = new RandomForestRegressionTrainer(meta)
+                .withAmountOfTrees(10)
+                .withMaxDepth(6)
+                .withFeaturePrecision(precision)
+                .fit(train, PARTS, vectorizer());
+
+            mems[p] = mem;
+            knnMses[p] = mse(knnMdl::predict, test);
+            rfMses[p] = mse(rfMdl::predict, test);
+
+            System.out.println(String.format("Feature precision [mode=%s, rows=%d, features=%d, featuresMemory=%d KB, " +
+                "knnMse=%.6f, rfMse=%.6f]", precision, ROWS, FEATURES, mem / 1024, knnMses[p], rfMses[p]));
+        }
+
+        int dbl = FeaturePrecision.DOUBLE.ordinal();
+        int flt = FeaturePrecision.FLOAT.ordinal();
+
+        assertTrue(mems[flt] < mems[dbl]);
+        assertEquals(knnMses[dbl], knnMses[flt], 0.05 * knnMses[dbl]);
+        assertEquals(rfMses[dbl], rfMses[flt], 0.05 * rfMses[dbl]);
+    }*/
+
+    /**
+     * Estimates heap retained by features of the specified data converted to the specified precision.
+     *
+     * @param data Data.
+     * @param precision Feature precision.
+     * @return Retained heap in bytes.
+     */
+    private static long featuresMemory(Map<Integer, double[]> data, FeaturePrecision precision) {
+        Runtime rt = Runtime.getRuntime();
+
+        System.gc();
+        long before = rt.totalMemory() - rt.freeMemory();
+
+        List<Vector> features = new ArrayList<>(data.size());
+        for (double[] row : data.values())
+            features.add(precision.convert(VectorUtils.of(row).copyOfRange(0, FEATURES)));
+
+        System.gc();
+        long after = rt.totalMemory() - rt.freeMemory();
+
+        assert features.size() == data.size();
+
+        return after - before;
+    }
+
+    /**
+     * Computes mean squared error of the specified model on the specified data.
+     *
+     * @param mdl Model.
+     * @param data Data.
+     * @return Mean squared error.
+     */
+    private static double mse(Function<Vector, Double> mdl, Map<Integer, double[]> data) {
+        double res = 0;
+
+        for (double[] row : data.values()) {
+            double err = mdl.apply(VectorUtils.of(row).copyOfRange(0, FEATURES)) - row[FEATURES];
+            res += err * err;
+        }
+
+        return res / data.size();
+    }
+
+    /**
+     * Generates regression data with label in the last column.
+     *
+     * @param rows Number of rows.
+     * @param rnd Random generator.
+     * @return Data.
+     */
+    private static Map<Integer, double[]> generate(int rows, Random rnd) {
+        Map<Integer, double[]> data = new HashMap<>();
+
+        for (int i = 0; i < rows; i++) {
+            double[] row = new double[FEATURES + 1];
+
+            double lb = 0;
+            for (int j = 0; j < FEATURES; j++) {
+                row[j] = rnd.nextDouble() * 1000;
+                lb += (j + 1) * row[j];
+            }
+
+            row[FEATURES] = lb + rnd.nextGaussian();
+
+            data.put(i, row);
+        }
+
+        return data;
+    }
+
+    /** */
+    private static Vectorizer<Integer, double[], Integer, Double> vectorizer() {
+        return new DoubleArrayVectorizer<Integer>().labeled(Vectorizer.LabelCoordinate.LAST);
+    }
+}
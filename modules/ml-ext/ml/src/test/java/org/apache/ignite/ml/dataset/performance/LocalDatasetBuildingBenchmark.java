@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.dataset.performance;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.apache.ignite.ml.dataset.Dataset;
+import org.apache.ignite.ml.dataset.feature.extractor.Vectorizer;
+import org.apache.ignite.ml.dataset.feature.extractor.impl.DoubleArrayVectorizer;
+import org.apache.ignite.ml.dataset.impl.local.LocalDatasetBuilder;
+import org.apache.ignite.ml.dataset.primitive.FeatureMatrixWithLabelsOnHeapData;
+import org.apache.ignite.ml.dataset.primitive.FeatureMatrixWithLabelsOnHeapDataBuilder;
+import org.apache.ignite.ml.dataset.primitive.builder.context.EmptyContextBuilder;
+import org.apache.ignite.ml.dataset.primitive.context.EmptyContext;
+import org.apache.ignite.ml.environment.LearningEnvironment;
+import org.apache.ignite.ml.environment.LearningEnvironmentBuilder;
+import org.apache.ignite.ml.environment.parallelism.ParallelismStrategy;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares sequential and parallel building of partitions by {@link LocalDatasetBuilder} on a large map. For manual
+ * run, number of entries, features and partitions can be specified using {@code ENTRIES}, {@code FEATURES} and
+ * {@code PARTITIONS} system properties.
+ */
+public class LocalDatasetBuildingBenchmark {
+    /** Number of entries in the upstream map. */
+    private static final int ENTRIES = Integer.getInteger("ENTRIES", 10_000_000);
+
+    /** Number of features in each entry. */
+    private static final int FEATURES = Integer.getInteger("FEATURES", 3);
+
+    /** Number of partitions. */
+    private static final int PARTITIONS = Integer.getInteger("PARTITIONS", 8);
+
+    /** Number of measurements of each mode. */
+    private static final int ITERATIONS = 3;
+
+    /** Measures dataset building time with and without parallelism. For manual run. */
+    /*@Test
+    public void benchmarkBuilding() {
+        Map<Integer, double[]> upstream = generate();
+
+        // Warm-up.
+        build(upstream, ParallelismStrategy.Type.NO_PARALLELISM);
+        build(upstream, ParallelismStrategy.Type.ON_DEFAULT_POOL);
+
+        long seqTime = 0;
+        long parTime = 0;
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            seqTime += build(upstream, ParallelismStrategy.Type.NO_PARALLELISM);
+            parTime += build(upstream, ParallelismStrategy.Type.ON_DEFAULT_POOL);
+        }
+
+        System.out.println(String.format("Local dataset building [entries=%d, features=%d, partitions=%d, " +
+            "sequential=%d ms, parallel=%d ms]", ENTRIES, FEATURES, PARTITIONS, seqTime / ITERATIONS,
+            parTime / ITERATIONS));
+    }*/
+
+    /**
+     * Builds local dataset on the specified map.
+     *
+     * @param upstream Upstream map.
+     * @param parallelism Parallelism strategy type of the trainer learning environment.
+     * @return Building time in milliseconds.
+     */
+    private long build(Map<Integer, double[]> upstream, ParallelismStrategy.Type parallelism) {
+        LearningEnvironment trainerEnv = LearningEnvironmentBuilder.defaultBuilder()
+            .withParallelismStrategyType(parallelism)
+            .buildForTrainer();
+
+        LocalDatasetBuilder<Integer, double[]> datasetBuilder = new LocalDatasetBuilder<>(upstream, PARTITIONS);
+
+        long start = System.currentTimeMillis();
+
+        try (Dataset<EmptyContext, FeatureMatrixWithLabelsOnHeapData> dataset = datasetBuilder.build(
+            LearningEnvironmentBuilder.defaultBuilder(),
+            new EmptyContextBuilder<>(),
+            new FeatureMatrixWithLabelsOnHeapDataBuilder<>(
+                new DoubleArrayVectorizer<Integer>().labeled(Vectorizer.LabelCoordinate.LAST)
+            ),
+            trainerEnv
+        )) {
+            long time = System.currentTimeMillis() - start;
+
+            int rows = dataset.compute(data -> data.getLabels().length, (a, b) -> a == null ? b : b == null ? a : a + b);
+
+            assertEquals(ENTRIES, rows);
+
+            return time;
+        }
+        catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Generates upstream map with random data.
+     *
+     * @return Upstream map.
+     */
+    private Map<Integer, double[]> generate() {
+        Map<Integer, double[]> upstream = new HashMap<>(ENTRIES * 2);
+
+        Random rnd = new Random(0);
+
+        for (int i = 0; i < ENTRIES; i++) {
+            double[] row = new double[FEATURES + 1];
+
+            for (int j = 0; j < row.length; j++)
+                row[j] = rnd.nextDouble();
+
+            upstream.put(i, row);
+        }
+
+        return upstream;
+    }
+}
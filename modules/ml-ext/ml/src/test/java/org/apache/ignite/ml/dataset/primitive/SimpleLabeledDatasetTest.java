@@ -17,12 +17,19 @@
 
 package org.apache.ignite.ml.dataset.primitive;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.ignite.ml.TestUtils;
 import org.apache.ignite.ml.dataset.DatasetFactory;
+import org.apache.ignite.ml.dataset.PartitionDataBuilder;
+import org.apache.ignite.ml.dataset.UpstreamEntry;
 import org.apache.ignite.ml.dataset.feature.extractor.Vectorizer;
 import org.apache.ignite.ml.dataset.feature.extractor.impl.DummyVectorizer;
+import org.apache.ignite.ml.dataset.primitive.builder.data.SimpleLabeledDatasetDataBuilder;
+import org.apache.ignite.ml.dataset.primitive.context.EmptyContext;
+import org.apache.ignite.ml.dataset.primitive.data.SimpleLabeledDatasetData;
 import org.apache.ignite.ml.math.functions.IgniteFunction;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
 import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
@@ -31,7 +38,9 @@ import org.apache.ignite.ml.structures.LabeledVector;
 import org.junit.Test;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Tests for {@link SimpleLabeledDataset}.
@@ -94,4 +103,38 @@ public class SimpleLabeledDatasetTest {
 
         assertArrayEquals("Rows per partitions", new int[] {2, 2}, actualRows);
     }
+
+    /** Tests that data builder produces the same column-major data when upstream size is unknown. */
+    @Test
+    public void testBuildWithUnknownSize() {
+        List<UpstreamEntry<Integer, Vector>> upstream = Arrays.asList(
+            new UpstreamEntry<>(5, VectorUtils.of(42, 10000, 1)),
+            new UpstreamEntry<>(6, VectorUtils.of(32, 64000, 2)),
+            new UpstreamEntry<>(7, VectorUtils.of(53, 120000, 3))
+        );
+
+        Vectorizer<Integer, Vector, Integer, Double> vectorizer = new DummyVectorizer<Integer>()
+            .labeled(Vectorizer.LabelCoordinate.FIRST);
+
+        IgniteFunction<LabeledVector<Double>, LabeledVector<double[]>> func =
+            lv -> new LabeledVector<>(lv.features(), new double[] { lv.label()});
+
+        PatchedPreprocessor<Integer, Vector, Double, double[]> patchedPreprocessor =
+            new PatchedPreprocessor<>(func, vectorizer);
+
+        SimpleLabeledDatasetDataBuilder<Integer, Vector, EmptyContext> builder =
+            new SimpleLabeledDatasetDataBuilder<>(patchedPreprocessor);
+
+        assertTrue(builder.isUnknownSizeSupported());
+
+        SimpleLabeledDatasetData exp = builder.build(TestUtils.testEnvBuilder().buildForWorker(0),
+            upstream.iterator(), upstream.size(), null);
+        SimpleLabeledDatasetData res = builder.build(TestUtils.testEnvBuilder().buildForWorker(0),
+            upstream.iterator(), PartitionDataBuilder.UNKNOWN_SIZE, null);
+
+        assertEquals(3, res.getRows());
+        assertArrayEquals(exp.getFeatures(), res.getFeatures(), 0);
+        assertArrayEquals(exp.getLabels(), res.getLabels(), 0);
+        assertArrayEquals(new double[] {10000, 64000, 120000, 1, 2, 3}, res.getFeatures(), 0);
+    }
 }
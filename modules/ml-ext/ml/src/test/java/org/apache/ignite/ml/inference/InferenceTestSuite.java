@@ -17,10 +17,13 @@
 
 package org.apache.ignite.ml.inference;
 
+import org.apache.ignite.ml.inference.builder.BatchingModelBuilderTest;
 import org.apache.ignite.ml.inference.builder.IgniteDistributedModelBuilderTest;
+import org.apache.ignite.ml.inference.builder.IgniteServiceModelBuilderTest;
 import org.apache.ignite.ml.inference.builder.SingleModelBuilderTest;
 import org.apache.ignite.ml.inference.builder.ThreadedModelBuilderTest;
 import org.apache.ignite.ml.inference.storage.model.DefaultModelStorageTest;
+import org.apache.ignite.ml.inference.util.CompactBinaryCodecTest;
 import org.apache.ignite.ml.inference.util.DirectorySerializerTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -32,9 +35,12 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
     SingleModelBuilderTest.class,
     ThreadedModelBuilderTest.class,
+    BatchingModelBuilderTest.class,
     DirectorySerializerTest.class,
+    CompactBinaryCodecTest.class,
     DefaultModelStorageTest.class,
     IgniteDistributedModelBuilderTest.class,
+    IgniteServiceModelBuilderTest.class,
     IgniteModelStorageUtilTest.class
 })
 public class InferenceTestSuite {
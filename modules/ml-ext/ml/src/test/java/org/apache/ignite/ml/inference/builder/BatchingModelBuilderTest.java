@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.inference.builder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.ml.inference.Model;
+import org.apache.ignite.ml.inference.parser.ModelParser;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link BatchingModelBuilder} class.
+ */
+public class BatchingModelBuilderTest {
+    /** */
+    @Test
+    public void testBuild() throws ExecutionException, InterruptedException {
+        AsyncModelBuilder mdlBuilder = new BatchingModelBuilder(4, 16, 1, TimeUnit.MILLISECONDS);
+
+        try (Model<Integer, Future<Integer>> infMdl = mdlBuilder.build(
+            ModelBuilderTestUtil.getReader(),
+            ModelBuilderTestUtil.getParser()
+        )) {
+            for (int i = 0; i < 100; i++)
+                assertEquals(Integer.valueOf(i), infMdl.predict(i).get());
+        }
+    }
+
+    /** */
+    @Test
+    public void testRequestsAreBatched() throws ExecutionException, InterruptedException {
+        List<Integer> batchSizes = new ArrayList<>();
+
+        ModelParser<Integer, Integer, Model<Integer, Integer>> parser = m -> new Model<Integer, Integer>() {
+            @Override public Integer predict(Integer input) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override public List<Integer> predictBatch(List<Integer> inputs) {
+                batchSizes.add(inputs.size());
+
+                List<Integer> res = new ArrayList<>(inputs.size());
+                for (Integer input : inputs)
+                    res.add(input * 2);
+
+                return res;
+            }
+
+            @Override public void close() {
+                // Do nothing.
+            }
+        };
+
+        BatchingModelBuilder mdlBuilder = new BatchingModelBuilder(1, 10, 1, TimeUnit.SECONDS);
+
+        try (BatchingModelBuilder.BatchingInfModel<Integer, Integer> infMdl = mdlBuilder.build(
+            ModelBuilderTestUtil.getReader(),
+            parser
+        )) {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++)
+                futures.add(infMdl.predict(i));
+
+            for (int i = 0; i < 100; i++)
+                assertEquals(Integer.valueOf(i * 2), futures.get(i).get());
+
+            BatchingModelMetrics metrics = infMdl.getMetrics();
+
+            assertEquals(100, metrics.getRequests());
+            assertEquals(0, metrics.getFailures());
+            assertEquals(0, metrics.getQueueDepth());
+            assertEquals(batchSizes.size(), metrics.getBatches());
+            assertTrue(batchSizes.size() < 100);
+
+            for (Integer batchSize : batchSizes)
+                assertTrue(batchSize <= 10);
+        }
+    }
+
+    /** */
+    @Test
+    public void testFailedBatch() throws InterruptedException {
+        ModelParser<Integer, Integer, Model<Integer, Integer>> parser = m -> new Model<Integer, Integer>() {
+            @Override public Integer predict(Integer input) {
+                throw new IllegalArgumentException("Test");
+            }
+
+            @Override public void close() {
+                // Do nothing.
+            }
+        };
+
+        BatchingModelBuilder mdlBuilder = new BatchingModelBuilder(2, 8, 1, TimeUnit.MILLISECONDS);
+
+        try (BatchingModelBuilder.BatchingInfModel<Integer, Integer> infMdl = mdlBuilder.build(
+            ModelBuilderTestUtil.getReader(),
+            parser
+        )) {
+            try {
+                infMdl.predict(1).get();
+
+                throw new AssertionError("Exception expected");
+            }
+            catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IllegalArgumentException);
+            }
+
+            assertEquals(1, infMdl.getMetrics().getFailures());
+        }
+    }
+
+    /** */
+    @Test
+    public void testCloseCompletesConcurrentRequests() throws InterruptedException {
+        BatchingModelBuilder mdlBuilder = new BatchingModelBuilder(2, 8, 1, TimeUnit.MILLISECONDS);
+
+        BatchingModelBuilder.BatchingInfModel<Integer, Integer> infMdl = mdlBuilder.build(
+            ModelBuilderTestUtil.getReader(),
+            ModelBuilderTestUtil.getParser()
+        );
+
+        Queue<Future<Integer>> futures = new ConcurrentLinkedQueue<>();
+
+        Thread[] submitters = new Thread[4];
+        for (int i = 0; i < submitters.length; i++) {
+            submitters[i] = new Thread(() -> {
+                try {
+                    for (int j = 0; ; j++)
+                        futures.add(infMdl.predict(j));
+                }
+                catch (IllegalStateException ignored) {
+                    // Model is closed.
+                }
+            });
+
+            submitters[i].start();
+        }
+
+        Thread.sleep(50);
+
+        infMdl.close();
+
+        for (Thread submitter : submitters)
+            submitter.join();
+
+        assertTrue(!futures.isEmpty());
+
+        for (Future<Integer> fut : futures)
+            assertTrue(fut.isDone());
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.inference.builder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.ml.inference.Model;
+import org.apache.ignite.ml.inference.parser.ModelParser;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Tests for {@link IgniteServiceModelBuilder} class.
+ */
+public class IgniteServiceModelBuilderTest extends GridCommonAbstractTest {
+    /** Number of nodes in grid */
+    private static final int NODE_COUNT = 3;
+
+    /** Number of batches processed by the failing model, nodes are started in this JVM so it's shared by them. */
+    private static final AtomicInteger failingMdlCalls = new AtomicInteger();
+
+    /** Ignite instance. */
+    private Ignite ignite;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        for (int i = 1; i <= NODE_COUNT; i++)
+            startGrid(i);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override protected void beforeTest() {
+        /* Grid instance. */
+        ignite = grid(NODE_COUNT);
+        ignite.configuration().setPeerClassLoadingEnabled(true);
+        IgniteUtils.setCurrentIgniteName(ignite.configuration().getIgniteInstanceName());
+    }
+
+    /** */
+    @Test
+    public void testBuild() throws Exception {
+        AsyncModelBuilder mdlBuilder = new IgniteServiceModelBuilder(ignite, NODE_COUNT, 1, 16, 1,
+            TimeUnit.MILLISECONDS);
+
+        try (Model<Integer, Future<Integer>> infMdl = mdlBuilder.build(
+            ModelBuilderTestUtil.getReader(),
+            ModelBuilderTestUtil.getParser()
+        )) {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++)
+                futures.add(infMdl.predict(i));
+
+            for (int i = 0; i < 100; i++)
+                assertEquals(Integer.valueOf(i), futures.get(i).get(1, TimeUnit.MINUTES));
+        }
+    }
+
+    /** Tests that an error of the model is passed to the future and the batch isn't resent to another node. */
+    @Test
+    public void testModelErrorIsNotResent() throws Exception {
+        AsyncModelBuilder mdlBuilder = new IgniteServiceModelBuilder(ignite, NODE_COUNT, 1, 16, 1,
+            TimeUnit.MILLISECONDS);
+
+        try (Model<Integer, Future<Integer>> infMdl = mdlBuilder.build(
+            ModelBuilderTestUtil.getReader(),
+            getFailingParser()
+        )) {
+            try {
+                infMdl.predict(1).get(1, TimeUnit.MINUTES);
+
+                fail("Missing ExecutionException");
+            }
+            catch (ExecutionException ignore) {
+                // Expected.
+            }
+
+            assertEquals(1, failingMdlCalls.get());
+        }
+    }
+
+    /**
+     * Creates parser of the model that fails on every input and counts its calls.
+     *
+     * @return Parser of the failing model.
+     */
+    private static ModelParser<Integer, Integer, Model<Integer, Integer>> getFailingParser() {
+        return m -> new Model<Integer, Integer>() {
+            @Override public Integer predict(Integer input) {
+                failingMdlCalls.incrementAndGet();
+
+                throw new IllegalArgumentException("Test failure");
+            }
+
+            @Override public void close() {
+                // Do nothing.
+            }
+        };
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.inference.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.ml.inference.Model;
+import org.apache.ignite.ml.inference.builder.AsyncModelBuilder;
+import org.apache.ignite.ml.inference.builder.IgniteDistributedModelBuilder;
+import org.apache.ignite.ml.inference.builder.IgniteServiceModelBuilder;
+import org.apache.ignite.ml.inference.parser.ModelParser;
+import org.apache.ignite.ml.inference.reader.ModelReader;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+
+/**
+ * Compares throughput of distributed inference based on cache based queues ({@link IgniteDistributedModelBuilder})
+ * and on direct service calls ({@link IgniteServiceModelBuilder}). For manual run, number of requests can be
+ * specified using {@code REQUESTS} system property.
+ */
+public class DistributedInferenceBenchmark extends GridCommonAbstractTest {
+    /** Number of nodes in grid. */
+    private static final int NODE_COUNT = 3;
+
+    /** Number of requests. */
+    private static final int REQUESTS = Integer.getInteger("REQUESTS", 10_000);
+
+    /** Max number of requests in flight. */
+    private static final int IN_FLIGHT = 90;
+
+    /** Ignite instance. */
+    private Ignite ignite;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        for (int i = 1; i <= NODE_COUNT; i++)
+            startGrid(i);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() {
+        ignite = grid(NODE_COUNT);
+        IgniteUtils.setCurrentIgniteName(ignite.configuration().getIgniteInstanceName());
+    }
+
+    /** Measures throughput of both builders. For manual run. */
+    /*@Test
+    public void benchmarkThroughput() throws Exception {
+        measure("queues", new IgniteDistributedModelBuilder(ignite, NODE_COUNT, 1));
+        measure("services", new IgniteServiceModelBuilder(ignite, NODE_COUNT, 1, 64, 1, TimeUnit.MILLISECONDS));
+    }*/
+
+    /**
+     * Measures throughput of distributed inference model built by the specified builder.
+     *
+     * @param name Name of the builder.
+     * @param mdlBuilder Model builder.
+     */
+    private void measure(String name, AsyncModelBuilder mdlBuilder) throws Exception {
+        ModelReader reader = () -> new byte[0];
+        ModelParser<Integer, Integer, Model<Integer, Integer>> parser = m -> new Model<Integer, Integer>() {
+            @Override public Integer predict(Integer input) {
+                return input + 1;
+            }
+
+            @Override public void close() {
+                // Do nothing.
+            }
+        };
+
+        try (Model<Integer, Future<Integer>> infMdl = mdlBuilder.build(reader, parser)) {
+            long start = System.nanoTime();
+
+            List<Future<Integer>> futures = new ArrayList<>(IN_FLIGHT);
+
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(infMdl.predict(i));
+
+                if (futures.size() == IN_FLIGHT) {
+                    await(futures, i + 1 - IN_FLIGHT);
+
+                    futures.clear();
+                }
+            }
+
+            await(futures, REQUESTS - futures.size());
+
+            long time = System.nanoTime() - start;
+
+            System.out.println(String.format("Distributed inference [transport=%s, requests=%d, " +
+                "throughput=%.0f req/s]", name, REQUESTS, REQUESTS / (time / 1e9)));
+        }
+    }
+
+    /**
+     * Waits for predictions of consecutive requests and checks them.
+     *
+     * @param futures Futures of requests.
+     * @param firstInput Input of the first request.
+     */
+    private void await(List<Future<Integer>> futures, int firstInput) throws Exception {
+        for (int i = 0; i < futures.size(); i++)
+            assertEquals(Integer.valueOf(firstInput + i + 1), futures.get(i).get(1, TimeUnit.MINUTES));
+    }
+}
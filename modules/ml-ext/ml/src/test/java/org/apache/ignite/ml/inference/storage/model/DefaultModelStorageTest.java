@@ -17,10 +17,21 @@
 
 package org.apache.ignite.ml.inference.storage.model;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
 import java.util.concurrent.locks.Lock;
+import java.util.stream.Stream;
 import org.junit.Test;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -38,6 +49,132 @@ public class DefaultModelStorageTest extends AbstractModelStorageTest {
         return new DefaultModelStorage(provider);
     }
 
+    /** */
+    @Test
+    public void testPutAndGetChunkedFile() throws IOException {
+        ModelStorageProvider provider = new LocalModelStorageProvider();
+        ModelStorage storage = new DefaultModelStorage(provider, 16);
+
+        byte[] data = generateData(100);
+
+        storage.mkdirs("/a");
+        storage.putFile("/a/test", data);
+
+        FileOrDirectory file = provider.get("/a/test");
+        assertTrue(file instanceof ChunkedFile);
+        assertEquals(7, ((ChunkedFile)file).getChunksCnt());
+        assertEquals(100, ((ChunkedFile)file).getSize());
+
+        assertArrayEquals(data, storage.getFile("/a/test"));
+        assertArrayEquals(data, readAll(storage.getFileAsStream("/a/test")));
+
+        ByteBuffer buf = storage.getFileAsBuffer("/a/test");
+        byte[] bufData = new byte[buf.remaining()];
+        buf.get(bufData);
+        assertArrayEquals(data, bufData);
+
+        assertEquals(1, storage.listFiles("/a").size());
+    }
+
+    /** */
+    @Test
+    public void testPutFileFromStream() throws IOException {
+        ModelStorageProvider provider = new LocalModelStorageProvider();
+        ModelStorage storage = new DefaultModelStorage(provider, 16);
+
+        storage.mkdirs("/a");
+
+        byte[] small = generateData(16);
+        storage.putFile("/a/small", new ByteArrayInputStream(small));
+        assertTrue(provider.get("/a/small") instanceof File);
+        assertArrayEquals(small, readAll(storage.getFileAsStream("/a/small")));
+
+        byte[] large = generateData(32);
+        storage.putFile("/a/large", new ByteArrayInputStream(large));
+        assertEquals(2, ((ChunkedFile)provider.get("/a/large")).getChunksCnt());
+        assertArrayEquals(large, storage.getFile("/a/large"));
+    }
+
+    /** */
+    @Test
+    public void testRewriteAndRemoveChunkedFile() {
+        ModelStorageProvider provider = new LocalModelStorageProvider();
+        ModelStorage storage = new DefaultModelStorage(provider, 16);
+
+        storage.mkdirs("/a");
+        storage.putFile("/a/test", generateData(100));
+
+        ChunkedFile oldFile = (ChunkedFile)provider.get("/a/test");
+
+        byte[] data = generateData(50);
+        storage.putFile("/a/test", data);
+
+        ChunkedFile newFile = (ChunkedFile)provider.get("/a/test");
+
+        for (int i = 0; i < oldFile.getChunksCnt(); i++)
+            assertNull(provider.get(oldFile.getChunkPath("/a/test", i)));
+
+        assertArrayEquals(data, storage.getFile("/a/test"));
+
+        storage.remove("/a/test");
+
+        for (int i = 0; i < newFile.getChunksCnt(); i++)
+            assertNull(provider.get(newFile.getChunkPath("/a/test", i)));
+
+        assertTrue(storage.listFiles("/a").isEmpty());
+    }
+
+    /** */
+    @Test
+    public void testMemoryMappedFiles() throws IOException {
+        Path dir = Files.createTempDirectory("model_storage_test");
+
+        try {
+            ModelStorageProvider provider = new LocalModelStorageProvider(dir);
+            ModelStorage storage = new DefaultModelStorage(provider, 16);
+
+            byte[] data = generateData(40);
+
+            storage.mkdirs("/a");
+            storage.putFile("/a/test", data);
+
+            ChunkedFile file = (ChunkedFile)provider.get("/a/test");
+            assertTrue(provider.get(file.getChunkPath("/a/test", 0)) instanceof MappedFile);
+
+            assertArrayEquals(data, storage.getFile("/a/test"));
+            assertArrayEquals(data, readAll(storage.getFileAsStream("/a/test")));
+
+            byte[] small = generateData(8);
+            storage.putFile("/a/small", small);
+
+            ByteBuffer buf = storage.getFileAsBuffer("/a/small");
+            assertTrue(buf.isReadOnly());
+            assertEquals(small.length, buf.remaining());
+
+            storage.remove("/a");
+
+            try {
+                storage.putFile("/b/test", data);
+                fail();
+            }
+            catch (IllegalArgumentException e) {
+                // Do nothing.
+            }
+
+            // Chunks of removed files and chunks written before failed put have to be removed.
+            try (Stream<Path> files = Files.list(dir)) {
+                assertEquals(0, files.count());
+            }
+        }
+        finally {
+            try (Stream<Path> files = Files.list(dir)) {
+                files.forEach(f -> f.toFile().delete());
+            }
+
+            Files.delete(dir);
+        }
+    }
+
     /** */
     @Test
     public void testSynchronize() {
@@ -142,4 +279,40 @@ public class DefaultModelStorageTest extends AbstractModelStorageTest {
             verifyNoMoreInteractions(lock);
         }
     }
+
+    /**
+     * Generates random data.
+     *
+     * @param size Size of data.
+     * @return Random data.
+     */
+    private byte[] generateData(int size) {
+        byte[] data = new byte[size];
+        new Random(42).nextBytes(data);
+
+        return data;
+    }
+
+    /**
+     * Reads all bytes from the specified stream.
+     *
+     * @param in Stream.
+     * @return Bytes read from the stream.
+     */
+    private byte[] readAll(InputStream in) throws IOException {
+        try (InputStream is = in) {
+            byte[] res = new byte[0];
+            byte[] buf = new byte[7];
+
+            int read;
+            while ((read = is.read(buf)) != -1) {
+                byte[] newRes = new byte[res.length + read];
+                System.arraycopy(res, 0, newRes, 0, res.length);
+                System.arraycopy(buf, 0, newRes, res.length, read);
+                res = newRes;
+            }
+
+            return res;
+        }
+    }
 }
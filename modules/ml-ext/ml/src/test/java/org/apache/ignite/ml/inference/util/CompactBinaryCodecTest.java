@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.inference.util;
+
+import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.math.primitives.vector.impl.DenseVector;
+import org.apache.ignite.ml.math.primitives.vector.impl.SparseVector;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link CompactBinaryCodec} class.
+ */
+public class CompactBinaryCodecTest {
+    /** */
+    @Test
+    public void testEncodeDecodeDouble() {
+        byte[] encoded = CompactBinaryCodec.encode(0.42);
+
+        assertEquals(1 + Double.BYTES, encoded.length);
+        assertEquals(0.42, CompactBinaryCodec.<Double>decode(encoded), 0);
+    }
+
+    /** */
+    @Test
+    public void testEncodeDecodeDenseVector() {
+        double[] arr = {1.0, -2.5, Double.NaN, 4.0};
+
+        byte[] encoded = CompactBinaryCodec.encode(new DenseVector(arr));
+
+        assertEquals(1 + Integer.BYTES + arr.length * Double.BYTES, encoded.length);
+
+        Vector decoded = CompactBinaryCodec.decode(encoded);
+
+        assertTrue(decoded instanceof DenseVector);
+        assertArrayEquals(arr, decoded.asArray(), 0);
+    }
+
+    /** */
+    @Test
+    public void testEncodeDecodeOtherObjects() {
+        SparseVector vec = new SparseVector(10);
+        vec.set(3, 1.0);
+
+        Vector decodedVec = CompactBinaryCodec.decode(CompactBinaryCodec.encode(vec));
+
+        assertTrue(decodedVec instanceof SparseVector);
+        assertEquals(10, decodedVec.size());
+        assertEquals(1.0, decodedVec.get(3), 0);
+
+        String decodedStr = CompactBinaryCodec.decode(CompactBinaryCodec.encode("test"));
+        assertEquals("test", decodedStr);
+
+        assertNull(CompactBinaryCodec.decode(CompactBinaryCodec.encode(null)));
+
+        double[] decodedArr = CompactBinaryCodec.decode(CompactBinaryCodec.encode(new double[] {1.0, 2.0}));
+        assertArrayEquals(new double[] {1.0, 2.0}, decodedArr, 0);
+    }
+}
@@ -17,7 +17,9 @@
 
 package org.apache.ignite.ml.knn;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.ignite.ml.common.TrainerTest;
 import org.apache.ignite.ml.dataset.feature.extractor.Vectorizer;
@@ -25,6 +27,7 @@ import org.apache.ignite.ml.dataset.feature.extractor.impl.DoubleArrayVectorizer
 import org.apache.ignite.ml.dataset.impl.local.LocalDatasetBuilder;
 import org.apache.ignite.ml.knn.regression.KNNRegressionModel;
 import org.apache.ignite.ml.knn.regression.KNNRegressionTrainer;
+import org.apache.ignite.ml.knn.utils.indices.SpatialIndexType;
 import org.apache.ignite.ml.math.distances.EuclideanDistance;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
 import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
@@ -147,4 +150,42 @@ public class KNNRegressionTest extends TrainerTest {
         assertNull(originalMdlOnEmptyDataset.predict(vector));
         assertEquals(Double.valueOf(15.0), updatedOnDataset.predict(vector));
     }
+
+    /** */
+    @Test
+    public void testBatchAndLocalPredictions() {
+        Map<Integer, double[]> data = new HashMap<>();
+        for (int i = 0; i < 50; i++)
+            data.put(i, new double[] {i, i % 7, i / 7});
+
+        KNNRegressionTrainer trainer = new KNNRegressionTrainer()
+            .withK(3)
+            .withDistanceMeasure(new EuclideanDistance())
+            .withWeighted(true);
+
+        KNNRegressionModel knnMdl = trainer.fit(
+            new LocalDatasetBuilder<>(data, parts),
+            new DoubleArrayVectorizer<Integer>().labeled(Vectorizer.LabelCoordinate.FIRST)
+        );
+
+        List<Vector> qry = Arrays.asList(
+            VectorUtils.of(0.3, 0.1),
+            VectorUtils.of(3.2, 4.1),
+            VectorUtils.of(6.0, 6.9)
+        );
+
+        List<Double> batch = knnMdl.predict(qry);
+
+        assertEquals(qry.size(), batch.size());
+        assertEquals(data.size(), knnMdl.getPoints().size());
+
+        for (SpatialIndexType idxType : SpatialIndexType.values()) {
+            KNNRegressionModel locMdl = knnMdl.toLocal(idxType);
+
+            for (int i = 0; i < qry.size(); i++) {
+                assertEquals(knnMdl.predict(qry.get(i)), batch.get(i), 1E-12);
+                assertEquals(batch.get(i), locMdl.predict(qry.get(i)), 1E-12);
+            }
+        }
+    }
 }
@@ -19,6 +19,7 @@ package org.apache.ignite.ml.knn;
 
 import org.apache.ignite.ml.knn.utils.ArraySpatialIndexTest;
 import org.apache.ignite.ml.knn.utils.BallTreeSpatialIndexTest;
+import org.apache.ignite.ml.knn.utils.HNSWSpatialIndexTest;
 import org.apache.ignite.ml.knn.utils.KDTreeSpatialIndexTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -33,6 +34,7 @@ import org.junit.runners.Suite;
     KNNRegressionTest.class,
     ArraySpatialIndexTest.class,
     BallTreeSpatialIndexTest.class,
+    HNSWSpatialIndexTest.class,
     KDTreeSpatialIndexTest.class
 })
 public class KNNTestSuite {
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.knn.performance;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.apache.ignite.ml.knn.utils.indices.ArraySpatialIndex;
+import org.apache.ignite.ml.knn.utils.indices.SpatialIndexType;
+import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
+import org.apache.ignite.ml.structures.LabeledVector;
+
+/**
+ * Compares build time, query latency and recall of all {@link SpatialIndexType spatial indices} on high dimensional
+ * data. Recall is measured against exact results of {@link ArraySpatialIndex}. For manual run, number of points,
+ * dimensions and HNSW parameters can be specified using {@code POINTS}, {@code DIMS}, {@code M},
+ * {@code EF_CONSTRUCTION} and {@code EF_SEARCH} system properties.
+ */
+public class SpatialIndexBenchmark {
+    /** Number of indexed points. */
+    private static final int POINTS = Integer.getInteger("POINTS", 20_000);
+
+    /** Number of dimensions. */
+    private static final int DIMS = Integer.getInteger("DIMS", 128);
+
+    /** Number of queries. */
+    private static final int QUERIES = 200;
+
+    /** Number of neighbours. */
+    private static final int K = 10;
+
+    /** Measures all index types. For manual run. */
+    /*@Test
+    public void benchmarkIndices() {
+        DistanceMeasure distanceMeasure = new EuclideanDistance();
+
+        List<LabeledVector<Integer>> data = generate(POINTS, new Random(0));
+        List<LabeledVector<Integer>> queries = generate(QUERIES, new Random(1));
+
+        HNSWParameters hnswParams = new HNSWParameters(
+            Integer.getInteger("M", HNSWParameters.DFLT_M),
+            Integer.getInteger("EF_CONSTRUCTION", HNSWParameters.DFLT_EF_CONSTRUCTION),
+            Integer.getInteger("EF_SEARCH", HNSWParameters.DFLT_EF_SEARCH),
+            0
+        );
+
+        List<Set<Integer>> exact = new ArrayList<>(QUERIES);
+        SpatialIndex<Integer> exactIdx = new ArraySpatialIndex<>(data, distanceMeasure);
+        for (LabeledVector<Integer> qry : queries)
+            exact.add(labels(exactIdx.findKClosest(K, qry.features())));
+
+        for (SpatialIndexType idxType : SpatialIndexType.values()) {
+            long start = System.nanoTime();
+            SpatialIndex<Integer> idx = idxType.createIndex(data, distanceMeasure, hnswParams);
+            long buildTime = System.nanoTime() - start;
+
+            List<Set<Integer>> found = new ArrayList<>(QUERIES);
+
+            start = System.nanoTime();
+            for (LabeledVector<Integer> qry : queries)
+                found.add(labels(idx.findKClosest(K, qry.features())));
+            long qryTime = System.nanoTime() - start;
+
+            int hits = 0;
+            for (int i = 0; i < QUERIES; i++) {
+                for (Integer lb : found.get(i)) {
+                    if (exact.get(i).contains(lb))
+                        hits++;
+                }
+            }
+
+            double recall = 1.0 * hits / (QUERIES * K);
+
+            System.out.println(String.format("Spatial index [type=%s, points=%d, dims=%d, build=%d ms, " +
+                    "latency=%.3f ms, recall@%d=%.3f]", idxType, POINTS, DIMS, buildTime / 1_000_000,
+                qryTime / 1e6 / QUERIES, K, recall));
+
+            // HNSW is approximate, other indices have to return exact results.
+            assertEquals(1.0, recall, idxType == SpatialIndexType.HNSW ? 0.1 : 0);
+        }
+    }*/
+
+    /**
+     * Collects labels of the specified points.
+     *
+     * @param pnts Points.
+     * @return Set of labels.
+     */
+    private static Set<Integer> labels(List<LabeledVector<Integer>> pnts) {
+        Set<Integer> res = new HashSet<>();
+
+        for (LabeledVector<Integer> pnt : pnts)
+            res.add(pnt.label());
+
+        return res;
+    }
+
+    /**
+     * Generates points with normally distributed coordinates, labels are ids of points.
+     *
+     * @param cnt Number of points.
+     * @param rnd Random generator.
+     * @return Points.
+     */
+    private static List<LabeledVector<Integer>> generate(int cnt, Random rnd) {
+        List<LabeledVector<Integer>> res = new ArrayList<>(cnt);
+
+        for (int i = 0; i < cnt; i++) {
+            double[] features = new double[DIMS];
+            for (int j = 0; j < DIMS; j++)
+                features[j] = rnd.nextGaussian();
+
+            Vector pnt = VectorUtils.of(features);
+            res.add(pnt.labeled(i));
+        }
+
+        return res;
+    }
+}
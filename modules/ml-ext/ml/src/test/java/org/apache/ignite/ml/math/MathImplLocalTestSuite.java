@@ -18,6 +18,7 @@
 package org.apache.ignite.ml.math;
 
 import org.apache.ignite.ml.math.distances.CosineSimilarityTest;
+import org.apache.ignite.ml.math.distances.DistanceKernelsTest;
 import org.apache.ignite.ml.math.distances.DistanceTest;
 import org.apache.ignite.ml.math.distances.JaccardIndexTest;
 import org.apache.ignite.ml.math.isolve.lsqr.LSQROnHeapTest;
@@ -41,6 +42,7 @@ import org.apache.ignite.ml.math.primitives.vector.VectorNormCasesTest;
 import org.apache.ignite.ml.math.primitives.vector.VectorNormTest;
 import org.apache.ignite.ml.math.primitives.vector.VectorToMatrixTest;
 import org.apache.ignite.ml.math.primitives.vector.VectorViewTest;
+import org.apache.ignite.ml.math.primitives.vector.storage.DenseFloatVectorStorageTest;
 import org.apache.ignite.ml.math.primitives.vector.storage.DenseVectorStorageTest;
 import org.apache.ignite.ml.math.primitives.vector.storage.SparseVectorStorageTest;
 import org.junit.runner.RunWith;
@@ -68,6 +70,7 @@ import org.junit.runners.Suite;
     // Vector storage tests
     VectorArrayStorageTest.class,
     DenseVectorStorageTest.class,
+    DenseFloatVectorStorageTest.class,
     SparseVectorStorageTest.class,
     VectorImplementationsTest.class,
     VectorUtilsTest.class,
@@ -81,6 +84,7 @@ import org.junit.runners.Suite;
     // Matrix tests.
     MatrixAttributeTest.class,
     DistanceTest.class,
+    DistanceKernelsTest.class,
     CosineSimilarityTest.class,
     JaccardIndexTest.class,
     LSQROnHeapTest.class,
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.math.distances;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.apache.ignite.ml.math.exceptions.math.CardinalityException;
+import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.math.primitives.vector.impl.DenseVector;
+import org.apache.ignite.ml.math.primitives.vector.impl.SparseVector;
+import org.apache.ignite.ml.math.primitives.vector.impl.VectorView;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link DistanceKernels}.
+ */
+public class DistanceKernelsTest {
+    /** Precision. */
+    private static final double PRECISION = 1e-9;
+
+    /** Distance measures with array based fast paths. */
+    private static final List<DistanceMeasure> DISTANCE_MEASURES = Arrays.asList(
+        new EuclideanDistance(),
+        new ManhattanDistance(),
+        new ChebyshevDistance(),
+        new CosineSimilarity(),
+        new MinkowskiDistance(3),
+        new BrayCurtisDistance(),
+        new CanberraDistance()
+    );
+
+    /** */
+    @Test
+    public void testKernelsMatchGenericImplementation() {
+        Random rnd = new Random(0);
+
+        for (int size = 1; size <= 13; size++) {
+            double[] a = new double[size];
+            double[] b = new double[size];
+
+            for (int i = 0; i < size; i++) {
+                a[i] = rnd.nextGaussian();
+                b[i] = rnd.nextGaussian();
+            }
+
+            for (DistanceMeasure distanceMeasure : DISTANCE_MEASURES) {
+                double exp = distanceMeasure.compute(sparse(a), sparse(b));
+
+                assertEquals(distanceMeasure.getClass().getSimpleName(), exp,
+                    distanceMeasure.compute(new DenseVector(a), new DenseVector(b)), PRECISION);
+                assertEquals(distanceMeasure.getClass().getSimpleName(), exp, distanceMeasure.compute(new DenseVector(a), b),
+                    PRECISION);
+            }
+        }
+    }
+
+    /** */
+    @Test
+    public void testArrayOf() {
+        double[] data = {1, 2, 3};
+
+        assertNotNull(DistanceKernels.arrayOf(new DenseVector(data)));
+        assertNull(DistanceKernels.arrayOf(sparse(data)));
+        assertNull(DistanceKernels.arrayOf(new VectorView(new DenseVector(data), 1, 2)));
+    }
+
+    /** */
+    @Test(expected = CardinalityException.class)
+    public void testCardinalityViolation() {
+        DistanceKernels.squaredEuclidean(new double[2], new double[3]);
+    }
+
+    /**
+     * Creates sparse vector with the specified values, so that distances are computed using generic vector API.
+     *
+     * @param data Values.
+     * @return Sparse vector.
+     */
+    private static Vector sparse(double[] data) {
+        Vector res = new SparseVector(data.length);
+
+        for (int i = 0; i < data.length; i++)
+            res.set(i, data[i]);
+
+        return res;
+    }
+}
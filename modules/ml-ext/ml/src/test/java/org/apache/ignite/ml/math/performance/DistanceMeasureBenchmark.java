@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.math.performance;
+
+import org.apache.ignite.ml.math.distances.DistanceKernels;
+import org.apache.ignite.ml.math.distances.DistanceMeasure;
+import org.apache.ignite.ml.math.primitives.vector.Vector;
+
+/**
+ * Compares throughput of {@link DistanceKernels array based} and generic implementations of distance measures on
+ * dimensions from 2 to 1024. Generic implementation is measured on views of dense vectors, views don't expose backing
+ * array, so distances of views are computed using generic vector API. For manual run, number of iterations can be
+ * specified using {@code ITERATIONS} system property.
+ */
+public class DistanceMeasureBenchmark {
+    /** Number of distance computations per measurement. */
+    private static final int ITERATIONS = Integer.getInteger("ITERATIONS", 200_000);
+
+    /** Dimensions. */
+    private static final int[] DIMS = {2, 8, 32, 128, 512, 1024};
+
+    /** Number of vectors the computations iterate over. */
+    private static final int VECTORS = 64;
+
+    /** Sum of computed distances, keeps computations from being eliminated by JIT compiler. */
+    private double sink;
+
+    /** Measures all distance measures. For manual run. */
+    /*@Test
+    public void benchmarkDistances() {
+        List<DistanceMeasure> measures = Arrays.asList(
+            new EuclideanDistance(),
+            new ManhattanDistance(),
+            new ChebyshevDistance(),
+            new CosineSimilarity()
+        );
+
+        Random rnd = new Random(0);
+
+        for (int dim : DIMS) {
+            Vector[] dense = new Vector[VECTORS];
+            Vector[] views = new Vector[VECTORS];
+
+            for (int i = 0; i < VECTORS; i++) {
+                double[] data = new double[dim];
+                double[] padded = new double[dim + 1];
+
+                for (int j = 0; j < dim; j++) {
+                    data[j] = rnd.nextGaussian();
+                    padded[j] = data[j];
+                }
+
+                dense[i] = new DenseVector(data);
+                views[i] = new VectorView(new DenseVector(padded), 0, dim);
+            }
+
+            int iterations = Math.max(1, ITERATIONS * 8 / Math.max(dim, 8));
+
+            for (DistanceMeasure measure : measures) {
+                for (int i = 0; i < VECTORS; i++) {
+                    int j = (i * 7 + 1) % VECTORS;
+
+                    assertEquals(measure.compute(views[i], views[j]), measure.compute(dense[i], dense[j]), 1e-9);
+                }
+
+                // Warm up.
+                measure(measure, dense, iterations);
+                measure(measure, views, iterations);
+
+                double arrNs = measure(measure, dense, iterations);
+                double genericNs = measure(measure, views, iterations);
+
+                System.out.println(String.format("Distance [measure=%s, dim=%d, array=%.1f ns/op, " +
+                    "generic=%.1f ns/op, speedup=%.1f]", measure.getClass().getSimpleName(), dim, arrNs, genericNs,
+                    genericNs / arrNs));
+            }
+        }
+    }*/
+
+    /**
+     * Measures average time of distance computation.
+     *
+     * @param measure Distance measure.
+     * @param vectors Vectors.
+     * @param iterations Number of computations.
+     * @return Average time of one computation in nanoseconds.
+     */
+    private double measure(DistanceMeasure measure, Vector[] vectors, int iterations) {
+        double sum = 0;
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++)
+            sum += measure.compute(vectors[i % VECTORS], vectors[(i * 7 + 1) % VECTORS]);
+
+        long time = System.nanoTime() - start;
+
+        sink += sum;
+
+        return 1.0 * time / iterations;
+    }
+}
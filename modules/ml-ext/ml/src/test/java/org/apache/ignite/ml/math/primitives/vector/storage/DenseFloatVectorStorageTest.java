@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.math.primitives.vector.storage;
+
+import org.apache.ignite.ml.dataset.feature.FeaturePrecision;
+import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.math.primitives.vector.impl.DenseFloatVector;
+import org.apache.ignite.ml.math.primitives.vector.impl.DenseVector;
+import org.apache.ignite.ml.math.primitives.vector.impl.SparseVector;
+import org.apache.ignite.ml.structures.LabeledVector;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link DenseFloatVectorStorage} and {@link FeaturePrecision}.
+ */
+public class DenseFloatVectorStorageTest {
+    /** */
+    @Test
+    public void testSetAndGet() {
+        DenseFloatVectorStorage storage = new DenseFloatVectorStorage(10);
+
+        for (int i = 0; i < storage.size(); i++) {
+            storage.set(i, i + 0.5);
+            assertEquals(i + 0.5, storage.get(i), 0.0);
+        }
+
+        assertTrue(storage.isDense());
+        assertTrue(storage.isNumeric());
+        assertFalse(storage.isArrayBased());
+    }
+
+    /** */
+    @Test
+    public void testNarrowing() {
+        double[] data = new double[] {0.1, 1.0 / 3, 1e-10};
+        DenseFloatVectorStorage storage = new DenseFloatVectorStorage(data);
+
+        for (int i = 0; i < data.length; i++)
+            assertEquals((float)data[i], storage.get(i), 0.0);
+
+        assertArrayEquals(data, storage.data(), 1e-7);
+    }
+
+    /** */
+    @Test
+    public void testDataIsCopy() {
+        DenseFloatVectorStorage storage = new DenseFloatVectorStorage(new float[] {1, 2, 3});
+
+        storage.data()[0] = 42;
+
+        assertEquals(1.0, storage.get(0), 0.0);
+    }
+
+    /** */
+    @Test
+    public void testDerivedVectorsHaveDoublePrecision() {
+        Vector vec = new DenseFloatVector(new float[] {1, 2, 3});
+
+        assertTrue(vec.like(3) instanceof DenseVector);
+        assertTrue(vec.copy() instanceof DenseVector);
+        assertEquals(6.0, vec.sum(), 0.0);
+    }
+
+    /** */
+    @Test
+    public void testFeaturePrecisionConvert() {
+        Vector dense = new DenseVector(new double[] {0.1, 0.2, 0.3});
+        Vector sparse = new SparseVector(3);
+
+        assertSame(dense, FeaturePrecision.DOUBLE.convert(dense));
+        assertSame(sparse, FeaturePrecision.FLOAT.convert(sparse));
+
+        Vector converted = FeaturePrecision.FLOAT.convert(dense);
+
+        assertTrue(converted instanceof DenseFloatVector);
+        assertArrayEquals(dense.asArray(), converted.asArray(), 1e-7);
+        assertSame(converted, FeaturePrecision.FLOAT.convert(converted));
+
+        LabeledVector<Double> lv = FeaturePrecision.FLOAT.convert(new LabeledVector<>(dense, 1.0));
+
+        assertTrue(lv.features() instanceof DenseFloatVector);
+        assertEquals(1.0, lv.label(), 0.0);
+    }
+}
@@ -28,6 +28,7 @@ import org.junit.runners.Suite;
     MLPTest.class,
     MLPTrainerTest.class,
     LossFunctionsTest.class,
+    UpdatesStrategyTest.class,
     MLPTrainerIntegrationTest.class
 })
 public class MLPTestSuite {
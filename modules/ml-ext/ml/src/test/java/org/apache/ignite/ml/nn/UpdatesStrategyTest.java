@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.nn;
+
+import java.util.Arrays;
+import org.apache.ignite.lang.IgniteBiTuple;
+import org.apache.ignite.ml.math.primitives.vector.impl.DenseVector;
+import org.apache.ignite.ml.optimization.SmoothParametrized;
+import org.apache.ignite.ml.optimization.updatecalculators.NesterovParameterUpdate;
+import org.apache.ignite.ml.optimization.updatecalculators.NesterovUpdateCalculator;
+import org.apache.ignite.ml.optimization.updatecalculators.RPropParameterUpdate;
+import org.apache.ignite.ml.optimization.updatecalculators.RPropUpdateCalculator;
+import org.apache.ignite.ml.optimization.updatecalculators.SimpleGDParameterUpdate;
+import org.apache.ignite.ml.optimization.updatecalculators.SimpleGDUpdateCalculator;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link UpdatesStrategy}.
+ */
+public class UpdatesStrategyTest {
+    /** Precision. */
+    private static final double PRECISION = 1e-10;
+
+    /** Tests that merged partial averages are equal to the average of all updates. */
+    @Test
+    public void testMergePartialAverages() {
+        UpdatesStrategy<SmoothParametrized, SimpleGDParameterUpdate> stgy = new UpdatesStrategy<>(
+            new SimpleGDUpdateCalculator(0.1),
+            SimpleGDParameterUpdate.SUM_LOCAL,
+            SimpleGDParameterUpdate.AVG
+        );
+
+        SimpleGDParameterUpdate u1 = update(1.0, 2.0);
+        SimpleGDParameterUpdate u2 = update(3.0, 4.0);
+        SimpleGDParameterUpdate u3 = update(8.0, 0.0);
+
+        IgniteBiTuple<SimpleGDParameterUpdate, Integer> partial = stgy.mergePartialUpdates(
+            new IgniteBiTuple<>(u1, 1),
+            new IgniteBiTuple<>(u2, 1)
+        );
+
+        IgniteBiTuple<SimpleGDParameterUpdate, Integer> res = stgy.mergePartialUpdates(
+            new IgniteBiTuple<>(u3, 1),
+            partial
+        );
+
+        SimpleGDParameterUpdate exp = SimpleGDParameterUpdate.AVG.apply(Arrays.asList(u1, u2, u3));
+
+        assertEquals(3, res.get2().intValue());
+        assertArrayEquals(exp.gradient().asArray(), res.get1().gradient().asArray(), PRECISION);
+    }
+
+    /** Tests that partial averages of different numbers of updates are merged with weights. */
+    @Test
+    public void testMergeWeightedPartialAverages() {
+        UpdatesStrategy<SmoothParametrized, SimpleGDParameterUpdate> stgy = new UpdatesStrategy<>(
+            new SimpleGDUpdateCalculator(0.1),
+            SimpleGDParameterUpdate.SUM_LOCAL,
+            SimpleGDParameterUpdate.AVG,
+            UpdatesStrategy.AllUpdatesReducerKind.AVG,
+            SimpleGDParameterUpdate.SCALE
+        );
+
+        IgniteBiTuple<SimpleGDParameterUpdate, Integer> res = stgy.mergePartialUpdates(
+            new IgniteBiTuple<>(update(1.0, 2.0), 1_000_000),
+            new IgniteBiTuple<>(update(5.0, -2.0), 3_000_000)
+        );
+
+        assertEquals(4_000_000, res.get2().intValue());
+        assertArrayEquals(new double[] {4.0, -1.0}, res.get1().gradient().asArray(), PRECISION);
+    }
+
+    /** Tests that averaging reducer can't be explicitly used without update scaler. */
+    @Test(expected = IllegalArgumentException.class)
+    public void testAverageWithoutScaler() {
+        new UpdatesStrategy<>(
+            new SimpleGDUpdateCalculator(0.1),
+            SimpleGDParameterUpdate.SUM_LOCAL,
+            SimpleGDParameterUpdate.AVG,
+            UpdatesStrategy.AllUpdatesReducerKind.AVG,
+            null
+        );
+    }
+
+    /** Tests that kinds of built-in reducers are derived and kinds of other reducers are unknown. */
+    @Test
+    public void testDeriveReducerKind() {
+        assertEquals(UpdatesStrategy.AllUpdatesReducerKind.AVG, new UpdatesStrategy<>(
+            new SimpleGDUpdateCalculator(0.1),
+            SimpleGDParameterUpdate.SUM_LOCAL,
+            SimpleGDParameterUpdate.AVG
+        ).allUpdatesReducerKind());
+
+        assertEquals(UpdatesStrategy.AllUpdatesReducerKind.AVG, new UpdatesStrategy<>(
+            new RPropUpdateCalculator(),
+            RPropParameterUpdate.SUM_LOCAL,
+            RPropParameterUpdate.AVG
+        ).allUpdatesReducerKind());
+
+        assertEquals(UpdatesStrategy.AllUpdatesReducerKind.SUM, new UpdatesStrategy<>(
+            new NesterovUpdateCalculator<MultilayerPerceptron>(0.1, 0.7),
+            NesterovParameterUpdate.SUM,
+            NesterovParameterUpdate.SUM
+        ).allUpdatesReducerKind());
+
+        assertNull(new UpdatesStrategy<>(
+            new SimpleGDUpdateCalculator(0.1),
+            SimpleGDParameterUpdate.SUM_LOCAL,
+            updates -> updates.get(0)
+        ).allUpdatesReducerKind());
+    }
+
+    /** Tests that merged partial sums are equal to the sum of all updates. */
+    @Test
+    public void testMergePartialSums() {
+        UpdatesStrategy<SmoothParametrized, SimpleGDParameterUpdate> stgy = new UpdatesStrategy<>(
+            new SimpleGDUpdateCalculator(0.1),
+            SimpleGDParameterUpdate.SUM_LOCAL,
+            SimpleGDParameterUpdate.SUM_LOCAL
+        );
+
+        SimpleGDParameterUpdate u1 = update(1.0, 2.0);
+        SimpleGDParameterUpdate u2 = update(3.0, 4.0);
+        SimpleGDParameterUpdate u3 = update(8.0, 0.0);
+
+        IgniteBiTuple<SimpleGDParameterUpdate, Integer> partial = stgy.mergePartialUpdates(
+            new IgniteBiTuple<>(u1, 1),
+            new IgniteBiTuple<>(u2, 1)
+        );
+
+        IgniteBiTuple<SimpleGDParameterUpdate, Integer> res = stgy.mergePartialUpdates(partial,
+            new IgniteBiTuple<>(u3, 1));
+
+        assertEquals(3, res.get2().intValue());
+        assertArrayEquals(new double[] {12.0, 6.0}, res.get1().gradient().asArray(), PRECISION);
+        assertEquals(partial, stgy.mergePartialUpdates(partial, null));
+    }
+
+    /**
+     * Creates update with the specified gradient.
+     *
+     * @param gradient Gradient.
+     * @return Update.
+     */
+    private static SimpleGDParameterUpdate update(double... gradient) {
+        return new SimpleGDParameterUpdate(new DenseVector(gradient));
+    }
+}
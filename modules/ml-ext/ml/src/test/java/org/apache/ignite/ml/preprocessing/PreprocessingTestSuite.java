@@ -19,6 +19,7 @@ package org.apache.ignite.ml.preprocessing;
 
 import org.apache.ignite.ml.preprocessing.binarization.BinarizationPreprocessorTest;
 import org.apache.ignite.ml.preprocessing.binarization.BinarizationTrainerTest;
+import org.apache.ignite.ml.preprocessing.developer.FusedPreprocessorTest;
 import org.apache.ignite.ml.preprocessing.encoding.EncoderTrainerTest;
 import org.apache.ignite.ml.preprocessing.encoding.FrequencyEncoderPreprocessorTest;
 import org.apache.ignite.ml.preprocessing.encoding.LabelEncoderPreprocessorTest;
@@ -62,7 +63,8 @@ import org.junit.runners.Suite;
     StandardScalerPreprocessorTest.class,
 
     MaxAbsScalerTrainerTest.class,
-    MaxAbsScalerPreprocessorTest.class
+    MaxAbsScalerPreprocessorTest.class,
+    FusedPreprocessorTest.class
 })
 public class PreprocessingTestSuite {
     // No-op.
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.preprocessing.developer;
+
+import org.apache.ignite.ml.dataset.feature.extractor.Vectorizer;
+import org.apache.ignite.ml.dataset.feature.extractor.impl.DoubleArrayVectorizer;
+import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
+import org.apache.ignite.ml.math.primitives.vector.impl.VectorView;
+import org.apache.ignite.ml.preprocessing.Preprocessor;
+import org.apache.ignite.ml.preprocessing.binarization.BinarizationPreprocessor;
+import org.apache.ignite.ml.preprocessing.imputing.ImputerPreprocessor;
+import org.apache.ignite.ml.preprocessing.minmaxscaling.MinMaxScalerPreprocessor;
+import org.apache.ignite.ml.preprocessing.normalization.NormalizationPreprocessor;
+import org.apache.ignite.ml.structures.LabeledVector;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link FusedPreprocessor}.
+ */
+public class FusedPreprocessorTest {
+    /** Data. */
+    private static final double[][] data = new double[][]{
+        {Double.NaN, 20, 3},
+        {2, Double.NaN, 8},
+        {Double.NaN, Double.NaN, Double.NaN},
+        {0, 4, 1},
+    };
+
+    /** Tests that fused chain gives the same results as the original one. */
+    @Test
+    public void testApply() {
+        Preprocessor<Integer, double[]> chain = chain();
+        Preprocessor<Integer, double[]> fused = FusedPreprocessor.fuse(chain);
+
+        assertTrue(fused instanceof FusedPreprocessor);
+        assertEquals(3, ((FusedPreprocessor<Integer, double[]>)fused).getAmountOfStages());
+
+        for (int i = 0; i < data.length; i++) {
+            assertArrayEquals(
+                chain.apply(i, data[i].clone()).features().asArray(),
+                fused.apply(i, data[i].clone()).features().asArray(),
+                1e-12
+            );
+        }
+    }
+
+    /** Tests fusing of a chain containing already fused preprocessor. */
+    @Test
+    public void testFuseFused() {
+        Preprocessor<Integer, double[]> chain = new BinarizationPreprocessor<>(0.5, FusedPreprocessor.fuse(chain()));
+        Preprocessor<Integer, double[]> fused = FusedPreprocessor.fuse(chain);
+
+        assertTrue(fused instanceof FusedPreprocessor);
+        assertEquals(4, ((FusedPreprocessor<Integer, double[]>)fused).getAmountOfStages());
+        assertTrue(((FusedPreprocessor<Integer, double[]>)fused).basePreprocessor() instanceof Vectorizer);
+
+        for (int i = 0; i < data.length; i++) {
+            assertArrayEquals(
+                chain.apply(i, data[i].clone()).features().asArray(),
+                fused.apply(i, data[i].clone()).features().asArray(),
+                1e-12
+            );
+        }
+    }
+
+    /** Tests that single preprocessor isn't wrapped. */
+    @Test
+    public void testNothingToFuse() {
+        Vectorizer<Integer, double[], Integer, Double> vectorizer = new DoubleArrayVectorizer<>(0, 1, 2);
+        Preprocessor<Integer, double[]> binarization = new BinarizationPreprocessor<>(0.5, vectorizer);
+
+        assertSame(vectorizer, FusedPreprocessor.fuse(vectorizer));
+        assertSame(binarization, FusedPreprocessor.fuse(binarization));
+    }
+
+    /** Tests that already fused chain isn't wrapped again. */
+    @Test
+    public void testFuseTwice() {
+        Preprocessor<Integer, double[]> fused = FusedPreprocessor.fuse(chain());
+
+        assertSame(fused, FusedPreprocessor.fuse(fused));
+    }
+
+    /** Tests that transformation of a view changes only the viewed part of the parent vector. */
+    @Test
+    public void testTransformView() {
+        Vectorizer<Integer, double[], Integer, Double> vectorizer = new DoubleArrayVectorizer<>(0, 1, 2);
+        BinarizationPreprocessor<Integer, double[]> binarization = new BinarizationPreprocessor<>(0.5, vectorizer);
+
+        Vector parent = VectorUtils.of(0.2, 0.7, 0.4, 0.9);
+        Vector view = new VectorView(parent, 1, 2);
+
+        binarization.transform(new LabeledVector<>(view, 0.0));
+
+        assertEquals(1.0, view.get(0), 0);
+        assertEquals(0.0, view.get(1), 0);
+        assertArrayEquals(new double[] {0.2, 1.0, 0.0, 0.9}, parent.asArray(), 0);
+    }
+
+    /** Tests application of fused stages to the block of rows. */
+    @Test
+    public void testTransformBlock() {
+        Preprocessor<Integer, double[]> chain = chain();
+        FusedPreprocessor<Integer, double[]> fused =
+            (FusedPreprocessor<Integer, double[]>)FusedPreprocessor.fuse(chain);
+
+        double[][] block = new double[data.length][];
+        for (int i = 0; i < data.length; i++)
+            block[i] = data[i].clone();
+
+        fused.transform(block);
+
+        for (int i = 0; i < data.length; i++)
+            assertArrayEquals(chain.apply(i, data[i].clone()).features().asArray(), block[i], 1e-12);
+    }
+
+    /**
+     * Creates chain of imputer, min-max scaler and normalization.
+     */
+    private Preprocessor<Integer, double[]> chain() {
+        Vectorizer<Integer, double[], Integer, Double> vectorizer = new DoubleArrayVectorizer<>(0, 1, 2);
+
+        Preprocessor<Integer, double[]> imputer = new ImputerPreprocessor<>(VectorUtils.of(1.0, 10.0, 5.0), vectorizer);
+
+        Preprocessor<Integer, double[]> scaler = new MinMaxScalerPreprocessor<>(
+            new double[] {0, 4, 1},
+            new double[] {2, 20, 8},
+            imputer
+        );
+
+        return new NormalizationPreprocessor<>(2, scaler);
+    }
+}
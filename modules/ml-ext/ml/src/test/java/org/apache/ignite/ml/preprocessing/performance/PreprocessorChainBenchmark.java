@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.preprocessing.performance;
+
+import java.util.Random;
+import org.apache.ignite.ml.dataset.feature.extractor.Vectorizer;
+import org.apache.ignite.ml.dataset.feature.extractor.impl.DoubleArrayVectorizer;
+import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
+import org.apache.ignite.ml.preprocessing.Preprocessor;
+import org.apache.ignite.ml.preprocessing.developer.FusedPreprocessor;
+import org.apache.ignite.ml.preprocessing.imputing.ImputerPreprocessor;
+import org.apache.ignite.ml.preprocessing.minmaxscaling.MinMaxScalerPreprocessor;
+import org.apache.ignite.ml.preprocessing.normalization.NormalizationPreprocessor;
+import org.apache.ignite.ml.preprocessing.standardscaling.StandardScalerPreprocessor;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares throughput of a chain of preprocessors like in preprocessing examples (vectorizer, imputer, min-max
+ * scaler, standard scaler and normalization) with the same chain fused by {@link FusedPreprocessor}. For manual run,
+ * number of rows and features can be specified using {@code ROWS} and {@code FEATURES} system properties.
+ */
+public class PreprocessorChainBenchmark {
+    /** Number of rows. */
+    private static final int ROWS = Integer.getInteger("ROWS", 1_000_000);
+
+    /** Number of features in each row. */
+    private static final int FEATURES = Integer.getInteger("FEATURES", 16);
+
+    /** Number of measurements of each mode. */
+    private static final int ITERATIONS = 5;
+
+    /** Measures preprocessing time of the chain and the fused chain. For manual run. */
+    /*@Test
+    public void benchmarkChain() {
+        double[][] rows = generate();
+
+        Preprocessor<Integer, double[]> chain = chain();
+        Preprocessor<Integer, double[]> fused = FusedPreprocessor.fuse(chain);
+
+        // Warm-up.
+        run(chain, rows);
+        run(fused, rows);
+
+        long chainTime = 0;
+        long fusedTime = 0;
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            chainTime += run(chain, rows);
+            fusedTime += run(fused, rows);
+        }
+
+        System.out.println(String.format("Preprocessor chain [rows=%d, features=%d, chain=%d ms, fused=%d ms]",
+            ROWS, FEATURES, chainTime / ITERATIONS, fusedTime / ITERATIONS));
+    }*/
+
+    /**
+     * Applies preprocessor to all rows.
+     *
+     * @param preprocessor Preprocessor.
+     * @param rows Rows.
+     * @return Preprocessing time in milliseconds.
+     */
+    private long run(Preprocessor<Integer, double[]> preprocessor, double[][] rows) {
+        double checksum = 0;
+
+        long start = System.currentTimeMillis();
+
+        for (int i = 0; i < rows.length; i++)
+            checksum += preprocessor.apply(i, rows[i]).features().get(0);
+
+        long time = System.currentTimeMillis() - start;
+
+        assertTrue("Unexpected checksum: " + checksum, Double.isFinite(checksum));
+
+        return time;
+    }
+
+    /**
+     * Creates chain of preprocessors.
+     */
+    private Preprocessor<Integer, double[]> chain() {
+        Integer[] featureIds = new Integer[FEATURES];
+        double[] zeros = new double[FEATURES];
+        double[] ones = new double[FEATURES];
+
+        for (int i = 0; i < FEATURES; i++) {
+            featureIds[i] = i;
+            ones[i] = 1;
+        }
+
+        Vectorizer<Integer, double[], Integer, Double> vectorizer = new DoubleArrayVectorizer<>(featureIds);
+
+        Preprocessor<Integer, double[]> imputer = new ImputerPreprocessor<>(VectorUtils.of(ones), vectorizer);
+        Preprocessor<Integer, double[]> minMaxScaler = new MinMaxScalerPreprocessor<>(zeros, ones, imputer);
+        Preprocessor<Integer, double[]> stdScaler = new StandardScalerPreprocessor<>(zeros, ones, minMaxScaler);
+
+        return new NormalizationPreprocessor<>(2, stdScaler);
+    }
+
+    /**
+     * Generates rows with random data, some values are missing.
+     */
+    private double[][] generate() {
+        double[][] rows = new double[ROWS][FEATURES];
+
+        Random rnd = new Random(0);
+
+        for (double[] row : rows) {
+            for (int j = 0; j < FEATURES; j++)
+                row[j] = rnd.nextInt(10) == 0 ? Double.NaN : rnd.nextDouble();
+        }
+
+        return rows;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.recommendation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link RecommendationModel}. */
+public class RecommendationModelTest {
+    /** Number of objects. */
+    private static final int OBJECTS = 1000;
+
+    /** Number of subjects. */
+    private static final int SUBJECTS = 40;
+
+    /** Number of factors. */
+    private static final int K = 8;
+
+    /** Number of recommended objects. */
+    private static final int N = 10;
+
+    /** Model. */
+    private RecommendationModel<Integer, Integer> mdl;
+
+    /** */
+    @Before
+    public void setUp() {
+        Random rnd = new Random(0L);
+
+        Map<Integer, Vector> objMatrix = new HashMap<>();
+        for (int i = 0; i < OBJECTS; i++)
+            objMatrix.put(i, randomVector(rnd, 0.5 + rnd.nextDouble()));
+
+        Map<Integer, Vector> subjMatrix = new HashMap<>();
+        for (int i = 0; i < SUBJECTS; i++)
+            subjMatrix.put(i, randomVector(rnd, 1.0));
+
+        mdl = new RecommendationModel<>(objMatrix, subjMatrix);
+    }
+
+    /** */
+    @Test
+    public void testRecommend() {
+        for (int subj = 0; subj < SUBJECTS; subj++) {
+            List<Integer> expected = bruteForce(subj, N);
+            List<ObjectSubjectRatingTriplet<Integer, Integer>> recommendations = mdl.recommend(subj, N);
+
+            assertEquals(N, recommendations.size());
+
+            for (int i = 0; i < N; i++) {
+                ObjectSubjectRatingTriplet<Integer, Integer> recommendation = recommendations.get(i);
+
+                assertEquals(expected.get(i), recommendation.getObj());
+                assertEquals(Integer.valueOf(subj), recommendation.getSubj());
+                assertEquals(mdl.predict(new ObjectSubjectPair<>(recommendation.getObj(), subj)),
+                    recommendation.getRating(), 1e-9);
+            }
+        }
+    }
+
+    /** */
+    @Test
+    public void testRecommendBatch() {
+        List<Integer> subjs = new ArrayList<>();
+        for (int subj = SUBJECTS - 1; subj >= 0; subj--)
+            subjs.add(subj);
+
+        Map<Integer, List<ObjectSubjectRatingTriplet<Integer, Integer>>> res = mdl.recommend(subjs, N);
+
+        assertEquals(subjs, new ArrayList<>(res.keySet()));
+
+        for (int subj : subjs)
+            assertEquals(objects(mdl.recommend(subj, N)), objects(res.get(subj)));
+    }
+
+    /** */
+    @Test
+    public void testRecommendMoreThanObjects() {
+        List<ObjectSubjectRatingTriplet<Integer, Integer>> recommendations = mdl.recommend(0, OBJECTS * 2);
+
+        assertEquals(bruteForce(0, OBJECTS), objects(recommendations));
+    }
+
+    /** */
+    @Test
+    public void testRecommendUnknownSubject() {
+        assertTrue(mdl.recommend(SUBJECTS, N).isEmpty());
+
+        Map<Integer, List<ObjectSubjectRatingTriplet<Integer, Integer>>> res = mdl.recommend(
+            Arrays.asList(0, SUBJECTS), N);
+
+        assertEquals(N, res.get(0).size());
+        assertTrue(res.get(SUBJECTS).isEmpty());
+    }
+
+    /** */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRecommendWithNonPositiveN() {
+        mdl.recommend(0, 0);
+    }
+
+    /** */
+    @Test
+    public void testApproximateRecommend() {
+        mdl.withApproximateSearch(32, 4, 42L);
+
+        int hits = 0;
+        for (int subj = 0; subj < SUBJECTS; subj++) {
+            Set<Integer> expected = new HashSet<>(bruteForce(subj, N));
+            List<ObjectSubjectRatingTriplet<Integer, Integer>> recommendations = mdl.recommend(subj, N);
+
+            assertEquals(N, recommendations.size());
+
+            for (int i = 0; i < N; i++) {
+                if (expected.contains(recommendations.get(i).getObj()))
+                    hits++;
+
+                if (i > 0)
+                    assertTrue(recommendations.get(i - 1).getRating() >= recommendations.get(i).getRating());
+            }
+        }
+
+        assertTrue("Recall is too low [recall=" + (double)hits / (SUBJECTS * N) + "]",
+            hits >= 0.8 * SUBJECTS * N);
+
+        mdl.withExactSearch();
+
+        for (int subj = 0; subj < SUBJECTS; subj++)
+            assertEquals(bruteForce(subj, N), objects(mdl.recommend(subj, N)));
+    }
+
+    /**
+     * Finds objects with the highest rating for the specified subject by predicting rating for every object.
+     *
+     * @param subj Subject.
+     * @param n Number of objects.
+     * @return Objects sorted by rating in descending order.
+     */
+    private List<Integer> bruteForce(int subj, int n) {
+        List<Integer> objs = new ArrayList<>(mdl.getObjMatrix().keySet());
+
+        objs.sort((a, b) -> Double.compare(
+            mdl.predict(new ObjectSubjectPair<>(b, subj)),
+            mdl.predict(new ObjectSubjectPair<>(a, subj))
+        ));
+
+        return objs.subList(0, Math.min(n, objs.size()));
+    }
+
+    /** */
+    private static List<Integer> objects(List<ObjectSubjectRatingTriplet<Integer, Integer>> recommendations) {
+        List<Integer> res = new ArrayList<>();
+        for (ObjectSubjectRatingTriplet<Integer, Integer> recommendation : recommendations)
+            res.add(recommendation.getObj());
+
+        return res;
+    }
+
+    /** */
+    private static Vector randomVector(Random rnd, double scale) {
+        double[] res = new double[K];
+        for (int i = 0; i < K; i++)
+            res[i] = rnd.nextGaussian() * scale;
+
+        return VectorUtils.of(res);
+    }
+}
@@ -26,7 +26,8 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
     RecommendationTrainerTest.class,
-    RecommendationTrainerSQLTest.class
+    RecommendationTrainerSQLTest.class,
+    RecommendationModelTest.class
 
 })
 public class RecommendationTestSuite {
@@ -19,14 +19,17 @@ package org.apache.ignite.ml.selection;
 
 import org.apache.ignite.ml.selection.cv.CrossValidationTest;
 import org.apache.ignite.ml.selection.paramgrid.ParameterSetGeneratorTest;
+import org.apache.ignite.ml.selection.paramgrid.SuccessiveHalvingStrategyTest;
 import org.apache.ignite.ml.selection.scoring.cursor.CacheBasedLabelPairCursorTest;
 import org.apache.ignite.ml.selection.scoring.cursor.LocalLabelPairCursorTest;
 import org.apache.ignite.ml.selection.scoring.evaluator.BinaryClassificationEvaluatorTest;
 import org.apache.ignite.ml.selection.scoring.evaluator.RegressionEvaluatorTest;
 import org.apache.ignite.ml.selection.scoring.evaluator.aggregator.BinaryClassificationPointwiseMetricStatsAggregatorTest;
+import org.apache.ignite.ml.selection.scoring.evaluator.aggregator.BinaryClassificationScoreHistogramAggregatorTest;
 import org.apache.ignite.ml.selection.scoring.evaluator.aggregator.RegressionMetricStatsAggregatorTest;
 import org.apache.ignite.ml.selection.scoring.evaluator.context.BinaryClassificationEvaluationContextTest;
 import org.apache.ignite.ml.selection.scoring.metric.classification.BinaryClassificationMetricsTest;
+import org.apache.ignite.ml.selection.scoring.metric.classification.BinaryClassificationRankingMetricsTest;
 import org.apache.ignite.ml.selection.scoring.metric.regression.RegressionMetricsTest;
 import org.apache.ignite.ml.selection.split.TrainTestDatasetSplitterTest;
 import org.apache.ignite.ml.selection.split.mapper.SHA256UniformMapperTest;
@@ -40,6 +43,7 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
     CrossValidationTest.class,
     ParameterSetGeneratorTest.class,
+    SuccessiveHalvingStrategyTest.class,
     LocalLabelPairCursorTest.class,
     SHA256UniformMapperTest.class,
     TrainTestDatasetSplitterTest.class,
@@ -47,9 +51,11 @@ import org.junit.runners.Suite;
     BinaryClassificationEvaluatorTest.class,
     RegressionEvaluatorTest.class,
     BinaryClassificationPointwiseMetricStatsAggregatorTest.class,
+    BinaryClassificationScoreHistogramAggregatorTest.class,
     RegressionMetricStatsAggregatorTest.class,
     BinaryClassificationEvaluationContextTest.class,
     BinaryClassificationMetricsTest.class,
+    BinaryClassificationRankingMetricsTest.class,
     RegressionMetricsTest.class
 })
 public class SelectionTestSuite {
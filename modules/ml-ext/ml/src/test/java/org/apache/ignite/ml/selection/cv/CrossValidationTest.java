@@ -21,6 +21,8 @@ import java.util.HashMap;
 import java.util.Map;
 import org.apache.ignite.ml.dataset.feature.extractor.Vectorizer;
 import org.apache.ignite.ml.dataset.feature.extractor.impl.DoubleArrayVectorizer;
+import org.apache.ignite.ml.environment.LearningEnvironmentBuilder;
+import org.apache.ignite.ml.environment.parallelism.ParallelismStrategy;
 import org.apache.ignite.ml.nn.UpdatesStrategy;
 import org.apache.ignite.ml.optimization.updatecalculators.SimpleGDParameterUpdate;
 import org.apache.ignite.ml.optimization.updatecalculators.SimpleGDUpdateCalculator;
@@ -29,6 +31,7 @@ import org.apache.ignite.ml.regressions.logistic.LogisticRegressionModel;
 import org.apache.ignite.ml.regressions.logistic.LogisticRegressionSGDTrainer;
 import org.apache.ignite.ml.selection.paramgrid.ParamGrid;
 import org.apache.ignite.ml.selection.paramgrid.RandomStrategy;
+import org.apache.ignite.ml.selection.paramgrid.SuccessiveHalvingStrategy;
 import org.apache.ignite.ml.selection.scoring.metric.MetricName;
 import org.apache.ignite.ml.tree.DecisionTreeClassificationTrainer;
 import org.apache.ignite.ml.tree.DecisionTreeModel;
@@ -146,6 +149,52 @@ public class CrossValidationTest {
         assertEquals(0.9921259842519685, scores[3], 1e-6);
     }
 
+    /**
+     *
+     */
+    @Test
+    public void testBasicFunctionalityWithConcurrentFolds() {
+        Map<Integer, double[]> data = new HashMap<>();
+
+        for (int i = 0; i < twoLinearlySeparableClasses.length; i++)
+            data.put(i, twoLinearlySeparableClasses[i]);
+
+        LogisticRegressionSGDTrainer trainer = new LogisticRegressionSGDTrainer()
+            .withUpdatesStgy(new UpdatesStrategy<>(new SimpleGDUpdateCalculator(0.2),
+                SimpleGDParameterUpdate.SUM_LOCAL, SimpleGDParameterUpdate.AVG))
+            .withMaxIterations(100000)
+            .withLocIterations(100)
+            .withBatchSize(14)
+            .withSeed(123L);
+
+        Vectorizer<Integer, double[], Integer, Double> vectorizer =
+            new DoubleArrayVectorizer<Integer>().labeled(Vectorizer.LabelCoordinate.FIRST);
+
+        DebugCrossValidation<LogisticRegressionModel, Integer, double[]> scoreCalculator =
+            new DebugCrossValidation<>();
+
+        int folds = 4;
+
+        scoreCalculator
+            .withUpstreamMap(data)
+            .withAmountOfParts(1)
+            .withTrainer(trainer)
+            .withMetric(MetricName.ACCURACY)
+            .withPreprocessor(vectorizer)
+            .withAmountOfFolds(folds)
+            .isRunningOnPipeline(false)
+            .withMaxConcurrentFolds(folds)
+            .withEnvironmentBuilder(LearningEnvironmentBuilder.defaultBuilder()
+                .withParallelismStrategyType(ParallelismStrategy.Type.ON_DEFAULT_POOL));
+
+        double[] scores = scoreCalculator.scoreByFolds();
+
+        assertEquals(0.8389830508474576, scores[0], 1e-6);
+        assertEquals(0.9402985074626866, scores[1], 1e-6);
+        assertEquals(0.8809523809523809, scores[2], 1e-6);
+        assertEquals(0.9921259842519685, scores[3], 1e-6);
+    }
+
     /**
      *
      */
@@ -195,6 +244,61 @@ public class CrossValidationTest {
         assertEquals(80, crossValidationRes.getScoringBoard().size(), 80);
     }
 
+    /**
+     * Tests that parameter sets scored concurrently on copies of the trainer get the same scores as the ones scored
+     * one by one.
+     */
+    @Test
+    public void testGridSearchWithConcurrentParamSets() {
+        Map<Integer, double[]> data = new HashMap<>();
+
+        for (int i = 0; i < twoLinearlySeparableClasses.length; i++)
+            data.put(i, twoLinearlySeparableClasses[i]);
+
+        LogisticRegressionSGDTrainer trainer = new LogisticRegressionSGDTrainer()
+            .withUpdatesStgy(new UpdatesStrategy<>(new SimpleGDUpdateCalculator(0.2),
+                SimpleGDParameterUpdate.SUM_LOCAL, SimpleGDParameterUpdate.AVG))
+            .withMaxIterations(100000)
+            .withLocIterations(100)
+            .withBatchSize(14)
+            .withSeed(123L);
+
+        Vectorizer<Integer, double[], Integer, Double> vectorizer =
+            new DoubleArrayVectorizer<Integer>().labeled(Vectorizer.LabelCoordinate.FIRST);
+
+        ParamGrid paramGrid = new ParamGrid()
+            .addHyperParam("maxIterations", trainer::withMaxIterations, new Double[]{10.0, 100.0, 1000.0, 10000.0})
+            .addHyperParam("locIterations", trainer::withLocIterations, new Double[]{10.0, 100.0, 1000.0, 10000.0})
+            .addHyperParam("batchSize", trainer::withBatchSize, new Double[]{1.0, 2.0, 4.0, 8.0, 16.0});
+
+        DebugCrossValidation<LogisticRegressionModel, Integer, double[]> scoreCalculator =
+            (DebugCrossValidation<LogisticRegressionModel, Integer, double[]>)
+                new DebugCrossValidation<LogisticRegressionModel, Integer, double[]>()
+                    .withUpstreamMap(data)
+                    .withAmountOfParts(1)
+                    .withTrainer(trainer)
+                    .withMetric(MetricName.ACCURACY)
+                    .withPreprocessor(vectorizer)
+                    .withAmountOfFolds(4)
+                    .isRunningOnPipeline(false)
+                    .withParamGrid(paramGrid)
+                    .withEnvironmentBuilder(LearningEnvironmentBuilder.defaultBuilder()
+                        .withParallelismStrategyType(ParallelismStrategy.Type.ON_DEFAULT_POOL));
+
+        CrossValidationResult crossValidationRes = scoreCalculator.tuneHyperParameters();
+
+        assertArrayEquals(
+            crossValidationRes.getBestScore(),
+            new double[]{0.9745762711864406, 1.0, 0.8968253968253969, 0.8661417322834646},
+            1e-6
+        );
+        assertEquals(0.9343858500738256, crossValidationRes.getBestAvgScore(), 1e-6);
+        assertEquals(80, crossValidationRes.getScoringBoard().size());
+
+        // Parameters are set on the copies, the original trainer is left untouched.
+        assertEquals(100000, trainer.getMaxIterations());
+    }
+
     /**
      *
      */
@@ -299,6 +403,107 @@ public class CrossValidationTest {
         assertEquals(10, crossValidationRes.getScoringBoard().size());
     }
 
+    /**
+     *
+     */
+    @Test
+    public void testRandomSearchWithPipelineAndConcurrentFolds() {
+        Map<Integer, double[]> data = new HashMap<>();
+
+        for (int i = 0; i < twoLinearlySeparableClasses.length; i++)
+            data.put(i, twoLinearlySeparableClasses[i]);
+
+        LogisticRegressionSGDTrainer trainer = new LogisticRegressionSGDTrainer()
+            .withUpdatesStgy(new UpdatesStrategy<>(new SimpleGDUpdateCalculator(0.2),
+                SimpleGDParameterUpdate.SUM_LOCAL, SimpleGDParameterUpdate.AVG))
+            .withMaxIterations(100000)
+            .withLocIterations(100)
+            .withBatchSize(14)
+            .withSeed(123L);
+
+        Vectorizer<Integer, double[], Integer, Double> vectorizer =
+            new DoubleArrayVectorizer<Integer>().labeled(Vectorizer.LabelCoordinate.FIRST);
+
+        ParamGrid paramGrid = new ParamGrid()
+            .withParameterSearchStrategy(
+                new RandomStrategy()
+                    .withMaxTries(10)
+                    .withSeed(1234L)
+                    .withSatisfactoryFitness(0.9)
+            )
+            .addHyperParam("maxIterations", trainer::withMaxIterations, new Double[]{10.0, 100.0, 1000.0, 10000.0})
+            .addHyperParam("locIterations", trainer::withLocIterations, new Double[]{10.0, 100.0, 1000.0, 10000.0})
+            .addHyperParam("batchSize", trainer::withBatchSize, new Double[]{1.0, 2.0, 4.0, 8.0, 16.0});
+
+        Pipeline<Integer, double[], Integer, Double> pipeline = new Pipeline<Integer, double[], Integer, Double>()
+            .addVectorizer(vectorizer)
+            .addTrainer(trainer);
+
+        DebugCrossValidation<LogisticRegressionModel, Integer, double[]> scoreCalculator =
+            (DebugCrossValidation<LogisticRegressionModel, Integer, double[]>)
+                new DebugCrossValidation<LogisticRegressionModel, Integer, double[]>()
+                    .withUpstreamMap(data)
+                    .withAmountOfParts(1)
+                    .withPipeline(pipeline)
+                    .withMetric(MetricName.ACCURACY)
+                    .withPreprocessor(vectorizer)
+                    .withAmountOfFolds(4)
+                    .isRunningOnPipeline(true)
+                    .withParamGrid(paramGrid)
+                    .withMaxConcurrentFolds(4)
+                    .withEnvironmentBuilder(LearningEnvironmentBuilder.defaultBuilder()
+                        .withParallelismStrategyType(ParallelismStrategy.Type.ON_DEFAULT_POOL));
+
+        CrossValidationResult crossValidationRes = scoreCalculator.tuneHyperParameters();
+
+        assertEquals(0.9343858500738256, crossValidationRes.getBestAvgScore(), 1e-6);
+        assertEquals(10, crossValidationRes.getScoringBoard().size());
+    }
+
+    /** */
+    @Test
+    public void testSuccessiveHalving() {
+        Map<Integer, double[]> data = new HashMap<>();
+
+        for (int i = 0; i < 1000; i++)
+            data.put(i, new double[] {i > 500 ? 1.0 : 0.0, i});
+
+        DecisionTreeClassificationTrainer trainer = new DecisionTreeClassificationTrainer(1, 0);
+
+        Vectorizer<Integer, double[], Integer, Double> vectorizer =
+            new DoubleArrayVectorizer<Integer>().labeled(Vectorizer.LabelCoordinate.FIRST);
+
+        ParamGrid paramGrid = new ParamGrid()
+            .withParameterSearchStrategy(
+                new SuccessiveHalvingStrategy()
+                    .withMaxTries(27)
+                    .withReductionFactor(3)
+                    .withMinTrainingDataFraction(1.0 / 9)
+                    .withSeed(1234L)
+            )
+            .addHyperParam("maxDeep", trainer::withMaxDeep, new Double[]{1.0, 2.0, 3.0, 4.0, 5.0})
+            .addHyperParam("minImpurityDecrease", trainer::withMinImpurityDecrease,
+                new Double[]{0.0, 0.1, 0.2, 0.3, 0.4, 0.5});
+
+        DebugCrossValidation<DecisionTreeModel, Integer, double[]> scoreCalculator =
+            (DebugCrossValidation<DecisionTreeModel, Integer, double[]>)
+                new DebugCrossValidation<DecisionTreeModel, Integer, double[]>()
+                    .withUpstreamMap(data)
+                    .withAmountOfParts(1)
+                    .withTrainer(trainer)
+                    .withMetric(MetricName.ACCURACY)
+                    .withPreprocessor(vectorizer)
+                    .withAmountOfFolds(4)
+                    .isRunningOnPipeline(false)
+                    .withParamGrid(paramGrid);
+
+        CrossValidationResult crossValidationRes = scoreCalculator.tuneHyperParameters();
+
+        // 27 parameter sets are evaluated on 1/9 of data, 9 of them on 1/3 and only 3 on the whole data.
+        assertEquals(3, crossValidationRes.getScoringBoard().size());
+        verifyScores(4, crossValidationRes.getBestScore());
+    }
+
     /** */
     @Test
     public void testScoreWithBadDataset() {
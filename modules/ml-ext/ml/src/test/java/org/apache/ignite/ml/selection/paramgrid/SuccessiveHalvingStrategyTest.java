@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.selection.paramgrid;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link SuccessiveHalvingStrategy}.
+ */
+public class SuccessiveHalvingStrategyTest {
+    /** */
+    @Test
+    public void testRounds() {
+        SuccessiveHalvingStrategy stgy = new SuccessiveHalvingStrategy()
+            .withReductionFactor(3)
+            .withMinTrainingDataFraction(1.0 / 9);
+
+        assertEquals(3, stgy.getAmountOfRounds());
+        assertEquals(1.0 / 9, stgy.getTrainingDataFraction(0), 1e-12);
+        assertEquals(1.0 / 3, stgy.getTrainingDataFraction(1), 1e-12);
+        assertEquals(1.0, stgy.getTrainingDataFraction(2), 1e-12);
+    }
+
+    /** */
+    @Test
+    public void testRoundsWithNotExactMinFraction() {
+        SuccessiveHalvingStrategy stgy = new SuccessiveHalvingStrategy()
+            .withReductionFactor(2)
+            .withMinTrainingDataFraction(0.1);
+
+        assertEquals(4, stgy.getAmountOfRounds());
+        assertEquals(0.125, stgy.getTrainingDataFraction(0), 1e-12);
+        assertEquals(1.0, stgy.getTrainingDataFraction(3), 1e-12);
+    }
+
+    /** */
+    @Test
+    public void testSingleRoundOnWholeData() {
+        SuccessiveHalvingStrategy stgy = new SuccessiveHalvingStrategy()
+            .withMinTrainingDataFraction(1.0);
+
+        assertEquals(1, stgy.getAmountOfRounds());
+        assertEquals(1.0, stgy.getTrainingDataFraction(0), 1e-12);
+    }
+}
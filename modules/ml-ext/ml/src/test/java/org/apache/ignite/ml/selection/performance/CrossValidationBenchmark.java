@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.selection.performance;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.apache.ignite.ml.dataset.feature.extractor.Vectorizer;
+import org.apache.ignite.ml.dataset.feature.extractor.impl.DoubleArrayVectorizer;
+import org.apache.ignite.ml.environment.LearningEnvironmentBuilder;
+import org.apache.ignite.ml.environment.parallelism.ParallelismStrategy;
+import org.apache.ignite.ml.selection.cv.CrossValidationResult;
+import org.apache.ignite.ml.selection.cv.DebugCrossValidation;
+import org.apache.ignite.ml.selection.paramgrid.ParamGrid;
+import org.apache.ignite.ml.selection.scoring.metric.MetricName;
+import org.apache.ignite.ml.tree.DecisionTreeClassificationTrainer;
+import org.apache.ignite.ml.tree.DecisionTreeModel;
+
+/**
+ * Compares sequential and concurrent processing of folds during hyper-parameter tuning by grid search over decision
+ * tree parameters, the same way as it's done in tutorial examples. For manual run, number of entries and folds can be
+ * specified using {@code ENTRIES} and {@code FOLDS} system properties.
+ */
+public class CrossValidationBenchmark {
+    /** Number of entries in the upstream map. */
+    private static final int ENTRIES = Integer.getInteger("ENTRIES", 100_000);
+
+    /** Number of folds. */
+    private static final int FOLDS = Integer.getInteger("FOLDS", 4);
+
+    /** Number of features in each entry. */
+    private static final int FEATURES = 5;
+
+    /** Number of measurements of each mode. */
+    private static final int ITERATIONS = 3;
+
+    /** Measures grid search time with sequential and concurrent folds. For manual run. */
+    /*@Test
+    public void benchmarkGridSearch() {
+        Map<Integer, double[]> upstream = generate();
+
+        // Warm-up.
+        double seqScore = tune(upstream, ParallelismStrategy.Type.NO_PARALLELISM, 1).getBestAvgScore();
+        double parScore = tune(upstream, ParallelismStrategy.Type.ON_DEFAULT_POOL, FOLDS).getBestAvgScore();
+
+        assertEquals(seqScore, parScore, 1e-12);
+
+        long seqTime = 0;
+        long parTime = 0;
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.currentTimeMillis();
+            tune(upstream, ParallelismStrategy.Type.NO_PARALLELISM, 1);
+            seqTime += System.currentTimeMillis() - start;
+
+            start = System.currentTimeMillis();
+            tune(upstream, ParallelismStrategy.Type.ON_DEFAULT_POOL, FOLDS);
+            parTime += System.currentTimeMillis() - start;
+        }
+
+        System.out.println(String.format("Cross validation grid search [entries=%d, folds=%d, sequential=%d ms, " +
+            "concurrent=%d ms, speedup=%.2f]", ENTRIES, FOLDS, seqTime / ITERATIONS, parTime / ITERATIONS,
+            (double)seqTime / parTime));
+    }*/
+
+    /**
+     * Runs grid search on the specified map.
+     *
+     * @param upstream Upstream map.
+     * @param parallelism Parallelism strategy type of the cross validation learning environment.
+     * @param maxConcurrentFolds Maximal amount of concurrently processed folds.
+     * @return Cross validation result.
+     */
+    private CrossValidationResult tune(Map<Integer, double[]> upstream, ParallelismStrategy.Type parallelism,
+        int maxConcurrentFolds) {
+        DecisionTreeClassificationTrainer trainer = new DecisionTreeClassificationTrainer(5, 0);
+
+        ParamGrid paramGrid = new ParamGrid()
+            .addHyperParam("maxDeep", trainer::withMaxDeep, new Double[] {1.0, 2.0, 3.0, 4.0, 5.0, 10.0})
+            .addHyperParam("minImpurityDecrease", trainer::withMinImpurityDecrease, new Double[] {0.0, 0.25, 0.5});
+
+        DebugCrossValidation<DecisionTreeModel, Integer, double[]> scoreCalculator = new DebugCrossValidation<>();
+
+        scoreCalculator
+            .withUpstreamMap(upstream)
+            .withAmountOfParts(4)
+            .withTrainer(trainer)
+            .withMetric(MetricName.ACCURACY)
+            .withPreprocessor(new DoubleArrayVectorizer<Integer>().labeled(Vectorizer.LabelCoordinate.LAST))
+            .withAmountOfFolds(FOLDS)
+            .isRunningOnPipeline(false)
+            .withParamGrid(paramGrid)
+            .withMaxConcurrentFolds(maxConcurrentFolds)
+            .withEnvironmentBuilder(LearningEnvironmentBuilder.defaultBuilder()
+                .withParallelismStrategyType(parallelism));
+
+        return scoreCalculator.tuneHyperParameters();
+    }
+
+    /**
+     * Generates upstream map with random features and a label depending on them.
+     *
+     * @return Upstream map.
+     */
+    private Map<Integer, double[]> generate() {
+        Map<Integer, double[]> upstream = new HashMap<>(ENTRIES * 2);
+
+        Random rnd = new Random(0);
+
+        for (int i = 0; i < ENTRIES; i++) {
+            double[] row = new double[FEATURES + 1];
+
+            double sum = 0;
+            for (int j = 0; j < FEATURES; j++) {
+                row[j] = rnd.nextDouble();
+                sum += row[j];
+            }
+
+            row[FEATURES] = sum + rnd.nextGaussian() * 0.1 > FEATURES / 2.0 ? 1.0 : 0.0;
+
+            upstream.put(i, row);
+        }
+
+        return upstream;
+    }
+}
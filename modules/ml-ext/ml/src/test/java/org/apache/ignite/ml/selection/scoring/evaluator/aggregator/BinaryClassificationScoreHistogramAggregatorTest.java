@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.selection.scoring.evaluator.aggregator;
+
+import org.apache.ignite.ml.IgniteModel;
+import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
+import org.apache.ignite.ml.selection.scoring.evaluator.context.BinaryClassificationEvaluationContext;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test class for {@link BinaryClassificationScoreHistogramAggregator} class.
+ */
+public class BinaryClassificationScoreHistogramAggregatorTest {
+    /**
+     *
+     */
+    @Test
+    public void testAggregate() {
+        BinaryClassificationScoreHistogramAggregator<Double> aggregator =
+            new BinaryClassificationScoreHistogramAggregator<>(4);
+
+        aggregator.initByContext(new BinaryClassificationEvaluationContext<>(0., 1.));
+        assertEquals(0., aggregator.getFalseLabel(), 0.);
+        assertEquals(1., aggregator.getTruthLabel(), 0.);
+
+        aggregator.aggregate(mdl, VectorUtils.of(0.1).labeled(0.));
+        aggregator.aggregate(mdl, VectorUtils.of(0.3).labeled(0.));
+        aggregator.aggregate(mdl, VectorUtils.of(0.6).labeled(1.));
+        aggregator.aggregate(mdl, VectorUtils.of(1.).labeled(1.));
+        aggregator.aggregate(mdl, VectorUtils.of(0.).labeled(1.));
+        aggregator.aggregate(mdl, VectorUtils.of(0.9).labeled(0.));
+
+        assertArrayEquals(new long[] {1, 0, 1, 1}, aggregator.getPositives());
+        assertArrayEquals(new long[] {1, 1, 0, 1}, aggregator.getNegatives());
+    }
+
+    /**
+     *
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testAggregateRawScore() {
+        BinaryClassificationScoreHistogramAggregator<Double> aggregator =
+            new BinaryClassificationScoreHistogramAggregator<>(4);
+
+        aggregator.initByContext(new BinaryClassificationEvaluationContext<>(0., 1.));
+        aggregator.aggregate(mdl, VectorUtils.of(-5.).labeled(1.));
+    }
+
+    /**
+     *
+     */
+    @Test
+    public void testMerge() {
+        BinaryClassificationScoreHistogramAggregator<Double> agg1 =
+            new BinaryClassificationScoreHistogramAggregator<>(2);
+        BinaryClassificationScoreHistogramAggregator<Double> agg2 =
+            new BinaryClassificationScoreHistogramAggregator<>(2);
+
+        agg1.initByContext(new BinaryClassificationEvaluationContext<>(0., 1.));
+        agg2.initByContext(new BinaryClassificationEvaluationContext<>(0., 1.));
+
+        agg1.aggregate(mdl, VectorUtils.of(0.2).labeled(0.));
+        agg1.aggregate(mdl, VectorUtils.of(0.7).labeled(1.));
+        agg2.aggregate(mdl, VectorUtils.of(0.9).labeled(1.));
+        agg2.aggregate(mdl, VectorUtils.of(0.6).labeled(0.));
+
+        BinaryClassificationScoreHistogramAggregator<Double> res = agg1.mergeWith(agg2);
+        assertArrayEquals(new long[] {0, 2}, res.getPositives());
+        assertArrayEquals(new long[] {1, 1}, res.getNegatives());
+    }
+
+    /**
+     *
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testMergeAggregatorsWithDifferentBins() {
+        BinaryClassificationScoreHistogramAggregator<Double> agg1 =
+            new BinaryClassificationScoreHistogramAggregator<>(2);
+        BinaryClassificationScoreHistogramAggregator<Double> agg2 =
+            new BinaryClassificationScoreHistogramAggregator<>(4);
+
+        agg1.initByContext(new BinaryClassificationEvaluationContext<>(0., 1.));
+        agg2.initByContext(new BinaryClassificationEvaluationContext<>(0., 1.));
+        agg1.mergeWith(agg2);
+    }
+
+    /**
+     * Model returning the first feature as a score.
+     */
+    private IgniteModel<Vector, Double> mdl = new IgniteModel<Vector, Double>() {
+        @Override public Double predict(Vector input) {
+            return input.get(0);
+        }
+    };
+}
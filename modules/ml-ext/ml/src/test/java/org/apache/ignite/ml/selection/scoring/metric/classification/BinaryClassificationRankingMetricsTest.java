@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.selection.scoring.metric.classification;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.ignite.ml.IgniteModel;
+import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
+import org.apache.ignite.ml.selection.scoring.evaluator.Evaluator;
+import org.apache.ignite.ml.selection.scoring.metric.MetricName;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for binary classification metrics computed by model scores.
+ */
+public class BinaryClassificationRankingMetricsTest {
+    /** Model returning the first feature as a score. */
+    private final IgniteModel<Vector, Double> mdl = v -> v.get(0);
+
+    /**
+     *
+     */
+    @Test
+    public void testCalculation() {
+        Map<Vector, Double> data = new HashMap<>();
+
+        data.put(VectorUtils.of(0.1), 0.);
+        data.put(VectorUtils.of(0.4), 0.);
+        data.put(VectorUtils.of(0.35), 1.);
+        data.put(VectorUtils.of(0.8), 1.);
+
+        assertEquals(0.75, Evaluator.evaluate(data, mdl, Vector::labeled, MetricName.ROC_AUC), 1e-6);
+        assertEquals(0.8333333, Evaluator.evaluate(data, mdl, Vector::labeled, MetricName.PR_AUC), 1e-6);
+    }
+
+    /**
+     *
+     */
+    @Test
+    public void testPerfectSeparation() {
+        Map<Vector, Double> data = new HashMap<>();
+
+        for (int i = 0; i < 100; i++)
+            data.put(VectorUtils.of(i / 100.0), i < 30 ? 0. : 1.);
+
+        assertEquals(1., Evaluator.evaluate(data, mdl, Vector::labeled, MetricName.ROC_AUC), 1e-6);
+        assertEquals(1., Evaluator.evaluate(data, mdl, Vector::labeled, MetricName.PR_AUC), 1e-6);
+    }
+
+    /**
+     *
+     */
+    @Test
+    public void testTiesInOneBin() {
+        Map<Vector, Double> data = new HashMap<>();
+
+        data.put(VectorUtils.of(0.51), 0.);
+        data.put(VectorUtils.of(0.52), 1.);
+
+        // Both scores fall into the same bin, so samples are ranked equally.
+        assertEquals(0.5, Evaluator.evaluate(data, mdl, Vector::labeled, new RocAuc<>(2)), 1e-6);
+    }
+}
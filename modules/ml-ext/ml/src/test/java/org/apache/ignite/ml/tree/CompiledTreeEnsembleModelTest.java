@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.tree;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import org.apache.ignite.ml.dataset.feature.FeatureMeta;
+import org.apache.ignite.ml.dataset.feature.extractor.impl.DoubleArrayVectorizer;
+import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
+import org.apache.ignite.ml.tree.randomforest.RandomForestModel;
+import org.apache.ignite.ml.tree.randomforest.RandomForestRegressionTrainer;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link CompiledTreeEnsembleModel}.
+ */
+public class CompiledTreeEnsembleModelTest {
+    /** Number of features. */
+    private static final int FEATURES = 4;
+
+    /** */
+    @Test
+    public void testCompileDecisionTree() {
+        Map<Integer, double[]> data = generate(500);
+
+        DecisionTreeModel mdl = new DecisionTreeRegressionTrainer(5, 0)
+            .fit(data, 2, new DoubleArrayVectorizer<Integer>().labeled(FEATURES));
+
+        checkPredictions(mdl::predict, CompiledTreeEnsembleModel.compile(mdl), data);
+    }
+
+    /** */
+    @Test
+    public void testCompileRandomForest() {
+        Map<Integer, double[]> data = generate(500);
+
+        List<FeatureMeta> meta = new ArrayList<>();
+        for (int i = 0; i < FEATURES; i++)
+            meta.add(new FeatureMeta("", i, false));
+
+        RandomForestModel mdl = new RandomForestRegressionTrainer(meta)
+            .withAmountOfTrees(10)
+            .withMaxDepth(4)
+            .fit(data, 2, new DoubleArrayVectorizer<Integer>().labeled(FEATURES));
+
+        CompiledTreeEnsembleModel compiled = CompiledTreeEnsembleModel.compile(mdl);
+
+        assertEquals(10, compiled.getTreesCount());
+
+        checkPredictions(mdl::predict, compiled, data);
+    }
+
+    /** */
+    @Test
+    public void testMissingValues() {
+        DecisionTreeModel mdl = new DecisionTreeModel(new DecisionTreeConditionalNode(
+            0,
+            0.5,
+            new DecisionTreeLeafNode(1),
+            new DecisionTreeLeafNode(2),
+            new DecisionTreeLeafNode(3)
+        ));
+
+        CompiledTreeEnsembleModel compiled = CompiledTreeEnsembleModel.compile(mdl);
+
+        assertEquals(4, compiled.getNodesCount());
+        assertEquals(1, compiled.predict(new double[] {0.7}), 0);
+        assertEquals(2, compiled.predict(new double[] {0.5}), 0);
+        assertEquals(3, compiled.predict(new double[] {Double.NaN}), 0);
+    }
+
+    /** */
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingValueWithoutMissingNode() {
+        DecisionTreeModel mdl = new DecisionTreeModel(new DecisionTreeConditionalNode(
+            0,
+            0.5,
+            new DecisionTreeLeafNode(1),
+            new DecisionTreeLeafNode(2),
+            null
+        ));
+
+        CompiledTreeEnsembleModel.compile(mdl).predict(new double[] {Double.NaN});
+    }
+
+    /**
+     * Checks that compiled model makes the same single and batch predictions as the original one.
+     *
+     * @param expMdl Original model.
+     * @param compiled Compiled model.
+     * @param data Data.
+     */
+    private static void checkPredictions(Function<Vector, Double> expMdl, CompiledTreeEnsembleModel compiled,
+        Map<Integer, double[]> data) {
+        double[][] rows = new double[data.size()][];
+        double[] exp = new double[data.size()];
+
+        int i = 0;
+        for (double[] row : data.values()) {
+            rows[i] = new double[FEATURES];
+            System.arraycopy(row, 0, rows[i], 0, FEATURES);
+            exp[i] = expMdl.apply(VectorUtils.of(rows[i]));
+
+            assertEquals(exp[i], compiled.predict(rows[i]), 0);
+            assertEquals(exp[i], compiled.predict(VectorUtils.of(rows[i])), 0);
+
+            i++;
+        }
+
+        assertArrayEquals(exp, compiled.predict(rows), 0);
+    }
+
+    /**
+     * Generates regression data with label in the last column.
+     *
+     * @param size Number of rows.
+     * @return Data.
+     */
+    private static Map<Integer, double[]> generate(int size) {
+        Map<Integer, double[]> data = new HashMap<>();
+
+        Random rnd = new Random(0);
+        for (int i = 0; i < size; i++) {
+            double[] row = new double[FEATURES + 1];
+
+            for (int j = 0; j < FEATURES; j++) {
+                row[j] = rnd.nextDouble();
+                row[FEATURES] += row[j] * (j + 1);
+            }
+
+            data.put(i, row);
+        }
+
+        return data;
+    }
+}
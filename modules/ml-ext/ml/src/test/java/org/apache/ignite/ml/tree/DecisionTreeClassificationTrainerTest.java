@@ -23,6 +23,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import org.apache.ignite.ml.dataset.feature.extractor.impl.DoubleArrayVectorizer;
+import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
@@ -100,4 +102,34 @@ public class DecisionTreeClassificationTrainerTest {
         assertNotNull(thenNode.toString(true));
         assertNotNull(thenNode.toString(false));
     }
+
+    /** */
+    @Test
+    public void testFitWithHistograms() {
+        int size = 100;
+
+        Map<Integer, double[]> data = new HashMap<>();
+
+        Random rnd = new Random(0);
+        for (int i = 0; i < size; i++) {
+            double x = rnd.nextDouble() - 0.5;
+            double y = rnd.nextDouble() - 0.5;
+            data.put(i, new double[] {x, y, x > 0 && y > 0 ? 1 : 0});
+        }
+
+        DecisionTreeClassificationTrainer exactTrainer = new DecisionTreeClassificationTrainer(3, 0);
+        DecisionTreeClassificationTrainer histTrainer = new DecisionTreeClassificationTrainer(3, 0).withMaxBins(255);
+
+        DecisionTreeModel exactMdl = exactTrainer.fit(data, parts, new DoubleArrayVectorizer<Integer>().labeled(2));
+        DecisionTreeModel histMdl = histTrainer.fit(data, parts, new DoubleArrayVectorizer<Integer>().labeled(2));
+
+        assertTrue(histMdl.getRootNode() instanceof DecisionTreeConditionalNode);
+
+        for (double[] row : data.values()) {
+            Vector features = VectorUtils.of(row[0], row[1]);
+
+            assertEquals(row[2], histMdl.predict(features), 1e-10);
+            assertEquals(exactMdl.predict(features), histMdl.predict(features), 1e-10);
+        }
+    }
 }
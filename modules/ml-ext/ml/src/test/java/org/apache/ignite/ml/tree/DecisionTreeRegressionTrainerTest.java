@@ -23,6 +23,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import org.apache.ignite.ml.dataset.feature.extractor.impl.DoubleArrayVectorizer;
+import org.apache.ignite.ml.dataset.impl.local.LocalDataset;
+import org.apache.ignite.ml.dataset.impl.local.LocalDatasetBuilder;
+import org.apache.ignite.ml.dataset.primitive.builder.context.EmptyContextBuilder;
+import org.apache.ignite.ml.dataset.primitive.context.EmptyContext;
+import org.apache.ignite.ml.environment.LearningEnvironmentBuilder;
+import org.apache.ignite.ml.math.primitives.vector.Vector;
+import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
+import org.apache.ignite.ml.tree.data.DecisionTreeData;
+import org.apache.ignite.ml.tree.data.DecisionTreeDataBuilder;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
@@ -91,4 +100,74 @@ public class DecisionTreeRegressionTrainerTest {
         assertEquals(1, thenNode.getVal(), 1e-10);
         assertEquals(0, elseNode.getVal(), 1e-10);
     }
+
+    /** */
+    @Test
+    public void testFitWithHistograms() {
+        int size = 100;
+
+        Map<Integer, double[]> data = new HashMap<>();
+
+        Random rnd = new Random(0);
+        for (int i = 0; i < size; i++) {
+            double x = rnd.nextDouble() - 0.5;
+            double y = rnd.nextDouble() - 0.5;
+            data.put(i, new double[] {x, y, x > 0 && y > 0 ? 1 : 0});
+        }
+
+        DecisionTreeRegressionTrainer exactTrainer = new DecisionTreeRegressionTrainer(3, 0);
+        DecisionTreeRegressionTrainer histTrainer = new DecisionTreeRegressionTrainer(3, 0).withMaxBins(255);
+
+        DecisionTreeModel exactMdl = exactTrainer.fit(data, parts, new DoubleArrayVectorizer<Integer>().labeled(2));
+        DecisionTreeModel histMdl = histTrainer.fit(data, parts, new DoubleArrayVectorizer<Integer>().labeled(2));
+
+        assertTrue(histMdl.getRootNode() instanceof DecisionTreeConditionalNode);
+
+        for (double[] row : data.values()) {
+            Vector features = VectorUtils.of(row[0], row[1]);
+
+            assertEquals(row[2], histMdl.predict(features), 1e-10);
+            assertEquals(exactMdl.predict(features), histMdl.predict(features), 1e-10);
+        }
+    }
+
+    /** */
+    @Test
+    public void testFitWithHistogramsAfterPartitionRebuild() throws Exception {
+        int size = 100;
+
+        Map<Integer, double[]> data = new HashMap<>();
+
+        Random rnd = new Random(0);
+        for (int i = 0; i < size; i++) {
+            double x = rnd.nextDouble() - 0.5;
+            double y = rnd.nextDouble() - 0.5;
+            data.put(i, new double[] {x, y, x > 0 && y > 0 ? 1 : 0});
+        }
+
+        DecisionTreeRegressionTrainer trainer = new DecisionTreeRegressionTrainer(3, 0).withMaxBins(16);
+
+        try (LocalDataset<EmptyContext, DecisionTreeData> dataset = new LocalDatasetBuilder<>(data, parts).build(
+            LearningEnvironmentBuilder.defaultBuilder(),
+            new EmptyContextBuilder<>(),
+            new DecisionTreeDataBuilder<>(new DoubleArrayVectorizer<Integer>().labeled(2), false),
+            LearningEnvironmentBuilder.defaultBuilder().buildForTrainer()
+        )) {
+            DecisionTreeModel mdl = trainer.fit(dataset);
+
+            // Emulates partition data rebuilt after rebalancing, features of the new data are not quantized.
+            DecisionTreeData part = dataset.getData().get(0);
+            dataset.getData().set(0, new DecisionTreeData(part.getFeatures(), part.getLabels(), false));
+
+            DecisionTreeModel rebuiltMdl = trainer.fit(dataset);
+
+            assertTrue(dataset.getData().get(0).getBins() != null);
+
+            for (double[] row : data.values()) {
+                Vector features = VectorUtils.of(row[0], row[1]);
+
+                assertEquals(mdl.predict(features), rebuiltMdl.predict(features), 1e-10);
+            }
+        }
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.ignite.ml.tree;
 
 import org.apache.ignite.ml.tree.data.DecisionTreeDataTest;
+import org.apache.ignite.ml.tree.data.QuantileSketchTest;
 import org.apache.ignite.ml.tree.data.TreeDataIndexTest;
 import org.apache.ignite.ml.tree.impurity.gini.GiniImpurityMeasureCalculatorTest;
 import org.apache.ignite.ml.tree.impurity.gini.GiniImpurityMeasureTest;
@@ -34,8 +35,10 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
     DecisionTreeClassificationTrainerTest.class,
+    CompiledTreeEnsembleModelTest.class,
     DecisionTreeRegressionTrainerTest.class,
     DecisionTreeDataTest.class,
+    QuantileSketchTest.class,
     GiniImpurityMeasureCalculatorTest.class,
     GiniImpurityMeasureTest.class,
     MSEImpurityMeasureCalculatorTest.class,
@@ -73,4 +73,23 @@ public class DecisionTreeDataTest {
         assertArrayEquals(new double[][]{{2, 0}, {4, 1}, {0, 2}, {3, 3}, {1, 4}}, features);
         assertArrayEquals(new double[]{2, 0, 4, 1, 3}, labels, 1e-10);
     }
+
+    /** */
+    @Test
+    public void testQuantize() {
+        double[][] features = new double[][]{{4, 1}, {3, 3}, {2, 0}, {1, 4}, {0, 2}};
+        double[] labels = new double[]{0, 1, 2, 3, 4};
+
+        DecisionTreeData data = new DecisionTreeData(features, labels, useIdx);
+
+        QuantileSketch[] sketches = data.quantileSketches(3);
+
+        assertArrayEquals(new double[]{1, 3}, sketches[0].binThresholds(3), 1e-10);
+        assertArrayEquals(new double[]{1, 3}, sketches[1].binThresholds(3), 1e-10);
+
+        data.quantize(new double[][]{{1, 2}, {0.5, 3}});
+
+        assertArrayEquals(new byte[]{2, 2, 1, 0, 0}, data.getBins()[0]);
+        assertArrayEquals(new byte[]{1, 1, 0, 2, 1}, data.getBins()[1]);
+    }
 }
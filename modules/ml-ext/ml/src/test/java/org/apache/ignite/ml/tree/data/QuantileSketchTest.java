@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.tree.data;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link QuantileSketch}.
+ */
+public class QuantileSketchTest {
+    /** */
+    @Test
+    public void testDistinctValuesBecomeThresholds() {
+        QuantileSketch sketch = QuantileSketch.of(new double[] {1, 1, 2, 3, 3, 3}, 10);
+
+        assertArrayEquals(new double[] {1, 2, 3}, sketch.getValues(), 0);
+        assertArrayEquals(new long[] {2, 1, 3}, sketch.getWeights());
+        assertArrayEquals(new double[] {1, 2}, sketch.binThresholds(4), 0);
+    }
+
+    /** */
+    @Test
+    public void testCompress() {
+        QuantileSketch sketch = QuantileSketch.of(range(0, 1000), 10);
+
+        assertTrue(sketch.getValues().length <= 10);
+        assertEquals(1000, sketch.totalWeight());
+        assertEquals(999, sketch.getValues()[sketch.getValues().length - 1], 0);
+
+        double[] thresholds = sketch.binThresholds(4);
+
+        assertEquals(3, thresholds.length);
+        assertEquals(249, thresholds[0], 100);
+        assertEquals(499, thresholds[1], 100);
+        assertEquals(749, thresholds[2], 100);
+    }
+
+    /** */
+    @Test
+    public void testMergeIsWeightedByNumberOfRows() {
+        QuantileSketch large = QuantileSketch.of(range(0, 10_000), 64);
+        QuantileSketch small = QuantileSketch.of(range(10_000, 10_100), 64);
+
+        QuantileSketch merged = large.merge(small);
+
+        assertEquals(10_100, merged.totalWeight());
+        assertTrue(merged.getValues().length <= 64);
+
+        double[] thresholds = merged.binThresholds(2);
+
+        assertEquals(1, thresholds.length);
+        assertEquals(5050, thresholds[0], 10_100 / 64);
+    }
+
+    /**
+     * Generates sorted values from the given range.
+     *
+     * @param from First value (inclusive).
+     * @param to Last value (exclusive).
+     * @return Sorted values.
+     */
+    private static double[] range(int from, int to) {
+        double[] res = new double[to - from];
+
+        for (int i = 0; i < res.length; i++)
+            res[i] = from + i;
+
+        return res;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.tree.performance;
+
+import org.apache.ignite.ml.tree.CompiledTreeEnsembleModel;
+import org.apache.ignite.ml.tree.randomforest.RandomForestModel;
+
+/**
+ * Compares inference throughput of {@link RandomForestModel} and its {@link CompiledTreeEnsembleModel} form (single
+ * row and batch predictions). For manual run, number of trees and tree depth can be specified using {@code TREES} and
+ * {@code DEPTH} system properties.
+ */
+public class CompiledTreeEnsembleBenchmark {
+    /** Number of trees. */
+    private static final int TREES = Integer.getInteger("TREES", 100);
+
+    /** Max depth of trees. */
+    private static final int DEPTH = Integer.getInteger("DEPTH", 8);
+
+    /** Number of features. */
+    private static final int FEATURES = 20;
+
+    /** Number of train rows. */
+    private static final int TRAIN_ROWS = 10_000;
+
+    /** Number of rows to be predicted in one measurement. */
+    private static final int ROWS = 100_000;
+
+    /** Number of measurements of each mode. */
+    private static final int ITERATIONS = 5;
+
+    /** Measures inference time of original and compiled models. For manual run. */
+    /*@Test
+    public void benchmarkInference() {
+        Random rnd = new Random(0);
+
+        Map<Integer, double[]> train = new HashMap<>();
+        for (int i = 0; i < TRAIN_ROWS; i++) {
+            double[] row = new double[FEATURES + 1];
+
+            for (int j = 0; j < FEATURES; j++) {
+                row[j] = rnd.nextDouble();
+                row[FEATURES] += Math.sin(row[j] * (j + 1));
+            }
+
+            train.put(i, row);
+        }
+
+        List<FeatureMeta> meta = new ArrayList<>();
+        for (int i = 0; i < FEATURES; i++)
+            meta.add(new FeatureMeta("", i, false));
+
+        RandomForestModel mdl = new RandomForestRegressionTrainer(meta)
+            .withAmountOfTrees(TREES)
+            .withMaxDepth(DEPTH)
+            .fit(train, 4, new DoubleArrayVectorizer<Integer>().labeled(FEATURES));
+
+        CompiledTreeEnsembleModel compiled = CompiledTreeEnsembleModel.compile(mdl);
+
+        double[][] rows = new double[ROWS][FEATURES];
+        Vector[] vectors = new Vector[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            for (int j = 0; j < FEATURES; j++)
+                rows[i][j] = rnd.nextDouble();
+
+            vectors[i] = VectorUtils.of(rows[i]);
+        }
+
+        for (int i = 0; i < ROWS; i++)
+            assertEquals(mdl.predict(vectors[i]), compiled.predict(rows[i]), 1e-9);
+
+        long origTime = 0;
+        long compiledTime = 0;
+        long batchTime = 0;
+        double checksum = 0;
+
+        // The first iteration is a warm-up.
+        for (int iter = 0; iter <= ITERATIONS; iter++) {
+            long start = System.nanoTime();
+            for (Vector vec : vectors)
+                checksum += mdl.predict(vec);
+            long origEnd = System.nanoTime();
+
+            for (double[] row : rows)
+                checksum -= compiled.predict(row);
+            long compiledEnd = System.nanoTime();
+
+            for (double p : compiled.predict(rows))
+                checksum += p;
+            long batchEnd = System.nanoTime();
+
+            if (iter > 0) {
+                origTime += origEnd - start;
+                compiledTime += compiledEnd - origEnd;
+                batchTime += batchEnd - compiledEnd;
+            }
+        }
+
+        System.out.println(String.format("Tree ensemble inference [trees=%d, depth=%d, nodes=%d, rows=%d, " +
+                "original=%d ms, compiled=%d ms, compiledBatch=%d ms, checksum=%.4f]", TREES, DEPTH,
+            compiled.getNodesCount(), ROWS, origTime / ITERATIONS / 1_000_000, compiledTime / ITERATIONS / 1_000_000,
+            batchTime / ITERATIONS / 1_000_000, checksum));
+    }*/
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.ml.tree.performance;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.apache.ignite.ml.dataset.feature.FeatureMeta;
+import org.apache.ignite.ml.dataset.feature.extractor.impl.LabeledDummyVectorizer;
+import org.apache.ignite.ml.environment.LearningEnvironmentBuilder;
+import org.apache.ignite.ml.environment.parallelism.ParallelismStrategy;
+import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
+import org.apache.ignite.ml.structures.LabeledVector;
+import org.apache.ignite.ml.tree.randomforest.RandomForestClassifierTrainer;
+
+/**
+ * Compares random forest training time with trees processed sequentially and in parallel within partitions. For
+ * manual run, number of entries and trees can be specified using {@code ENTRIES} and {@code TREES} system properties.
+ */
+public class RandomForestTrainerBenchmark {
+    /** Number of entries in the upstream map. */
+    private static final int ENTRIES = Integer.getInteger("ENTRIES", 50_000);
+
+    /** Number of trees. */
+    private static final int TREES = Integer.getInteger("TREES", 50);
+
+    /** Number of features in each entry. */
+    private static final int FEATURES = 10;
+
+    /** Measures training time with sequential and parallel processing of trees. For manual run. */
+    /*@Test
+    public void benchmarkTraining() {
+        Map<Integer, LabeledVector<Double>> upstream = generate();
+
+        // Warm-up.
+        train(upstream, ParallelismStrategy.Type.NO_PARALLELISM);
+
+        long seqTime = train(upstream, ParallelismStrategy.Type.NO_PARALLELISM);
+        long parTime = train(upstream, ParallelismStrategy.Type.ON_DEFAULT_POOL);
+
+        System.out.println(String.format("Random forest training [entries=%d, trees=%d, sequential=%d ms, " +
+            "parallel=%d ms, speedup=%.2f]", ENTRIES, TREES, seqTime, parTime, (double)seqTime / parTime));
+    }*/
+
+    /**
+     * Trains random forest on the specified map.
+     *
+     * @param upstream Upstream map.
+     * @param parallelism Parallelism strategy type of partition learning environments.
+     * @return Training time in milliseconds.
+     */
+    private long train(Map<Integer, LabeledVector<Double>> upstream, ParallelismStrategy.Type parallelism) {
+        List<FeatureMeta> meta = new ArrayList<>();
+        for (int i = 0; i < FEATURES; i++)
+            meta.add(new FeatureMeta("", i, false));
+
+        RandomForestClassifierTrainer trainer = new RandomForestClassifierTrainer(meta)
+            .withAmountOfTrees(TREES)
+            .withMaxDepth(8)
+            .withEnvironmentBuilder(LearningEnvironmentBuilder.defaultBuilder()
+                .withParallelismStrategyType(parallelism));
+
+        long start = System.currentTimeMillis();
+
+        trainer.fit(upstream, 4, new LabeledDummyVectorizer<>());
+
+        return System.currentTimeMillis() - start;
+    }
+
+    /**
+     * Generates upstream map with random features and a label depending on them.
+     *
+     * @return Upstream map.
+     */
+    private Map<Integer, LabeledVector<Double>> generate() {
+        Map<Integer, LabeledVector<Double>> upstream = new HashMap<>(ENTRIES * 2);
+
+        Random rnd = new Random(0);
+
+        for (int i = 0; i < ENTRIES; i++) {
+            double[] features = new double[FEATURES];
+
+            double sum = 0;
+            for (int j = 0; j < FEATURES; j++) {
+                features[j] = rnd.nextDouble();
+                sum += features[j];
+            }
+
+            upstream.put(i, VectorUtils.of(features).labeled(sum > FEATURES / 2.0 ? 1.0 : 0.0));
+        }
+
+        return upstream;
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.ignite.ml.common.TrainerTest;
 import org.apache.ignite.ml.composition.predictionsaggregator.OnMajorityPredictionsAggregator;
 import org.apache.ignite.ml.dataset.feature.FeatureMeta;
 import org.apache.ignite.ml.dataset.feature.extractor.impl.LabeledDummyVectorizer;
+import org.apache.ignite.ml.environment.parallelism.ParallelismStrategy;
 import org.apache.ignite.ml.math.primitives.vector.Vector;
 import org.apache.ignite.ml.math.primitives.vector.VectorUtils;
 import org.apache.ignite.ml.structures.LabeledVector;
@@ -97,4 +98,40 @@ public class RandomForestClassifierTrainerTest extends TrainerTest {
         assertEquals(originalMdl.predict(v), updatedOnSameDS.predict(v), 0.01);
         assertEquals(originalMdl.predict(v), updatedOnEmptyDS.predict(v), 0.01);
     }
+
+    /** Trees processed in parallel within partitions must be the same as trees processed sequentially. */
+    @Test
+    public void testFitWithParallelTrees() {
+        int sampleSize = 1000;
+        Map<Integer, LabeledVector<Double>> sample = new HashMap<>();
+        for (int i = 0; i < sampleSize; i++) {
+            double x1 = i;
+            double x2 = (i * 7) % 100;
+            double x3 = (i * 13) % 50;
+
+            sample.put(i, VectorUtils.of(x1, x2, x3).labeled(x2 > 50 && x3 > 25 ? 1.0 : 0.0));
+        }
+
+        ArrayList<FeatureMeta> meta = new ArrayList<>();
+        for (int i = 0; i < 3; i++)
+            meta.add(new FeatureMeta("", i, false));
+
+        RandomForestModel seqMdl = new RandomForestClassifierTrainer(meta)
+            .withAmountOfTrees(10)
+            .withFeaturesCountSelectionStrgy(x -> 2)
+            .withEnvironmentBuilder(TestUtils.testEnvBuilder()
+                .withParallelismStrategyType(ParallelismStrategy.Type.NO_PARALLELISM))
+            .fit(sample, parts, new LabeledDummyVectorizer<>());
+
+        RandomForestModel parMdl = new RandomForestClassifierTrainer(meta)
+            .withAmountOfTrees(10)
+            .withFeaturesCountSelectionStrgy(x -> 2)
+            .withEnvironmentBuilder(TestUtils.testEnvBuilder()
+                .withParallelismStrategyType(ParallelismStrategy.Type.ON_DEFAULT_POOL))
+            .fit(sample, parts, new LabeledDummyVectorizer<>());
+
+        assertEquals(seqMdl.getModels().size(), parMdl.getModels().size());
+        for (int i = 0; i < seqMdl.getModels().size(); i++)
+            assertEquals(seqMdl.getModels().get(i).toString(true), parMdl.getModels().get(i).toString(true));
+    }
 }
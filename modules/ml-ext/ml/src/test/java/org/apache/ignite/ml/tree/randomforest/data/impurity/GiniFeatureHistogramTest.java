@@ -227,6 +227,28 @@ public class GiniFeatureHistogramTest extends ImpurityHistogramTest {
         checkBucketIds(res2.getHistForLabel(3.0).buckets(), new Integer[] {8});
     }
 
+    /** Buckets out of the range of buckets added before must extend the histogram in both directions. */
+    @Test
+    public void testBucketsOutOfRange() {
+        GiniHistogram hist = new GiniHistogram(0, lblMapping, new BucketMeta(new FeatureMeta("", 0, true)));
+
+        double[] vals = new double[] {5, -3, 10, 5, -7, 0};
+        for (int i = 0; i < vals.length; i++)
+            hist.addElement(new BootstrappedVector(VectorUtils.of(vals[i]), i % 3, new int[] {i + 1}));
+
+        checkBucketIds(hist.buckets(), new Integer[] {-7, -3, 0, 5, 10});
+
+        checkCounters(hist.getHistForLabel(0.0), new double[] {5});
+        checkBucketIds(hist.getHistForLabel(0.0).buckets(), new Integer[] {5});
+        checkCounters(hist.getHistForLabel(1.0), new double[] {5, 2});
+        checkBucketIds(hist.getHistForLabel(1.0).buckets(), new Integer[] {-7, -3});
+        checkCounters(hist.getHistForLabel(2.0), new double[] {6, 3});
+        checkBucketIds(hist.getHistForLabel(2.0).buckets(), new Integer[] {0, 10});
+
+        GiniHistogram sum = hist.plus(new GiniHistogram(0, lblMapping, new BucketMeta(new FeatureMeta("", 0, true))));
+        assertTrue(hist.isEqualTo(sum));
+    }
+
     /** Dataset. */
     private BootstrappedVector[] dataset = new BootstrappedVector[] {
         new BootstrappedVector(VectorUtils.of(1, -1), 1, new int[] {1, 2}),
@@ -19,6 +19,7 @@ package org.apache.ignite.ml.xgboost.parser;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
@@ -70,7 +71,17 @@ public class XGModelParser implements ModelParser<NamedVector, Double, XGModelCo
     /** {@inheritDoc} */
     @Override public XGModelComposition parse(byte[] mdl) {
         try (ByteArrayInputStream bais = new ByteArrayInputStream(mdl)) {
-            CharStream cStream = CharStreams.fromStream(bais);
+            return parse(bais);
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public XGModelComposition parse(InputStream mdl) {
+        try {
+            CharStream cStream = CharStreams.fromStream(mdl);
             XGBoostModelLexer lexer = new XGBoostModelLexer(cStream);
             CommonTokenStream tokens = new CommonTokenStream(lexer);
             XGBoostModelParser parser = new XGBoostModelParser(tokens);